@@ -25,6 +25,20 @@ import com.openllmorchestrator.worker.engine.config.pipeline.CapabilityDef;
 import com.openllmorchestrator.worker.engine.config.pipeline.PipelineSection;
 import com.openllmorchestrator.worker.engine.config.queue.QueueTopologyConfig;
 import com.openllmorchestrator.worker.engine.config.redis.RedisConfig;
+import com.openllmorchestrator.worker.engine.config.batch.MicroBatchingConfig;
+import com.openllmorchestrator.worker.engine.config.bulkhead.BulkheadConfig;
+import com.openllmorchestrator.worker.engine.config.cache.ResultCacheConfig;
+import com.openllmorchestrator.worker.engine.config.circuit.CircuitBreakerConfig;
+import com.openllmorchestrator.worker.engine.config.coalesce.CoalescingConfig;
+import com.openllmorchestrator.worker.engine.config.deadline.DeadlineConfig;
+import com.openllmorchestrator.worker.engine.config.embedding.EmbeddingCacheConfig;
+import com.openllmorchestrator.worker.engine.config.plan.PlanCacheConfig;
+import com.openllmorchestrator.worker.engine.config.residency.ModelResidencyConfig;
+import com.openllmorchestrator.worker.engine.config.retry.RetryBudgetConfig;
+import com.openllmorchestrator.worker.engine.config.routing.ModelRoutingConfig;
+import com.openllmorchestrator.worker.engine.config.semantic.SemanticCacheConfig;
+import com.openllmorchestrator.worker.engine.config.hedging.HedgingConfig;
+import com.openllmorchestrator.worker.engine.config.streaming.StreamingConfig;
 import com.openllmorchestrator.worker.engine.config.temporal.TemporalConfig;
 import com.openllmorchestrator.worker.engine.config.worker.WorkerConfig;
 import lombok.AllArgsConstructor;
@@ -127,6 +141,35 @@ public class EngineFileConfig {
      */
     private String sharedFolderPath;
 
+    /** Token stream sink for streaming capabilities (when STREAMING enabled). Null = defaults (Redis Streams). */
+    private StreamingConfig streaming;
+    /** Tail-latency hedging for MODEL/RETRIEVAL (when HEDGING enabled). Null = defaults (p95 delay, 10% budget). */
+    private HedgingConfig hedging;
+    /** Per-plugin / per-type concurrency limits in the activity worker (when BULKHEADS enabled). Null = defaults (no limits). */
+    private BulkheadConfig bulkheads;
+    /** Per-plugin / per-endpoint circuit breakers in the activity worker (when CIRCUIT_BREAKERS enabled). Null = defaults. */
+    private CircuitBreakerConfig circuitBreakers;
+    /** Per-plugin retry budgets, optionally shared through Redis (when RETRY_BUDGET enabled). Null = defaults (10% of successes). */
+    private RetryBudgetConfig retryBudget;
+    /** Execution deadlines: default SLA, reserve and policy when time is up (when DEADLINES enabled). Null = defaults. */
+    private DeadlineConfig deadlines;
+    /** Capability result cache: in-process LRU plus optional Redis tier (when RESULT_CACHE enabled). Null = defaults (L1 only). */
+    private ResultCacheConfig resultCache;
+    /** Semantic response cache used by SEMANTIC_CACHE_LOOKUP/STORE (when SEMANTIC_CACHE enabled). Null = defaults (hashing embedder, 0.92). */
+    private SemanticCacheConfig semanticCache;
+    /** Single-flight coalescing of identical in-flight calls, optionally across workers (when COALESCING enabled). Null = defaults (local only). */
+    private CoalescingConfig coalescing;
+    /** Micro-batching of concurrent calls to BatchCapability plugins (when MICRO_BATCHING enabled). Null = defaults (32 items, 10 ms). */
+    private MicroBatchingConfig microBatching;
+    /** Content-addressed embedding cache for plugins (when EMBEDDING_CACHE enabled). Null = defaults (L1 only, float32). */
+    private EmbeddingCacheConfig embeddingCache;
+    /** Cache of PLANNER output by request shape (when PLAN_CACHE enabled). Null = defaults (1000 plans, 1 hour). */
+    private PlanCacheConfig planCache;
+    /** Latency-SLO routing between interchangeable model plugins (when MODEL_ROUTING enabled). Null = no routes. */
+    private ModelRoutingConfig modelRouting;
+    /** Keeping hot models loaded on the model servers (when MODEL_RESIDENCY enabled). Null = defaults (16 GB per endpoint). */
+    private ModelResidencyConfig modelResidency;
+
     /** Default config version when not set. */
     public static final String DEFAULT_CONFIG_VERSION = "1.0";
     /** Default shared folder path in container when sharedFolderPath not set. */
@@ -176,7 +219,7 @@ public class EngineFileConfig {
     public static EngineFileConfig mergeFromEnv(EnvConfig env, EngineFileConfig fromStorage) {
         EngineFileConfig merged = new EngineFileConfig();
         merged.configVersion = fromStorage != null ? fromStorage.configVersion : "1.0";
-        merged.worker = env.getWorker();
+        merged.worker = WorkerConfig.merge(env.getWorker(), fromStorage != null ? fromStorage.worker : null);
         merged.redis = env.getRedis();
         merged.database = env.getDatabase();
         merged.temporal = fromStorage != null ? fromStorage.temporal : null;
@@ -195,6 +238,20 @@ public class EngineFileConfig {
         merged.queueTopology = fromStorage != null ? fromStorage.queueTopology : null;
         merged.defaultForkPlugin = fromStorage != null ? fromStorage.defaultForkPlugin : null;
         merged.defaultJoinPlugin = fromStorage != null ? fromStorage.defaultJoinPlugin : null;
+        merged.streaming = fromStorage != null ? fromStorage.streaming : null;
+        merged.hedging = fromStorage != null ? fromStorage.hedging : null;
+        merged.bulkheads = fromStorage != null ? fromStorage.bulkheads : null;
+        merged.circuitBreakers = fromStorage != null ? fromStorage.circuitBreakers : null;
+        merged.retryBudget = fromStorage != null ? fromStorage.retryBudget : null;
+        merged.deadlines = fromStorage != null ? fromStorage.deadlines : null;
+        merged.resultCache = fromStorage != null ? fromStorage.resultCache : null;
+        merged.semanticCache = fromStorage != null ? fromStorage.semanticCache : null;
+        merged.coalescing = fromStorage != null ? fromStorage.coalescing : null;
+        merged.microBatching = fromStorage != null ? fromStorage.microBatching : null;
+        merged.embeddingCache = fromStorage != null ? fromStorage.embeddingCache : null;
+        merged.planCache = fromStorage != null ? fromStorage.planCache : null;
+        merged.modelRouting = fromStorage != null ? fromStorage.modelRouting : null;
+        merged.modelResidency = fromStorage != null ? fromStorage.modelResidency : null;
         merged.sharedFolderPath = env.getSharedFolderPath() != null ? env.getSharedFolderPath() : (fromStorage != null ? fromStorage.sharedFolderPath : null);
         return merged;
     }
@@ -217,6 +274,90 @@ public class EngineFileConfig {
         return sharedFolderPath != null && !sharedFolderPath.isBlank() ? sharedFolderPath.trim() : DEFAULT_SHARED_FOLDER_PATH;
     }
 
+    /** Effective streaming section; defaults (Redis Streams sink) when unset. */
+    @JsonIgnore
+    public StreamingConfig getStreamingEffective() {
+        return streaming != null ? streaming : new StreamingConfig();
+    }
+
+    /** Effective hedging section; defaults (MODEL and RETRIEVAL, p95 delay, 10% budget) when unset. */
+    @JsonIgnore
+    public HedgingConfig getHedgingEffective() {
+        return hedging != null ? hedging : new HedgingConfig();
+    }
+
+    /** Effective bulkheads section; defaults (no limits) when unset. */
+    @JsonIgnore
+    public BulkheadConfig getBulkheadsEffective() {
+        return bulkheads != null ? bulkheads : new BulkheadConfig();
+    }
+
+    /** Effective circuit breakers section; defaults (50% failure rate, 30s open, retry later) when unset. */
+    @JsonIgnore
+    public CircuitBreakerConfig getCircuitBreakersEffective() {
+        return circuitBreakers != null ? circuitBreakers : new CircuitBreakerConfig();
+    }
+
+    /** Effective retry budget section; defaults (10% of successes, 1 retry/s floor, local buckets) when unset. */
+    @JsonIgnore
+    public RetryBudgetConfig getRetryBudgetEffective() {
+        return retryBudget != null ? retryBudget : new RetryBudgetConfig();
+    }
+
+    /** Effective deadlines section; defaults (no default SLA, 500 ms reserve, BREAK) when unset. */
+    @JsonIgnore
+    public DeadlineConfig getDeadlinesEffective() {
+        return deadlines != null ? deadlines : new DeadlineConfig();
+    }
+
+    /** Effective result cache section; defaults (L1 only, 10000 entries, 300s TTL) when unset. */
+    @JsonIgnore
+    public ResultCacheConfig getResultCacheEffective() {
+        return resultCache != null ? resultCache : new ResultCacheConfig();
+    }
+
+    /** Effective semantic cache section; defaults (question/result keys, hashing embedder) when unset. */
+    @JsonIgnore
+    public SemanticCacheConfig getSemanticCacheEffective() {
+        return semanticCache != null ? semanticCache : new SemanticCacheConfig();
+    }
+
+    /** Effective coalescing section; defaults (this worker only, 30s wait) when unset. */
+    @JsonIgnore
+    public CoalescingConfig getCoalescingEffective() {
+        return coalescing != null ? coalescing : new CoalescingConfig();
+    }
+
+    /** Effective micro-batching section; defaults (32 items, 10 ms) when unset. */
+    @JsonIgnore
+    public MicroBatchingConfig getMicroBatchingEffective() {
+        return microBatching != null ? microBatching : new MicroBatchingConfig();
+    }
+
+    /** Effective embedding cache section; defaults (L1 only, float32, 7 days) when unset. */
+    @JsonIgnore
+    public EmbeddingCacheConfig getEmbeddingCacheEffective() {
+        return embeddingCache != null ? embeddingCache : new EmbeddingCacheConfig();
+    }
+
+    /** Effective plan cache section; defaults (1000 plans, 1 hour, required fields only) when unset. */
+    @JsonIgnore
+    public PlanCacheConfig getPlanCacheEffective() {
+        return planCache != null ? planCache : new PlanCacheConfig();
+    }
+
+    /** Effective model routing section; no routes when unset. */
+    @JsonIgnore
+    public ModelRoutingConfig getModelRoutingEffective() {
+        return modelRouting != null ? modelRouting : new ModelRoutingConfig();
+    }
+
+    /** Effective model residency section; defaults (endpoints from env, 16 GB budget, 30 s interval) when unset. */
+    @JsonIgnore
+    public ModelResidencyConfig getModelResidencyEffective() {
+        return modelResidency != null ? modelResidency : new ModelResidencyConfig();
+    }
+
     /** Enabled feature flag names from config (for use by worker to build FeatureFlags). When null/empty, no optional features are enabled. */
     @JsonIgnore
     public List<String> getEnabledFeatureNames() {
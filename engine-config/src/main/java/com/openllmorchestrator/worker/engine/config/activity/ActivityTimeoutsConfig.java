@@ -25,4 +25,8 @@ public class ActivityTimeoutsConfig {
     private Integer scheduleToStartSeconds = 60;
     private Integer startToCloseSeconds = 30;
     private Integer scheduleToCloseSeconds = 300;
+    /** LOCAL capabilities: retries with a longer backoff than this use a workflow timer instead of retrying in-process. */
+    private Integer localRetryThresholdSeconds = 10;
+    /** Heartbeat timeout for capability activities; null or 0 = no heartbeat timeout. */
+    private Integer heartbeatTimeoutSeconds;
 }
@@ -0,0 +1,47 @@
+/*
+ * Copyright 2026 Open LLM Orchestrator contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.openllmorchestrator.worker.engine.config.batch;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Micro-batching section (used when MICRO_BATCHING is enabled): concurrent calls of a BatchCapability plugin are
+ * collected until the batch is full or the first call has waited {@code maxDelayMillis}, then run as one request.
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MicroBatchingConfig {
+
+    /** Largest batch; a plugin's own getMaxBatchSize() lowers it. */
+    @Builder.Default
+    private Integer maxBatchSize = 32;
+    /** Longest the first call of a batch waits for more calls. */
+    @Builder.Default
+    private Integer maxDelayMillis = 10;
+    /** Plugin name to batch size, overriding maxBatchSize; 1 turns batching off for the plugin. */
+    @Builder.Default
+    private Map<String, Integer> plugins = new LinkedHashMap<>();
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2026 Open LLM Orchestrator contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.openllmorchestrator.worker.engine.config.bulkhead;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Bulkheads section (used when BULKHEADS is enabled): concurrency limits per plugin or per plugin type inside the
+ * activity worker, so one slow downstream cannot take every activity slot. A plugin uses its own entry in
+ * {@code plugins}, else the shared limit of its type in {@code categories} (handlers implementing
+ * PluginTypeDescriptor), else {@code defaultLimit} (per plugin). With algorithm AIMD or GRADIENT the configured limit
+ * is the starting point and adapts to observed latency between {@code minLimit} and {@code maxLimit}.
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkheadConfig {
+
+    /** Plugin name to limit. */
+    @Builder.Default
+    private Map<String, Integer> plugins = new LinkedHashMap<>();
+    /** Plugin type (e.g. VectorStorePlugin) to limit shared by all plugins of that type. */
+    @Builder.Default
+    private Map<String, Integer> categories = new LinkedHashMap<>();
+    /** Limit for plugins not listed; null = unlimited. */
+    private Integer defaultLimit;
+    /** FIXED, AIMD (back off on slow/failed calls, +1 when busy) or GRADIENT (limit follows min latency / latency). */
+    @Builder.Default
+    private String algorithm = FIXED;
+    @Builder.Default
+    private Integer minLimit = 1;
+    @Builder.Default
+    private Integer maxLimit = 256;
+    /** AIMD: calls slower than this count as overload. */
+    @Builder.Default
+    private Integer latencyThresholdMillis = 5000;
+    /** AIMD: multiplier applied to the limit on overload. */
+    @Builder.Default
+    private Double backoffRatio = 0.9;
+    /** GRADIENT: latency may grow to this multiple of the minimum before the limit shrinks. */
+    @Builder.Default
+    private Double rttTolerance = 1.5;
+    /** How long a call may wait for a permit before it is rejected (retryable); 0 = reject at once. */
+    @Builder.Default
+    private Integer maxWaitMillis = 0;
+
+    public static final String FIXED = "FIXED";
+    public static final String AIMD = "AIMD";
+    public static final String GRADIENT = "GRADIENT";
+}
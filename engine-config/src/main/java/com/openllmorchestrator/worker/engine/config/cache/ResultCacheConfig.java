@@ -0,0 +1,60 @@
+/*
+ * Copyright 2026 Open LLM Orchestrator contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.openllmorchestrator.worker.engine.config.cache;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Result cache section (used when RESULT_CACHE is enabled): L1 is an in-process LRU per queue, L2 (optional) is
+ * Redis with a TTL. Only cacheable plugins are cached: handlers implementing {@code CacheableCapability}, plugins
+ * listed in {@code plugins}, and plugins that return deterministic results.
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ResultCacheConfig {
+
+    /** Extra plugin names to cache (keyed on their whole input unless they implement CacheableCapability). */
+    @Builder.Default
+    private List<String> plugins = new ArrayList<>();
+    /** Cache plugins once they return a result with deterministic=true. */
+    @Builder.Default
+    private Boolean cacheDeterministic = true;
+    @Builder.Default
+    private Integer l1MaxEntries = 10000;
+    /** L1 time to live; null = same as {@code ttlSeconds}. */
+    private Integer l1TtlSeconds;
+    /** Default time to live (L2, and L1 unless set). */
+    @Builder.Default
+    private Integer ttlSeconds = 300;
+    /** Use Redis ({@code redis} section) as the shared L2. */
+    @Builder.Default
+    private Boolean redis = false;
+    @Builder.Default
+    private String keyPrefix = "olo:cache:";
+    /** Entries larger than this (serialized bytes) are not written to L2. */
+    @Builder.Default
+    private Integer maxValueBytes = 1_048_576;
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright 2026 Open LLM Orchestrator contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.openllmorchestrator.worker.engine.config.circuit;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Circuit breakers section (used when CIRCUIT_BREAKERS is enabled): one breaker per plugin, or per downstream when
+ * several plugins are mapped to the same name in {@code endpoints}. A breaker opens when, over the last
+ * {@code windowSize} calls (at least {@code minimumCalls}), the failure rate or the slow-call rate reaches its
+ * threshold; while open, calls fail fast (or go to the fallback plugin); after {@code openSeconds} it lets
+ * {@code halfOpenProbes} calls through and closes again only if they all succeed.
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CircuitBreakerConfig {
+
+    /** Plugin name to breaker (downstream) name; unlisted plugins get a breaker of their own. */
+    @Builder.Default
+    private Map<String, String> endpoints = new LinkedHashMap<>();
+    /** Breaker or plugin name to fallback plugin run while the breaker is open (mode FALLBACK). */
+    @Builder.Default
+    private Map<String, String> fallbacks = new LinkedHashMap<>();
+    /** FAIL (non-retryable), RETRY_LATER (retryable, next attempt after the open period) or FALLBACK. */
+    @Builder.Default
+    private String onOpen = RETRY_LATER;
+    @Builder.Default
+    private Integer failureRateThreshold = 50;
+    @Builder.Default
+    private Integer slowCallRateThreshold = 100;
+    @Builder.Default
+    private Integer slowCallDurationMillis = 60000;
+    @Builder.Default
+    private Integer minimumCalls = 10;
+    @Builder.Default
+    private Integer windowSize = 50;
+    @Builder.Default
+    private Integer openSeconds = 30;
+    @Builder.Default
+    private Integer halfOpenProbes = 3;
+
+    public static final String FAIL = "FAIL";
+    public static final String RETRY_LATER = "RETRY_LATER";
+    public static final String FALLBACK = "FALLBACK";
+}
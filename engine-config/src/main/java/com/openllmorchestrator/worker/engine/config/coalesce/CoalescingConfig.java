@@ -0,0 +1,61 @@
+/*
+ * Copyright 2026 Open LLM Orchestrator contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.openllmorchestrator.worker.engine.config.coalesce;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Request coalescing section (used when COALESCING is enabled): identical concurrent calls of a coalescible plugin
+ * wait for one leader call and share its result, on one worker or, with {@code redis}, across workers.
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CoalescingConfig {
+
+    /** Plugins to coalesce besides those implementing CacheableCapability. */
+    @Builder.Default
+    private List<String> plugins = new ArrayList<>();
+    /** Longest a follower waits for the leader before running the call itself. */
+    @Builder.Default
+    private Integer waitTimeoutMillis = 30000;
+    /** Coordinate across workers through a Redis lock; the leader's result is fanned out through Redis. */
+    @Builder.Default
+    private Boolean redis = false;
+    @Builder.Default
+    private String keyPrefix = "olo:coalesce:";
+    /** Lock lifetime; a leader that dies frees the key after this long. */
+    @Builder.Default
+    private Integer lockTtlSeconds = 60;
+    /** How long the leader's result stays readable for followers on other workers. */
+    @Builder.Default
+    private Integer resultTtlSeconds = 10;
+    /** Poll interval of followers waiting on another worker. */
+    @Builder.Default
+    private Integer pollMillis = 50;
+    /** Results larger than this are not fanned out through Redis; remote followers then run the call themselves. */
+    @Builder.Default
+    private Integer maxValueBytes = 1_048_576;
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright 2026 Open LLM Orchestrator contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.openllmorchestrator.worker.engine.config.deadline;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Deadlines section (used when DEADLINES is enabled). An execution's deadline comes from the command
+ * ({@code deadlineEpochMillis} / {@code timeoutMillis}), the pipeline's {@code deadlineSeconds} or {@code defaultDeadlineSeconds};
+ * the earliest wins. Activities are given at most the remaining time; a capability reached with less than
+ * {@code reserveMillis} left is handled by its policy instead of being started.
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DeadlineConfig {
+
+    /** Deadline for executions whose command and pipeline set none; null = no deadline. */
+    private Integer defaultDeadlineSeconds;
+    /** Minimum time left for a capability to be started. */
+    @Builder.Default
+    private Integer reserveMillis = 500;
+    /** Policy when time is up: SKIP (empty result, continue), BREAK (stop the pipeline, keep output so far) or FAIL. */
+    @Builder.Default
+    private String onExpired = BREAK;
+    /** Plugin name or capability bucket (e.g. POST_PROCESS) to policy; overrides {@code onExpired}. */
+    @Builder.Default
+    private Map<String, String> capabilities = new LinkedHashMap<>();
+
+    public static final String SKIP = "SKIP";
+    public static final String BREAK = "BREAK";
+    public static final String FAIL = "FAIL";
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright 2026 Open LLM Orchestrator contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.openllmorchestrator.worker.engine.config.embedding;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Embedding cache section (used when EMBEDDING_CACHE is enabled): vectors keyed by model id and normalized text,
+ * kept as compact bytes in an in-process LRU and optionally in Redis or a memory-mapped file.
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmbeddingCacheConfig {
+
+    @Builder.Default
+    private Integer l1MaxEntries = 50000;
+    /** FLOAT32 or FLOAT16 (half the size, ~3 significant digits). */
+    @Builder.Default
+    private String format = FLOAT32;
+    /** Second tier: NONE, REDIS (shared by workers) or FILE (memory-mapped file on this host). */
+    @Builder.Default
+    private String tier = NONE;
+    /** TTL of L1 and Redis entries; the file tier keeps entries until the file is removed. */
+    @Builder.Default
+    private Integer ttlSeconds = 604800;
+    @Builder.Default
+    private String keyPrefix = "olo:emb:";
+    @Builder.Default
+    private String filePath = "data/embedding-cache.bin";
+    /** File tier size limit; new vectors are not written once it is reached. */
+    @Builder.Default
+    private Long fileMaxBytes = 1L << 30;
+
+    public static final String FLOAT32 = "FLOAT32";
+    public static final String FLOAT16 = "FLOAT16";
+    public static final String NONE = "NONE";
+    public static final String REDIS = "REDIS";
+    public static final String FILE = "FILE";
+}
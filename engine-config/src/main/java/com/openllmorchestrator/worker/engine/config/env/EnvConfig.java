@@ -21,6 +21,10 @@ import com.openllmorchestrator.worker.engine.config.worker.WorkerConfig;
 import lombok.Builder;
 import lombok.Getter;
 
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
 /**
  * Connection config from container environment only.
  * Queue name, Redis, and DB are never taken from config file in production.
@@ -29,6 +33,8 @@ import lombok.Getter;
 @Builder
 public class EnvConfig {
     private final WorkerConfig worker;
+    /** Task queues served by this process (env: QUEUE_NAMES, comma-separated). Defaults to the single QUEUE_NAME; first entry is the primary queue. */
+    private final List<String> queueNames;
     private final RedisConfig redis;
     private final DatabaseConfig database;
     /** Seconds to sleep between config load retries when not found in Redis/DB/file. */
@@ -48,9 +54,11 @@ public class EnvConfig {
 
     public static EnvConfig fromEnvironment() {
         String queueName = getEnv("QUEUE_NAME", "core-task-queue");
+        List<String> queueNames = parseList(getEnv("QUEUE_NAMES", null), queueName);
         String redisHost = getEnv("REDIS_HOST", "localhost");
         int redisPort = parseInt(getEnv("REDIS_PORT", "6379"), 6379);
         String redisPassword = getEnv("REDIS_PASSWORD", "");
+        int redisDatabase = parseInt(getEnv("REDIS_DB", "0"), 0);
         String dbUrl = getEnv("DB_URL", "jdbc:postgresql://localhost:5432/olo_config");
         String dbUser = getEnv("DB_USERNAME", "postgres");
         String dbPassword = getEnv("DB_PASSWORD", "postgres");
@@ -66,8 +74,9 @@ public class EnvConfig {
         String sharedFolder = getEnv("SHARED_FOLDER_PATH", null);
 
         return EnvConfig.builder()
-                .worker(WorkerConfig.of(queueName, false))
-                .redis(RedisConfig.of(redisHost, redisPort, redisPassword))
+                .worker(workerFromEnv(queueName))
+                .queueNames(queueNames)
+                .redis(RedisConfig.of(redisHost, redisPort, redisPassword, redisDatabase))
                 .database(DatabaseConfig.of(dbUrl, dbUser, dbPassword))
                 .configRetrySleepSeconds(retrySleep)
                 .configFilePath(configPath)
@@ -79,6 +88,45 @@ public class EnvConfig {
                 .build();
     }
 
+    /** Queue name plus tuning overrides (WORKER_*); unset vars stay null so the config file's worker section applies. */
+    private static WorkerConfig workerFromEnv(String queueName) {
+        return WorkerConfig.builder()
+                .queueName(queueName)
+                .strictBoot(false)
+                .maxConcurrentWorkflowTaskPollers(optInt("MAX_CONCURRENT_WORKFLOW_TASK_POLLERS"))
+                .maxConcurrentActivityTaskPollers(optInt("MAX_CONCURRENT_ACTIVITY_TASK_POLLERS"))
+                .maxConcurrentActivityExecutions(optInt("WORKER_MAX_CONCURRENT_ACTIVITY_EXECUTIONS"))
+                .maxConcurrentWorkflowTaskExecutions(optInt("WORKER_MAX_CONCURRENT_WORKFLOW_TASK_EXECUTIONS"))
+                .maxConcurrentLocalActivityExecutions(optInt("WORKER_MAX_CONCURRENT_LOCAL_ACTIVITY_EXECUTIONS"))
+                .workflowCacheSize(optInt("WORKER_WORKFLOW_CACHE_SIZE"))
+                .maxWorkflowThreadCount(optInt("WORKER_MAX_WORKFLOW_THREAD_COUNT"))
+                .stickyScheduleToStartTimeoutSeconds(optInt("WORKER_STICKY_SCHEDULE_TO_START_TIMEOUT_SECONDS"))
+                .maxWorkerActivitiesPerSecond(optDouble("WORKER_MAX_ACTIVITIES_PER_SECOND"))
+                .maxTaskQueueActivitiesPerSecond(optDouble("WORKER_MAX_TASK_QUEUE_ACTIVITIES_PER_SECOND"))
+                .build();
+    }
+
+    /** Integer env var, or null when unset. A malformed value is a startup error rather than a silent default. */
+    private static Integer optInt(String key) {
+        String v = getEnv(key, null);
+        if (v == null || v.isBlank()) return null;
+        try {
+            return Integer.valueOf(v.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalStateException("Env " + key + " must be an integer, got '" + v + "'");
+        }
+    }
+
+    private static Double optDouble(String key) {
+        String v = getEnv(key, null);
+        if (v == null || v.isBlank()) return null;
+        try {
+            return Double.valueOf(v.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalStateException("Env " + key + " must be a number, got '" + v + "'");
+        }
+    }
+
     private static String getConfigKey() {
         return getEnv("CONFIG_KEY", "default");
     }
@@ -89,6 +137,21 @@ public class EnvConfig {
         return System.getProperty(key, defaultValue);
     }
 
+    /** Comma-separated list, trimmed and de-duplicated in order; falls back to the single default when empty. */
+    private static List<String> parseList(String s, String defaultValue) {
+        Set<String> out = new LinkedHashSet<>();
+        if (s != null) {
+            for (String part : s.split(",")) {
+                String t = part.trim();
+                if (!t.isEmpty()) out.add(t);
+            }
+        }
+        if (out.isEmpty() && defaultValue != null && !defaultValue.isBlank()) {
+            out.add(defaultValue.trim());
+        }
+        return List.copyOf(out);
+    }
+
     private static int parseInt(String s, int defaultValue) {
         try {
             return Integer.parseInt(s);
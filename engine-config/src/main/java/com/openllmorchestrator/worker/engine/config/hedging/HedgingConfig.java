@@ -0,0 +1,64 @@
+/*
+ * Copyright 2026 Open LLM Orchestrator contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.openllmorchestrator.worker.engine.config.hedging;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Hedging section (used when HEDGING is enabled): when a capability has not finished after its observed p95 latency
+ * (or a fixed delay), a duplicate activity is started and the first result wins. The budget caps duplicates at a
+ * percentage of hedgeable requests so hedging cannot double the load during an incident.
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class HedgingConfig {
+
+    /** Capability buckets hedged by default; a plugin or group can opt in or out with {@code hedge}. */
+    @Builder.Default
+    private List<String> capabilities = new ArrayList<>(List.of("MODEL", "RETRIEVAL"));
+    /** Fixed hedge delay in milliseconds; null = use the observed p95 of the capability. */
+    private Integer delayMillis;
+    /** Delay used until {@code minSamples} latencies have been observed. */
+    @Builder.Default
+    private Integer fallbackDelayMillis = 2000;
+    @Builder.Default
+    private Integer minSamples = 20;
+    /** Recent latencies kept per capability for the p95. */
+    @Builder.Default
+    private Integer windowSize = 256;
+    /** Max extra requests as a percentage of hedgeable requests. */
+    @Builder.Default
+    private Double budgetPercent = 10.0;
+    /** Max hedges that may be spent at once after a quiet period (token bucket capacity). */
+    @Builder.Default
+    private Integer budgetBurst = 10;
+    /**
+     * Heartbeat timeout for hedged attempts without one of their own. Cancelling the losing attempt reaches its
+     * worker only through heartbeats; without a heartbeat timeout it would run on until it finished.
+     */
+    @Builder.Default
+    private Integer heartbeatTimeoutSeconds = 10;
+}
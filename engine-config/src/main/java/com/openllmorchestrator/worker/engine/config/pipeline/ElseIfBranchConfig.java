@@ -30,7 +30,7 @@ import java.util.List;
 @Setter
 @NoArgsConstructor
 public class ElseIfBranchConfig {
-    /** Plugin name (activity id) that evaluates this branch; must write output key {@code branch} (see ConditionPlugin contract). */
+    /** Plugin name (activity id) that evaluates this branch; must write output key {@code branch} (see ConditionPlugin contract). An expression when the group condition is one. */
     private String condition;
     /** Children to run when this branch is selected: strings (activity names) or maps (nested GroupConfig). */
     private List<Object> then;
@@ -25,6 +25,7 @@ import lombok.Setter;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 /**
  * A group within a stage: sync or async execution, with recursive nesting.
@@ -47,14 +48,28 @@ public class GroupConfig {
     private MergePolicyConfig mergePolicy;
     /** Max recursion depth for nested groups (overrides pipeline defaultMaxGroupDepth). */
     private Integer maxDepth;
+    /** For ASYNC: max branches in flight at once; the next starts as one finishes. Null or 0 = all at once. */
+    private Integer maxConcurrency;
     private Integer timeoutSeconds;
+    /** For SYNC: when true and SYNC_FUSION is enabled, plugin children are fusable into one activity round-trip. */
+    private Boolean fusable;
+    /** For SYNC: when true and STREAMING is enabled, plugin children run concurrently in one activity, each starting on the previous one's tokens. */
+    private Boolean streamThrough;
+    /** With HEDGING: true/false opts this group's plugins in/out of hedging (default: by capability bucket). */
+    private Boolean hedge;
+    /** Fixed hedge delay in milliseconds for this group's plugins; unset = hedging.delayMillis or the observed p95. */
+    private Integer hedgeDelayMillis;
+    /** REMOTE (default) or LOCAL (local activity in the workflow worker) for this group's plugins, condition and nested groups. */
+    private String executionKind;
+    /** If set, this group is a transform: output key to expression, evaluated in-workflow without an activity. Children are ignored. */
+    private Map<String, String> transform;
     /**
      * Children: each element is either a String (activity/plugin name) or a Map (nested group).
      * Use {@link #getChildrenAsList()} and interpret per element.
      * When {@link #condition} is set, this is the "then" branch if {@link #thenChildren} is null.
      */
     private List<Object> children;
-    /** If set, this group is conditional: run condition plugin (PLUGIN_IF) first, then one of then/elseif/else. At most one PLUGIN_IF per group. */
+    /** If set, this group is conditional: run condition plugin (PLUGIN_IF) first, then one of then/elseif/else. At most one PLUGIN_IF per group. An expression (e.g. input.mode == "rag") is evaluated in-workflow instead. */
     private String condition;
     /** If set, this group is iterative: run iterator plugin (PLUGIN_ITERATOR) to drive loop. At most one PLUGIN_ITERATOR per group. */
     private String iterator;
@@ -111,6 +126,11 @@ public class GroupConfig {
         return iterator != null && !iterator.isBlank();
     }
 
+    /** True if this group is a transform (output keys from expressions). */
+    public boolean isTransform() {
+        return transform != null && !transform.isEmpty();
+    }
+
     public boolean isAsync() {
         return "ASYNC".equalsIgnoreCase(executionMode);
     }
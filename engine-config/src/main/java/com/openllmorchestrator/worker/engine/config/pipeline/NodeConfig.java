@@ -26,8 +26,9 @@ import lombok.Setter;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
-/** A node in the pipeline tree: GROUP or PLUGIN (leaf). STAGE is accepted as legacy alias for PLUGIN. */
+/** A node in the pipeline tree: GROUP, PLUGIN (leaf) or TRANSFORM (leaf, in-workflow expressions). STAGE is accepted as legacy alias for PLUGIN. */
 @Getter
 @Setter
 @Builder
@@ -35,7 +36,7 @@ import java.util.List;
 @AllArgsConstructor
 @JsonIgnoreProperties(ignoreUnknown = true)
 public class NodeConfig {
-    /** One of: GROUP, PLUGIN. Legacy: STAGE (treated as PLUGIN). */
+    /** One of: GROUP, PLUGIN, TRANSFORM. Legacy: STAGE (treated as PLUGIN). */
     private String type;
     /** For PLUGIN: class name to call (fully qualified class name, e.g. com.example.plugin.AccessControlPluginImpl). Required. */
     private String name;
@@ -51,13 +52,29 @@ public class NodeConfig {
     private MergePolicyConfig mergePolicy;
     /** For GROUP: max recursion depth for nested groups (overrides pipeline defaultMaxGroupDepth). */
     private Integer maxDepth;
+    /** For GROUP ASYNC: max branches in flight at once; the next starts as one finishes. Null or 0 = all at once. */
+    private Integer maxConcurrency;
     /** For PLUGIN: optional activity timeout overrides (seconds). */
     private Integer scheduleToStartSeconds;
     private Integer scheduleToCloseSeconds;
+    /** For PLUGIN or ASYNC GROUP: heartbeat timeout override (seconds); the worker is declared lost when no heartbeat arrives in time. */
+    private Integer heartbeatTimeoutSeconds;
     /** For PLUGIN: optional retry override. */
     private RetryPolicyConfig retryPolicy;
+    /** For PLUGIN: when true and SYNC_FUSION is enabled, adjacent fusable SYNC plugins run in one activity. */
+    private Boolean fusable;
+    /** For SYNC GROUP of plugins: when true and STREAMING is enabled, children run concurrently in one activity, each starting on the previous one's tokens. */
+    private Boolean streamThrough;
+    /** For PLUGIN or ASYNC GROUP: with HEDGING, true/false opts in/out of hedging (default: by capability bucket, see hedging.capabilities). */
+    private Boolean hedge;
+    /** For PLUGIN or ASYNC GROUP: fixed hedge delay in milliseconds; unset = hedging.delayMillis or the observed p95. */
+    private Integer hedgeDelayMillis;
+    /** REMOTE (default) or LOCAL (local activity in the workflow worker). On a GROUP it applies to all plugins below unless overridden. */
+    private String executionKind;
+    /** For TRANSFORM: output key to expression (e.g. "query": "input.question"), evaluated in-workflow without an activity. */
+    private Map<String, String> transform;
     private List<NodeConfig> children;
-    /** If set, this GROUP is conditional: run condition plugin (PLUGIN_IF), then one of then/elseif/else. Plugin must write output key "branch" (0=then, 1=elseif, ..., n-1=else). At most one PLUGIN_IF per group. */
+    /** If set, this GROUP is conditional: run condition plugin (PLUGIN_IF), then one of then/elseif/else. Plugin must write output key "branch" (0=then, 1=elseif, ..., n-1=else). At most one PLUGIN_IF per group. An expression (e.g. input.mode == "rag") is evaluated in-workflow instead. */
     private String condition;
     /** If set, this GROUP is iterative: run iterator plugin (PLUGIN_ITERATOR) to drive loop over body. At most one PLUGIN_ITERATOR per group. */
     private String iterator;
@@ -118,6 +135,11 @@ public class NodeConfig {
         return "GROUP".equalsIgnoreCase(type);
     }
 
+    /** True if this node is a TRANSFORM leaf (output keys from expressions). */
+    public boolean isTransform() {
+        return "TRANSFORM".equalsIgnoreCase(type);
+    }
+
     /** True if this node is a leaf plugin (type PLUGIN or legacy STAGE). */
     public boolean isPlugin() {
         return "PLUGIN".equalsIgnoreCase(type) || "STAGE".equalsIgnoreCase(type);
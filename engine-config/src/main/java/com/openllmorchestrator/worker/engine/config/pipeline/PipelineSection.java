@@ -40,6 +40,8 @@ public class PipelineSection {
     /** Max depth for nested GROUP recursion (default 5). Exceeding throws at plan build. */
     @Builder.Default
     private int defaultMaxGroupDepth = 5;
+    /** Pipeline SLA: execution deadline in seconds from start (used when DEADLINES is enabled); null = none. */
+    private Integer deadlineSeconds;
     /** Default merge policy hook for ASYNC groups: type MERGE_POLICY, pluginType MergePolicy, name = activity/FQCN. */
     private MergePolicyConfig mergePolicy;
     /** Legacy: single root GROUP/STAGE tree. Used when capabilities and rootByCapability are null/empty. */
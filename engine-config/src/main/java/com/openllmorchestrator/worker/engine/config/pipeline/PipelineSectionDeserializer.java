@@ -48,6 +48,9 @@ public final class PipelineSectionDeserializer extends JsonDeserializer<Pipeline
         if (node.has("defaultMaxGroupDepth")) {
             section.setDefaultMaxGroupDepth(node.get("defaultMaxGroupDepth").asInt());
         }
+        if (node.has("deadlineSeconds") && !node.get("deadlineSeconds").isNull()) {
+            section.setDeadlineSeconds(node.get("deadlineSeconds").asInt());
+        }
         if (node.has("mergePolicy")) {
             section.setMergePolicy(MAPPER.treeToValue(node.get("mergePolicy"), MergePolicyConfig.class));
         }
@@ -0,0 +1,48 @@
+/*
+ * Copyright 2026 Open LLM Orchestrator contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.openllmorchestrator.worker.engine.config.plan;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Plan cache section (used when PLAN_CACHE is enabled): PLANNER output is reused for requests with the same
+ * pipeline, planner-relevant input fields and available tools, instead of calling the planner again.
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PlanCacheConfig {
+
+    @Builder.Default
+    private Integer maxEntries = 1000;
+    @Builder.Default
+    private Integer ttlSeconds = 3600;
+    /** Input keys added to the union of PlannerInputDescriptor fields when building the key. */
+    @Builder.Default
+    private List<String> extraKeyFields = new ArrayList<>();
+    /** Plugin types counted as available tools in the key (e.g. TOOL); empty = all planner-described plugins. */
+    @Builder.Default
+    private List<String> toolTypes = new ArrayList<>();
+}
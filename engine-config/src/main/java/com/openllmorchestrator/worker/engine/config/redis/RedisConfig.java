@@ -29,8 +29,14 @@ public class RedisConfig {
     private String host;
     private int port;
     private String password;
+    /** Logical database index; 0 by default. */
+    private int database;
 
     public static RedisConfig of(String host, int port, String password) {
-        return new RedisConfig(host, port, password != null ? password : "");
+        return of(host, port, password, 0);
+    }
+
+    public static RedisConfig of(String host, int port, String password, int database) {
+        return new RedisConfig(host, port, password != null ? password : "", database);
     }
 }
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2026 Open LLM Orchestrator contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.openllmorchestrator.worker.engine.config.residency;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Model residency section (used when MODEL_RESIDENCY is enabled): a background task that keeps hot models loaded on
+ * the model server endpoints (Ollama API) and lets cold ones unload, within a memory budget per endpoint. Request
+ * rates come from executions of the plugins listed in {@code plugins}.
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ModelResidencyConfig {
+
+    /** Model server base URLs; empty = OLLAMA_BASE_URLS, else OLLAMA_BASE_URL. */
+    @Builder.Default
+    private List<String> endpoints = new ArrayList<>();
+    /** Plugin name to the model it calls; executions of these plugins count as requests for the model. */
+    @Builder.Default
+    private Map<String, String> plugins = new LinkedHashMap<>();
+    /** Model to memory size in MB, for models not currently loaded (loaded models report their own size). */
+    @Builder.Default
+    private Map<String, Integer> modelSizesMb = new LinkedHashMap<>();
+    @Builder.Default
+    private Integer defaultModelSizeMb = 4096;
+    /** Memory each endpoint may use for models kept loaded. */
+    @Builder.Default
+    private Integer memoryBudgetMb = 16384;
+    /** Models kept loaded regardless of traffic (placed first). */
+    @Builder.Default
+    private List<String> pinned = new ArrayList<>();
+    /** Models with at least this many requests per minute (smoothed) are hot. */
+    @Builder.Default
+    private Double hotRequestsPerMinute = 1.0;
+    /** Smoothing window of the request rate. */
+    @Builder.Default
+    private Integer rateWindowSeconds = 300;
+    @Builder.Default
+    private Integer intervalSeconds = 30;
+    /** keep_alive sent with preload and keep-alive requests; must outlast {@code intervalSeconds}. */
+    @Builder.Default
+    private String keepAlive = "10m";
+    /** Timeout of one preload request (a cold load can take tens of seconds). */
+    @Builder.Default
+    private Integer loadTimeoutSeconds = 120;
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright 2026 Open LLM Orchestrator contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.openllmorchestrator.worker.engine.config.retry;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Retry budget section (used when RETRY_BUDGET is enabled): a token bucket per plugin. Each successful call adds
+ * {@code percent}/100 of a token, the bucket also refills at {@code minRetriesPerSecond}, and every retry attempt
+ * must take a whole token. With {@code redis} the bucket is shared by all workers through Redis.
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RetryBudgetConfig {
+
+    /** Retries allowed as a percentage of successful calls. */
+    @Builder.Default
+    private Double percent = 10.0;
+    /** Plugin name to percent override. */
+    @Builder.Default
+    private Map<String, Double> plugins = new LinkedHashMap<>();
+    /** Refill independent of successes, so low-traffic plugins can still retry. */
+    @Builder.Default
+    private Double minRetriesPerSecond = 1.0;
+    /** Bucket capacity (retries available at once after a quiet period). */
+    @Builder.Default
+    private Integer burst = 20;
+    /** RETRY_LATER (retryable, next attempt after {@code retryDelayMillis}) or FAIL (non-retryable). */
+    @Builder.Default
+    private String onExhausted = RETRY_LATER;
+    @Builder.Default
+    private Integer retryDelayMillis = 5000;
+    /** Share the buckets across workers through Redis ({@code redis} section); falls back to local buckets on errors. */
+    @Builder.Default
+    private Boolean redis = false;
+    @Builder.Default
+    private String keyPrefix = "olo:retry-budget:";
+
+    public static final String FAIL = "FAIL";
+    public static final String RETRY_LATER = "RETRY_LATER";
+}
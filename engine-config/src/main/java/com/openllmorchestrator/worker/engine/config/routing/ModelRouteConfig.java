@@ -0,0 +1,44 @@
+/*
+ * Copyright 2026 Open LLM Orchestrator contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.openllmorchestrator.worker.engine.config.routing;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/** One pipeline's route: the interchangeable model plugins in order of preference, its latency SLO and quality tier. */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ModelRouteConfig {
+
+    /** Model plugin names, preferred first; a pipeline node naming one of them is routed. */
+    @Builder.Default
+    private List<String> candidates = new ArrayList<>();
+    /** Latency objective of one model call. */
+    @Builder.Default
+    private Integer sloMillis = 10000;
+    /** Lowest tier chosen while the SLO can be met; lower tiers are the fallback. */
+    @Builder.Default
+    private Integer minTier = 0;
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2026 Open LLM Orchestrator contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.openllmorchestrator.worker.engine.config.routing;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Model routing section (used when MODEL_ROUTING is enabled): per-pipeline routes over interchangeable model plugins.
+ * The worker keeps EWMA latency and error rate plus the in-flight count per plugin; a routed call goes to the first
+ * candidate that meets the route's quality tier and latency SLO, else to the best smaller model that meets the SLO,
+ * else to the fastest candidate. With {@code redis} the statistics are shared by all workers.
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ModelRoutingConfig {
+
+    /** Pipeline name to route. */
+    @Builder.Default
+    private Map<String, ModelRouteConfig> routes = new LinkedHashMap<>();
+    /** Plugin name to quality tier (higher is better); unlisted plugins are tier 0. */
+    @Builder.Default
+    private Map<String, Integer> tiers = new LinkedHashMap<>();
+    /** EWMA weight of the newest sample. */
+    @Builder.Default
+    private Double alpha = 0.2;
+    /** Fraction of the SLO the predicted latency may use; above it the SLO counts as threatened. */
+    @Builder.Default
+    private Double headroom = 0.8;
+    /** Each in-flight call adds this fraction of the EWMA latency to the prediction. */
+    @Builder.Default
+    private Double queueDepthWeight = 0.1;
+    /** Plugins with a higher EWMA error rate are skipped while another candidate is healthy. */
+    @Builder.Default
+    private Double maxErrorRate = 0.2;
+    /** Samples needed before a plugin's statistics are trusted; until then it counts as meeting the SLO. */
+    @Builder.Default
+    private Integer minSamples = 5;
+    /** Share statistics across workers through Redis ({@code redis} section). */
+    @Builder.Default
+    private Boolean redis = false;
+    @Builder.Default
+    private String keyPrefix = "olo:route:";
+    /** How often statistics are published to and read from Redis. */
+    @Builder.Default
+    private Integer syncMillis = 1000;
+    /** Statistics of a worker that has not published for this long are ignored. */
+    @Builder.Default
+    private Integer staleSeconds = 30;
+}
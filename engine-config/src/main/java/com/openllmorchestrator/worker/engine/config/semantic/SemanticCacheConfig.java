@@ -0,0 +1,68 @@
+/*
+ * Copyright 2026 Open LLM Orchestrator contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.openllmorchestrator.worker.engine.config.semantic;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Semantic cache section (used when SEMANTIC_CACHE is enabled): SEMANTIC_CACHE_LOOKUP embeds the question and returns
+ * a stored answer when a previous question in the same namespace is similar enough; SEMANTIC_CACHE_STORE records
+ * the answer after MODEL. Entries live in the worker, per namespace, bounded and with a TTL.
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SemanticCacheConfig {
+
+    /** Input key holding the question text. */
+    @Builder.Default
+    private String questionKey = "question";
+    /** Accumulated-output keys that make up the answer stored and returned on a hit. */
+    @Builder.Default
+    private List<String> answerKeys = new ArrayList<>(List.of("result"));
+    /** Input (or accumulated) keys whose values form the namespace, e.g. pipeline and tenant. */
+    @Builder.Default
+    private List<String> namespaceKeys = new ArrayList<>(List.of("pipelineName", "tenantId"));
+    /** Minimum cosine similarity for a hit. */
+    @Builder.Default
+    private Double threshold = 0.92;
+    /** HASHING (built-in, deterministic) or the name of a plugin that returns output "embedding" for input "text". */
+    @Builder.Default
+    private String embedder = HASHING;
+    /** Vector size of the hashing embedder. */
+    @Builder.Default
+    private Integer dimensions = 256;
+    @Builder.Default
+    private Integer maxEntriesPerNamespace = 10000;
+    @Builder.Default
+    private Integer ttlSeconds = 3600;
+    /** LSH bands and bits per band (random hyperplanes) used to find candidates. */
+    @Builder.Default
+    private Integer lshBands = 8;
+    @Builder.Default
+    private Integer lshBitsPerBand = 8;
+
+    public static final String HASHING = "HASHING";
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright 2026 Open LLM Orchestrator contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.openllmorchestrator.worker.engine.config.streaming;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Streaming section (used when STREAMING is enabled): where token events from streaming capabilities are published.
+ * Sink REDIS appends to a Redis Stream per execution ({@code keyPrefix + executionId}); MEMORY keeps events in-process
+ * (tests, single-node dev); NONE disables publishing while handlers still receive an observer.
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class StreamingConfig {
+
+    @Builder.Default
+    private String sink = REDIS;
+    /** Approximate max entries kept per stream (XADD MAXLEN ~). */
+    @Builder.Default
+    private Integer maxLen = 1000;
+    @Builder.Default
+    private String keyPrefix = "olo:stream:";
+    /** Stream key expiry after the last event, in seconds. */
+    @Builder.Default
+    private Integer ttlSeconds = 3600;
+    /** Tokens buffered between two stages of a stream-through group; a full channel blocks the upstream stage. */
+    @Builder.Default
+    private Integer channelCapacity = 256;
+
+    public static final String REDIS = "REDIS";
+    public static final String MEMORY = "MEMORY";
+    public static final String NONE = "NONE";
+}
@@ -21,7 +21,11 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 
-/** Worker section of engine config. */
+/**
+ * Worker section of engine config. Tuning fields are optional: null means "use the env override, else the SDK
+ * default". Queue name and strictBoot always come from env; tuning from env wins over this section when both are set.
+ * When one process serves several queues, bootstrap replaces the queue name with the queue the config was loaded for.
+ */
 @Getter
 @Setter
 @NoArgsConstructor
@@ -30,8 +34,52 @@ import lombok.Setter;
 public class WorkerConfig {
     private String queueName;
     private boolean strictBoot;
+    /** Concurrent workflow task pollers per queue. */
+    private Integer maxConcurrentWorkflowTaskPollers;
+    /** Concurrent activity task pollers per queue. */
+    private Integer maxConcurrentActivityTaskPollers;
+    /** Activity execution slots per queue (SDK default 200). */
+    private Integer maxConcurrentActivityExecutions;
+    /** Workflow task execution slots per queue (SDK default 200). */
+    private Integer maxConcurrentWorkflowTaskExecutions;
+    /** Local activity execution slots per queue (SDK default 200). */
+    private Integer maxConcurrentLocalActivityExecutions;
+    /** Cached (sticky) workflow executions per process, shared by all queues (SDK default 600). */
+    private Integer workflowCacheSize;
+    /** Workflow threads per process; each cached workflow holds one (SDK default 600). */
+    private Integer maxWorkflowThreadCount;
+    /** Seconds a sticky workflow task waits for this worker before going to the normal queue (SDK default 5). */
+    private Integer stickyScheduleToStartTimeoutSeconds;
+    /** Activities per second started by this worker per queue. */
+    private Double maxWorkerActivitiesPerSecond;
+    /** Activities per second across all workers of a queue (enforced by the server). */
+    private Double maxTaskQueueActivitiesPerSecond;
 
     public static WorkerConfig of(String queueName, boolean strictBoot) {
-        return new WorkerConfig(queueName, strictBoot);
+        return WorkerConfig.builder().queueName(queueName).strictBoot(strictBoot).build();
+    }
+
+    /** Queue and strictBoot from {@code env}; each tuning field from {@code env} when set, else from {@code file}. */
+    public static WorkerConfig merge(WorkerConfig env, WorkerConfig file) {
+        if (env == null) return file;
+        if (file == null) return env;
+        return WorkerConfig.builder()
+                .queueName(env.queueName)
+                .strictBoot(env.strictBoot)
+                .maxConcurrentWorkflowTaskPollers(first(env.maxConcurrentWorkflowTaskPollers, file.maxConcurrentWorkflowTaskPollers))
+                .maxConcurrentActivityTaskPollers(first(env.maxConcurrentActivityTaskPollers, file.maxConcurrentActivityTaskPollers))
+                .maxConcurrentActivityExecutions(first(env.maxConcurrentActivityExecutions, file.maxConcurrentActivityExecutions))
+                .maxConcurrentWorkflowTaskExecutions(first(env.maxConcurrentWorkflowTaskExecutions, file.maxConcurrentWorkflowTaskExecutions))
+                .maxConcurrentLocalActivityExecutions(first(env.maxConcurrentLocalActivityExecutions, file.maxConcurrentLocalActivityExecutions))
+                .workflowCacheSize(first(env.workflowCacheSize, file.workflowCacheSize))
+                .maxWorkflowThreadCount(first(env.maxWorkflowThreadCount, file.maxWorkflowThreadCount))
+                .stickyScheduleToStartTimeoutSeconds(first(env.stickyScheduleToStartTimeoutSeconds, file.stickyScheduleToStartTimeoutSeconds))
+                .maxWorkerActivitiesPerSecond(first(env.maxWorkerActivitiesPerSecond, file.maxWorkerActivitiesPerSecond))
+                .maxTaskQueueActivitiesPerSecond(first(env.maxTaskQueueActivitiesPerSecond, file.maxTaskQueueActivitiesPerSecond))
+                .build();
+    }
+
+    private static <T> T first(T a, T b) {
+        return a != null ? a : b;
     }
 }
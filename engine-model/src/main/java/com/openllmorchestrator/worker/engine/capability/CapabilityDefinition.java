@@ -15,6 +15,7 @@
  */
 package com.openllmorchestrator.worker.engine.capability;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import lombok.Builder;
 import lombok.Getter;
@@ -25,7 +26,7 @@ import java.time.Duration;
 
 /** One capability/activity in the plan. All timeouts and retry from config. Immutable; serializable. */
 @Getter
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
 @JsonIgnoreProperties(ignoreUnknown = true)
@@ -40,10 +41,30 @@ public class CapabilityDefinition {
     private Duration scheduleToStartTimeout;
     /** Optional schedule-to-close timeout. */
     private Duration scheduleToCloseTimeout;
+    /** Optional heartbeat timeout; null = none. The activity heartbeats automatically at a third of it. */
+    private Duration heartbeatTimeout;
     /** Optional retry policy; null = use default from config. */
     private CapabilityRetryOptions retryOptions;
     /** Capability bucket name (e.g. RETRIEVAL, MODEL) for Temporal UI activity summary; null = use plugin name only. */
     private String capabilityBucketName;
     /** Stable UUID for this plugin node in the execution tree; used by pre/post handlers and debug Redis state. */
     private String pluginNodeId;
+    /** When true (SYNC only) and SYNC_FUSION is enabled, may run in one activity with adjacent fusable SYNC plugins on the same queue. */
+    private boolean fusable;
+    /** Stream-through group id (SYNC only); consecutive definitions with the same id stream into each other when STREAMING is enabled. */
+    private String streamGroup;
+    /** HEDGING override: true/false opts in/out; null = hedge when the capability bucket is listed in config. */
+    private Boolean hedge;
+    /** Fixed hedge delay; null = config delay or the observed p95. */
+    private Duration hedgeDelay;
+    /** REMOTE (default when null) or LOCAL (local activity in the workflow worker). */
+    private CapabilityExecutionKind executionKind;
+    /** For LOCAL: retries whose backoff exceeds this are scheduled with a workflow timer instead of in-process; null = SDK default. */
+    private Duration localRetryThreshold;
+
+    /** True when this capability runs as a local activity. */
+    @JsonIgnore
+    public boolean isLocal() {
+        return executionKind == CapabilityExecutionKind.LOCAL;
+    }
 }
@@ -22,14 +22,18 @@ import lombok.Getter;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * One group in the plan: definitions + optional async completion policy and merge policy plugin name.
  * Graph-capable: optional dependencies (group indices that must complete before this group). Immutable.
  * Conditional: when {@link #getConditionDefinition()} is non-null, this is an if/elseif/else group;
  * the condition plugin runs first and must write output key {@code branch} (0=then, 1=first elseif, ..., n-1=else);
- * then the selected branch (list of CapabilityGroupSpec) runs as a sub-plan.
+ * then the selected branch (list of CapabilityGroupSpec) runs as a sub-plan. When {@link #getConditionExpressions()}
+ * is non-empty the branch is chosen in-workflow from compiled expressions instead of a condition activity.
+ * Transform: when {@link #getTransform()} is non-empty, output keys are computed in-workflow from expressions.
  */
 @Getter
 @JsonIgnoreProperties(ignoreUnknown = true)
@@ -48,6 +52,12 @@ public class CapabilityGroupSpec {
     private final String groupNodeId;
     /** When conditional: UUID for the condition node. */
     private final String conditionNodeId;
+    /** When conditional by expression: one expression per non-else branch (then, elseif...); first truthy wins, none = else. */
+    private final List<String> conditionExpressions;
+    /** Transform group: output key to expression, evaluated in order against input and accumulated state. */
+    private final Map<String, String> transform;
+    /** For ASYNC groups: max definitions in flight at once; 0 = all at once. Results keep definition order. */
+    private final int maxConcurrency;
 
     public CapabilityGroupSpec(List<CapabilityDefinition> definitions, AsyncCompletionPolicy asyncPolicy) {
         this(definitions, asyncPolicy, "LAST_WINS", null, null, null, null, null);
@@ -68,6 +78,23 @@ public class CapabilityGroupSpec {
         this(Collections.emptyList(), AsyncCompletionPolicy.ALL, "LAST_WINS", null, conditionDefinition, branches, null, null);
     }
 
+    CapabilityGroupSpec(List<CapabilityDefinition> definitions, AsyncCompletionPolicy asyncPolicy,
+                        String asyncOutputMergePolicyName, int[] dependsOnGroupIndices,
+                        CapabilityDefinition conditionDefinition, List<List<CapabilityGroupSpec>> branches,
+                        String groupNodeId, String conditionNodeId) {
+        this(definitions, asyncPolicy, asyncOutputMergePolicyName, dependsOnGroupIndices, conditionDefinition, branches,
+                groupNodeId, conditionNodeId, null, null);
+    }
+
+    CapabilityGroupSpec(List<CapabilityDefinition> definitions, AsyncCompletionPolicy asyncPolicy,
+                        String asyncOutputMergePolicyName, int[] dependsOnGroupIndices,
+                        CapabilityDefinition conditionDefinition, List<List<CapabilityGroupSpec>> branches,
+                        String groupNodeId, String conditionNodeId,
+                        List<String> conditionExpressions, Map<String, String> transform) {
+        this(definitions, asyncPolicy, asyncOutputMergePolicyName, dependsOnGroupIndices, conditionDefinition, branches,
+                groupNodeId, conditionNodeId, conditionExpressions, transform, null);
+    }
+
     @JsonCreator
     CapabilityGroupSpec(
             @JsonProperty("definitions") List<CapabilityDefinition> definitions,
@@ -77,7 +104,10 @@ public class CapabilityGroupSpec {
             @JsonProperty("conditionDefinition") CapabilityDefinition conditionDefinition,
             @JsonProperty("branches") List<List<CapabilityGroupSpec>> branches,
             @JsonProperty("groupNodeId") String groupNodeId,
-            @JsonProperty("conditionNodeId") String conditionNodeId) {
+            @JsonProperty("conditionNodeId") String conditionNodeId,
+            @JsonProperty("conditionExpressions") List<String> conditionExpressions,
+            @JsonProperty("transform") Map<String, String> transform,
+            @JsonProperty("maxConcurrency") Integer maxConcurrency) {
         this.definitions = definitions != null ? Collections.unmodifiableList(new ArrayList<>(definitions)) : Collections.emptyList();
         this.asyncPolicy = asyncPolicy != null ? asyncPolicy : AsyncCompletionPolicy.ALL;
         this.asyncOutputMergePolicyName = asyncOutputMergePolicyName != null && !asyncOutputMergePolicyName.isBlank()
@@ -89,5 +119,10 @@ public class CapabilityGroupSpec {
         this.branches = branches != null ? Collections.unmodifiableList(new ArrayList<>(branches)) : null;
         this.groupNodeId = groupNodeId;
         this.conditionNodeId = conditionNodeId;
+        this.conditionExpressions = conditionExpressions != null && !conditionExpressions.isEmpty()
+                ? Collections.unmodifiableList(new ArrayList<>(conditionExpressions)) : Collections.emptyList();
+        this.transform = transform != null && !transform.isEmpty()
+                ? Collections.unmodifiableMap(new LinkedHashMap<>(transform)) : Collections.emptyMap();
+        this.maxConcurrency = maxConcurrency != null && maxConcurrency > 0 ? maxConcurrency : 0;
     }
 }
@@ -19,6 +19,7 @@ import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 /** Builds a CapabilityPlan. All options from config; no hardcoded values. */
 public final class CapabilityPlanBuilder {
@@ -61,10 +62,21 @@ public final class CapabilityPlanBuilder {
                                                     CapabilityRetryOptions retryOptions,
                                                     String capabilityBucketName,
                                                     String groupNodeId, String pluginNodeId) {
-        CapabilityDefinition def = CapabilityDefinition.builder()
+        return addSyncWithCustomConfig(capabilityName, mode, timeout, taskQueue, scheduleToStart, scheduleToClose,
+                retryOptions, capabilityBucketName, groupNodeId, pluginNodeId, false);
+    }
+
+    /** Same as above; fusable marks the definition as eligible for SYNC fusion with adjacent fusable definitions. */
+    public CapabilityPlanBuilder addSyncWithCustomConfig(String capabilityName, CapabilityExecutionMode mode,
+                                                    Duration timeout, String taskQueue,
+                                                    Duration scheduleToStart, Duration scheduleToClose,
+                                                    CapabilityRetryOptions retryOptions,
+                                                    String capabilityBucketName,
+                                                    String groupNodeId, String pluginNodeId,
+                                                    boolean fusable) {
+        return addSyncDefinition(CapabilityDefinition.builder()
                 .name(capabilityName)
                 .executionMode(mode)
-                .group(groupCounter++)
                 .taskQueue(taskQueue)
                 .timeout(timeout)
                 .scheduleToStartTimeout(scheduleToStart)
@@ -72,7 +84,13 @@ public final class CapabilityPlanBuilder {
                 .retryOptions(retryOptions)
                 .capabilityBucketName(capabilityBucketName)
                 .pluginNodeId(pluginNodeId)
-                .build();
+                .fusable(fusable)
+                .build(), groupNodeId);
+    }
+
+    /** Adds a fully configured definition as its own sync group; the group index is assigned here. */
+    public CapabilityPlanBuilder addSyncDefinition(CapabilityDefinition definition, String groupNodeId) {
+        CapabilityDefinition def = definition.toBuilder().group(groupCounter++).build();
         groups.add(new CapabilityGroupSpec(Collections.singletonList(def), null, null, null, null, null, groupNodeId, null));
         return this;
     }
@@ -99,23 +117,37 @@ public final class CapabilityPlanBuilder {
                                           AsyncCompletionPolicy asyncPolicy,
                                           String asyncOutputMergePolicyName,
                                           String capabilityBucketName) {
+        return addAsyncGroup(capabilityNames, CapabilityDefinition.builder()
+                .taskQueue(taskQueue)
+                .timeout(timeout)
+                .scheduleToStartTimeout(scheduleToStart)
+                .scheduleToCloseTimeout(scheduleToClose)
+                .retryOptions(retryOptions)
+                .capabilityBucketName(capabilityBucketName)
+                .build(), asyncPolicy, asyncOutputMergePolicyName);
+    }
+
+    /** Adds one async group; each capability copies the template's options (queue, timeouts, retry, kind, bucket). */
+    public CapabilityPlanBuilder addAsyncGroup(List<String> capabilityNames, CapabilityDefinition template,
+                                          AsyncCompletionPolicy asyncPolicy, String asyncOutputMergePolicyName) {
+        return addAsyncGroup(capabilityNames, template, asyncPolicy, asyncOutputMergePolicyName, null);
+    }
+
+    /** As above, with at most {@code maxConcurrency} capabilities in flight at once (null or 0 = all at once). */
+    public CapabilityPlanBuilder addAsyncGroup(List<String> capabilityNames, CapabilityDefinition template,
+                                          AsyncCompletionPolicy asyncPolicy, String asyncOutputMergePolicyName,
+                                          Integer maxConcurrency) {
         List<CapabilityDefinition> definitions = new ArrayList<>();
         for (String name : capabilityNames) {
-            definitions.add(CapabilityDefinition.builder()
+            definitions.add(template.toBuilder()
                     .name(name)
                     .executionMode(CapabilityExecutionMode.ASYNC)
                     .group(groupCounter)
-                    .taskQueue(taskQueue)
-                    .timeout(timeout)
-                    .scheduleToStartTimeout(scheduleToStart)
-                    .scheduleToCloseTimeout(scheduleToClose)
-                    .retryOptions(retryOptions)
-                    .capabilityBucketName(capabilityBucketName)
                     .build());
         }
         groupCounter++;
         groups.add(new CapabilityGroupSpec(definitions, asyncPolicy != null ? asyncPolicy : AsyncCompletionPolicy.ALL,
-                asyncOutputMergePolicyName));
+                asyncOutputMergePolicyName, null, null, null, null, null, null, null, maxConcurrency));
         return this;
     }
 
@@ -131,6 +163,33 @@ public final class CapabilityPlanBuilder {
         return this;
     }
 
+    /**
+     * Add a conditional group decided in-workflow: expressions are evaluated in order (then, elseif...), the first
+     * truthy one selects its branch and none selects the last (else) branch. No condition activity runs.
+     */
+    public CapabilityPlanBuilder addExpressionConditionalGroup(CapabilityDefinition conditionDefinition,
+                                                               List<String> conditionExpressions,
+                                                               List<List<CapabilityGroupSpec>> branches) {
+        if (conditionDefinition == null || conditionExpressions == null || conditionExpressions.isEmpty()
+                || branches == null || branches.size() != conditionExpressions.size() + 1) {
+            throw new IllegalArgumentException("conditionDefinition, expressions and one branch per expression plus else required");
+        }
+        groups.add(new CapabilityGroupSpec(Collections.emptyList(), AsyncCompletionPolicy.ALL, "LAST_WINS", null,
+                conditionDefinition, branches, null, null, conditionExpressions, null));
+        return this;
+    }
+
+    /** Add a transform group: output keys computed in-workflow from expressions (key renames, projections). */
+    public CapabilityPlanBuilder addTransform(CapabilityDefinition definition, Map<String, String> transform, String groupNodeId) {
+        if (transform == null || transform.isEmpty()) {
+            throw new IllegalArgumentException("transform must have at least one output key");
+        }
+        CapabilityDefinition def = definition.toBuilder().group(groupCounter++).build();
+        groups.add(new CapabilityGroupSpec(Collections.singletonList(def), null, null, null, null, null, groupNodeId, null,
+                null, transform));
+        return this;
+    }
+
     public CapabilityPlan build() {
         return new CapabilityPlan(groups,
                 executionTreeRoots.isEmpty() ? List.of() : new ArrayList<>(executionTreeRoots),
@@ -60,4 +60,8 @@ public class ExecutionCommand {
     private Boolean debug;
     /** UUID for debug session; used as Redis key suffix (olo:debug:&lt;debugID&gt;:*). Set alongside debug=true. */
     private String debugID;
+    /** Optional absolute deadline (epoch millis) after which nobody reads the result; see DEADLINES. */
+    private Long deadlineEpochMillis;
+    /** Optional time budget from workflow start, in millis; combined with deadlineEpochMillis (earliest wins). */
+    private Long timeoutMillis;
 }
@@ -0,0 +1,38 @@
+/*
+ * Copyright 2026 Open LLM Orchestrator contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.openllmorchestrator.worker.contract;
+
+import java.util.List;
+
+/**
+ * Optional interface for plugins whose backend accepts many inputs in one request (embedding models, batched
+ * inference). When MICRO_BATCHING is enabled, the worker collects concurrent calls of the plugin from different
+ * activities for a few milliseconds and calls {@link #executeBatch} once; each activity gets its own result.
+ * {@link CapabilityHandler#execute} is still used when batching is off.
+ */
+public interface BatchCapability {
+
+    /**
+     * Run all contexts in one backend request. Return one result per context, in the same order; output may also be
+     * written to each context with {@link PluginContext#putOutput}. An exception fails every call in the batch.
+     */
+    List<CapabilityResult> executeBatch(List<PluginContext> contexts);
+
+    /** Largest batch the backend accepts; 0 or less uses the configured size. */
+    default int getMaxBatchSize() {
+        return 0;
+    }
+}
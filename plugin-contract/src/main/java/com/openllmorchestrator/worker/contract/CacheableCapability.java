@@ -0,0 +1,45 @@
+/*
+ * Copyright 2026 Open LLM Orchestrator contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.openllmorchestrator.worker.contract;
+
+import java.util.Set;
+
+/**
+ * Optional interface for plugins whose output depends only on a known set of input keys, so the worker may serve
+ * it from the result cache (RESULT_CACHE) instead of calling the plugin. The cache key is a hash of the plugin
+ * name, the values of {@link #getCacheKeyFields()} and the config version (plus {@link #getCacheVersion()}).
+ * <p>
+ * Plugins that do not implement this are cached only when listed in config or when they return
+ * {@link CapabilityResult#isDeterministic()} results; their key then covers the whole input.
+ */
+public interface CacheableCapability {
+
+    /**
+     * Keys from originalInput or accumulatedOutput that the output depends on. Return an empty set to key on the
+     * whole input.
+     */
+    Set<String> getCacheKeyFields();
+
+    /** Version of the plugin's own behaviour (model id, prompt template version); change it to invalidate entries. */
+    default String getCacheVersion() {
+        return "";
+    }
+
+    /** Time to live for this plugin's entries in seconds; 0 or less uses the configured TTL. */
+    default long getCacheTtlSeconds() {
+        return 0;
+    }
+}
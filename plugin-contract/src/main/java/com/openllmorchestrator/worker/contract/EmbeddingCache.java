@@ -0,0 +1,96 @@
+/*
+ * Copyright 2026 Open LLM Orchestrator contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.openllmorchestrator.worker.contract;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Content-addressed embedding cache for vector-store and retrieval plugins, from
+ * {@link PluginContext#getEmbeddingCache()}. Entries are keyed by the embedding model id and the normalized text
+ * ({@link EmbeddingVectors#key}), so unchanged chunks and repeated queries are embedded once. Implementations must be
+ * thread-safe; {@link #NONE} caches nothing.
+ */
+public interface EmbeddingCache {
+
+    /** Cache that never hits; used when the worker has no embedding cache. */
+    EmbeddingCache NONE = new EmbeddingCache() {
+        @Override
+        public float[] get(String modelId, String text) {
+            return null;
+        }
+
+        @Override
+        public void put(String modelId, String text, float[] vector) {
+        }
+    };
+
+    /** Cached vector for the text under the model, or null. */
+    float[] get(String modelId, String text);
+
+    void put(String modelId, String text, float[] vector);
+
+    /** Cached vectors for the texts, in order, with null for misses. */
+    default List<float[]> getAll(String modelId, List<String> texts) {
+        List<float[]> out = new ArrayList<>(texts.size());
+        for (String text : texts) {
+            out.add(get(modelId, text));
+        }
+        return out;
+    }
+
+    /** Cached vector, or the result of {@code embed} (then stored). */
+    default float[] computeIfAbsent(String modelId, String text, Function<String, float[]> embed) {
+        float[] vector = get(modelId, text);
+        if (vector == null) {
+            vector = embed.apply(text);
+            if (vector != null) {
+                put(modelId, text, vector);
+            }
+        }
+        return vector;
+    }
+
+    /**
+     * Vectors for all texts, in order. Only the misses are passed to {@code embed} (one batched call, in their original
+     * order); it must return one vector per text it is given. New vectors are stored.
+     */
+    default List<float[]> computeAllIfAbsent(String modelId, List<String> texts, Function<List<String>, List<float[]>> embed) {
+        List<float[]> out = new ArrayList<>(getAll(modelId, texts));
+        List<Integer> missing = new ArrayList<>();
+        List<String> missingTexts = new ArrayList<>();
+        for (int i = 0; i < out.size(); i++) {
+            if (out.get(i) == null) {
+                missing.add(i);
+                missingTexts.add(texts.get(i));
+            }
+        }
+        if (missing.isEmpty()) {
+            return out;
+        }
+        List<float[]> embedded = embed.apply(missingTexts);
+        if (embedded == null || embedded.size() != missingTexts.size()) {
+            throw new IllegalStateException("Embedding function returned "
+                    + (embedded != null ? embedded.size() : 0) + " vectors for " + missingTexts.size() + " texts");
+        }
+        for (int i = 0; i < missing.size(); i++) {
+            out.set(missing.get(i), embedded.get(i));
+            put(modelId, missingTexts.get(i), embedded.get(i));
+        }
+        return out;
+    }
+}
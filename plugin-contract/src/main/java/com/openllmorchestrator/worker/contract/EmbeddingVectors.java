@@ -0,0 +1,110 @@
+/*
+ * Copyright 2026 Open LLM Orchestrator contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.openllmorchestrator.worker.contract;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+
+/**
+ * Helpers for embedding vectors: content keys and a compact binary form (one format byte, then little-endian
+ * float32 or float16 values) instead of JSON lists of doubles. float16 halves the size again at about three
+ * significant digits, which is enough for cosine similarity on normalized vectors.
+ */
+public final class EmbeddingVectors {
+
+    public static final byte FLOAT32 = 1;
+    public static final byte FLOAT16 = 2;
+
+    private EmbeddingVectors() {}
+
+    /** Text as it is keyed: Unicode NFC, whitespace runs collapsed to one space, trimmed. Case is kept. */
+    public static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        return Normalizer.normalize(text, Normalizer.Form.NFC).replaceAll("\\s+", " ").trim();
+    }
+
+    /** Hex SHA-256 of the model id and the normalized text. */
+    public static String key(String modelId, String text) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update((modelId != null ? modelId : "").getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+            digest.update(normalize(text).getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /** Vector as bytes in the given format ({@link #FLOAT32} or {@link #FLOAT16}). */
+    public static byte[] encode(float[] vector, byte format) {
+        int width = format == FLOAT16 ? 2 : 4;
+        ByteBuffer buf = ByteBuffer.allocate(1 + vector.length * width).order(ByteOrder.LITTLE_ENDIAN);
+        buf.put(format == FLOAT16 ? FLOAT16 : FLOAT32);
+        for (float v : vector) {
+            if (format == FLOAT16) {
+                buf.putShort(Float.floatToFloat16(v));
+            } else {
+                buf.putFloat(v);
+            }
+        }
+        return buf.array();
+    }
+
+    /** Vector from {@link #encode} output. */
+    public static float[] decode(byte[] bytes) {
+        if (bytes == null || bytes.length == 0) {
+            throw new IllegalArgumentException("Empty embedding bytes");
+        }
+        ByteBuffer buf = ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN);
+        byte format = buf.get();
+        if (format != FLOAT32 && format != FLOAT16) {
+            throw new IllegalArgumentException("Unknown embedding format " + format);
+        }
+        float[] vector = new float[(bytes.length - 1) / (format == FLOAT16 ? 2 : 4)];
+        for (int i = 0; i < vector.length; i++) {
+            vector[i] = format == FLOAT16 ? Float.float16ToFloat(buf.getShort()) : buf.getFloat();
+        }
+        return vector;
+    }
+
+    /** Vector from a JSON-style list of numbers (e.g. a plugin's "embedding" output). */
+    public static float[] fromList(List<? extends Number> values) {
+        float[] vector = new float[values.size()];
+        for (int i = 0; i < vector.length; i++) {
+            vector[i] = values.get(i).floatValue();
+        }
+        return vector;
+    }
+
+    /** Vector as a list of numbers, for plugin output. */
+    public static List<Float> toList(float[] vector) {
+        List<Float> out = new ArrayList<>(vector.length);
+        for (float v : vector) {
+            out.add(v);
+        }
+        return out;
+    }
+}
@@ -0,0 +1,366 @@
+/*
+ * Copyright 2026 Open LLM Orchestrator contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.openllmorchestrator.worker.contract;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Push parser for JSON arriving in chunks (model tokens). Feed text as it streams; every value that completes at
+ * {@code emitDepth} is handed to the listener at once, e.g. with depth 2 each element of
+ * {@code {"tool_calls":[{...},{...}]}} is emitted as soon as its closing brace arrives. Depth 0 is the top-level
+ * value. Text before the first {@code '{'} or {@code '['} (and between top-level values) is skipped, so markdown
+ * fences or a leading sentence do not break parsing. A bracket in prose that does not open valid JSON (e.g.
+ * {@code "see [citation needed]"}) is dropped: scanning resumes at the character that broke it, looking for the next
+ * {@code '{'} or {@code '['}. Values already emitted from a dropped value are not retracted. {@link #strict} parsers
+ * throw instead, for input that must be JSON (HTTP bodies).
+ * <p>
+ * Values are built as {@link LinkedHashMap}, {@link ArrayList}, {@link String}, {@link Integer}/{@link Long}/
+ * {@link BigInteger}/{@link Double}, {@link Boolean} and {@code null}, the same shapes Jackson produces for untyped maps. One scratch
+ * buffer is reused for strings, numbers and literals; chunks are not copied. Not thread-safe.
+ */
+public final class IncrementalJsonParser {
+
+    private static final int TOP = 0;
+    private static final int VALUE = 1;
+    private static final int VALUE_OR_END = 2;
+    private static final int KEY_OR_END = 3;
+    private static final int KEY = 4;
+    private static final int COLON = 5;
+    private static final int AFTER_VALUE = 6;
+    private static final int STRING = 7;
+    private static final int ESCAPE = 8;
+    private static final int UNICODE = 9;
+    private static final int NUMBER = 10;
+    private static final int LITERAL = 11;
+
+    private final int emitDepth;
+    private final Consumer<Object> listener;
+    private final boolean resync;
+    private final List<Object> containers = new ArrayList<>();
+    private final List<String> keys = new ArrayList<>();
+    private final StringBuilder scratch = new StringBuilder();
+    private int state = TOP;
+    private boolean stringIsKey;
+    private int unicodeDigits;
+    private int unicodeValue;
+    private long position;
+    private Object lastRoot;
+    private boolean rootSeen;
+
+    /**
+     * @param emitDepth depth of the values to emit (0 = top-level value, 1 = its members, …)
+     * @param listener  receives each completed value at that depth, in document order
+     */
+    public IncrementalJsonParser(int emitDepth, Consumer<Object> listener) {
+        this(emitDepth, listener, true);
+    }
+
+    private IncrementalJsonParser(int emitDepth, Consumer<Object> listener, boolean resync) {
+        if (emitDepth < 0) {
+            throw new IllegalArgumentException("emitDepth must be >= 0");
+        }
+        this.emitDepth = emitDepth;
+        this.listener = listener;
+        this.resync = resync;
+    }
+
+    /** Parser that throws on malformed input instead of dropping the value and resynchronising. */
+    public static IncrementalJsonParser strict(int emitDepth, Consumer<Object> listener) {
+        return new IncrementalJsonParser(emitDepth, listener, false);
+    }
+
+    /** Feed the next chunk. A strict parser throws IllegalStateException on malformed input. */
+    public void feed(CharSequence chunk) {
+        if (chunk == null) {
+            return;
+        }
+        for (int i = 0, n = chunk.length(); i < n; i++) {
+            char c = chunk.charAt(i);
+            try {
+                accept(c);
+            } catch (MalformedJsonException e) {
+                if (!resync) {
+                    throw e;
+                }
+                containers.clear();
+                keys.clear();
+                scratch.setLength(0);
+                state = TOP;
+                accept(c);
+            }
+            position++;
+        }
+    }
+
+    /** Feed every token from the upstream stage, then {@link #finish()}. */
+    public Object feedAll(TokenStream upstream) {
+        String token;
+        while ((token = upstream.next()) != null) {
+            feed(token);
+        }
+        return finish();
+    }
+
+    /**
+     * End of input: completes a pending top-level number or literal and returns the last completed top-level value
+     * (null if none). Throws IllegalStateException if a value is still open.
+     */
+    public Object finish() {
+        if (state == NUMBER || state == LITERAL) {
+            completeScalar();
+        }
+        if (!containers.isEmpty() || state != TOP) {
+            throw new IllegalStateException("Incomplete JSON at end of input (position " + position + ")");
+        }
+        return lastRoot;
+    }
+
+    /** True once at least one top-level value has completed. */
+    public boolean hasRoot() {
+        return rootSeen;
+    }
+
+    /** Current nesting depth (number of open objects and arrays). */
+    public int depth() {
+        return containers.size();
+    }
+
+    private void accept(char c) {
+        switch (state) {
+            case TOP -> {
+                if (c == '{' || c == '[') {
+                    open(c);
+                }
+            }
+            case VALUE, VALUE_OR_END -> {
+                if (isWhitespace(c)) {
+                    return;
+                }
+                if (c == ']' && state == VALUE_OR_END) {
+                    close(c);
+                } else {
+                    startValue(c);
+                }
+            }
+            case KEY_OR_END, KEY -> {
+                if (isWhitespace(c)) {
+                    return;
+                }
+                if (c == '}' && state == KEY_OR_END) {
+                    close(c);
+                } else if (c == '"') {
+                    stringIsKey = true;
+                    scratch.setLength(0);
+                    state = STRING;
+                } else {
+                    throw error("expected object key", c);
+                }
+            }
+            case COLON -> {
+                if (c == ':') {
+                    state = VALUE;
+                } else if (!isWhitespace(c)) {
+                    throw error("expected ':'", c);
+                }
+            }
+            case AFTER_VALUE -> {
+                if (isWhitespace(c)) {
+                    return;
+                }
+                Object top = containers.get(containers.size() - 1);
+                if (c == ',') {
+                    state = top instanceof Map ? KEY : VALUE;
+                } else if ((c == '}' && top instanceof Map) || (c == ']' && top instanceof List)) {
+                    close(c);
+                } else {
+                    throw error("expected ',' or closing bracket", c);
+                }
+            }
+            case STRING -> {
+                if (c == '"') {
+                    String s = scratch.toString();
+                    if (stringIsKey) {
+                        keys.set(keys.size() - 1, s);
+                        state = COLON;
+                    } else {
+                        complete(s);
+                    }
+                } else if (c == '\\') {
+                    state = ESCAPE;
+                } else {
+                    scratch.append(c);
+                }
+            }
+            case ESCAPE -> {
+                switch (c) {
+                    case '"', '\\', '/' -> scratch.append(c);
+                    case 'b' -> scratch.append('\b');
+                    case 'f' -> scratch.append('\f');
+                    case 'n' -> scratch.append('\n');
+                    case 'r' -> scratch.append('\r');
+                    case 't' -> scratch.append('\t');
+                    case 'u' -> {
+                        unicodeDigits = 0;
+                        unicodeValue = 0;
+                        state = UNICODE;
+                        return;
+                    }
+                    default -> throw error("invalid escape", c);
+                }
+                state = STRING;
+            }
+            case UNICODE -> {
+                int digit = Character.digit(c, 16);
+                if (digit < 0) {
+                    throw error("invalid unicode escape", c);
+                }
+                unicodeValue = (unicodeValue << 4) | digit;
+                if (++unicodeDigits == 4) {
+                    scratch.append((char) unicodeValue);
+                    state = STRING;
+                }
+            }
+            case NUMBER -> {
+                if ((c >= '0' && c <= '9') || c == '.' || c == 'e' || c == 'E' || c == '+' || c == '-') {
+                    scratch.append(c);
+                } else {
+                    completeScalar();
+                    accept(c);
+                }
+            }
+            case LITERAL -> {
+                if (c >= 'a' && c <= 'z') {
+                    scratch.append(c);
+                } else {
+                    completeScalar();
+                    accept(c);
+                }
+            }
+            default -> throw new IllegalStateException("Unknown parser state " + state);
+        }
+    }
+
+    private void startValue(char c) {
+        if (c == '{' || c == '[') {
+            open(c);
+        } else if (c == '"') {
+            stringIsKey = false;
+            scratch.setLength(0);
+            state = STRING;
+        } else if (c == '-' || (c >= '0' && c <= '9')) {
+            scratch.setLength(0);
+            scratch.append(c);
+            state = NUMBER;
+        } else if (c == 't' || c == 'f' || c == 'n') {
+            scratch.setLength(0);
+            scratch.append(c);
+            state = LITERAL;
+        } else {
+            throw error("unexpected character", c);
+        }
+    }
+
+    private void open(char c) {
+        if (c == '{') {
+            containers.add(new LinkedHashMap<String, Object>());
+            keys.add(null);
+            state = KEY_OR_END;
+        } else {
+            containers.add(new ArrayList<>());
+            keys.add(null);
+            state = VALUE_OR_END;
+        }
+    }
+
+    private void close(char c) {
+        Object container = containers.remove(containers.size() - 1);
+        keys.remove(keys.size() - 1);
+        complete(container);
+    }
+
+    private void completeScalar() {
+        String text = scratch.toString();
+        Object value;
+        if (state == LITERAL) {
+            value = switch (text) {
+                case "true" -> Boolean.TRUE;
+                case "false" -> Boolean.FALSE;
+                case "null" -> null;
+                default -> throw new MalformedJsonException("Invalid literal '" + text + "' at position " + position);
+            };
+        } else {
+            value = parseNumber(text);
+        }
+        complete(value);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void complete(Object value) {
+        int depth = containers.size();
+        if (depth == 0) {
+            lastRoot = value;
+            rootSeen = true;
+            state = TOP;
+        } else {
+            Object top = containers.get(depth - 1);
+            if (top instanceof Map) {
+                ((Map<String, Object>) top).put(keys.get(depth - 1), value);
+            } else {
+                ((List<Object>) top).add(value);
+            }
+            state = AFTER_VALUE;
+        }
+        if (depth == emitDepth && listener != null) {
+            listener.accept(value);
+        }
+    }
+
+    private Object parseNumber(String text) {
+        try {
+            if (text.indexOf('.') < 0 && text.indexOf('e') < 0 && text.indexOf('E') < 0) {
+                if (text.length() > 18) {
+                    BigInteger big = new BigInteger(text);
+                    return big.bitLength() < 64 ? (Object) big.longValue() : big;
+                }
+                long l = Long.parseLong(text);
+                return l >= Integer.MIN_VALUE && l <= Integer.MAX_VALUE ? (Object) (int) l : (Object) l;
+            }
+            return Double.parseDouble(text);
+        } catch (NumberFormatException e) {
+            throw new MalformedJsonException("Invalid number '" + text + "' at position " + position);
+        }
+    }
+
+    private MalformedJsonException error(String message, char c) {
+        return new MalformedJsonException("Malformed JSON: " + message + " but got '" + c + "' at position " + position);
+    }
+
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\n' || c == '\r' || c == '\t';
+    }
+
+    /** Input error, told apart from listener failures (which always propagate). */
+    private static final class MalformedJsonException extends IllegalStateException {
+        MalformedJsonException(String message) {
+            super(message);
+        }
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright 2026 Open LLM Orchestrator contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.openllmorchestrator.worker.contract;
+
+import java.util.function.Consumer;
+
+/**
+ * {@link StreamObserver} that parses the token stream as JSON while passing every call on to a delegate (may be
+ * null). Completed values at {@code emitDepth} reach the listener as soon as they close, so a planner or tool
+ * plugin can act on the first tool call or plan group while the model is still writing the rest.
+ * Parse errors are reported once through {@link #getParseError()} and stop parsing; they never fail the stream.
+ */
+public final class JsonStreamObserver implements StreamObserver {
+
+    private final StreamObserver delegate;
+    private final IncrementalJsonParser parser;
+    private RuntimeException parseError;
+
+    public JsonStreamObserver(StreamObserver delegate, int emitDepth, Consumer<Object> listener) {
+        this.delegate = delegate;
+        this.parser = new IncrementalJsonParser(emitDepth, listener);
+    }
+
+    @Override
+    public void onToken(String token) {
+        if (parseError == null) {
+            try {
+                parser.feed(token);
+            } catch (IllegalStateException e) {
+                parseError = e;
+            }
+        }
+        if (delegate != null) {
+            delegate.onToken(token);
+        }
+    }
+
+    @Override
+    public void onUpdate(String type, Object payload) {
+        if (delegate != null) {
+            delegate.onUpdate(type, payload);
+        }
+    }
+
+    @Override
+    public void onComplete() {
+        if (delegate != null) {
+            delegate.onComplete();
+        }
+    }
+
+    @Override
+    public void onError(Throwable t) {
+        if (delegate != null) {
+            delegate.onError(t);
+        }
+    }
+
+    /** Ends parsing and returns the last complete top-level value. Throws the first parse error, if any. */
+    public Object finish() {
+        if (parseError != null) {
+            throw parseError;
+        }
+        return parser.finish();
+    }
+
+    /** First parse error seen, or null. */
+    public RuntimeException getParseError() {
+        return parseError;
+    }
+}
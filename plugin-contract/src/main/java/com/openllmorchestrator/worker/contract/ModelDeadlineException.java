@@ -0,0 +1,27 @@
+/*
+ * Copyright 2026 Open LLM Orchestrator contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.openllmorchestrator.worker.contract;
+
+/**
+ * Thrown by {@link ModelHttpClient} when a call passes its deadline; the response stream has been cancelled. The cause
+ * is the {@link java.util.concurrent.TimeoutException} of the underlying future.
+ */
+public class ModelDeadlineException extends IllegalStateException {
+
+    public ModelDeadlineException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
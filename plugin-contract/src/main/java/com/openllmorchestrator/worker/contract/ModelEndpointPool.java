@@ -0,0 +1,459 @@
+/*
+ * Copyright 2026 Open LLM Orchestrator contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.openllmorchestrator.worker.contract;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Least-outstanding-requests balancing across replicas of one model server (e.g. several Ollama instances), for LLM
+ * plugins that would otherwise read a single base URL. {@link #acquire} picks the healthy endpoint with the fewest
+ * in-flight requests, preferring endpoints that recently served the same model (so it is likely still loaded) as
+ * long as they are not more than {@code affinitySlack} requests busier than the least loaded one. After
+ * {@code ejectAfterFailures} consecutive failures an endpoint is ejected for a back-off that doubles on each
+ * ejection (up to {@code maxEjection}); then a single trial request decides whether it returns. When every endpoint is
+ * ejected the one due back first is used rather than failing. Pools from {@link #shared} are shared by all plugins in
+ * the worker, so in-flight counts cover every caller. Thread-safe.
+ */
+public final class ModelEndpointPool {
+
+    /** Comma-separated base URLs; {@link #fromEnv()} falls back to {@link #SINGLE_URL_ENV}. */
+    public static final String URLS_ENV = "OLLAMA_BASE_URLS";
+    public static final String SINGLE_URL_ENV = "OLLAMA_BASE_URL";
+    public static final String DEFAULT_URL = "http://localhost:11434";
+
+    private static final Map<String, ModelEndpointPool> SHARED = new ConcurrentHashMap<>();
+
+    private final List<Endpoint> endpoints;
+    private final int ejectAfterFailures;
+    private final Duration baseEjection;
+    private final Duration maxEjection;
+    private final Duration affinityTtl;
+    private final int affinitySlack;
+    private final AtomicInteger next = new AtomicInteger();
+    private volatile Thread healthChecker;
+
+    private ModelEndpointPool(Builder b) {
+        List<Endpoint> list = new ArrayList<>();
+        for (String url : b.urls) {
+            list.add(new Endpoint(normalize(url)));
+        }
+        if (list.isEmpty()) {
+            throw new IllegalArgumentException("Model endpoint pool needs at least one URL");
+        }
+        this.endpoints = List.copyOf(list);
+        this.ejectAfterFailures = Math.max(1, b.ejectAfterFailures);
+        this.baseEjection = b.baseEjection;
+        this.maxEjection = b.maxEjection;
+        this.affinityTtl = b.affinityTtl;
+        this.affinitySlack = Math.max(0, b.affinitySlack);
+    }
+
+    public static Builder builder(List<String> urls) {
+        return new Builder(urls);
+    }
+
+    /** Worker-wide pool for the URLs (same list, same pool); built with defaults on first use. */
+    public static ModelEndpointPool shared(List<String> urls) {
+        List<String> normalized = urls.stream().map(ModelEndpointPool::normalize).toList();
+        return SHARED.computeIfAbsent(String.join(",", normalized), k -> builder(normalized).build());
+    }
+
+    /** Worker-wide pool from {@link #envUrls()}. */
+    public static ModelEndpointPool fromEnv() {
+        return shared(envUrls());
+    }
+
+    /** URLs from {@value #URLS_ENV}, else {@value #SINGLE_URL_ENV}, else {@value #DEFAULT_URL}. */
+    public static List<String> envUrls() {
+        String urls = System.getenv(URLS_ENV);
+        if (urls == null || urls.isBlank()) {
+            urls = System.getenv(SINGLE_URL_ENV);
+        }
+        return parseUrls(urls != null && !urls.isBlank() ? urls : DEFAULT_URL);
+    }
+
+    /** Split a comma- or whitespace-separated URL list. */
+    public static List<String> parseUrls(String urls) {
+        List<String> out = new ArrayList<>();
+        for (String u : urls.split("[,\\s]+")) {
+            if (!u.isBlank()) {
+                out.add(u.trim());
+            }
+        }
+        return out;
+    }
+
+    /**
+     * Pick an endpoint for a request of {@code model} (null = no affinity) and count it as in flight. The caller must
+     * report the outcome on the lease ({@link Lease#success()} or {@link Lease#failure()}) and close it.
+     */
+    public Lease acquire(String model) {
+        Pick pick = pick(model, System.nanoTime());
+        pick.endpoint().outstanding.incrementAndGet();
+        return new Lease(pick.endpoint(), model, pick.trial());
+    }
+
+    /**
+     * Run {@code call} with a base URL from {@link #acquire}; an exception counts as a failure of that endpoint and
+     * is rethrown. Plugins that want to retry on another replica call this again.
+     */
+    public <T> T call(String model, Function<String, T> call) {
+        try (Lease lease = acquire(model)) {
+            try {
+                T result = call.apply(lease.baseUrl());
+                lease.success();
+                return result;
+            } catch (RuntimeException e) {
+                lease.failure();
+                throw e;
+            }
+        }
+    }
+
+    /** Record that the endpoint has the model loaded (e.g. after a warm-up call); it then gets affinity. */
+    public void markLoaded(String baseUrl, String model) {
+        Endpoint e = find(baseUrl);
+        if (e != null && model != null) {
+            e.loaded.put(model, System.nanoTime());
+        }
+    }
+
+    /** Forget that the endpoint has the model loaded. */
+    public void markUnloaded(String baseUrl, String model) {
+        Endpoint e = find(baseUrl);
+        if (e != null && model != null) {
+            e.loaded.remove(model);
+        }
+    }
+
+    /**
+     * Probe every endpoint with {@code GET baseUrl + path} every {@code interval} on a virtual thread; a 2xx reply
+     * brings an ejected endpoint back, anything else counts as a failure. Idempotent; stop with {@link #close()}.
+     */
+    public synchronized ModelEndpointPool startHealthChecks(String path, Duration interval) {
+        if (healthChecker != null) {
+            return this;
+        }
+        HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(2)).build();
+        healthChecker = Thread.ofVirtual().name("model-endpoint-health").start(() -> {
+            while (!Thread.currentThread().isInterrupted()) {
+                for (Endpoint e : endpoints) {
+                    probe(client, e, path);
+                }
+                try {
+                    Thread.sleep(interval.toMillis());
+                } catch (InterruptedException ie) {
+                    return;
+                }
+            }
+        });
+        return this;
+    }
+
+    /** Stop health checks. */
+    public synchronized void close() {
+        if (healthChecker != null) {
+            healthChecker.interrupt();
+            healthChecker = null;
+        }
+    }
+
+    /** Per-endpoint state, for logs and admin views. */
+    public List<EndpointStatus> status() {
+        long now = System.nanoTime();
+        List<EndpointStatus> out = new ArrayList<>(endpoints.size());
+        for (Endpoint e : endpoints) {
+            List<String> models = new ArrayList<>();
+            e.loaded.forEach((m, at) -> {
+                if (now - at < affinityTtl.toNanos()) {
+                    models.add(m);
+                }
+            });
+            Collections.sort(models);
+            synchronized (e) {
+                out.add(new EndpointStatus(e.baseUrl, e.outstanding.get(), e.ejectedUntil > now, e.consecutiveFailures,
+                        e.requests, e.failures, models));
+            }
+        }
+        return out;
+    }
+
+    /** Choose and claim an endpoint; if another caller took its trial slot meanwhile, choose again. */
+    private Pick pick(String model, long now) {
+        while (true) {
+            int n = endpoints.size();
+            int start = Math.floorMod(next.getAndIncrement(), n);
+            Endpoint least = null;
+            Endpoint affine = null;
+            Endpoint dueFirst = null;
+            for (int i = 0; i < n; i++) {
+                Endpoint e = endpoints.get((start + i) % n);
+                if (!e.available(now)) {
+                    if (dueFirst == null || e.ejectedUntil < dueFirst.ejectedUntil) {
+                        dueFirst = e;
+                    }
+                    continue;
+                }
+                int load = e.outstanding.get();
+                if (least == null || load < least.outstanding.get()) {
+                    least = e;
+                }
+                if (model != null && e.hasLoaded(model, now, affinityTtl) && (affine == null || load < affine.outstanding.get())) {
+                    affine = e;
+                }
+            }
+            if (least == null) {
+                return dueFirst.forcePick(now);
+            }
+            Endpoint chosen = affine != null && affine.outstanding.get() <= least.outstanding.get() + affinitySlack ? affine : least;
+            Pick pick = chosen.tryPick(now);
+            if (pick != null) {
+                return pick;
+            }
+        }
+    }
+
+    private void probe(HttpClient client, Endpoint e, String path) {
+        boolean ok;
+        try {
+            HttpRequest request = HttpRequest.newBuilder(URI.create(e.baseUrl + path)).timeout(Duration.ofSeconds(5)).GET().build();
+            int code = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+            ok = code >= 200 && code < 300;
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            return;
+        } catch (Exception ex) {
+            ok = false;
+        }
+        if (ok) {
+            e.onSuccess();
+        } else {
+            e.onFailure(System.nanoTime(), false, ejectAfterFailures, baseEjection, maxEjection);
+        }
+    }
+
+    private Endpoint find(String baseUrl) {
+        String url = baseUrl != null ? normalize(baseUrl) : null;
+        for (Endpoint e : endpoints) {
+            if (e.baseUrl.equals(url)) {
+                return e;
+            }
+        }
+        return null;
+    }
+
+    private static String normalize(String url) {
+        String u = url.trim();
+        while (u.endsWith("/")) {
+            u = u.substring(0, u.length() - 1);
+        }
+        return u;
+    }
+
+    /** One in-flight request on an endpoint. Closing without an outcome counts as neither success nor failure. */
+    public final class Lease implements AutoCloseable {
+
+        private final Endpoint endpoint;
+        private final String model;
+        private final boolean trial;
+        private boolean done;
+
+        private Lease(Endpoint endpoint, String model, boolean trial) {
+            this.endpoint = endpoint;
+            this.model = model;
+            this.trial = trial;
+        }
+
+        /** Base URL without a trailing slash. */
+        public String baseUrl() {
+            return endpoint.baseUrl;
+        }
+
+        /** The endpoint answered; it now has affinity for the model. */
+        public void success() {
+            if (finish()) {
+                endpoint.onSuccess();
+                if (model != null) {
+                    endpoint.loaded.put(model, System.nanoTime());
+                }
+            }
+        }
+
+        /** The endpoint failed (connect error, 5xx, timeout); counts towards ejection. */
+        public void failure() {
+            if (finish()) {
+                endpoint.onFailure(System.nanoTime(), trial, ejectAfterFailures, baseEjection, maxEjection);
+            }
+        }
+
+        @Override
+        public void close() {
+            if (finish() && trial) {
+                endpoint.releaseTrial();
+            }
+        }
+
+        private synchronized boolean finish() {
+            if (done) {
+                return false;
+            }
+            done = true;
+            endpoint.outstanding.decrementAndGet();
+            return true;
+        }
+    }
+
+    /** Snapshot of one endpoint. */
+    public record EndpointStatus(String baseUrl, int outstanding, boolean ejected, int consecutiveFailures,
+                                 long requests, long failures, List<String> loadedModels) {}
+
+    private record Pick(Endpoint endpoint, boolean trial) {}
+
+    private static final class Endpoint {
+
+        final String baseUrl;
+        final AtomicInteger outstanding = new AtomicInteger();
+        final Map<String, Long> loaded = new ConcurrentHashMap<>();
+        volatile long ejectedUntil = Long.MIN_VALUE;
+        int consecutiveFailures;
+        int ejections;
+        boolean trialInFlight;
+        long requests;
+        long failures;
+
+        Endpoint(String baseUrl) {
+            this.baseUrl = baseUrl;
+        }
+
+        /** Healthy, or ejected with the back-off over and no trial request running yet. */
+        synchronized boolean available(long now) {
+            return ejectedUntil == Long.MIN_VALUE || (now >= ejectedUntil && !trialInFlight);
+        }
+
+        /**
+         * Claim a request if the endpoint is still {@link #available}, checked under the same lock so only one caller
+         * becomes the trial request after a back-off; null when it is no longer available.
+         */
+        synchronized Pick tryPick(long now) {
+            if (!available(now)) {
+                return null;
+            }
+            requests++;
+            boolean trial = ejectedUntil != Long.MIN_VALUE;
+            if (trial) {
+                trialInFlight = true;
+            }
+            return new Pick(this, trial);
+        }
+
+        /** Claim a request even though the endpoint is ejected (every endpoint is); a trial if none is running yet. */
+        synchronized Pick forcePick(long now) {
+            requests++;
+            boolean trial = now >= ejectedUntil && !trialInFlight;
+            if (trial) {
+                trialInFlight = true;
+            }
+            return new Pick(this, trial);
+        }
+
+        synchronized void releaseTrial() {
+            trialInFlight = false;
+        }
+
+        boolean hasLoaded(String model, long now, Duration ttl) {
+            Long at = loaded.get(model);
+            return at != null && now - at < ttl.toNanos();
+        }
+
+        synchronized void onSuccess() {
+            consecutiveFailures = 0;
+            ejections = 0;
+            trialInFlight = false;
+            ejectedUntil = Long.MIN_VALUE;
+        }
+
+        synchronized void onFailure(long now, boolean trial, int threshold, Duration base, Duration max) {
+            failures++;
+            consecutiveFailures++;
+            if (trial) {
+                trialInFlight = false;
+            }
+            if (!trial && ejectedUntil != Long.MIN_VALUE && now < ejectedUntil) {
+                return;
+            }
+            if (trial || consecutiveFailures >= threshold) {
+                long backoff = Math.min(max.toNanos(), base.toNanos() << Math.min(ejections, 20));
+                ejections++;
+                ejectedUntil = now + backoff;
+                loaded.clear();
+            }
+        }
+    }
+
+    public static final class Builder {
+
+        private final List<String> urls;
+        private int ejectAfterFailures = 3;
+        private Duration baseEjection = Duration.ofSeconds(10);
+        private Duration maxEjection = Duration.ofMinutes(5);
+        private Duration affinityTtl = Duration.ofMinutes(5);
+        private int affinitySlack = 2;
+
+        private Builder(List<String> urls) {
+            this.urls = urls != null ? List.copyOf(urls) : List.of();
+        }
+
+        /** Consecutive failures before an endpoint is ejected (default 3). */
+        public Builder ejectAfterFailures(int n) {
+            this.ejectAfterFailures = n;
+            return this;
+        }
+
+        /** First ejection; doubles on each further ejection up to {@code max} (defaults 10 s and 5 min). */
+        public Builder ejection(Duration base, Duration max) {
+            this.baseEjection = base;
+            this.maxEjection = max;
+            return this;
+        }
+
+        /** How long a served model counts as loaded on the endpoint (default 5 min, Ollama's keep-alive). */
+        public Builder affinityTtl(Duration ttl) {
+            this.affinityTtl = ttl;
+            return this;
+        }
+
+        /** Extra in-flight requests tolerated on an endpoint with the model loaded (default 2). */
+        public Builder affinitySlack(int slack) {
+            this.affinitySlack = slack;
+            return this;
+        }
+
+        public ModelEndpointPool build() {
+            return new ModelEndpointPool(this);
+        }
+    }
+}
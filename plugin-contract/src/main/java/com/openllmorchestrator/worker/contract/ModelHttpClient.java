@@ -0,0 +1,581 @@
+/*
+ * Copyright 2026 Open LLM Orchestrator contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.openllmorchestrator.worker.contract;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpConnectTimeoutException;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Shared HTTP client for model plugins (Ollama, OpenAI-compatible servers). One {@link HttpClient} per instance keeps
+ * connections (and TLS sessions) alive across calls; {@link #shared()} is the worker-wide instance. {@code https}
+ * endpoints negotiate HTTP/2 through ALPN, {@code http} endpoints use pooled HTTP/1.1 keep-alive connections.
+ * <p>
+ * Every call has a deadline covering the whole exchange, body included; when it passes, the response stream is
+ * cancelled and the call fails with {@link ModelDeadlineException}. Response bodies are decoded from the network buffers into
+ * one reused char buffer and fed to an {@link IncrementalJsonParser}, so no string of the whole body is built.
+ * Streaming calls decode NDJSON ({@code application/x-ndjson}, Ollama) or server-sent events ({@code data:} lines,
+ * OpenAI) and pass each event's token to a {@link StreamObserver}. Non-2xx replies fail with {@link ModelHttpException}.
+ * Async futures fail with these exceptions wrapped in a {@link CompletionException}; the blocking methods throw them
+ * as they are and wrap I/O errors in {@link IllegalStateException}.
+ * Thread-safe; async methods complete on virtual threads.
+ */
+public final class ModelHttpClient {
+
+    /** Wire format of a streamed response. */
+    public enum StreamFormat {
+        /** One JSON object per line (Ollama {@code "stream": true}). */
+        NDJSON,
+        /** Server-sent events whose {@code data:} payloads are JSON; {@code [DONE]} ends the stream (OpenAI). */
+        SSE
+    }
+
+    /** Token of an Ollama stream event: {@code response} (generate) or {@code message.content} (chat). */
+    public static final Function<Map<String, Object>, String> OLLAMA_TOKENS = event -> {
+        Object response = event.get("response");
+        if (response instanceof String s) {
+            return s;
+        }
+        return event.get("message") instanceof Map<?, ?> message && message.get("content") instanceof String s ? s : null;
+    };
+
+    /** Token of an OpenAI-compatible stream event: {@code choices[0].delta.content}, else {@code choices[0].text}. */
+    public static final Function<Map<String, Object>, String> OPENAI_TOKENS = event -> {
+        if (!(event.get("choices") instanceof List<?> choices) || choices.isEmpty() || !(choices.get(0) instanceof Map<?, ?> choice)) {
+            return null;
+        }
+        if (choice.get("delta") instanceof Map<?, ?> delta && delta.get("content") instanceof String s) {
+            return s;
+        }
+        return choice.get("text") instanceof String s ? s : null;
+    };
+
+    private static final int CHAR_BUFFER_SIZE = 8192;
+    private static final int ERROR_BODY_LIMIT = 512;
+    private static volatile ModelHttpClient shared;
+
+    private final HttpClient client;
+    private final Map<String, String> headers;
+    private final Duration defaultDeadline;
+
+    private ModelHttpClient(Builder b) {
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .connectTimeout(b.connectTimeout)
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+        this.headers = Map.copyOf(b.headers);
+        this.defaultDeadline = b.defaultDeadline;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /** Worker-wide client with default settings (5 s connect timeout, 300 s deadline, no extra headers). */
+    public static ModelHttpClient shared() {
+        ModelHttpClient c = shared;
+        if (c == null) {
+            synchronized (ModelHttpClient.class) {
+                c = shared;
+                if (c == null) {
+                    c = builder().build();
+                    shared = c;
+                }
+            }
+        }
+        return c;
+    }
+
+    /**
+     * POST {@code body} as JSON and parse the JSON reply (Map/List as in {@link IncrementalJsonParser}). The body may
+     * be a ready JSON string or Maps, Lists, arrays, strings, numbers and booleans. A null deadline uses the default.
+     */
+    public CompletableFuture<Object> postJsonAsync(String url, Object body, Duration deadline) {
+        IncrementalJsonParser parser = IncrementalJsonParser.strict(0, v -> {});
+        return exchange(post(url, body, deadline), deadline, parser::feed).thenApply(v -> parser.finish());
+    }
+
+    /** Blocking {@link #postJsonAsync}; unchecked failures are rethrown unwrapped. */
+    public Object postJson(String url, Object body, Duration deadline) {
+        return await(postJsonAsync(url, body, deadline));
+    }
+
+    /** GET and parse the JSON reply. */
+    public CompletableFuture<Object> getJsonAsync(String url, Duration deadline) {
+        IncrementalJsonParser parser = IncrementalJsonParser.strict(0, v -> {});
+        return exchange(request(url, deadline).GET().build(), deadline, parser::feed).thenApply(v -> parser.finish());
+    }
+
+    public Object getJson(String url, Duration deadline) {
+        return await(getJsonAsync(url, deadline));
+    }
+
+    /**
+     * POST {@code body} and decode the streamed reply. Each event's token ({@code tokens}, e.g. {@link #OLLAMA_TOKENS})
+     * goes to {@code observer.onToken} as it arrives; the observer (may be null) then gets {@code onComplete} or
+     * {@code onError}. The result holds the concatenated tokens and the last event (Ollama's final stats).
+     */
+    public CompletableFuture<StreamResult> streamAsync(String url, Object body, Duration deadline, StreamFormat format,
+                                                       Function<Map<String, Object>, String> tokens, StreamObserver observer) {
+        StringBuilder text = new StringBuilder();
+        Object[] last = new Object[1];
+        int[] events = new int[1];
+        IncrementalJsonParser parser = IncrementalJsonParser.strict(0, value -> {
+            if (!(value instanceof Map<?, ?>)) {
+                return;
+            }
+            @SuppressWarnings("unchecked")
+            Map<String, Object> event = (Map<String, Object>) value;
+            last[0] = event;
+            events[0]++;
+            String token = tokens != null ? tokens.apply(event) : null;
+            if (token != null && !token.isEmpty()) {
+                text.append(token);
+                if (observer != null) {
+                    observer.onToken(token);
+                }
+            }
+        });
+        Consumer<CharBuffer> sink = format == StreamFormat.SSE ? new SseDataFilter(parser::feed) : parser::feed;
+        @SuppressWarnings("unchecked")
+        CompletableFuture<StreamResult> result = exchange(post(url, body, deadline), deadline, sink)
+                .thenApply(v -> new StreamResult(text.toString(), last[0] != null ? (Map<String, Object>) last[0] : Map.of(), events[0]));
+        if (observer != null) {
+            result = result.whenComplete((r, error) -> {
+                if (error == null) {
+                    observer.onComplete();
+                } else {
+                    observer.onError(unwrap(error));
+                }
+            });
+        }
+        return result;
+    }
+
+    /** Blocking {@link #streamAsync}; unchecked failures are rethrown unwrapped. */
+    public StreamResult stream(String url, Object body, Duration deadline, StreamFormat format,
+                               Function<Map<String, Object>, String> tokens, StreamObserver observer) {
+        return await(streamAsync(url, body, deadline, format, tokens, observer));
+    }
+
+    /** Outcome of a streamed call. */
+    public record StreamResult(String text, Map<String, Object> last, int events) {}
+
+    private HttpRequest post(String url, Object body, Duration deadline) {
+        String json = body instanceof CharSequence cs ? cs.toString() : JsonText.write(body);
+        return request(url, deadline)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json, StandardCharsets.UTF_8))
+                .build();
+    }
+
+    private HttpRequest.Builder request(String url, Duration deadline) {
+        URI uri = URI.create(url);
+        HttpRequest.Builder b = HttpRequest.newBuilder(uri).timeout(deadline(deadline));
+        if ("http".equalsIgnoreCase(uri.getScheme())) {
+            b.version(HttpClient.Version.HTTP_1_1);
+        }
+        headers.forEach(b::header);
+        return b;
+    }
+
+    private Duration deadline(Duration deadline) {
+        return deadline != null && !deadline.isNegative() && !deadline.isZero() ? deadline : defaultDeadline;
+    }
+
+    /** Send the request and push the 2xx body through {@code sink}; the future fails on status, I/O or deadline. */
+    private CompletableFuture<Void> exchange(HttpRequest request, Duration deadline, Consumer<CharBuffer> sink) {
+        DecodingSubscriber[] current = new DecodingSubscriber[1];
+        CompletableFuture<Void> done = send(request, sink, current)
+                .exceptionallyCompose(error -> isStaleConnection(error, current[0])
+                        ? send(request, sink, current)
+                        : CompletableFuture.failedFuture(error));
+        long deadlineMillis = deadline(deadline).toMillis();
+        return done.orTimeout(deadlineMillis, TimeUnit.MILLISECONDS)
+                .handle((v, error) -> {
+                    if (error == null) {
+                        return null;
+                    }
+                    current[0].cancel();
+                    Throwable cause = unwrap(error);
+                    if (cause instanceof TimeoutException
+                            || cause instanceof HttpTimeoutException && !(cause instanceof HttpConnectTimeoutException)) {
+                        throw new ModelDeadlineException(request.method() + " " + request.uri() + " exceeded its deadline of "
+                                + deadlineMillis + " ms", cause);
+                    }
+                    throw error instanceof CompletionException ce ? ce : new CompletionException(error);
+                });
+    }
+
+    private CompletableFuture<Void> send(HttpRequest request, Consumer<CharBuffer> sink, DecodingSubscriber[] current) {
+        DecodingSubscriber body = new DecodingSubscriber(sink);
+        current[0] = body;
+        return client.sendAsync(request, info -> info.statusCode() / 100 == 2
+                        ? HttpResponse.BodySubscribers.fromSubscriber(body, s -> (String) null)
+                        : HttpResponse.BodySubscribers.ofString(StandardCharsets.UTF_8))
+                .thenCompose(response -> {
+                    if (response.statusCode() / 100 != 2) {
+                        String text = response.body() != null ? response.body() : "";
+                        throw new ModelHttpException(response.statusCode(), request.method() + " " + request.uri() + " returned HTTP "
+                                + response.statusCode() + ": " + (text.length() > ERROR_BODY_LIMIT ? text.substring(0, ERROR_BODY_LIMIT) : text));
+                    }
+                    return body.result;
+                });
+    }
+
+    /**
+     * A pooled keep-alive connection the server already closed fails with an I/O error before any response header;
+     * nothing reached the sink, so the request is sent once more on a fresh connection. Timeouts are not retried.
+     */
+    private static boolean isStaleConnection(Throwable error, DecodingSubscriber body) {
+        Throwable cause = unwrap(error);
+        return cause instanceof IOException && !(cause instanceof ConnectException) && !(cause instanceof HttpTimeoutException)
+                && body.subscription == null;
+    }
+
+    private static <T> T await(CompletableFuture<T> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for the model server", e);
+        } catch (ExecutionException e) {
+            Throwable cause = unwrap(e);
+            if (cause instanceof RuntimeException re) {
+                throw re;
+            }
+            throw new IllegalStateException("Model server call failed: " + cause.getMessage(), cause);
+        }
+    }
+
+    private static Throwable unwrap(Throwable t) {
+        Throwable c = t;
+        while ((c instanceof CompletionException || c instanceof ExecutionException) && c.getCause() != null) {
+            c = c.getCause();
+        }
+        return c;
+    }
+
+    /**
+     * Body subscriber that decodes UTF-8 straight from the network buffers into one reused char buffer and hands each
+     * filled buffer to the sink. A multi-byte character split across buffers is completed from a small carry buffer.
+     */
+    static final class DecodingSubscriber implements Flow.Subscriber<List<ByteBuffer>> {
+
+        final CompletableFuture<Void> result = new CompletableFuture<>();
+        private final Consumer<CharBuffer> sink;
+        private final CharsetDecoder decoder = StandardCharsets.UTF_8.newDecoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        private final CharBuffer chars = CharBuffer.allocate(CHAR_BUFFER_SIZE);
+        private final ByteBuffer carry = ByteBuffer.allocate(8);
+        private volatile Flow.Subscription subscription;
+
+        DecodingSubscriber(Consumer<CharBuffer> sink) {
+            this.sink = sink;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription s) {
+            subscription = s;
+            if (result.isDone()) {
+                s.cancel();
+            } else {
+                s.request(1);
+            }
+        }
+
+        @Override
+        public void onNext(List<ByteBuffer> buffers) {
+            try {
+                for (ByteBuffer buffer : buffers) {
+                    decode(buffer);
+                }
+            } catch (RuntimeException e) {
+                result.completeExceptionally(e);
+                cancel();
+                return;
+            }
+            subscription.request(1);
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            result.completeExceptionally(t);
+        }
+
+        @Override
+        public void onComplete() {
+            try {
+                carry.flip();
+                decoder.decode(carry, chars, true);
+                decoder.flush(chars);
+                drain();
+                result.complete(null);
+            } catch (RuntimeException e) {
+                result.completeExceptionally(e);
+            }
+        }
+
+        void cancel() {
+            result.completeExceptionally(new CancellationException("Response cancelled"));
+            Flow.Subscription s = subscription;
+            if (s != null) {
+                s.cancel();
+            }
+        }
+
+        private void decode(ByteBuffer in) {
+            while (carry.position() > 0 && in.hasRemaining()) {
+                carry.put(in.get());
+                carry.flip();
+                decodeAll(carry);
+                carry.compact();
+            }
+            decodeAll(in);
+            if (in.hasRemaining()) {
+                carry.put(in);
+            }
+        }
+
+        private void decodeAll(ByteBuffer in) {
+            CoderResult r;
+            do {
+                r = decoder.decode(in, chars, false);
+                drain();
+            } while (r.isOverflow());
+        }
+
+        private void drain() {
+            chars.flip();
+            if (chars.hasRemaining()) {
+                sink.accept(chars);
+            }
+            chars.clear();
+        }
+    }
+
+    /**
+     * Passes on only the payload of SSE {@code data:} lines whose payload is JSON; other fields, comments and
+     * {@code [DONE]} are dropped. Payload segments are handed over as views of the decoder's buffer.
+     */
+    static final class SseDataFilter implements Consumer<CharBuffer> {
+
+        private static final int LINE_START = 0;
+        private static final int FIELD = 1;
+        private static final int SKIP_SPACE = 2;
+        private static final int PAYLOAD_START = 3;
+        private static final int JSON = 4;
+        private static final int IGNORE = 5;
+
+        private final Consumer<CharSequence> target;
+        private final StringBuilder field = new StringBuilder(8);
+        private int state = LINE_START;
+
+        SseDataFilter(Consumer<CharSequence> target) {
+            this.target = target;
+        }
+
+        @Override
+        public void accept(CharBuffer chars) {
+            int segment = state == JSON ? 0 : -1;
+            for (int i = 0, n = chars.remaining(); i < n; i++) {
+                char c = chars.charAt(i);
+                if (c == '\n' || c == '\r') {
+                    if (segment >= 0) {
+                        target.accept(chars.subSequence(segment, i));
+                        target.accept("\n");
+                        segment = -1;
+                    }
+                    state = LINE_START;
+                    field.setLength(0);
+                    continue;
+                }
+                switch (state) {
+                    case LINE_START, FIELD -> {
+                        if (c == ':') {
+                            state = "data".contentEquals(field) ? SKIP_SPACE : IGNORE;
+                        } else if (field.length() < 8) {
+                            field.append(c);
+                            state = FIELD;
+                        } else {
+                            state = IGNORE;
+                        }
+                    }
+                    case SKIP_SPACE, PAYLOAD_START -> {
+                        if (c == ' ' && state == SKIP_SPACE) {
+                            state = PAYLOAD_START;
+                        } else if (c == '{') {
+                            state = JSON;
+                            segment = i;
+                        } else {
+                            state = IGNORE;
+                        }
+                    }
+                    default -> {
+                    }
+                }
+            }
+            if (segment >= 0) {
+                target.accept(chars.subSequence(segment, chars.remaining()));
+            }
+        }
+    }
+
+    /** Minimal JSON writer for request bodies. */
+    static final class JsonText {
+
+        private JsonText() {}
+
+        static String write(Object value) {
+            StringBuilder sb = new StringBuilder(256);
+            write(value, sb);
+            return sb.toString();
+        }
+
+        private static void write(Object v, StringBuilder sb) {
+            if (v == null) {
+                sb.append("null");
+            } else if (v instanceof CharSequence s) {
+                string(s, sb);
+            } else if (v instanceof Double d && (d.isNaN() || d.isInfinite()) || v instanceof Float f && (f.isNaN() || f.isInfinite())) {
+                sb.append("null");
+            } else if (v instanceof Number || v instanceof Boolean) {
+                sb.append(v);
+            } else if (v instanceof Map<?, ?> map) {
+                sb.append('{');
+                boolean first = true;
+                for (Map.Entry<?, ?> e : map.entrySet()) {
+                    if (!first) {
+                        sb.append(',');
+                    }
+                    first = false;
+                    string(String.valueOf(e.getKey()), sb);
+                    sb.append(':');
+                    write(e.getValue(), sb);
+                }
+                sb.append('}');
+            } else if (v instanceof Iterable<?> items) {
+                sb.append('[');
+                boolean first = true;
+                for (Object item : items) {
+                    if (!first) {
+                        sb.append(',');
+                    }
+                    first = false;
+                    write(item, sb);
+                }
+                sb.append(']');
+            } else if (v instanceof float[] a) {
+                List<Object> items = new ArrayList<>(a.length);
+                for (float x : a) {
+                    items.add(x);
+                }
+                write(items, sb);
+            } else if (v instanceof double[] a) {
+                write(Arrays.stream(a).boxed().toList(), sb);
+            } else if (v instanceof int[] a) {
+                write(Arrays.stream(a).boxed().toList(), sb);
+            } else if (v instanceof Object[] a) {
+                write(List.of(a), sb);
+            } else {
+                string(v.toString(), sb);
+            }
+        }
+
+        private static void string(CharSequence s, StringBuilder sb) {
+            sb.append('"');
+            for (int i = 0, n = s.length(); i < n; i++) {
+                char c = s.charAt(i);
+                switch (c) {
+                    case '"' -> sb.append("\\\"");
+                    case '\\' -> sb.append("\\\\");
+                    case '\n' -> sb.append("\\n");
+                    case '\r' -> sb.append("\\r");
+                    case '\t' -> sb.append("\\t");
+                    default -> {
+                        if (c < 0x20) {
+                            sb.append(String.format("\\u%04x", (int) c));
+                        } else {
+                            sb.append(c);
+                        }
+                    }
+                }
+            }
+            sb.append('"');
+        }
+    }
+
+    public static final class Builder {
+
+        private Duration connectTimeout = Duration.ofSeconds(5);
+        private Duration defaultDeadline = Duration.ofSeconds(300);
+        private final Map<String, String> headers = new LinkedHashMap<>();
+
+        private Builder() {}
+
+        public Builder connectTimeout(Duration timeout) {
+            this.connectTimeout = timeout;
+            return this;
+        }
+
+        /** Deadline of calls made without one (default 300 s). */
+        public Builder defaultDeadline(Duration deadline) {
+            this.defaultDeadline = deadline;
+            return this;
+        }
+
+        /** Header sent with every request (e.g. Authorization). */
+        public Builder header(String name, String value) {
+            headers.put(name, value);
+            return this;
+        }
+
+        public ModelHttpClient build() {
+            return new ModelHttpClient(this);
+        }
+    }
+}
@@ -61,4 +61,31 @@ public interface PluginContext {
 
     /** Optional pipeline name (e.g. for model resolution from pipeline id). */
     String getPipelineName();
+
+    /**
+     * Report liveness and progress from a long-running capability. {@code checkpoint} is opaque to the engine
+     * (JSON-serializable values only); if the activity is retried, the next attempt gets it from
+     * {@link #getResumeCheckpoint()}. Calls are throttled by the worker. No-op outside an activity.
+     */
+    default void heartbeat(String progress, Map<String, Object> checkpoint) {
+    }
+
+    /** Checkpoint from the last heartbeat of a previous attempt of this capability; null on the first attempt. */
+    default Map<String, Object> getResumeCheckpoint() {
+        return null;
+    }
+
+    /**
+     * Whether the activity running this capability was cancelled (e.g. the losing attempt of a hedge) or timed out.
+     * Its result will be discarded: long-running capabilities should check this between steps and stop. The worker
+     * also interrupts the capability's thread. Cancellation arrives with heartbeats, so it needs a heartbeat timeout.
+     */
+    default boolean isCancelled() {
+        return false;
+    }
+
+    /** Worker's embedding cache when EMBEDDING_CACHE is enabled; {@link EmbeddingCache#NONE} otherwise (never null). */
+    default EmbeddingCache getEmbeddingCache() {
+        return EmbeddingCache.NONE;
+    }
 }
@@ -23,4 +23,9 @@ public interface StreamObserver {
     void onUpdate(String type, Object payload);
     void onComplete();
     void onError(Throwable t);
+
+    /** Whether the consumer no longer wants output (the activity was cancelled); the producer should stop. */
+    default boolean isCancelled() {
+        return false;
+    }
 }
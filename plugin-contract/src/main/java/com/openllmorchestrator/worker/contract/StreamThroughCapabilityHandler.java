@@ -0,0 +1,32 @@
+/*
+ * Copyright 2026 Open LLM Orchestrator contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.openllmorchestrator.worker.contract;
+
+/**
+ * Capability that can start on its upstream's partial output. In a stream-through group (STREAMING enabled) the
+ * kernel runs it concurrently with the previous stage and passes that stage's tokens as {@code upstream}; tokens it
+ * emits on {@code observer} flow to the next stage (or to the client stream for the last stage).
+ * Outside a stream-through group it runs like a normal handler with {@code upstream == null}.
+ */
+public interface StreamThroughCapabilityHandler extends CapabilityHandler {
+
+    CapabilityResult execute(PluginContext context, TokenStream upstream, StreamObserver observer);
+
+    @Override
+    default CapabilityResult execute(PluginContext context) {
+        return execute(context, null, null);
+    }
+}
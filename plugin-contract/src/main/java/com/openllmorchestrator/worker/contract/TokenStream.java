@@ -0,0 +1,35 @@
+/*
+ * Copyright 2026 Open LLM Orchestrator contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.openllmorchestrator.worker.contract;
+
+import java.util.Map;
+
+/**
+ * Upstream token stream seen by a {@link StreamThroughCapabilityHandler} in a stream-through group. Reads block
+ * until the upstream stage emits (bounded channel: a slow reader slows the writer down).
+ */
+public interface TokenStream {
+
+    /** Next token, blocking; null once the upstream stage has finished. Throws IllegalStateException if it failed. */
+    String next();
+
+    /**
+     * Upstream stage's final output, blocking until it finishes. Tokens not yet read with {@link #next()} are
+     * discarded so the upstream stage is never blocked on a full channel; afterwards {@link #next()} returns null.
+     * Throws IllegalStateException if it failed.
+     */
+    Map<String, Object> awaitUpstreamOutput();
+}
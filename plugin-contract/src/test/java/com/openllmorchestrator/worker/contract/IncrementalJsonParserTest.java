@@ -0,0 +1,134 @@
+/*
+ * Copyright 2026 Open LLM Orchestrator contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.openllmorchestrator.worker.contract;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/** {@link IncrementalJsonParser} fed whole and in every two-chunk split. */
+class IncrementalJsonParserTest {
+
+    @Test
+    void emitsEachValueAtEmitDepthAsItCloses() {
+        List<Object> emitted = new ArrayList<>();
+        IncrementalJsonParser parser = new IncrementalJsonParser(2, emitted::add);
+
+        parser.feed("{\"tool_calls\":[{\"name\":\"a\"},");
+        assertEquals(List.of(Map.of("name", "a")), emitted);
+        assertEquals(2, parser.depth());
+
+        parser.feed("{\"name\":\"b\",\"args\":[1,2]}]}");
+        assertEquals(List.of(Map.of("name", "a"), Map.of("name", "b", "args", List.of(1, 2))), emitted);
+        assertEquals(Map.of("tool_calls", emitted), parser.finish());
+    }
+
+    @Test
+    void depthZeroEmitsTopLevelValuesAndSkipsTextBetweenThem() {
+        List<Object> emitted = new ArrayList<>();
+        IncrementalJsonParser parser = new IncrementalJsonParser(0, emitted::add);
+
+        parser.feed("Here you go:\n```json\n{\"a\":1}\n```\nand [true,null,\"x\\u00e9\"] done");
+
+        assertEquals(2, emitted.size());
+        assertEquals(Map.of("a", 1), emitted.get(0));
+        assertEquals(java.util.Arrays.asList(true, null, "xé"), emitted.get(1));
+        assertTrue(parser.hasRoot());
+    }
+
+    @Test
+    void resultDoesNotDependOnChunkBoundaries() {
+        String json = "{\"s\":\"q\\\"\\\\\\n\\u20ac\",\"n\":[-12,3.5e2,12345678901,123456789012345678901234567890],\"b\":[false,true,null]}";
+        Object whole = parse(json);
+        for (int i = 1; i < json.length(); i++) {
+            IncrementalJsonParser parser = IncrementalJsonParser.strict(0, v -> { });
+            parser.feed(json.substring(0, i));
+            parser.feed(json.substring(i));
+            assertEquals(whole, parser.finish(), "split at " + i);
+        }
+    }
+
+    @Test
+    void resyncsAfterBracketInProse() {
+        String text = "see [citation needed] for {\"answer\":42}";
+        for (int i = 0; i <= text.length(); i++) {
+            List<Object> emitted = new ArrayList<>();
+            IncrementalJsonParser parser = new IncrementalJsonParser(0, emitted::add);
+            parser.feed(text.substring(0, i));
+            parser.feed(text.substring(i));
+            assertEquals(List.of(Map.of("answer", 42)), emitted, "split at " + i);
+            assertEquals(Map.of("answer", 42), parser.finish());
+        }
+    }
+
+    @Test
+    void resyncRestartsAtTheBracketThatBrokeTheValue() {
+        List<Object> emitted = new ArrayList<>();
+        IncrementalJsonParser parser = new IncrementalJsonParser(0, emitted::add);
+
+        parser.feed("[oops{\"k\":\"v\"}");
+
+        assertEquals(List.of(Map.of("k", "v")), emitted);
+    }
+
+    @Test
+    void strictParserThrowsOnMalformedInput() {
+        assertThrows(IllegalStateException.class,
+                () -> IncrementalJsonParser.strict(0, v -> { }).feed("[citation needed]"));
+        assertThrows(IllegalStateException.class,
+                () -> IncrementalJsonParser.strict(0, v -> { }).feed("{\"a\" 1}"));
+        assertThrows(IllegalStateException.class,
+                () -> IncrementalJsonParser.strict(0, v -> { }).feed("{\"a\":tru}"));
+    }
+
+    @Test
+    void finishThrowsWhileAValueIsOpen() {
+        IncrementalJsonParser parser = IncrementalJsonParser.strict(1, v -> { });
+        parser.feed("{\"a\":[1,");
+
+        assertThrows(IllegalStateException.class, parser::finish);
+    }
+
+    @Test
+    void listenerFailuresPropagateEvenWhenResyncing() {
+        IncrementalJsonParser parser = new IncrementalJsonParser(1, v -> {
+            throw new IllegalArgumentException("listener");
+        });
+
+        assertThrows(IllegalArgumentException.class, () -> parser.feed("[1]"));
+    }
+
+    @Test
+    void noValueMeansNullResult() {
+        IncrementalJsonParser parser = new IncrementalJsonParser(0, v -> { });
+        parser.feed("no json here, 42 true");
+
+        assertNull(parser.finish());
+    }
+
+    private static Object parse(String json) {
+        IncrementalJsonParser parser = IncrementalJsonParser.strict(0, v -> { });
+        parser.feed(json);
+        return parser.finish();
+    }
+}
@@ -0,0 +1,297 @@
+/*
+ * Copyright 2026 Open LLM Orchestrator contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.openllmorchestrator.worker.contract;
+
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/** {@link ModelEndpointPool} against local stub model servers. */
+class ModelEndpointPoolTest {
+
+    private static final HttpClient CLIENT = HttpClient.newHttpClient();
+
+    private final List<Stub> stubs = new ArrayList<>();
+    private final List<ModelEndpointPool> pools = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        pools.forEach(ModelEndpointPool::close);
+        stubs.forEach(s -> s.server.stop(0));
+    }
+
+    @Test
+    void idleEndpointsShareRequestsEvenly() {
+        Stub a = stub();
+        Stub b = stub();
+        ModelEndpointPool pool = pool(ModelEndpointPool.builder(List.of(a.url(), b.url())));
+
+        for (int i = 0; i < 20; i++) {
+            generate(pool, null);
+        }
+
+        assertEquals(10, a.hits.get());
+        assertEquals(10, b.hits.get());
+    }
+
+    @Test
+    void busyEndpointIsAvoided() {
+        Stub a = stub();
+        Stub b = stub();
+        ModelEndpointPool pool = pool(ModelEndpointPool.builder(List.of(a.url(), b.url())));
+
+        try (ModelEndpointPool.Lease held = pool.acquire(null)) {
+            for (int i = 0; i < 5; i++) {
+                try (ModelEndpointPool.Lease lease = pool.acquire(null)) {
+                    assertFalse(lease.baseUrl().equals(held.baseUrl()));
+                }
+            }
+        }
+    }
+
+    @Test
+    void requestsStayWithTheEndpointThatServedTheModel() {
+        Stub a = stub();
+        Stub b = stub();
+        ModelEndpointPool pool = pool(ModelEndpointPool.builder(List.of(a.url(), b.url())).affinitySlack(2));
+
+        String first = generate(pool, "llama3");
+        for (int i = 0; i < 5; i++) {
+            assertEquals(first, generate(pool, "llama3"));
+        }
+
+        List<ModelEndpointPool.Lease> busy = new ArrayList<>();
+        try {
+            for (int i = 0; i < 4; i++) {
+                busy.add(pool.acquire("llama3"));
+            }
+            for (int i = 0; i < 3; i++) {
+                assertEquals(first, busy.get(i).baseUrl(), "within the slack");
+            }
+            assertFalse(first.equals(busy.get(3).baseUrl()), "affinity gives way beyond the slack");
+        } finally {
+            busy.forEach(ModelEndpointPool.Lease::close);
+        }
+    }
+
+    @Test
+    void failingEndpointIsEjectedWithGrowingBackOff() throws Exception {
+        Stub a = stub();
+        Stub b = stub();
+        a.status.set(500);
+        ModelEndpointPool pool = pool(ModelEndpointPool.builder(List.of(a.url(), b.url()))
+                .ejectAfterFailures(2)
+                .ejection(Duration.ofMillis(300), Duration.ofSeconds(5)));
+
+        for (int i = 0; i < 4; i++) {
+            tryGenerate(pool);
+        }
+        assertEquals(2, a.hits.get());
+        assertTrue(status(pool, a).ejected());
+
+        for (int i = 0; i < 10; i++) {
+            generate(pool, null);
+        }
+        assertEquals(2, a.hits.get(), "no requests while ejected");
+
+        Thread.sleep(350);
+        for (int i = 0; i < 4; i++) {
+            tryGenerate(pool);
+        }
+        assertEquals(3, a.hits.get(), "one trial request after the back-off");
+        assertTrue(status(pool, a).ejected());
+
+        Thread.sleep(350);
+        generate(pool, null);
+        generate(pool, null);
+        assertEquals(3, a.hits.get(), "second back-off is twice as long");
+
+        a.status.set(200);
+        Thread.sleep(350);
+        for (int i = 0; i < 10; i++) {
+            generate(pool, null);
+        }
+        assertFalse(status(pool, a).ejected());
+        assertTrue(a.hits.get() >= 3 + 5, "recovered endpoint is back in rotation");
+    }
+
+    @Test
+    void onlyOneConcurrentRequestBecomesTheTrial() throws Exception {
+        Stub a = stub();
+        Stub b = stub();
+        a.status.set(500);
+        ModelEndpointPool pool = pool(ModelEndpointPool.builder(List.of(a.url(), b.url()))
+                .ejectAfterFailures(1)
+                .ejection(Duration.ofMillis(50), Duration.ofMillis(50)));
+        tryGenerate(pool);
+        tryGenerate(pool);
+        assertTrue(status(pool, a).ejected());
+
+        for (int round = 0; round < 20; round++) {
+            Thread.sleep(60);
+            List<ModelEndpointPool.Lease> leases = race(pool, 64);
+            try {
+                List<ModelEndpointPool.Lease> trials = leases.stream().filter(l -> l.baseUrl().equals(a.url())).toList();
+                assertEquals(1, trials.size(), "round " + round);
+                trials.get(0).failure();
+            } finally {
+                leases.forEach(ModelEndpointPool.Lease::close);
+            }
+        }
+    }
+
+    /** Acquire {@code n} leases from as many threads released at once. */
+    private static List<ModelEndpointPool.Lease> race(ModelEndpointPool pool, int n) throws InterruptedException {
+        List<ModelEndpointPool.Lease> leases = new CopyOnWriteArrayList<>();
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < n; i++) {
+            threads.add(Thread.ofPlatform().start(() -> {
+                try {
+                    start.await();
+                    leases.add(pool.acquire(null));
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }));
+        }
+        start.countDown();
+        for (Thread t : threads) {
+            t.join();
+        }
+        return leases;
+    }
+
+    @Test
+    void healthCheckBringsEjectedEndpointBack() throws Exception {
+        Stub a = stub();
+        Stub b = stub();
+        a.status.set(500);
+        ModelEndpointPool pool = pool(ModelEndpointPool.builder(List.of(a.url(), b.url()))
+                .ejectAfterFailures(1)
+                .ejection(Duration.ofMinutes(1), Duration.ofMinutes(5)));
+        tryGenerate(pool);
+        tryGenerate(pool);
+        assertTrue(status(pool, a).ejected());
+
+        pool.startHealthChecks("/api/tags", Duration.ofMillis(50));
+        Thread.sleep(200);
+        assertTrue(status(pool, a).ejected(), "failed probes keep it out");
+
+        a.status.set(200);
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (status(pool, a).ejected() && System.nanoTime() < deadline) {
+            Thread.sleep(20);
+        }
+        assertFalse(status(pool, a).ejected());
+        assertTrue(a.paths.contains("/api/tags"));
+    }
+
+    private ModelEndpointPool pool(ModelEndpointPool.Builder builder) {
+        ModelEndpointPool pool = builder.build();
+        pools.add(pool);
+        return pool;
+    }
+
+    private Stub stub() {
+        try {
+            Stub s = new Stub(HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0));
+            stubs.add(s);
+            return s;
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /** POST /api/generate through the pool; returns the base URL that answered. */
+    private static String generate(ModelEndpointPool pool, String model) {
+        return pool.call(model, baseUrl -> {
+            try {
+                HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/api/generate"))
+                        .POST(HttpRequest.BodyPublishers.ofString("{}"))
+                        .build();
+                int code = CLIENT.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+                if (code >= 300) {
+                    throw new IllegalStateException("HTTP " + code + " from " + baseUrl);
+                }
+                return baseUrl;
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+        });
+    }
+
+    private static void tryGenerate(ModelEndpointPool pool) {
+        try {
+            generate(pool, null);
+        } catch (IllegalStateException ignored) {
+            // failing endpoint; the pool records it
+        }
+    }
+
+    private static ModelEndpointPool.EndpointStatus status(ModelEndpointPool pool, Stub stub) {
+        return pool.status().stream().filter(s -> s.baseUrl().equals(stub.url())).findFirst().orElseThrow();
+    }
+
+    /** Answers every path with {@link #status}; counts /api/generate requests. */
+    private static final class Stub {
+
+        final HttpServer server;
+        final AtomicInteger status = new AtomicInteger(200);
+        final AtomicInteger hits = new AtomicInteger();
+        final List<String> paths = new CopyOnWriteArrayList<>();
+
+        Stub(HttpServer server) {
+            this.server = server;
+            server.createContext("/", exchange -> {
+                String path = exchange.getRequestURI().getPath();
+                paths.add(path);
+                if (path.equals("/api/generate")) {
+                    hits.incrementAndGet();
+                }
+                exchange.getRequestBody().readAllBytes();
+                exchange.sendResponseHeaders(status.get(), -1);
+                exchange.close();
+            });
+            server.start();
+        }
+
+        String url() {
+            return "http://127.0.0.1:" + server.getAddress().getPort();
+        }
+    }
+}
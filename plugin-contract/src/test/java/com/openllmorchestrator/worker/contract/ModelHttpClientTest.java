@@ -0,0 +1,372 @@
+/*
+ * Copyright 2026 Open LLM Orchestrator contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.openllmorchestrator.worker.contract;
+
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/** {@link ModelHttpClient} decoding, SSE filtering, retries and deadlines, against local stub servers. */
+class ModelHttpClientTest {
+
+    private static final String MULTI_BYTE = "aé€😀z";
+
+    private final List<HttpServer> servers = new ArrayList<>();
+    private final List<ServerSocket> sockets = new ArrayList<>();
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @AfterEach
+    void tearDown() throws IOException {
+        release.countDown();
+        servers.forEach(s -> s.stop(0));
+        for (ServerSocket s : sockets) {
+            s.close();
+        }
+    }
+
+    @Test
+    void decoderCompletesCharactersSplitAcrossBuffers() {
+        byte[] bytes = MULTI_BYTE.getBytes(StandardCharsets.UTF_8);
+        for (int i = 0; i <= bytes.length; i++) {
+            for (int j = i; j <= bytes.length; j++) {
+                StringBuilder out = new StringBuilder();
+                ModelHttpClient.DecodingSubscriber body = subscribed(out);
+                body.onNext(List.of(ByteBuffer.wrap(bytes, 0, i)));
+                body.onNext(List.of(ByteBuffer.wrap(bytes, i, j - i), ByteBuffer.wrap(bytes, j, bytes.length - j)));
+                body.onComplete();
+
+                assertEquals(MULTI_BYTE, out.toString(), "split at " + i + "/" + j);
+                assertTrue(body.result.isDone() && !body.result.isCompletedExceptionally());
+            }
+        }
+    }
+
+    @Test
+    void decoderFeedsBodiesLargerThanItsCharBuffer() {
+        String text = "€".repeat(20_000);
+        StringBuilder out = new StringBuilder();
+        ModelHttpClient.DecodingSubscriber body = subscribed(out);
+        body.onNext(List.of(ByteBuffer.wrap(text.getBytes(StandardCharsets.UTF_8))));
+        body.onComplete();
+
+        assertEquals(text, out.toString());
+    }
+
+    @Test
+    void decoderReplacesATruncatedCharacterAtEndOfBody() {
+        byte[] euro = "€".getBytes(StandardCharsets.UTF_8);
+        StringBuilder out = new StringBuilder();
+        ModelHttpClient.DecodingSubscriber body = subscribed(out);
+        body.onNext(List.of(ByteBuffer.wrap(euro, 0, 2)));
+        body.onComplete();
+
+        assertEquals("�", out.toString());
+    }
+
+    @Test
+    void sseFilterKeepsJsonDataLinesSplitAnywhere() {
+        String stream = ": keep-alive\nevent: delta\ndata: {\"a\":\"x: y\"}\n\ndata:{\"b\":1}\r\n\r\nid: 7\ndata: [DONE]\n\n";
+        String expected = "{\"a\":\"x: y\"}\n{\"b\":1}\n";
+        for (int i = 0; i <= stream.length(); i++) {
+            for (int j = i; j <= stream.length(); j++) {
+                StringBuilder out = new StringBuilder();
+                ModelHttpClient.SseDataFilter filter = new ModelHttpClient.SseDataFilter(out::append);
+                filter.accept(CharBuffer.wrap(stream, 0, i));
+                filter.accept(CharBuffer.wrap(stream, i, j));
+                filter.accept(CharBuffer.wrap(stream, j, stream.length()));
+
+                assertEquals(expected, out.toString(), "split at " + i + "/" + j);
+            }
+        }
+    }
+
+    @Test
+    void sseStreamEndsAtDoneAndPassesTokens() {
+        String url = chunkedServer("text/event-stream",
+                "data: {\"choices\":[{\"delta\":{\"content\":\"h" + MULTI_BYTE.substring(0, 3),
+                MULTI_BYTE.substring(3) + "\"}}]}\n",
+                "\nda",
+                "ta: {\"choices\":[{\"delta\":{\"content\":\"!\"}}]}\n\ndata: [DONE]\n\n");
+        RecordingObserver observer = new RecordingObserver();
+
+        ModelHttpClient.StreamResult result = client().stream(url, Map.of("stream", true), Duration.ofSeconds(5),
+                ModelHttpClient.StreamFormat.SSE, ModelHttpClient.OPENAI_TOKENS, observer);
+
+        assertEquals("h" + MULTI_BYTE + "!", result.text());
+        assertEquals(2, result.events());
+        assertEquals(List.of("h" + MULTI_BYTE, "!"), observer.tokens);
+        assertEquals(1, observer.completed.get());
+    }
+
+    @Test
+    void ndjsonStreamKeepsTheLastEvent() {
+        String url = chunkedServer("application/x-ndjson",
+                "{\"response\":\"Hel\"}\n{\"resp", "onse\":\"lo\"}\n", "{\"response\":\"\",\"done\":true,\"eval_count\":2}\n");
+
+        ModelHttpClient.StreamResult result = client().stream(url, Map.of("prompt", "hi"), Duration.ofSeconds(5),
+                ModelHttpClient.StreamFormat.NDJSON, ModelHttpClient.OLLAMA_TOKENS, null);
+
+        assertEquals("Hello", result.text());
+        assertEquals(3, result.events());
+        assertEquals(true, result.last().get("done"));
+    }
+
+    @Test
+    void errorStatusFailsWithModelHttpException() {
+        HttpServer server = server();
+        server.createContext("/", exchange -> {
+            byte[] body = "model not found".getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(404, body.length);
+            exchange.getResponseBody().write(body);
+            exchange.close();
+        });
+
+        ModelHttpException e = assertThrows(ModelHttpException.class,
+                () -> client().postJson(url(server), Map.of(), Duration.ofSeconds(5)));
+        assertTrue(e.getMessage().contains("model not found"));
+    }
+
+    @Test
+    void staleConnectionIsRetriedOnceOnAFreshConnection() throws Exception {
+        AtomicInteger connections = new AtomicInteger();
+        String url = rawServer(connections, 1);
+
+        Object reply = client().postJson(url, Map.of("q", 1), Duration.ofSeconds(5));
+
+        assertEquals(Map.of("ok", true), reply);
+        assertEquals(2, connections.get());
+    }
+
+    @Test
+    void secondClosedConnectionFailsTheCall() throws Exception {
+        AtomicInteger connections = new AtomicInteger();
+        String url = rawServer(connections, Integer.MAX_VALUE);
+
+        IllegalStateException e = assertThrows(IllegalStateException.class,
+                () -> client().postJson(url, Map.of("q", 1), Duration.ofSeconds(5)));
+        assertInstanceOf(IOException.class, e.getCause());
+        assertEquals(2, connections.get());
+    }
+
+    @Test
+    void deadlineCancelsAStalledStream() {
+        HttpServer server = server();
+        server.createContext("/", exchange -> {
+            exchange.getResponseHeaders().set("Content-Type", "application/x-ndjson");
+            exchange.sendResponseHeaders(200, 0);
+            OutputStream out = exchange.getResponseBody();
+            out.write("{\"response\":\"partial\"}\n".getBytes(StandardCharsets.UTF_8));
+            out.flush();
+            awaitRelease();
+            exchange.close();
+        });
+        RecordingObserver observer = new RecordingObserver();
+        long start = System.nanoTime();
+
+        assertThrows(ModelDeadlineException.class, () -> client().stream(url(server), Map.of(), Duration.ofMillis(300),
+                ModelHttpClient.StreamFormat.NDJSON, ModelHttpClient.OLLAMA_TOKENS, observer));
+
+        assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(3));
+        assertEquals(List.of("partial"), observer.tokens);
+        assertInstanceOf(ModelDeadlineException.class, observer.error);
+    }
+
+    @Test
+    void deadlineBeforeResponseHeadersFailsTheAsyncCall() {
+        HttpServer server = server();
+        server.createContext("/", exchange -> {
+            awaitRelease();
+            exchange.close();
+        });
+
+        CompletableFuture<Object> call = client().postJsonAsync(url(server), Map.of(), Duration.ofMillis(300));
+
+        ExecutionException e = assertThrows(ExecutionException.class, () -> call.get(3, TimeUnit.SECONDS));
+        assertInstanceOf(ModelDeadlineException.class, e.getCause());
+    }
+
+    private static ModelHttpClient client() {
+        return ModelHttpClient.builder().connectTimeout(Duration.ofSeconds(2)).build();
+    }
+
+    private static ModelHttpClient.DecodingSubscriber subscribed(StringBuilder out) {
+        ModelHttpClient.DecodingSubscriber body = new ModelHttpClient.DecodingSubscriber(out::append);
+        body.onSubscribe(new Flow.Subscription() {
+            @Override
+            public void request(long n) {
+            }
+
+            @Override
+            public void cancel() {
+            }
+        });
+        return body;
+    }
+
+    /** Chunked 200 reply, flushing each part separately. */
+    private String chunkedServer(String contentType, String... parts) {
+        HttpServer server = server();
+        server.createContext("/", exchange -> {
+            exchange.getRequestBody().readAllBytes();
+            exchange.getResponseHeaders().set("Content-Type", contentType);
+            exchange.sendResponseHeaders(200, 0);
+            OutputStream out = exchange.getResponseBody();
+            byte[] bytes = String.join("", parts).getBytes(StandardCharsets.UTF_8);
+            int from = 0;
+            for (String part : Arrays.copyOf(parts, parts.length - 1)) {
+                // split inside the multi-byte characters too: cut one byte before each part boundary
+                int to = from + part.getBytes(StandardCharsets.UTF_8).length - 1;
+                out.write(bytes, from, to - from);
+                out.flush();
+                pause();
+                from = to;
+            }
+            out.write(bytes, from, bytes.length - from);
+            exchange.close();
+        });
+        return url(server);
+    }
+
+    /**
+     * Server that reads each request and closes the first {@code dropped} connections without replying, as a server
+     * does with an idle keep-alive connection; later connections get a JSON reply.
+     */
+    private String rawServer(AtomicInteger connections, int dropped) throws IOException {
+        ServerSocket listener = new ServerSocket(0, 50, InetAddress.getLoopbackAddress());
+        sockets.add(listener);
+        Thread.ofVirtual().start(() -> {
+            while (!listener.isClosed()) {
+                try (Socket socket = listener.accept()) {
+                    readRequest(socket.getInputStream());
+                    if (connections.incrementAndGet() > dropped) {
+                        byte[] body = "{\"ok\":true}".getBytes(StandardCharsets.UTF_8);
+                        OutputStream out = socket.getOutputStream();
+                        out.write(("HTTP/1.1 200 OK\r\nContent-Type: application/json\r\nContent-Length: " + body.length
+                                + "\r\nConnection: close\r\n\r\n").getBytes(StandardCharsets.US_ASCII));
+                        out.write(body);
+                        out.flush();
+                    }
+                } catch (IOException e) {
+                    return;
+                }
+            }
+        });
+        return "http://127.0.0.1:" + listener.getLocalPort() + "/api";
+    }
+
+    private static void readRequest(InputStream in) throws IOException {
+        StringBuilder head = new StringBuilder();
+        while (!head.toString().endsWith("\r\n\r\n")) {
+            int c = in.read();
+            if (c < 0) {
+                return;
+            }
+            head.append((char) c);
+        }
+        int length = 0;
+        for (String line : head.toString().split("\r\n")) {
+            if (line.toLowerCase().startsWith("content-length:")) {
+                length = Integer.parseInt(line.substring(15).trim());
+            }
+        }
+        in.readNBytes(length);
+    }
+
+    private HttpServer server() {
+        try {
+            HttpServer server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+            server.start();
+            servers.add(server);
+            return server;
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String url(HttpServer server) {
+        return "http://127.0.0.1:" + server.getAddress().getPort() + "/api";
+    }
+
+    private void awaitRelease() {
+        try {
+            release.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void pause() {
+        try {
+            Thread.sleep(20);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static final class RecordingObserver implements StreamObserver {
+
+        final List<String> tokens = new CopyOnWriteArrayList<>();
+        final AtomicInteger completed = new AtomicInteger();
+        volatile Throwable error;
+
+        @Override
+        public void onToken(String token) {
+            tokens.add(token);
+        }
+
+        @Override
+        public void onUpdate(String type, Object payload) {
+        }
+
+        @Override
+        public void onComplete() {
+            completed.incrementAndGet();
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            error = t;
+        }
+    }
+}
@@ -0,0 +1,155 @@
+/*
+ * Copyright 2026 Open LLM Orchestrator contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+import com.openllmorchestrator.worker.contract.IncrementalJsonParser;
+import com.openllmorchestrator.worker.contract.ModelHttpClient;
+import com.sun.net.httpserver.HttpServer;
+
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
+
+/**
+ * Benchmark of {@link ModelHttpClient} against a local stub model server (Ollama-style {@code /api/generate}, JSON
+ * and NDJSON streaming). The baseline is what plugins do today: a new HttpClient per call and the whole body read
+ * into a String before parsing. Run after building plugin-contract:
+ * <pre>
+ *   java -cp plugin-contract/build/classes/java/main scripts/ModelHttpClientBenchmark.java [calls] [concurrency]
+ * </pre>
+ * Plain HTTP on loopback, so TLS handshakes (saved by connection reuse with real endpoints) are not measured.
+ */
+public class ModelHttpClientBenchmark {
+
+    private static final int TOKENS = 200;
+
+    public static void main(String[] args) throws Exception {
+        int calls = args.length > 0 ? Integer.parseInt(args[0]) : 2000;
+        int concurrency = args.length > 1 ? Integer.parseInt(args[1]) : 16;
+        HttpServer stub = startStub();
+        String base = "http://127.0.0.1:" + stub.getAddress().getPort();
+        String body = "{\"model\":\"stub\",\"prompt\":\"hello\",\"stream\":false}";
+        String streamBody = "{\"model\":\"stub\",\"prompt\":\"hello\",\"stream\":true}";
+        ModelHttpClient client = ModelHttpClient.shared();
+        try {
+            for (int round = 0; round < 2; round++) {
+                String label = round == 0 ? "warm-up" : "measured";
+                System.out.printf("%n== %s: %d calls, concurrency %d ==%n", label, calls, concurrency);
+                run("JSON   baseline (client per call, String body)", calls, concurrency, () -> baselineJson(base, body));
+                run("JSON   ModelHttpClient.postJson", calls, concurrency, () -> client.postJson(base + "/api/generate", body, Duration.ofSeconds(30)));
+                run("NDJSON baseline (client per call, String body)", calls, concurrency, () -> baselineStream(base, streamBody));
+                run("NDJSON ModelHttpClient.stream", calls, concurrency, () -> client.stream(base + "/api/generate", streamBody,
+                        Duration.ofSeconds(30), ModelHttpClient.StreamFormat.NDJSON, ModelHttpClient.OLLAMA_TOKENS, null).text());
+            }
+        } finally {
+            stub.stop(0);
+        }
+    }
+
+    private static Object baselineJson(String base, String body) {
+        HttpClient c = HttpClient.newHttpClient();
+        String text = send(c, base, body);
+        IncrementalJsonParser parser = IncrementalJsonParser.strict(0, v -> {});
+        parser.feed(text);
+        return parser.finish();
+    }
+
+    private static Object baselineStream(String base, String body) {
+        HttpClient c = HttpClient.newHttpClient();
+        StringBuilder out = new StringBuilder();
+        for (String line : send(c, base, body).split("\n")) {
+            IncrementalJsonParser parser = IncrementalJsonParser.strict(0, v -> {});
+            parser.feed(line);
+            Object event = parser.finish();
+            if (event instanceof Map<?, ?> m && m.get("response") instanceof String s) {
+                out.append(s);
+            }
+        }
+        return out.toString();
+    }
+
+    private static String send(HttpClient c, String base, String body) {
+        try {
+            HttpRequest request = HttpRequest.newBuilder(URI.create(base + "/api/generate"))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(body))
+                    .build();
+            return c.send(request, HttpResponse.BodyHandlers.ofString()).body();
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void run(String name, int calls, int concurrency, Supplier<Object> call) throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(concurrency);
+        long[] micros = new long[calls];
+        long start = System.nanoTime();
+        List<Future<?>> futures = new ArrayList<>(calls);
+        for (int i = 0; i < calls; i++) {
+            int n = i;
+            futures.add(pool.submit(() -> {
+                long t = System.nanoTime();
+                call.get();
+                micros[n] = (System.nanoTime() - t) / 1000;
+            }));
+        }
+        for (Future<?> f : futures) {
+            f.get();
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+        pool.shutdown();
+        Arrays.sort(micros);
+        System.out.printf("%-50s %8.0f calls/s   p50 %6.2f ms   p99 %6.2f ms%n", name, calls / seconds,
+                micros[calls / 2] / 1000.0, micros[(int) (calls * 0.99)] / 1000.0);
+    }
+
+    private static HttpServer startStub() throws Exception {
+        StringBuilder text = new StringBuilder();
+        StringBuilder ndjson = new StringBuilder();
+        for (int i = 0; i < TOKENS; i++) {
+            String token = "tok" + i + " ";
+            text.append(token);
+            ndjson.append("{\"model\":\"stub\",\"response\":\"").append(token).append("\",\"done\":false}\n");
+        }
+        ndjson.append("{\"model\":\"stub\",\"response\":\"\",\"done\":true,\"eval_count\":").append(TOKENS).append("}\n");
+        byte[] json = ("{\"model\":\"stub\",\"response\":\"" + text + "\",\"done\":true,\"eval_count\":" + TOKENS + "}")
+                .getBytes(StandardCharsets.UTF_8);
+        byte[] stream = ndjson.toString().getBytes(StandardCharsets.UTF_8);
+        HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 1024);
+        server.createContext("/api/generate", exchange -> {
+            boolean streaming = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8).contains("\"stream\":true");
+            byte[] reply = streaming ? stream : json;
+            exchange.getResponseHeaders().set("Content-Type", streaming ? "application/x-ndjson" : "application/json");
+            exchange.sendResponseHeaders(200, reply.length);
+            exchange.getResponseBody().write(reply);
+            exchange.close();
+        });
+        server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        server.start();
+        return server;
+    }
+}
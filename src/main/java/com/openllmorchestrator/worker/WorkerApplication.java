@@ -20,6 +20,7 @@ import com.openllmorchestrator.worker.engine.activity.impl.KernelCapabilityActiv
 import com.openllmorchestrator.worker.engine.activity.impl.KernelCapabilityDynamicActivity;
 import com.openllmorchestrator.worker.engine.activity.impl.MergePolicyActivityImpl;
 import com.openllmorchestrator.worker.engine.bootstrap.WorkerBootstrap;
+import com.openllmorchestrator.worker.engine.bootstrap.WorkerTuning;
 import com.openllmorchestrator.worker.engine.config.EngineFileConfig;
 import com.openllmorchestrator.worker.engine.config.env.EnvConfig;
 import com.openllmorchestrator.worker.engine.runtime.EngineRuntime;
@@ -29,8 +30,13 @@ import io.temporal.serviceclient.WorkflowServiceStubs;
 import io.temporal.serviceclient.WorkflowServiceStubsOptions;
 import io.temporal.worker.Worker;
 import io.temporal.worker.WorkerFactory;
+import io.temporal.worker.WorkerFactoryOptions;
 import io.temporal.worker.WorkerOptions;
 
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
 public class WorkerApplication {
 
     public static void main(String[] args) {
@@ -42,9 +48,12 @@ public class WorkerApplication {
         try {
 
             // ----------------------------------------------------
-            // 1️⃣  Bootstrap Configuration
+            // 1️⃣  Bootstrap Configuration (one per queue, in parallel; QUEUE_NAMES or QUEUE_NAME)
             // ----------------------------------------------------
-            EngineFileConfig config = WorkerBootstrap.initialize();
+            EnvConfig env = EnvConfig.fromEnvironment();
+            List<String> taskQueues = env.getQueueNames();
+            Map<String, EngineFileConfig> configs = WorkerBootstrap.initializeAll(taskQueues);
+            EngineFileConfig config = configs.get(taskQueues.get(0));
 
             if (config == null) {
                 throw new IllegalStateException("Worker bootstrap failed. Config is null.");
@@ -52,14 +61,11 @@ public class WorkerApplication {
 
             EngineRuntime.CONFIG = config;
 
-            String taskQueue = config.getWorker().getQueueName();
-
-            System.out.println("Using Task Queue: " + taskQueue);
+            System.out.println("Using Task Queues: " + taskQueues);
 
             // ----------------------------------------------------
-            // 2️⃣  Connect to Temporal (env overrides config)
+            // 2️⃣  Connect to Temporal (env overrides config; primary queue's config)
             // ----------------------------------------------------
-            EnvConfig env = EnvConfig.fromEnvironment();
             String temporalTarget = env.getTemporalTarget() != null && !env.getTemporalTarget().isBlank()
                     ? env.getTemporalTarget()
                     : (config.getTemporal() != null && config.getTemporal().getTarget() != null
@@ -77,33 +83,39 @@ public class WorkerApplication {
 
             WorkflowServiceStubs service =
                     WorkflowServiceStubs.newServiceStubs(serviceOptions);
+            EngineRuntime.setMetricsScope(serviceOptions.getMetricsScope());
 
             WorkflowClient client =
                     WorkflowClient.newInstance(service);
 
+            WorkerFactoryOptions factoryOptions = WorkerTuning.factoryOptions(config.getWorker());
             WorkerFactory factory =
-                    WorkerFactory.newInstance(client);
+                    WorkerFactory.newInstance(client, factoryOptions);
 
             // ----------------------------------------------------
-            // 3️⃣  Create Worker for Queue (pollers from env)
+            // 3️⃣  Create one Worker per Queue (tuning from env / worker section); all share the factory's connection
             // ----------------------------------------------------
-            WorkerOptions workerOptions = WorkerOptions.newBuilder()
-                    .setMaxConcurrentWorkflowTaskPollers(env.getMaxConcurrentWorkflowTaskPollers())
-                    .setMaxConcurrentActivityTaskPollers(env.getMaxConcurrentActivityTaskPollers())
-                    .build();
-            Worker worker =
-                    factory.newWorker(taskQueue, workerOptions);
-
-            // Register Workflow
-            worker.registerWorkflowImplementationTypes(CoreWorkflowImpl.class);
-
-            // Register activities (DynamicActivity handles Capability::Plugin activity types for UI; KernelCapabilityActivityImpl handles "Execute" fallback; DebugPushActivity for DEBUGGER FF)
-            worker.registerActivitiesImplementations(
-                    new KernelCapabilityActivityImpl(),
-                    new KernelCapabilityDynamicActivity(),
-                    new MergePolicyActivityImpl(),
-                    new DebugPushActivityImpl()
-            );
+            Map<String, WorkerOptions> optionsByQueue = new LinkedHashMap<>();
+            for (String taskQueue : taskQueues) {
+                WorkerOptions workerOptions = WorkerTuning.workerOptions(configs.get(taskQueue).getWorker(), env);
+                optionsByQueue.put(taskQueue, workerOptions);
+                Worker worker =
+                        factory.newWorker(taskQueue, workerOptions);
+
+                // Register Workflow
+                worker.registerWorkflowImplementationTypes(CoreWorkflowImpl.class);
+
+                // Register activities (DynamicActivity handles Capability::Plugin activity types for UI; KernelCapabilityActivityImpl handles "Execute" fallback; DebugPushActivity for DEBUGGER FF)
+                // The same registrations serve LOCAL capabilities: local activities run in this worker alongside the workflow task.
+                worker.registerActivitiesImplementations(
+                        new KernelCapabilityActivityImpl(),
+                        new KernelCapabilityDynamicActivity(),
+                        new MergePolicyActivityImpl(),
+                        new DebugPushActivityImpl()
+                );
+            }
+
+            WorkerTuning.logCapacity(factoryOptions, optionsByQueue);
 
             // ----------------------------------------------------
             // 4️⃣  Start Worker
@@ -111,7 +123,7 @@ public class WorkerApplication {
             factory.start();
 
             System.out.println("Worker started successfully.");
-            System.out.println("Polling task queue: " + taskQueue);
+            System.out.println("Polling task queues: " + taskQueues);
 
         } catch (Exception e) {
 
@@ -19,6 +19,7 @@ import com.openllmorchestrator.worker.contract.CapabilityResult;
 import io.temporal.activity.ActivityInterface;
 import io.temporal.activity.ActivityMethod;
 
+import java.util.List;
 import java.util.Map;
 
 @ActivityInterface
@@ -31,4 +32,22 @@ public interface KernelCapabilityActivity {
      */
     @ActivityMethod
     CapabilityResult execute(String queueName, String capabilityName, Map<String, Object> originalInput, Map<String, Object> accumulatedOutput);
+
+    /**
+     * SYNC fusion: execute consecutive SYNC capabilities in one round-trip. Each capability sees the accumulated
+     * output merged (put-all) with the previous ones' output, as if the kernel had merged between activities.
+     * Returns one result per capability in order; stops after the first result that requests a pipeline break or
+     * whose capability requested a suspend for a signal. Each completed capability's result is checkpointed in the
+     * heartbeat details, so a retry resumes after the capabilities that succeeded.
+     */
+    @ActivityMethod
+    List<CapabilityResult> executeFused(String queueName, List<String> capabilityNames, Map<String, Object> originalInput, Map<String, Object> accumulatedOutput);
+
+    /**
+     * Stream-through group: run the capabilities concurrently in this worker, each stage consuming the previous
+     * stage's tokens through a bounded channel. Returns the final results in order, like {@link #executeFused};
+     * results after the first pipeline break are dropped.
+     */
+    @ActivityMethod
+    List<CapabilityResult> executeStreamed(String queueName, List<String> capabilityNames, Map<String, Object> originalInput, Map<String, Object> accumulatedOutput);
 }
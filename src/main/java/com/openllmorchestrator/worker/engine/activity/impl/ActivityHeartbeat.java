@@ -0,0 +1,205 @@
+/*
+ * Copyright 2026 Open LLM Orchestrator contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.openllmorchestrator.worker.engine.activity.impl;
+
+import com.openllmorchestrator.worker.engine.contract.CapabilityHeartbeat;
+import io.temporal.activity.Activity;
+import io.temporal.activity.ActivityExecutionContext;
+import io.temporal.activity.ActivityInfo;
+import io.temporal.client.ActivityCompletionException;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Heartbeats for one activity execution. Capabilities report progress and a checkpoint through
+ * {@link com.openllmorchestrator.worker.contract.PluginContext#heartbeat}; details are kept per capability so a fused
+ * or streamed run resumes each stage from its own checkpoint. When the activity has a heartbeat timeout, a background
+ * virtual thread also heartbeats the latest details at a third of the timeout, so a lost worker is detected quickly
+ * even while a plugin is silent. Local activities cannot heartbeat: calls are recorded but not sent.
+ * <p>
+ * Cancellation (the workflow cancelled the activity, e.g. the losing attempt of a hedge, or it timed out or its
+ * workflow closed) is only delivered on a heartbeat. When a heartbeat reports it, the heartbeat is marked cancelled
+ * ({@link CapabilityHeartbeat#isCancelled()}, seen by plugins through the context and stream observer) and every
+ * thread running a capability of this activity is interrupted, so the attempt stops instead of loading the backend.
+ */
+@Slf4j
+public final class ActivityHeartbeat implements AutoCloseable {
+
+    private static final Duration MIN_INTERVAL = Duration.ofSeconds(1);
+
+    private final ActivityExecutionContext activityContext;
+    private final Map<String, Map<String, Object>> previousCheckpoints;
+    private final Map<String, Map<String, Object>> checkpoints = new ConcurrentHashMap<>();
+    private final Map<String, String> progress = new ConcurrentHashMap<>();
+    private final Set<Thread> workers = ConcurrentHashMap.newKeySet();
+    private final Thread ticker;
+    private volatile boolean closed;
+    private volatile boolean cancelled;
+
+    private ActivityHeartbeat(ActivityExecutionContext activityContext, Map<String, Map<String, Object>> previousCheckpoints,
+                              Duration interval) {
+        this.activityContext = activityContext;
+        this.previousCheckpoints = previousCheckpoints;
+        if (previousCheckpoints != null) {
+            checkpoints.putAll(previousCheckpoints);
+        }
+        this.ticker = activityContext != null && interval != null
+                ? Thread.ofVirtual().name("activity-heartbeat").start(() -> tick(interval))
+                : null;
+    }
+
+    /** Heartbeat for the current activity; reads details left by the previous attempt. */
+    public static ActivityHeartbeat start() {
+        ActivityExecutionContext ctx = Activity.getExecutionContext();
+        ActivityInfo info = ctx.getInfo();
+        if (info.isLocal()) {
+            return new ActivityHeartbeat(null, null, null);
+        }
+        Map<String, Map<String, Object>> previous = null;
+        if (info.getAttempt() > 1) {
+            try {
+                previous = ctx.getHeartbeatDetails(Details.class).map(Details::getCheckpoints).orElse(null);
+            } catch (RuntimeException e) {
+                log.warn("Ignoring unreadable heartbeat details of activity {}: {}", info.getActivityId(), e.getMessage());
+            }
+        }
+        Duration timeout = info.getHeartbeatTimeout();
+        Duration interval = timeout != null && !timeout.isZero() && !timeout.isNegative()
+                ? max(timeout.dividedBy(3), MIN_INTERVAL)
+                : null;
+        return new ActivityHeartbeat(ctx, previous, interval);
+    }
+
+    /**
+     * View for one capability, set on its {@link com.openllmorchestrator.worker.engine.contract.ExecutionContext}.
+     * Call it on the thread that runs the capability: that thread is interrupted when the activity is cancelled.
+     */
+    public CapabilityHeartbeat forCapability(String capabilityName) {
+        String key = capabilityName != null ? capabilityName : "";
+        workers.add(Thread.currentThread());
+        return new CapabilityHeartbeat() {
+            @Override
+            public void heartbeat(String progressText, Map<String, Object> checkpoint) {
+                record(key, progressText, checkpoint);
+            }
+
+            @Override
+            public Map<String, Object> resumeCheckpoint() {
+                return previousCheckpoints != null ? previousCheckpoints.get(key) : null;
+            }
+
+            @Override
+            public boolean isCancelled() {
+                return cancelled;
+            }
+        };
+    }
+
+    /** Whether a heartbeat reported that this activity was cancelled, timed out or its workflow closed. */
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    private void record(String capabilityName, String progressText, Map<String, Object> checkpoint) {
+        if (progressText != null) {
+            progress.put(capabilityName, progressText);
+        }
+        if (checkpoint != null) {
+            checkpoints.put(capabilityName, new HashMap<>(checkpoint));
+        }
+        if (activityContext != null && !closed) {
+            try {
+                activityContext.heartbeat(details());
+            } catch (ActivityCompletionException e) {
+                cancel(e);
+                throw e;
+            }
+        }
+    }
+
+    private void tick(Duration interval) {
+        try {
+            while (!closed) {
+                Thread.sleep(interval.toMillis());
+                if (!closed) {
+                    activityContext.heartbeat(details());
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ActivityCompletionException e) {
+            cancel(e);
+        } catch (RuntimeException e) {
+            log.warn("Activity heartbeat failed: {}", e.getMessage());
+        }
+    }
+
+    private Details details() {
+        Details d = new Details();
+        d.setProgress(new HashMap<>(progress));
+        d.setCheckpoints(new HashMap<>(checkpoints));
+        return d;
+    }
+
+    /** Mark cancelled and interrupt the capability threads; nothing is interrupted once the activity has closed. */
+    private synchronized void cancel(ActivityCompletionException e) {
+        if (closed || cancelled) {
+            return;
+        }
+        cancelled = true;
+        log.info("Activity {} stopping: {}", activityContext.getInfo().getActivityId(), e.getClass().getSimpleName());
+        for (Thread worker : workers) {
+            if (worker != Thread.currentThread()) {
+                worker.interrupt();
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        synchronized (this) {
+            closed = true;
+        }
+        if (ticker != null) {
+            ticker.interrupt();
+        }
+        if (cancelled && workers.contains(Thread.currentThread())) {
+            // The activity thread is reused by the worker: do not leave the cancellation interrupt behind.
+            Thread.interrupted();
+        }
+    }
+
+    private static Duration max(Duration a, Duration b) {
+        return a.compareTo(b) >= 0 ? a : b;
+    }
+
+    /** Heartbeat payload: latest progress text and checkpoint per capability name. */
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    public static final class Details {
+        private Map<String, String> progress = new HashMap<>();
+        private Map<String, Map<String, Object>> checkpoints = new HashMap<>();
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright 2026 Open LLM Orchestrator contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.openllmorchestrator.worker.engine.activity.impl;
+
+import com.openllmorchestrator.worker.contract.CapabilityResult;
+import com.openllmorchestrator.worker.engine.contract.CapabilityHeartbeat;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Results of the stages a fused activity has completed, kept in the activity's heartbeat details under a key no
+ * capability uses. A retry of the activity reads them back and skips those stages instead of running them again.
+ * Local activities do not heartbeat, so their retries start from the first stage.
+ */
+final class FusedRunCheckpoint {
+
+    /** Heartbeat key of the run, next to the checkpoints its capabilities record under their own names. */
+    static final String KEY = "#fused-run";
+
+    private static final String STAGES = "stages";
+    private static final String CAPABILITY = "capability";
+    private static final String OUTPUT = "output";
+
+    private final CapabilityHeartbeat heartbeat;
+    private final List<Map<String, Object>> stages = new ArrayList<>();
+
+    private FusedRunCheckpoint(CapabilityHeartbeat heartbeat) {
+        this.heartbeat = heartbeat;
+    }
+
+    /**
+     * Checkpoint of the run, holding the stages the previous attempt completed. {@code heartbeat} is the activity
+     * heartbeat's view for {@link #KEY}. A checkpoint whose stages do not match the start of {@code capabilityNames}
+     * is ignored.
+     */
+    static FusedRunCheckpoint resume(CapabilityHeartbeat heartbeat, List<String> capabilityNames) {
+        FusedRunCheckpoint checkpoint = new FusedRunCheckpoint(heartbeat);
+        Map<String, Object> previous = checkpoint.heartbeat.resumeCheckpoint();
+        if (previous == null || !(previous.get(STAGES) instanceof List<?> stages)) {
+            return checkpoint;
+        }
+        for (Object s : stages) {
+            int index = checkpoint.stages.size();
+            if (index >= capabilityNames.size() || !(s instanceof Map<?, ?> stage)
+                    || !capabilityNames.get(index).equals(stage.get(CAPABILITY))
+                    || !(stage.get(OUTPUT) == null || stage.get(OUTPUT) instanceof Map<?, ?>)) {
+                checkpoint.stages.clear();
+                return checkpoint;
+            }
+            checkpoint.stages.add(entry(capabilityNames.get(index), (Map<?, ?>) stage.get(OUTPUT)));
+        }
+        return checkpoint;
+    }
+
+    /** Results of the stages completed by previous attempts, in run order. */
+    List<CapabilityResult> completed() {
+        List<CapabilityResult> results = new ArrayList<>(stages.size());
+        for (Map<String, Object> stage : stages) {
+            @SuppressWarnings("unchecked")
+            Map<String, Object> output = (Map<String, Object>) stage.get(OUTPUT);
+            results.add(CapabilityResult.builder()
+                    .capabilityName((String) stage.get(CAPABILITY))
+                    .output(new HashMap<>(output))
+                    .build());
+        }
+        return results;
+    }
+
+    /** Record a completed stage and heartbeat the checkpoint so a retry resumes after it. */
+    void record(CapabilityResult result) {
+        stages.add(entry(result.getCapabilityName(), result.getOutput()));
+        heartbeat.heartbeat("completed " + result.getCapabilityName(), Map.of(STAGES, List.copyOf(stages)));
+    }
+
+    private static Map<String, Object> entry(String capabilityName, Map<?, ?> output) {
+        Map<String, Object> copy = new LinkedHashMap<>();
+        if (output != null) {
+            output.forEach((k, v) -> copy.put(String.valueOf(k), v));
+        }
+        Map<String, Object> stage = new LinkedHashMap<>();
+        stage.put(CAPABILITY, capabilityName);
+        stage.put(OUTPUT, copy);
+        return stage;
+    }
+}
@@ -25,12 +25,31 @@ import com.openllmorchestrator.worker.contract.OutputContractValidator;
 import com.openllmorchestrator.worker.contract.ContractVersion;
 import com.openllmorchestrator.worker.contract.OutputContractViolationException;
 import com.openllmorchestrator.worker.contract.CapabilityHandler;
+import com.openllmorchestrator.worker.contract.StreamingCapabilityHandler;
+import com.openllmorchestrator.worker.contract.BatchCapability;
+import com.openllmorchestrator.worker.engine.batch.MicroBatcher;
+import com.openllmorchestrator.worker.engine.bulkhead.Bulkheads;
+import com.openllmorchestrator.worker.engine.cache.ResultCache;
 import com.openllmorchestrator.worker.engine.capability.predefined.PredefinedCapabilities;
+import com.openllmorchestrator.worker.engine.circuit.CircuitBreakers;
+import com.openllmorchestrator.worker.engine.coalesce.RequestCoalescer;
 import com.openllmorchestrator.worker.engine.capability.resolver.CapabilityResolver;
+import com.openllmorchestrator.worker.engine.kernel.merge.PutAllMergePolicy;
+import com.openllmorchestrator.worker.engine.residency.ModelResidencyManager;
+import com.openllmorchestrator.worker.engine.retry.RetryBudgets;
+import com.openllmorchestrator.worker.engine.routing.ModelRouter;
+import com.openllmorchestrator.worker.engine.stream.SinkStreamObserver;
+import com.openllmorchestrator.worker.engine.stream.StreamSink;
+import io.temporal.activity.Activity;
+import io.temporal.activity.ActivityInfo;
+import com.uber.m3.tally.Scope;
 import lombok.extern.slf4j.Slf4j;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.function.Supplier;
 
 /**
  * Resolves capability by name; runs handler with original input and accumulated output;
@@ -41,8 +60,86 @@ public class KernelCapabilityActivityImpl implements KernelCapabilityActivity {
 
     @Override
     public CapabilityResult execute(String queueName, String capabilityName, Map<String, Object> originalInput, Map<String, Object> accumulatedOutput) {
+        try (ActivityHeartbeat heartbeat = ActivityHeartbeat.start()) {
+            return executeCapability(queueName, capabilityName, originalInput, accumulatedOutput, heartbeat);
+        }
+    }
+
+    @Override
+    public List<CapabilityResult> executeStreamed(String queueName, List<String> capabilityNames, Map<String, Object> originalInput, Map<String, Object> accumulatedOutput) {
+        if (capabilityNames == null || capabilityNames.isEmpty()) {
+            return new ArrayList<>();
+        }
+        return new StreamThroughRunner(queueName, capabilityNames, originalInput, accumulatedOutput).run();
+    }
+
+    @Override
+    public List<CapabilityResult> executeFused(String queueName, List<String> capabilityNames, Map<String, Object> originalInput, Map<String, Object> accumulatedOutput) {
+        List<CapabilityResult> results = new ArrayList<>();
+        if (capabilityNames == null) {
+            return results;
+        }
+        Map<String, Object> acc = new HashMap<>(accumulatedOutput != null ? accumulatedOutput : Map.of());
+        try (ActivityHeartbeat heartbeat = ActivityHeartbeat.start()) {
+            FusedRunCheckpoint checkpoint = FusedRunCheckpoint.resume(heartbeat.forCapability(FusedRunCheckpoint.KEY), capabilityNames);
+            for (CapabilityResult done : checkpoint.completed()) {
+                results.add(done);
+                PutAllMergePolicy.INSTANCE.merge(acc, done.getOutput(), done.getCapabilityName());
+            }
+            if (!results.isEmpty()) {
+                log.info("Fused run resumed after {} completed capability(ies) of {}", results.size(), capabilityNames);
+            }
+            for (int i = results.size(); i < capabilityNames.size(); i++) {
+                String capabilityName = capabilityNames.get(i);
+                ExecutionContext context = activityContext(queueName, capabilityName, originalInput, acc, heartbeat);
+                CapabilityResult result = executeCapability(queueName, capabilityName, context);
+                results.add(result);
+                if (result.isRequestPipelineBreak()) {
+                    break;
+                }
+                if (context.isSuspendRequestedForSignal()) {
+                    log.info("Capability {} requested a suspend for a signal; ending the fused run", capabilityName);
+                    break;
+                }
+                PutAllMergePolicy.INSTANCE.merge(acc, result.getOutput() != null ? result.getOutput() : Map.of(), capabilityName);
+                if (i + 1 < capabilityNames.size()) {
+                    checkpoint.record(result);
+                }
+            }
+        }
+        return results;
+    }
+
+    /** Resolve, run and validate one capability; shared by single and fused execution. */
+    static CapabilityResult executeCapability(String queueName, String capabilityName, Map<String, Object> originalInput,
+                                              Map<String, Object> accumulatedOutput, ActivityHeartbeat heartbeat) {
+        return executeCapability(queueName, capabilityName,
+                activityContext(queueName, capabilityName, originalInput, accumulatedOutput, heartbeat));
+    }
+
+    /** Context of one capability run inside an activity. */
+    static ExecutionContext activityContext(String queueName, String capabilityName, Map<String, Object> originalInput,
+                                            Map<String, Object> accumulatedOutput, ActivityHeartbeat heartbeat) {
+        ExecutionContext context = ExecutionContext.forActivity(
+                originalInput != null ? originalInput : Map.of(),
+                accumulatedOutput != null ? accumulatedOutput : Map.of());
+        context.setHeartbeat(heartbeat.forCapability(capabilityName));
+        context.setEmbeddingCache(EngineRuntime.getEmbeddingCache(queueName));
+        return context;
+    }
+
+    private static CapabilityResult executeCapability(String queueName, String capabilityName, ExecutionContext context) {
         log.debug(">>> [START] Capability: {} | Thread: {}", capabilityName, Thread.currentThread().getName());
 
+        CapabilityHandler handler = resolveHandler(queueName, capabilityName);
+        CapabilityResult handlerResult = invokeHandler(queueName, handler, context, capabilityName);
+        validateOutputContract(queueName, handler, context.getCurrentPluginOutput(), capabilityName);
+        log.debug("<<< [END] Capability: {} | Thread: {}", capabilityName, Thread.currentThread().getName());
+        return toResult(capabilityName, context, handlerResult);
+    }
+
+    /** Resolve the handler for the capability on this queue and check contract compatibility. */
+    static CapabilityHandler resolveHandler(String queueName, String capabilityName) {
         CapabilityResolver resolver = EngineRuntime.getCapabilityResolver(queueName);
         CapabilityHandler handler = resolver.resolve(capabilityName);
         if (handler == null) {
@@ -54,12 +151,11 @@ public class KernelCapabilityActivityImpl implements KernelCapabilityActivity {
                     + "' could not be resolved. Register it in the activity registry (plugin name) or custom bucket.");
         }
         ContractVersion.requireCompatible(handler);
-        ExecutionContext context = ExecutionContext.forActivity(
-                originalInput != null ? originalInput : Map.of(),
-                accumulatedOutput != null ? accumulatedOutput : Map.of());
-        CapabilityResult handlerResult = handler.execute(context);
-        validateOutputContract(queueName, handler, context.getCurrentPluginOutput(), capabilityName);
-        log.debug("<<< [END] Capability: {} | Thread: {}", capabilityName, Thread.currentThread().getName());
+        return handler;
+    }
+
+    /** Result from the context's current output (or the handler's result output when the context has none). */
+    static CapabilityResult toResult(String capabilityName, ExecutionContext context, CapabilityResult handlerResult) {
         Map<String, Object> output = context.getCurrentPluginOutput() != null && !context.getCurrentPluginOutput().isEmpty()
                 ? new HashMap<>(context.getCurrentPluginOutput())
                 : (handlerResult != null && handlerResult.getOutput() != null ? new HashMap<>(handlerResult.getOutput()) : new HashMap<>());
@@ -71,6 +167,149 @@ public class KernelCapabilityActivityImpl implements KernelCapabilityActivity {
                 .build();
     }
 
+    /**
+     * Run the handler. When STREAMING is on (a sink is set for the queue) and the handler is a
+     * {@link StreamingCapabilityHandler}, pass an observer that publishes tokens to the sink keyed by workflow id;
+     * the final result is returned as usual. With BULKHEADS the call runs under the plugin's concurrency limit; with
+     * CIRCUIT_BREAKERS it goes through the plugin's breaker, and an open breaker may run the fallback plugin instead
+     * (on the same context, so the result keeps the original capability name). With RETRY_BUDGET a retry attempt
+     * runs only if the plugin's retry budget has a token left. With RESULT_CACHE a cacheable call is answered from the
+     * cache when possible (a streaming handler's sink then gets the cached output as one update and COMPLETE). With
+     * COALESCING identical concurrent calls of a coalescible plugin share one execution; followers get the leader's
+     * output the same way as a cache hit. With MICRO_BATCHING a {@link BatchCapability} call joins a batch with
+     * concurrent calls of the same plugin; the batch takes one bulkhead permit. With MODEL_ROUTING calls of route
+     * candidates feed the router's latency and error statistics (cache hits and shared results do not); with
+     * MODEL_RESIDENCY they count as requests for the plugin's model.
+     */
+    static CapabilityResult invokeHandler(String queueName, CapabilityHandler handler, ExecutionContext context, String capabilityName) {
+        ResultCache cache = EngineRuntime.getResultCache(queueName);
+        if (cache == null) {
+            return coalesced(queueName, handler, context, capabilityName, null);
+        }
+        String key = cache.keyFor(capabilityName, handler, context);
+        CapabilityResult cached = cache.get(key, capabilityName, metricsScope());
+        if (cached != null) {
+            cached.getOutput().forEach(context::putOutput);
+            publishCached(queueName, handler, capabilityName, cached);
+            return cached;
+        }
+        CapabilityResult result = coalesced(queueName, handler, context, capabilityName, key);
+        cache.put(key, capabilityName, handler, context, result);
+        return result;
+    }
+
+    private static CapabilityResult coalesced(String queueName, CapabilityHandler handler, ExecutionContext context,
+                                              String capabilityName, String cacheKey) {
+        RequestCoalescer coalescer = EngineRuntime.getRequestCoalescer(queueName);
+        if (coalescer == null) {
+            return guarded(queueName, handler, context, capabilityName);
+        }
+        return coalescer.call(coalescer.keyFor(capabilityName, handler, context, cacheKey), capabilityName, context, metricsScope(),
+                () -> guarded(queueName, handler, context, capabilityName),
+                shared -> {
+                    shared.getOutput().forEach(context::putOutput);
+                    publishCached(queueName, handler, capabilityName, shared);
+                });
+    }
+
+    private static CapabilityResult guarded(String queueName, CapabilityHandler handler, ExecutionContext context, String capabilityName) {
+        RetryBudgets budgets = EngineRuntime.getRetryBudgets(queueName);
+        if (budgets != null) {
+            budgets.admit(capabilityName, attempt());
+        }
+        ModelResidencyManager residency = EngineRuntime.getModelResidency(queueName);
+        if (residency != null) {
+            residency.onRequest(capabilityName);
+        }
+        CapabilityResult result = throughBreaker(queueName, handler, context, capabilityName);
+        if (budgets != null) {
+            budgets.onSuccess(capabilityName);
+        }
+        return result;
+    }
+
+    private static CapabilityResult throughBreaker(String queueName, CapabilityHandler handler, ExecutionContext context, String capabilityName) {
+        CircuitBreakers breakers = EngineRuntime.getCircuitBreakers(queueName);
+        return breakers == null
+                ? observed(queueName, capabilityName, () -> batched(queueName, handler, context, capabilityName))
+                : breakers.call(capabilityName, metricsScope(),
+                        () -> observed(queueName, capabilityName, () -> batched(queueName, handler, context, capabilityName)),
+                        fallback -> observed(queueName, fallback,
+                                () -> batched(queueName, resolveHandler(queueName, fallback), context, fallback)));
+    }
+
+    /** MODEL_ROUTING: measure the call under the plugin that actually runs, so a fallback is not charged to the original. */
+    private static CapabilityResult observed(String queueName, String pluginName, Supplier<CapabilityResult> call) {
+        ModelRouter router = EngineRuntime.getModelRouter(queueName);
+        return router != null && router.tracks(pluginName) ? router.observe(pluginName, call) : call.get();
+    }
+
+    /** Worker metrics scope of the current activity; null off the activity thread. */
+    static Scope metricsScope() {
+        try {
+            return Activity.getExecutionContext().getMetricsScope();
+        } catch (IllegalStateException e) {
+            return null;
+        }
+    }
+
+    /** Attempt number of the current activity; 1 off the activity thread. */
+    static int attempt() {
+        try {
+            return Activity.getExecutionContext().getInfo().getAttempt();
+        } catch (IllegalStateException e) {
+            return 1;
+        }
+    }
+
+    private static void publishCached(String queueName, CapabilityHandler handler, String capabilityName, CapabilityResult cached) {
+        StreamSink sink = handler instanceof StreamingCapabilityHandler ? EngineRuntime.getStreamSink(queueName) : null;
+        if (sink == null) {
+            return;
+        }
+        ActivityInfo info = Activity.getExecutionContext().getInfo();
+        SinkStreamObserver observer = new SinkStreamObserver(sink, info.getWorkflowId(), capabilityName, info.getAttempt());
+        observer.onUpdate("cached", cached.getOutput());
+        observer.onComplete();
+    }
+
+    private static CapabilityResult batched(String queueName, CapabilityHandler handler, ExecutionContext context, String capabilityName) {
+        MicroBatcher batcher = EngineRuntime.getMicroBatcher(queueName);
+        boolean streaming = handler instanceof StreamingCapabilityHandler && EngineRuntime.getStreamSink(queueName) != null;
+        if (batcher == null || streaming || !(handler instanceof BatchCapability batch)) {
+            return limited(queueName, handler, context, capabilityName);
+        }
+        Bulkheads bulkheads = EngineRuntime.getBulkheads(queueName);
+        return batcher.call(capabilityName, batch, context, metricsScope(), contexts -> bulkheads != null
+                ? bulkheads.call(capabilityName, handler, () -> batch.executeBatch(contexts))
+                : batch.executeBatch(contexts));
+    }
+
+    private static CapabilityResult limited(String queueName, CapabilityHandler handler, ExecutionContext context, String capabilityName) {
+        Bulkheads bulkheads = EngineRuntime.getBulkheads(queueName);
+        return bulkheads != null
+                ? bulkheads.call(capabilityName, handler, () -> runHandler(queueName, handler, context, capabilityName))
+                : runHandler(queueName, handler, context, capabilityName);
+    }
+
+    private static CapabilityResult runHandler(String queueName, CapabilityHandler handler, ExecutionContext context, String capabilityName) {
+        StreamSink sink = handler instanceof StreamingCapabilityHandler ? EngineRuntime.getStreamSink(queueName) : null;
+        if (sink == null) {
+            return handler.execute(context);
+        }
+        ActivityInfo info = Activity.getExecutionContext().getInfo();
+        SinkStreamObserver observer = new SinkStreamObserver(sink, info.getWorkflowId(), capabilityName, info.getAttempt(),
+                context::isCancelled);
+        try {
+            CapabilityResult result = ((StreamingCapabilityHandler) handler).execute(context, observer);
+            observer.onComplete();
+            return result;
+        } catch (RuntimeException e) {
+            observer.onError(e);
+            throw e;
+        }
+    }
+
     static void validateOutputContract(String queueName, CapabilityHandler handler, Map<String, Object> output, String capabilityName) {
         if (EngineRuntime.getFeatureFlags(queueName) != null && !EngineRuntime.getFeatureFlags(queueName).isEnabled(FeatureFlag.OUTPUT_CONTRACT)) {
             return;
@@ -84,7 +84,11 @@ public class KernelCapabilityDynamicActivity implements DynamicActivity {
         ExecutionContext context = ExecutionContext.forActivity(
                 originalInput != null ? originalInput : Map.of(),
                 accumulatedOutput != null ? accumulatedOutput : Map.of());
-        handler.execute(context);
+        try (ActivityHeartbeat heartbeat = ActivityHeartbeat.start()) {
+            context.setHeartbeat(heartbeat.forCapability(capabilityName));
+            context.setEmbeddingCache(EngineRuntime.getEmbeddingCache(queueName));
+            KernelCapabilityActivityImpl.invokeHandler(queueName, handler, context, capabilityName);
+        }
         KernelCapabilityActivityImpl.validateOutputContract(queueName, handler, context.getCurrentPluginOutput(), capabilityName);
         log.debug("<<< [END] Activity type: {} | Thread: {}", activityType, Thread.currentThread().getName());
         return CapabilityResult.builder()
@@ -0,0 +1,241 @@
+/*
+ * Copyright 2026 Open LLM Orchestrator contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.openllmorchestrator.worker.engine.activity.impl;
+
+import com.openllmorchestrator.worker.contract.CapabilityHandler;
+import com.openllmorchestrator.worker.contract.CapabilityResult;
+import com.openllmorchestrator.worker.contract.StreamObserver;
+import com.openllmorchestrator.worker.contract.StreamThroughCapabilityHandler;
+import com.openllmorchestrator.worker.contract.StreamingCapabilityHandler;
+import com.openllmorchestrator.worker.contract.TokenStream;
+import com.openllmorchestrator.worker.engine.bulkhead.Bulkheads;
+import com.openllmorchestrator.worker.engine.circuit.CircuitBreakers;
+import com.openllmorchestrator.worker.engine.config.EngineFileConfig;
+import com.openllmorchestrator.worker.engine.contract.ExecutionContext;
+import com.openllmorchestrator.worker.engine.kernel.merge.PutAllMergePolicy;
+import com.openllmorchestrator.worker.engine.retry.RetryBudgets;
+import com.openllmorchestrator.worker.engine.runtime.EngineRuntime;
+import com.openllmorchestrator.worker.engine.stream.SinkStreamObserver;
+import com.openllmorchestrator.worker.engine.stream.StreamSink;
+import com.openllmorchestrator.worker.engine.stream.TokenChannel;
+import io.temporal.activity.Activity;
+import io.temporal.activity.ActivityInfo;
+import com.uber.m3.tally.Scope;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+
+/**
+ * Runs the stages of a stream-through group inside one activity. A stage whose handler is a
+ * {@link StreamThroughCapabilityHandler} starts immediately and reads the previous stage's tokens through a bounded
+ * {@link TokenChannel}; any other stage waits for the previous stage to finish, as in fused execution.
+ * Consuming stages see the group's incoming accumulated output; the upstream's final output is available from
+ * {@link TokenStream#awaitUpstreamOutput()}. Results are returned in stage order and cut after the first break.
+ */
+@Slf4j
+final class StreamThroughRunner {
+
+    private final String queueName;
+    private final List<String> capabilityNames;
+    private final Map<String, Object> originalInput;
+    private final Map<String, Object> accumulatedOutput;
+    private final Scope metrics;
+    private final int attempt;
+
+    StreamThroughRunner(String queueName, List<String> capabilityNames,
+                        Map<String, Object> originalInput, Map<String, Object> accumulatedOutput) {
+        this.queueName = queueName;
+        this.capabilityNames = capabilityNames;
+        this.originalInput = originalInput != null ? originalInput : Map.of();
+        this.accumulatedOutput = accumulatedOutput != null ? accumulatedOutput : Map.of();
+        this.metrics = KernelCapabilityActivityImpl.metricsScope();
+        this.attempt = KernelCapabilityActivityImpl.attempt();
+    }
+
+    List<CapabilityResult> run() {
+        int n = capabilityNames.size();
+        CapabilityHandler[] handlers = new CapabilityHandler[n];
+        for (int i = 0; i < n; i++) {
+            handlers[i] = KernelCapabilityActivityImpl.resolveHandler(queueName, capabilityNames.get(i));
+        }
+        TokenChannel[] channels = new TokenChannel[n];
+        int capacity = channelCapacity();
+        for (int i = 0; i + 1 < n; i++) {
+            if (handlers[i + 1] instanceof StreamThroughCapabilityHandler) {
+                channels[i] = new TokenChannel(capacity);
+            }
+        }
+        ActivityInfo info = Activity.getExecutionContext().getInfo();
+        StreamSink sink = EngineRuntime.getStreamSink(queueName);
+
+        List<CompletableFuture<CapabilityResult>> results = new ArrayList<>(n);
+        List<CompletableFuture<Map<String, Object>>> accAfter = new ArrayList<>(n);
+        try (ActivityHeartbeat heartbeat = ActivityHeartbeat.start();
+             ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < n; i++) {
+                int stage = i;
+                CompletableFuture<CapabilityResult> previous = i > 0 ? results.get(i - 1) : null;
+                CompletableFuture<Map<String, Object>> accBefore = i > 0 ? accAfter.get(i - 1) : null;
+                StreamObserver observer = channels[i] != null ? channels[i]
+                        : (i == n - 1 && sink != null
+                        ? new SinkStreamObserver(sink, info.getWorkflowId(), capabilityNames.get(i), info.getAttempt(),
+                        heartbeat::isCancelled)
+                        : null);
+                CompletableFuture<CapabilityResult> result = CompletableFuture.supplyAsync(
+                        () -> runStage(stage, handlers[stage], upstreamOf(channels, stage), channels[stage], observer, previous, accBefore,
+                                heartbeat),
+                        executor);
+                results.add(result);
+                accAfter.add(result.thenCombine(accBefore != null ? accBefore : CompletableFuture.completedFuture(accumulatedOutput),
+                        (r, acc) -> merged(acc, r, capabilityNames.get(stage))));
+            }
+            return collect(results);
+        }
+    }
+
+    private CapabilityResult runStage(int stage, CapabilityHandler handler, TokenChannel upstream, TokenChannel downstream,
+                                      StreamObserver observer, CompletableFuture<CapabilityResult> previous,
+                                      CompletableFuture<Map<String, Object>> accBefore, ActivityHeartbeat heartbeat) {
+        String capabilityName = capabilityNames.get(stage);
+        try {
+            boolean consuming = upstream != null;
+            Map<String, Object> acc = accumulatedOutput;
+            if (!consuming && previous != null) {
+                if (isBreak(previous.join())) {
+                    finish(downstream, Map.of());
+                    return null;
+                }
+                acc = accBefore.join();
+            }
+            log.debug(">>> [START] Streamed capability: {} | stage {}", capabilityName, stage);
+            ExecutionContext context = ExecutionContext.forActivity(originalInput, acc);
+            context.setHeartbeat(heartbeat.forCapability(capabilityName));
+            context.setEmbeddingCache(EngineRuntime.getEmbeddingCache(queueName));
+            TokenChannel input = consuming ? upstream : null;
+            CapabilityResult handlerResult = guarded(capabilityName, handler, h -> invoke(h, context, input, observer));
+            KernelCapabilityActivityImpl.validateOutputContract(queueName, handler, context.getCurrentPluginOutput(), capabilityName);
+            CapabilityResult result = KernelCapabilityActivityImpl.toResult(capabilityName, context, handlerResult);
+            if (observer != null && observer != downstream) {
+                observer.onComplete();
+            }
+            finish(downstream, result.getOutput());
+            log.debug("<<< [END] Streamed capability: {} | stage {}", capabilityName, stage);
+            return result;
+        } catch (RuntimeException e) {
+            if (downstream != null) {
+                downstream.fail(e);
+            } else if (observer != null) {
+                observer.onError(e);
+            }
+            throw e;
+        } finally {
+            if (upstream != null) {
+                upstream.closeReader();
+            }
+        }
+    }
+
+    /** Retry budget, circuit breaker (with fallback plugin) and bulkhead around one stage, as in single execution. */
+    private CapabilityResult guarded(String capabilityName, CapabilityHandler handler, Function<CapabilityHandler, CapabilityResult> run) {
+        RetryBudgets budgets = EngineRuntime.getRetryBudgets(queueName);
+        if (budgets != null) {
+            budgets.admit(capabilityName, attempt);
+        }
+        CircuitBreakers breakers = EngineRuntime.getCircuitBreakers(queueName);
+        CapabilityResult result = breakers == null
+                ? limited(capabilityName, handler, run)
+                : breakers.call(capabilityName, metrics, () -> limited(capabilityName, handler, run),
+                        fallback -> limited(fallback, KernelCapabilityActivityImpl.resolveHandler(queueName, fallback), run));
+        if (budgets != null) {
+            budgets.onSuccess(capabilityName);
+        }
+        return result;
+    }
+
+    private CapabilityResult limited(String capabilityName, CapabilityHandler handler, Function<CapabilityHandler, CapabilityResult> run) {
+        Bulkheads bulkheads = EngineRuntime.getBulkheads(queueName);
+        return bulkheads != null ? bulkheads.call(capabilityName, handler, () -> run.apply(handler)) : run.apply(handler);
+    }
+
+    private static CapabilityResult invoke(CapabilityHandler handler, ExecutionContext context, TokenStream upstream, StreamObserver observer) {
+        if (handler instanceof StreamThroughCapabilityHandler streamThrough) {
+            return streamThrough.execute(context, upstream, observer);
+        }
+        if (observer != null && handler instanceof StreamingCapabilityHandler streaming) {
+            return streaming.execute(context, observer);
+        }
+        return handler.execute(context);
+    }
+
+    private List<CapabilityResult> collect(List<CompletableFuture<CapabilityResult>> results) {
+        List<CapabilityResult> out = new ArrayList<>(results.size());
+        for (CompletableFuture<CapabilityResult> future : results) {
+            CapabilityResult result;
+            try {
+                result = future.join();
+            } catch (CompletionException e) {
+                Throwable cause = e.getCause() != null ? e.getCause() : e;
+                if (cause instanceof RuntimeException re) {
+                    throw re;
+                }
+                throw new IllegalStateException("Stream-through stage failed: " + cause.getMessage(), cause);
+            }
+            if (result == null) {
+                break;
+            }
+            out.add(result);
+            if (result.isRequestPipelineBreak()) {
+                break;
+            }
+        }
+        return out;
+    }
+
+    private int channelCapacity() {
+        EngineFileConfig config = EngineRuntime.getConfig(queueName);
+        return config != null ? config.getStreamingEffective().getChannelCapacity() : 256;
+    }
+
+    private static void finish(TokenChannel downstream, Map<String, Object> output) {
+        if (downstream != null) {
+            downstream.finish(output);
+        }
+    }
+
+    private static boolean isBreak(CapabilityResult result) {
+        return result == null || result.isRequestPipelineBreak();
+    }
+
+    private static Map<String, Object> merged(Map<String, Object> acc, CapabilityResult result, String capabilityName) {
+        Map<String, Object> next = new HashMap<>(acc);
+        if (result != null && result.getOutput() != null) {
+            PutAllMergePolicy.INSTANCE.merge(next, result.getOutput(), capabilityName);
+        }
+        return next;
+    }
+
+    private static TokenChannel upstreamOf(TokenChannel[] channels, int stage) {
+        return stage > 0 ? channels[stage - 1] : null;
+    }
+}
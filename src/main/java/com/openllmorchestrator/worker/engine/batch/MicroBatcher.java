@@ -0,0 +1,180 @@
+/*
+ * Copyright 2026 Open LLM Orchestrator contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.openllmorchestrator.worker.engine.batch;
+
+import com.openllmorchestrator.worker.contract.BatchCapability;
+import com.openllmorchestrator.worker.contract.CapabilityResult;
+import com.openllmorchestrator.worker.contract.PluginContext;
+import com.openllmorchestrator.worker.engine.config.batch.MicroBatchingConfig;
+import com.uber.m3.tally.Scope;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/**
+ * Micro-batcher for one queue (MICRO_BATCHING), one lane per plugin. The first call on a lane opens a batch and
+ * waits up to {@code maxDelayMillis}; calls arriving meanwhile join it; when the batch is full or the time is up the
+ * first call runs the whole batch on its own activity thread and hands each caller its result. No extra threads.
+ */
+public final class MicroBatcher {
+
+    private final MicroBatchingConfig config;
+    private final Map<String, Lane> lanes = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> batches = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> items = new ConcurrentHashMap<>();
+
+    public MicroBatcher(MicroBatchingConfig config) {
+        this.config = config != null ? config : new MicroBatchingConfig();
+    }
+
+    /**
+     * Add the call to the plugin's current batch and wait for its result. {@code dispatch} runs a batch (e.g. under the
+     * plugin's bulkhead) and must return one result per context, in order.
+     */
+    public CapabilityResult call(String capabilityName, BatchCapability handler, PluginContext context, Scope metrics,
+                                 Function<List<PluginContext>, List<CapabilityResult>> dispatch) {
+        int maxSize = maxBatchSize(capabilityName, handler);
+        Lane lane = lanes.computeIfAbsent(capabilityName, k -> new Lane());
+        CompletableFuture<CapabilityResult> mine = new CompletableFuture<>();
+        Batch batch;
+        boolean first;
+        lane.lock.lock();
+        try {
+            batch = lane.open;
+            first = batch == null;
+            if (first) {
+                batch = new Batch();
+                lane.open = batch;
+            }
+            batch.contexts.add(context);
+            batch.results.add(mine);
+            if (batch.contexts.size() >= maxSize) {
+                lane.open = null;
+                lane.full.signalAll();
+            }
+            if (first) {
+                long remaining = TimeUnit.MILLISECONDS.toNanos(maxDelayMillis());
+                while (lane.open == batch && remaining > 0) {
+                    try {
+                        remaining = lane.full.awaitNanos(remaining);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        break;
+                    }
+                }
+                if (lane.open == batch) {
+                    lane.open = null;
+                }
+            }
+        } finally {
+            lane.lock.unlock();
+        }
+        if (first) {
+            run(capabilityName, batch, metrics, dispatch);
+        }
+        return await(mine, capabilityName);
+    }
+
+    /** Batches, items and average batch size per plugin (for logs and metrics). */
+    public Map<String, Object> snapshot() {
+        Map<String, Object> out = new LinkedHashMap<>();
+        Set<String> names = new TreeSet<>(batches.keySet());
+        for (String name : names) {
+            long b = batches.get(name).sum();
+            long i = items.containsKey(name) ? items.get(name).sum() : 0;
+            out.put(name, Map.of("batches", b, "items", i, "averageSize", b == 0 ? 0.0 : (double) i / b));
+        }
+        return out;
+    }
+
+    private void run(String capabilityName, Batch batch, Scope metrics,
+                     Function<List<PluginContext>, List<CapabilityResult>> dispatch) {
+        int size = batch.contexts.size();
+        batches.computeIfAbsent(capabilityName, k -> new LongAdder()).increment();
+        items.computeIfAbsent(capabilityName, k -> new LongAdder()).add(size);
+        if (metrics != null) {
+            Scope tagged = metrics.tagged(Map.of("capability", capabilityName));
+            tagged.counter("micro_batch_dispatched").inc(1);
+            tagged.counter("micro_batch_items").inc(size);
+        }
+        try {
+            List<CapabilityResult> results = dispatch.apply(batch.contexts);
+            if (results == null || results.size() != size) {
+                throw new IllegalStateException("Batch plugin '" + capabilityName + "' returned "
+                        + (results != null ? results.size() : 0) + " results for " + size + " inputs");
+            }
+            for (int i = 0; i < size; i++) {
+                batch.results.get(i).complete(results.get(i));
+            }
+        } catch (Throwable t) {
+            // Followers block on their futures, so every failure must complete them, Errors included.
+            for (CompletableFuture<CapabilityResult> result : batch.results) {
+                result.completeExceptionally(t);
+            }
+            if (t instanceof Error error) {
+                throw error;
+            }
+        }
+    }
+
+    private static CapabilityResult await(CompletableFuture<CapabilityResult> result, String capabilityName) {
+        try {
+            return result.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException re) {
+                throw re;
+            }
+            throw new IllegalStateException("Batched call of '" + capabilityName + "' failed", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for batched call of '" + capabilityName + "'", e);
+        }
+    }
+
+    private int maxBatchSize(String capabilityName, BatchCapability handler) {
+        Integer configured = config.getPlugins() != null ? config.getPlugins().get(capabilityName) : null;
+        int size = configured != null ? configured : (config.getMaxBatchSize() != null ? config.getMaxBatchSize() : 32);
+        int pluginMax = handler.getMaxBatchSize();
+        return Math.max(1, pluginMax > 0 ? Math.min(size, pluginMax) : size);
+    }
+
+    private long maxDelayMillis() {
+        return config.getMaxDelayMillis() != null ? Math.max(0, config.getMaxDelayMillis()) : 10;
+    }
+
+    private static final class Lane {
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Condition full = lock.newCondition();
+        private Batch open;
+    }
+
+    private static final class Batch {
+        private final List<PluginContext> contexts = new ArrayList<>();
+        private final List<CompletableFuture<CapabilityResult>> results = new ArrayList<>();
+    }
+}
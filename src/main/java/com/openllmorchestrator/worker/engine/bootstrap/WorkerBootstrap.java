@@ -17,18 +17,36 @@ package com.openllmorchestrator.worker.engine.bootstrap;
 
 import com.openllmorchestrator.worker.engine.bootstrap.steps.BuildActivityRegistryStep;
 import com.openllmorchestrator.worker.engine.bootstrap.steps.BuildCompatiblePluginsStep;
+import com.openllmorchestrator.worker.engine.bootstrap.steps.BuildEmbeddingCacheStep;
 import com.openllmorchestrator.worker.engine.bootstrap.steps.BuildFeatureHandlersStep;
+import com.openllmorchestrator.worker.engine.bootstrap.steps.BuildMicroBatcherStep;
+import com.openllmorchestrator.worker.engine.bootstrap.steps.BuildModelResidencyStep;
+import com.openllmorchestrator.worker.engine.bootstrap.steps.BuildModelRouterStep;
 import com.openllmorchestrator.worker.engine.bootstrap.steps.LoadDynamicPluginsStep;
+import com.openllmorchestrator.worker.engine.bootstrap.steps.BuildPlanCacheStep;
 import com.openllmorchestrator.worker.engine.bootstrap.steps.BuildPlanStep;
 import com.openllmorchestrator.worker.engine.bootstrap.steps.BuildResolverStep;
 import com.openllmorchestrator.worker.engine.bootstrap.steps.LoadConfigStep;
 import com.openllmorchestrator.worker.engine.bootstrap.steps.SetRuntimeStep;
+import com.openllmorchestrator.worker.engine.bootstrap.steps.BuildStreamSinkStep;
+import com.openllmorchestrator.worker.engine.bootstrap.steps.BuildBulkheadsStep;
+import com.openllmorchestrator.worker.engine.bootstrap.steps.BuildCircuitBreakersStep;
+import com.openllmorchestrator.worker.engine.bootstrap.steps.BuildRequestCoalescerStep;
+import com.openllmorchestrator.worker.engine.bootstrap.steps.BuildResultCacheStep;
+import com.openllmorchestrator.worker.engine.bootstrap.steps.BuildRetryBudgetsStep;
 import com.openllmorchestrator.worker.engine.bootstrap.steps.ValidateConfigStep;
 import com.openllmorchestrator.worker.engine.capability.bucket.CapabilityBucketFactory;
 import com.openllmorchestrator.worker.engine.capability.custom.CustomCapabilityBucket;
 import com.openllmorchestrator.worker.engine.config.EngineFileConfig;
+import com.openllmorchestrator.worker.engine.runtime.EngineRuntime;
 
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 /**
  * Runs bootstrap steps in a fixed hierarchy. Builds the execution tree (plans, resolver)
@@ -37,7 +55,7 @@ import java.util.List;
  * interceptors and feature flags during traversal.
  */
 public final class WorkerBootstrap {
-    /** Order: load config, build registries and resolver, validate, build plans, set runtime, build feature handlers. */
+    /** Order: load config, build registries and resolver, validate, build plans, set runtime, stream sink, build feature handlers. */
     private static final List<BootstrapStep> DEFAULT_STEPS = List.of(
             new LoadConfigStep(),
             new BuildActivityRegistryStep(),
@@ -47,6 +65,17 @@ public final class WorkerBootstrap {
             new ValidateConfigStep(),
             new BuildPlanStep(),
             new SetRuntimeStep(),
+            new BuildStreamSinkStep(),
+            new BuildBulkheadsStep(),
+            new BuildCircuitBreakersStep(),
+            new BuildRetryBudgetsStep(),
+            new BuildResultCacheStep(),
+            new BuildRequestCoalescerStep(),
+            new BuildMicroBatcherStep(),
+            new BuildEmbeddingCacheStep(),
+            new BuildPlanCacheStep(),
+            new BuildModelRouterStep(),
+            new BuildModelResidencyStep(),
             new BuildFeatureHandlersStep()
     );
 
@@ -54,13 +83,9 @@ public final class WorkerBootstrap {
 
     /** Bootstrap for the given task queue. Config is loaded per queue (Redis/DB/file keyed by queueName). */
     public static EngineFileConfig initialize(String queueName) {
-        BootstrapContext ctx = new BootstrapContext();
-        ctx.setQueueName(queueName != null && !queueName.isBlank() ? queueName : null);
-        ctx.setEnvConfig(com.openllmorchestrator.worker.engine.config.env.EnvConfig.fromEnvironment());
-        ctx.setPredefinedBucket(CapabilityBucketFactory.createPredefinedBucket());
-        ctx.setCustomBucket(CapabilityBucketFactory.createCustomBucket());
-        runSteps(ctx, DEFAULT_STEPS);
-        return ctx.getConfig();
+        EngineFileConfig config = bootstrapQueue(queueName, CapabilityBucketFactory.createCustomBucket());
+        EngineRuntime.CONFIG = config;
+        return config;
     }
 
     /** Backward compat: bootstrap using queue name from env (QUEUE_NAME). */
@@ -69,6 +94,55 @@ public final class WorkerBootstrap {
         return initialize(queueName);
     }
 
+    /**
+     * Bootstrap several task queues in parallel (one JVM serving many queues). Returns config per queue in the
+     * given order; the first queue becomes the default for queue-less lookups and {@link EngineRuntime#CONFIG}.
+     * Steps only write per-queue runtime state; process-wide state is set here, outside the parallel section.
+     * Fails if any queue fails to bootstrap.
+     */
+    public static Map<String, EngineFileConfig> initializeAll(List<String> queueNames) {
+        if (queueNames == null || queueNames.isEmpty()) {
+            throw new IllegalArgumentException("queueNames must be non-empty");
+        }
+        int threads = Math.min(queueNames.size(), Math.max(1, Runtime.getRuntime().availableProcessors()));
+        ExecutorService pool = Executors.newFixedThreadPool(threads, r -> {
+            Thread t = new Thread(r, "worker-bootstrap");
+            t.setDaemon(true);
+            return t;
+        });
+        String primary = queueNames.get(0);
+        EngineRuntime.setDefaultQueue(primary);
+        try {
+            Map<String, Future<EngineFileConfig>> futures = new LinkedHashMap<>();
+            for (String queueName : queueNames) {
+                futures.put(queueName, pool.submit(() -> bootstrapQueue(queueName, CapabilityBucketFactory.createCustomBucket())));
+            }
+            Map<String, EngineFileConfig> configs = new LinkedHashMap<>();
+            for (Map.Entry<String, Future<EngineFileConfig>> e : futures.entrySet()) {
+                configs.put(e.getKey(), await(e.getKey(), e.getValue()));
+            }
+            EngineRuntime.CONFIG = configs.get(primary);
+            return configs;
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    private static EngineFileConfig await(String queueName, Future<EngineFileConfig> future) {
+        try {
+            EngineFileConfig config = future.get();
+            if (config == null) {
+                throw new IllegalStateException("Bootstrap for queue '" + queueName + "' returned no config");
+            }
+            return config;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Bootstrap for queue '" + queueName + "' interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Bootstrap for queue '" + queueName + "' failed: " + e.getCause().getMessage(), e.getCause());
+        }
+    }
+
     public static EngineFileConfig initializeWithCustomBucket(CustomCapabilityBucket customBucket) {
         if (customBucket == null) {
             throw new IllegalArgumentException("CustomCapabilityBucket must be non-null");
@@ -81,6 +155,13 @@ public final class WorkerBootstrap {
         if (customBucket == null) {
             throw new IllegalArgumentException("CustomCapabilityBucket must be non-null");
         }
+        EngineFileConfig config = bootstrapQueue(queueName, customBucket);
+        EngineRuntime.CONFIG = config;
+        return config;
+    }
+
+    /** Run the steps for one queue; writes only that queue's runtime state, so queues can bootstrap concurrently. */
+    private static EngineFileConfig bootstrapQueue(String queueName, CustomCapabilityBucket customBucket) {
         BootstrapContext ctx = new BootstrapContext();
         ctx.setQueueName(queueName != null && !queueName.isBlank() ? queueName : null);
         ctx.setEnvConfig(com.openllmorchestrator.worker.engine.config.env.EnvConfig.fromEnvironment());
@@ -0,0 +1,112 @@
+/*
+ * Copyright 2026 Open LLM Orchestrator contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.openllmorchestrator.worker.engine.bootstrap;
+
+import com.openllmorchestrator.worker.engine.config.env.EnvConfig;
+import com.openllmorchestrator.worker.engine.config.worker.WorkerConfig;
+import io.temporal.worker.WorkerFactoryOptions;
+import io.temporal.worker.WorkerOptions;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Builds Temporal worker and factory options from the merged {@code worker} section (env overrides config) and logs
+ * the effective capacity at startup. Unset fields keep SDK defaults; pollers fall back to the env defaults (5 / 10).
+ */
+@Slf4j
+public final class WorkerTuning {
+
+    private WorkerTuning() {}
+
+    /** Per-queue worker options. */
+    public static WorkerOptions workerOptions(WorkerConfig worker, EnvConfig env) {
+        WorkerOptions.Builder b = WorkerOptions.newBuilder()
+                .setMaxConcurrentWorkflowTaskPollers(orDefault(worker != null ? worker.getMaxConcurrentWorkflowTaskPollers() : null,
+                        env.getMaxConcurrentWorkflowTaskPollers()))
+                .setMaxConcurrentActivityTaskPollers(orDefault(worker != null ? worker.getMaxConcurrentActivityTaskPollers() : null,
+                        env.getMaxConcurrentActivityTaskPollers()));
+        if (worker == null) {
+            return b.validateAndBuildWithDefaults();
+        }
+        if (worker.getMaxConcurrentActivityExecutions() != null) {
+            b.setMaxConcurrentActivityExecutionSize(worker.getMaxConcurrentActivityExecutions());
+        }
+        if (worker.getMaxConcurrentWorkflowTaskExecutions() != null) {
+            b.setMaxConcurrentWorkflowTaskExecutionSize(worker.getMaxConcurrentWorkflowTaskExecutions());
+        }
+        if (worker.getMaxConcurrentLocalActivityExecutions() != null) {
+            b.setMaxConcurrentLocalActivityExecutionSize(worker.getMaxConcurrentLocalActivityExecutions());
+        }
+        if (worker.getStickyScheduleToStartTimeoutSeconds() != null) {
+            b.setStickyQueueScheduleToStartTimeout(Duration.ofSeconds(worker.getStickyScheduleToStartTimeoutSeconds()));
+        }
+        if (worker.getMaxWorkerActivitiesPerSecond() != null) {
+            b.setMaxWorkerActivitiesPerSecond(worker.getMaxWorkerActivitiesPerSecond());
+        }
+        if (worker.getMaxTaskQueueActivitiesPerSecond() != null) {
+            b.setMaxTaskQueueActivitiesPerSecond(worker.getMaxTaskQueueActivitiesPerSecond());
+        }
+        return b.validateAndBuildWithDefaults();
+    }
+
+    /** Process-wide factory options (workflow cache and thread pool are shared by every queue). */
+    public static WorkerFactoryOptions factoryOptions(WorkerConfig worker) {
+        WorkerFactoryOptions.Builder b = WorkerFactoryOptions.newBuilder();
+        if (worker != null && worker.getWorkflowCacheSize() != null) {
+            b.setWorkflowCacheSize(worker.getWorkflowCacheSize());
+        }
+        if (worker != null && worker.getMaxWorkflowThreadCount() != null) {
+            b.setMaxWorkflowThreadCount(worker.getMaxWorkflowThreadCount());
+        }
+        return b.validateAndBuildWithDefaults();
+    }
+
+    /** Log effective per-queue slots, process totals and the shared workflow cache. */
+    public static void logCapacity(WorkerFactoryOptions factoryOptions, Map<String, WorkerOptions> optionsByQueue) {
+        int activities = 0;
+        int workflowTasks = 0;
+        int localActivities = 0;
+        for (Map.Entry<String, WorkerOptions> e : optionsByQueue.entrySet()) {
+            WorkerOptions o = e.getValue();
+            log.info("Worker capacity [{}]: activities={}, workflowTasks={}, localActivities={}, pollers(wf/act)={}/{}, "
+                            + "activitiesPerSecond(worker/queue)={}/{}, stickyScheduleToStart={}",
+                    e.getKey(), o.getMaxConcurrentActivityExecutionSize(), o.getMaxConcurrentWorkflowTaskExecutionSize(),
+                    o.getMaxConcurrentLocalActivityExecutionSize(), o.getMaxConcurrentWorkflowTaskPollers(),
+                    o.getMaxConcurrentActivityTaskPollers(), rate(o.getMaxWorkerActivitiesPerSecond()),
+                    rate(o.getMaxTaskQueueActivitiesPerSecond()), o.getStickyQueueScheduleToStartTimeout());
+            activities += o.getMaxConcurrentActivityExecutionSize();
+            workflowTasks += o.getMaxConcurrentWorkflowTaskExecutionSize();
+            localActivities += o.getMaxConcurrentLocalActivityExecutionSize();
+        }
+        log.info("Worker capacity [total, {} queue(s)]: activities={}, workflowTasks={}, localActivities={}, workflowCache={}, workflowThreads={}",
+                optionsByQueue.size(), activities, workflowTasks, localActivities,
+                factoryOptions.getWorkflowCacheSize(), factoryOptions.getMaxWorkflowThreadCount());
+        if (factoryOptions.getWorkflowCacheSize() > factoryOptions.getMaxWorkflowThreadCount()) {
+            log.warn("workflowCacheSize ({}) exceeds maxWorkflowThreadCount ({}); cached workflows will be evicted for lack of threads.",
+                    factoryOptions.getWorkflowCacheSize(), factoryOptions.getMaxWorkflowThreadCount());
+        }
+    }
+
+    private static int orDefault(Integer value, int defaultValue) {
+        return value != null ? value : defaultValue;
+    }
+
+    private static String rate(double perSecond) {
+        return perSecond > 0 ? String.valueOf(perSecond) : "unlimited";
+    }
+}
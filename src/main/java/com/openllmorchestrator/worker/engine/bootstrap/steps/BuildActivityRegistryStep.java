@@ -19,13 +19,23 @@ import com.openllmorchestrator.worker.contract.CapabilityHandler;
 import com.openllmorchestrator.worker.engine.bootstrap.BootstrapContext;
 import com.openllmorchestrator.worker.engine.bootstrap.BootstrapStep;
 import com.openllmorchestrator.worker.engine.capability.activity.ActivityRegistry;
+import com.openllmorchestrator.worker.engine.capability.handler.cache.SemanticCacheLookupHandler;
+import com.openllmorchestrator.worker.engine.capability.handler.cache.SemanticCacheStoreHandler;
 import com.openllmorchestrator.worker.engine.capability.handler.merge.AllModelsResponseFormatMergeHandler;
 import com.openllmorchestrator.worker.engine.capability.handler.merge.FirstWinsMergeHandler;
 import com.openllmorchestrator.worker.engine.capability.handler.merge.LastWinsMergeHandler;
 import com.openllmorchestrator.worker.engine.capability.handler.merge.PrefixByActivityMergeHandler;
+import com.openllmorchestrator.worker.engine.config.EngineConfigRuntime;
+import com.openllmorchestrator.worker.engine.config.EngineFileConfig;
+import com.openllmorchestrator.worker.engine.config.FeatureFlag;
+import com.openllmorchestrator.worker.engine.config.semantic.SemanticCacheConfig;
+import com.openllmorchestrator.worker.engine.semantic.Embedder;
+import com.openllmorchestrator.worker.engine.semantic.HashingEmbedder;
+import com.openllmorchestrator.worker.engine.semantic.PluginEmbedder;
+import com.openllmorchestrator.worker.engine.semantic.SemanticCache;
 
 /**
- * Registers in-engine handlers only (merge policies). All capability plugins (LLM, retrieval, etc.)
+ * Registers in-engine handlers only (merge policies; semantic cache lookup/store when SEMANTIC_CACHE is enabled). All capability plugins (LLM, retrieval, etc.)
  * are discovered in LoadDynamicPluginsStep from the classpath (compile-time plugins in the same worker JAR)
  * and optionally from config dynamicPlugins/dynamicPluginJars (runtime JARs).
  */
@@ -38,13 +48,28 @@ public final class BuildActivityRegistryStep implements BootstrapStep {
         CapabilityHandler prefixByActivity = new PrefixByActivityMergeHandler();
         CapabilityHandler allModelsFormat = new AllModelsResponseFormatMergeHandler();
 
-        ActivityRegistry registry = ActivityRegistry.builder()
+        ActivityRegistry.Builder builder = ActivityRegistry.builder()
                 .register(LastWinsMergeHandler.NAME, lastWins)
                 .register(FirstWinsMergeHandler.NAME, firstWins)
                 .register(PrefixByActivityMergeHandler.NAME, prefixByActivity)
-                .register(AllModelsResponseFormatMergeHandler.NAME, allModelsFormat)
-                .build();
+                .register(AllModelsResponseFormatMergeHandler.NAME, allModelsFormat);
 
-        ctx.setActivityRegistry(registry);
+        EngineFileConfig config = ctx.getConfig();
+        if (config != null && EngineConfigRuntime.getFeatureFlagsEffective(config).isEnabled(FeatureFlag.SEMANTIC_CACHE)) {
+            SemanticCache semanticCache = new SemanticCache(config.getSemanticCacheEffective(),
+                    embedder(config.getSemanticCacheEffective(), ctx.getQueueName()));
+            builder.register(SemanticCacheLookupHandler.NAME, new SemanticCacheLookupHandler(semanticCache))
+                    .register(SemanticCacheStoreHandler.NAME, new SemanticCacheStoreHandler(semanticCache));
+        }
+
+        ctx.setActivityRegistry(builder.build());
+    }
+
+    private static Embedder embedder(SemanticCacheConfig config, String queueName) {
+        String name = config.getEmbedder();
+        if (name == null || name.isBlank() || SemanticCacheConfig.HASHING.equalsIgnoreCase(name)) {
+            return new HashingEmbedder(config.getDimensions() != null ? config.getDimensions() : 256);
+        }
+        return new PluginEmbedder(queueName, name);
     }
 }
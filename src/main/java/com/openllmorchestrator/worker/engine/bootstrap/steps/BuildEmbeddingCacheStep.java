@@ -0,0 +1,38 @@
+/*
+ * Copyright 2026 Open LLM Orchestrator contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.openllmorchestrator.worker.engine.bootstrap.steps;
+
+import com.openllmorchestrator.worker.engine.bootstrap.BootstrapContext;
+import com.openllmorchestrator.worker.engine.bootstrap.BootstrapStep;
+import com.openllmorchestrator.worker.engine.config.EngineConfigRuntime;
+import com.openllmorchestrator.worker.engine.config.EngineFileConfig;
+import com.openllmorchestrator.worker.engine.config.FeatureFlag;
+import com.openllmorchestrator.worker.engine.embedding.TieredEmbeddingCache;
+import com.openllmorchestrator.worker.engine.runtime.EngineRuntime;
+
+/** Step: when EMBEDDING_CACHE is enabled, create the embedding cache that activities hand to plugins. */
+public final class BuildEmbeddingCacheStep implements BootstrapStep {
+    @Override
+    public void run(BootstrapContext ctx) {
+        String queueName = ctx.getQueueName() != null && !ctx.getQueueName().isBlank() ? ctx.getQueueName() : "default";
+        EngineFileConfig config = ctx.getConfig();
+        if (config == null || !EngineConfigRuntime.getFeatureFlagsEffective(config).isEnabled(FeatureFlag.EMBEDDING_CACHE)) {
+            EngineRuntime.setEmbeddingCache(queueName, null);
+            return;
+        }
+        EngineRuntime.setEmbeddingCache(queueName, new TieredEmbeddingCache(config.getEmbeddingCacheEffective(), config.getRedis()));
+    }
+}
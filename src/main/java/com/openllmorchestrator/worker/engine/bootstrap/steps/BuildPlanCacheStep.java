@@ -0,0 +1,43 @@
+/*
+ * Copyright 2026 Open LLM Orchestrator contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.openllmorchestrator.worker.engine.bootstrap.steps;
+
+import com.openllmorchestrator.worker.engine.bootstrap.BootstrapContext;
+import com.openllmorchestrator.worker.engine.bootstrap.BootstrapStep;
+import com.openllmorchestrator.worker.engine.capability.activity.ActivityRegistry;
+import com.openllmorchestrator.worker.engine.config.EngineConfigRuntime;
+import com.openllmorchestrator.worker.engine.config.EngineFileConfig;
+import com.openllmorchestrator.worker.engine.config.FeatureFlag;
+import com.openllmorchestrator.worker.engine.plan.PlanCache;
+import com.openllmorchestrator.worker.engine.runtime.EngineRuntime;
+
+import java.util.List;
+
+/** Step: when PLAN_CACHE is enabled, create the plan cache keyed on the plugins' required fields and tools. */
+public final class BuildPlanCacheStep implements BootstrapStep {
+    @Override
+    public void run(BootstrapContext ctx) {
+        String queueName = ctx.getQueueName() != null && !ctx.getQueueName().isBlank() ? ctx.getQueueName() : "default";
+        EngineFileConfig config = ctx.getConfig();
+        if (config == null || !EngineConfigRuntime.getFeatureFlagsEffective(config).isEnabled(FeatureFlag.PLAN_CACHE)) {
+            EngineRuntime.setPlanCache(queueName, null);
+            return;
+        }
+        ActivityRegistry registry = ctx.getCompatibleActivityRegistry();
+        EngineRuntime.setPlanCache(queueName, new PlanCache(config.getPlanCacheEffective(), config.getConfigVersion(),
+                registry != null ? registry.getHandlers().values() : List.of()));
+    }
+}
@@ -17,12 +17,16 @@ package com.openllmorchestrator.worker.engine.bootstrap.steps;
 
 import com.openllmorchestrator.worker.engine.bootstrap.BootstrapContext;
 import com.openllmorchestrator.worker.engine.bootstrap.BootstrapStep;
+import com.openllmorchestrator.worker.engine.capability.CapabilityDefinition;
+import com.openllmorchestrator.worker.engine.capability.CapabilityGroupSpec;
 import com.openllmorchestrator.worker.engine.capability.CapabilityPlan;
 import com.openllmorchestrator.worker.engine.capability.plan.CapabilityPlanFactory;
 import com.openllmorchestrator.worker.engine.config.pipeline.PipelineSection;
 import com.openllmorchestrator.worker.engine.kernel.merge.MergePolicyConfigApplicator;
 
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
@@ -46,12 +50,38 @@ public final class BuildPlanStep implements BootstrapStep {
         for (Map.Entry<String, PipelineSection> e : effective.entrySet()) {
             String name = e.getKey();
             PipelineSection section = e.getValue();
-            plans.put(name, CapabilityPlanFactory.fromPipelineSection(ctx.getConfig(), section, allowedPluginNames));
+            CapabilityPlan plan = CapabilityPlanFactory.fromPipelineSection(ctx.getConfig(), section, allowedPluginNames);
+            requireOwnQueue(ctx.getQueueName(), name, plan.getGroups());
+            plans.put(name, plan);
         }
         ctx.setPlans(plans);
         if (plans.containsKey("default")) {
             ctx.setPlan(plans.get("default"));
         }
     }
+
+    /** Every activity of a queue's plans must run on that queue; another queue may not be polled by this worker. */
+    private static void requireOwnQueue(String queueName, String pipelineName, List<CapabilityGroupSpec> groups) {
+        if (queueName == null || groups == null) {
+            return;
+        }
+        for (CapabilityGroupSpec group : groups) {
+            List<CapabilityDefinition> definitions = new ArrayList<>(group.getDefinitions());
+            if (group.getConditionDefinition() != null) {
+                definitions.add(group.getConditionDefinition());
+            }
+            for (CapabilityDefinition def : definitions) {
+                if (def.getTaskQueue() != null && !queueName.equals(def.getTaskQueue())) {
+                    throw new IllegalStateException("Pipeline '" + pipelineName + "' of queue '" + queueName
+                            + "' schedules '" + def.getName() + "' on queue '" + def.getTaskQueue() + "'");
+                }
+            }
+            if (group.getBranches() != null) {
+                for (List<CapabilityGroupSpec> branch : group.getBranches()) {
+                    requireOwnQueue(queueName, pipelineName, branch);
+                }
+            }
+        }
+    }
 }
 
@@ -17,11 +17,13 @@ package com.openllmorchestrator.worker.engine.bootstrap.steps;
 
 import com.openllmorchestrator.worker.engine.bootstrap.BootstrapContext;
 import com.openllmorchestrator.worker.engine.bootstrap.BootstrapStep;
+import com.openllmorchestrator.worker.engine.config.EngineFileConfig;
 import com.openllmorchestrator.worker.engine.config.loader.HierarchicalConfigLoader;
 import com.openllmorchestrator.worker.engine.config.source.ConfigRepository;
 import com.openllmorchestrator.worker.engine.config.source.DbConfigRepository;
 import com.openllmorchestrator.worker.engine.config.source.FileConfigRepository;
 import com.openllmorchestrator.worker.engine.config.source.RedisConfigRepository;
+import com.openllmorchestrator.worker.engine.config.worker.WorkerConfig;
 
 /**
  * Load config: Redis → DB → file. Sleep and retry until found.
@@ -43,7 +45,11 @@ public final class LoadConfigStep implements BootstrapStep {
         ConfigRepository redisRepo = new RedisConfigRepository(env.getRedis(), queueName);
         ConfigRepository dbRepo = new DbConfigRepository(env.getDatabase(), queueName);
         ConfigRepository fileRepo = new FileConfigRepository(env.getConfigFilePath(), queueName);
-        ctx.setConfig(HierarchicalConfigLoader.load(env, redisRepo, dbRepo, fileRepo));
+        EngineFileConfig config = HierarchicalConfigLoader.load(env, redisRepo, dbRepo, fileRepo);
+        // Plans schedule activities on worker.queueName: it must be the queue being bootstrapped, not QUEUE_NAME.
+        WorkerConfig worker = config.getWorker();
+        config.setWorker(WorkerConfig.merge(WorkerConfig.of(queueName, worker != null && worker.isStrictBoot()), worker));
+        ctx.setConfig(config);
     }
 }
 
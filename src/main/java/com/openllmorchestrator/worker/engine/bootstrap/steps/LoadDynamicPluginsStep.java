@@ -25,6 +25,7 @@ import com.openllmorchestrator.worker.engine.capability.activity.ActivityRegistr
 import com.openllmorchestrator.worker.engine.capability.handler.DynamicPluginWrapper;
 
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.ServiceLoader;
@@ -37,10 +38,13 @@ import java.util.ServiceLoader;
  * (3) Config dynamicPlugins (plugin name → JAR path), for explicit name→path mapping.
  * (4) Runtime plugins dir: folder from env {@code PLUGINS_DIR} (or system property {@code plugins.dir}, or {@code user.dir/plugins}), scanned for {@code *.zip} and {@code *.olo}; each archive is expanded and JARs are loaded.
  * If a JAR is missing or load fails, registers a {@link DynamicPluginWrapper} that logs and no-ops at runtime.
+ * Handler instances are shared across queues bootstrapped in the same process.
  */
 public final class LoadDynamicPluginsStep implements BootstrapStep {
 
     private static final String WORKER_PLUGIN_PACKAGE_PREFIX = "com.openllmorchestrator.worker.plugin.";
+    /** Classpath handlers are discovered once per process and shared by every queue bootstrapped in it. */
+    private static volatile List<CapabilityHandler> classpathHandlers;
 
     @Override
     public void run(BootstrapContext ctx) {
@@ -53,7 +57,7 @@ public final class LoadDynamicPluginsStep implements BootstrapStep {
         String pluginRepoPrefix = config != null ? config.getPluginRepoPackagePrefix() : null;
 
         // (1) Compile-time plugins: discover from classpath (same worker JAR / fat JAR)
-        ServiceLoader.load(CapabilityHandler.class).forEach(handler ->
+        classpathHandlers().forEach(handler ->
                 registerHandler(builder, handler, pluginRepoPrefix));
 
         if (config != null) {
@@ -87,6 +91,22 @@ public final class LoadDynamicPluginsStep implements BootstrapStep {
         ctx.setActivityRegistry(builder.build());
     }
 
+    private static List<CapabilityHandler> classpathHandlers() {
+        List<CapabilityHandler> handlers = classpathHandlers;
+        if (handlers == null) {
+            synchronized (LoadDynamicPluginsStep.class) {
+                handlers = classpathHandlers;
+                if (handlers == null) {
+                    List<CapabilityHandler> found = new ArrayList<>();
+                    ServiceLoader.load(CapabilityHandler.class).forEach(found::add);
+                    handlers = List.copyOf(found);
+                    classpathHandlers = handlers;
+                }
+            }
+        }
+        return handlers;
+    }
+
     private static void registerHandler(ActivityRegistry.Builder builder, CapabilityHandler handler, String pluginRepoPackagePrefix) {
         if (handler == null) return;
         String name = handler.name();
@@ -29,7 +29,6 @@ public final class SetRuntimeStep implements BootstrapStep {
         EngineRuntime.setConfig(queueName, ctx.getConfig());
         EngineRuntime.setCapabilityPlans(queueName, ctx.getPlans());
         EngineRuntime.setFeatureFlags(queueName, EngineConfigRuntime.getFeatureFlagsEffective(ctx.getConfig()));
-        EngineRuntime.CONFIG = ctx.getConfig();
     }
 }
 
@@ -0,0 +1,92 @@
+/*
+ * Copyright 2026 Open LLM Orchestrator contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.openllmorchestrator.worker.engine.bulkhead;
+
+import com.openllmorchestrator.worker.contract.CapabilityHandler;
+import com.openllmorchestrator.worker.contract.PluginTypeDescriptor;
+import com.openllmorchestrator.worker.engine.config.bulkhead.BulkheadConfig;
+import io.temporal.failure.ApplicationFailure;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Bulkheads for one queue (BULKHEADS): picks the limiter for a capability (plugin entry, else its type's shared
+ * entry, else the default per plugin) and runs the call under a permit. A full bulkhead fails the activity with a
+ * retryable {@link ApplicationFailure} of type {@value #REJECTED_TYPE}, so Temporal retries it after backoff, possibly
+ * on another worker, instead of queueing it behind the slow downstream.
+ */
+public final class Bulkheads {
+
+    public static final String REJECTED_TYPE = "BulkheadRejected";
+
+    private final BulkheadConfig config;
+    private final Map<String, ConcurrencyLimiter> limiters = new ConcurrentHashMap<>();
+
+    public Bulkheads(BulkheadConfig config) {
+        this.config = config != null ? config : new BulkheadConfig();
+    }
+
+    /** Run {@code call} under the capability's bulkhead; runs directly when no limit applies. */
+    public <T> T call(String capabilityName, CapabilityHandler handler, Supplier<T> call) {
+        ConcurrencyLimiter limiter = limiterFor(capabilityName, handler);
+        if (limiter == null) {
+            return call.get();
+        }
+        long maxWait = config.getMaxWaitMillis() != null ? config.getMaxWaitMillis() : 0;
+        if (!limiter.tryAcquire(maxWait)) {
+            throw ApplicationFailure.newFailure("Bulkhead '" + limiter.getName() + "' is full (limit "
+                    + limiter.getLimit() + "); capability '" + capabilityName + "' rejected", REJECTED_TYPE);
+        }
+        long start = System.nanoTime();
+        boolean failed = true;
+        try {
+            T result = call.get();
+            failed = false;
+            return result;
+        } finally {
+            limiter.release(System.nanoTime() - start, failed);
+        }
+    }
+
+    /** Current limit, in-flight count and rejections per bulkhead (for logs and metrics). */
+    public Map<String, Map<String, Long>> snapshot() {
+        Map<String, Map<String, Long>> out = new LinkedHashMap<>();
+        for (ConcurrencyLimiter l : limiters.values()) {
+            out.put(l.getName(), Map.of("limit", (long) l.getLimit(), "inFlight", (long) l.getInFlight(), "rejected", l.getRejected()));
+        }
+        return out;
+    }
+
+    ConcurrencyLimiter limiterFor(String capabilityName, CapabilityHandler handler) {
+        Integer pluginLimit = config.getPlugins() != null ? config.getPlugins().get(capabilityName) : null;
+        if (pluginLimit != null && pluginLimit > 0) {
+            return limiters.computeIfAbsent("plugin:" + capabilityName, k -> new ConcurrencyLimiter(k, pluginLimit, config));
+        }
+        String type = handler instanceof PluginTypeDescriptor d ? d.getPluginType() : null;
+        Integer typeLimit = type != null && config.getCategories() != null ? config.getCategories().get(type) : null;
+        if (typeLimit != null && typeLimit > 0) {
+            return limiters.computeIfAbsent("type:" + type, k -> new ConcurrencyLimiter(k, typeLimit, config));
+        }
+        Integer defaultLimit = config.getDefaultLimit();
+        if (defaultLimit != null && defaultLimit > 0 && capabilityName != null) {
+            return limiters.computeIfAbsent("plugin:" + capabilityName, k -> new ConcurrencyLimiter(k, defaultLimit, config));
+        }
+        return null;
+    }
+}
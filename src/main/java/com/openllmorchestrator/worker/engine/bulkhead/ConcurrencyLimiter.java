@@ -0,0 +1,160 @@
+/*
+ * Copyright 2026 Open LLM Orchestrator contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.openllmorchestrator.worker.engine.bulkhead;
+
+import com.openllmorchestrator.worker.engine.config.bulkhead.BulkheadConfig;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Concurrency limit for one bulkhead. FIXED keeps the configured limit. AIMD cuts the limit by {@code backoffRatio}
+ * when a call fails or exceeds the latency threshold and adds one when the bulkhead is at least half busy.
+ * GRADIENT tracks the minimum latency and moves the limit toward {@code limit * tolerance * minRtt / rtt + sqrt(limit)},
+ * shrinking as queueing delay grows. Uses a lock rather than monitors so virtual threads are not pinned while waiting.
+ */
+public final class ConcurrencyLimiter {
+
+    private static final int MIN_RTT_RESET_SAMPLES = 500;
+    private static final double SMOOTHING = 0.2;
+
+    private final String name;
+    private final String algorithm;
+    private final double minLimit;
+    private final double maxLimit;
+    private final long latencyThresholdNanos;
+    private final double backoffRatio;
+    private final double rttTolerance;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition released = lock.newCondition();
+    private double limit;
+    private int inFlight;
+    private long minRttNanos = Long.MAX_VALUE;
+    private int samplesSinceReset;
+    private long rejected;
+
+    public ConcurrencyLimiter(String name, int initialLimit, BulkheadConfig config) {
+        this.name = name;
+        this.algorithm = config.getAlgorithm() != null ? config.getAlgorithm().trim().toUpperCase() : BulkheadConfig.FIXED;
+        this.minLimit = Math.max(1, config.getMinLimit() != null ? config.getMinLimit() : 1);
+        this.maxLimit = Math.max(minLimit, config.getMaxLimit() != null ? config.getMaxLimit() : 256);
+        this.latencyThresholdNanos = TimeUnit.MILLISECONDS.toNanos(
+                config.getLatencyThresholdMillis() != null ? config.getLatencyThresholdMillis() : 5000);
+        this.backoffRatio = config.getBackoffRatio() != null ? config.getBackoffRatio() : 0.9;
+        this.rttTolerance = config.getRttTolerance() != null ? config.getRttTolerance() : 1.5;
+        this.limit = BulkheadConfig.FIXED.equals(algorithm)
+                ? Math.max(1, initialLimit)
+                : Math.min(maxLimit, Math.max(minLimit, initialLimit));
+    }
+
+    /** Take a permit, waiting up to {@code maxWaitMillis}; false when the bulkhead stays full. */
+    public boolean tryAcquire(long maxWaitMillis) {
+        lock.lock();
+        try {
+            long remaining = TimeUnit.MILLISECONDS.toNanos(Math.max(0, maxWaitMillis));
+            while (inFlight >= currentLimit()) {
+                if (remaining <= 0) {
+                    rejected++;
+                    return false;
+                }
+                remaining = released.awaitNanos(remaining);
+            }
+            inFlight++;
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            rejected++;
+            return false;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** Return a permit and feed the call's latency (and whether it failed) to the adaptive algorithm. */
+    public void release(long latencyNanos, boolean failed) {
+        lock.lock();
+        try {
+            int busy = inFlight;
+            inFlight = Math.max(0, inFlight - 1);
+            switch (algorithm) {
+                case BulkheadConfig.AIMD -> aimd(latencyNanos, failed, busy);
+                case BulkheadConfig.GRADIENT -> gradient(latencyNanos, failed);
+                default -> { }
+            }
+            released.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void aimd(long latencyNanos, boolean failed, int busy) {
+        if (failed || latencyNanos > latencyThresholdNanos) {
+            limit = Math.max(minLimit, limit * backoffRatio);
+        } else if (busy * 2 >= limit) {
+            limit = Math.min(maxLimit, limit + 1);
+        }
+    }
+
+    private void gradient(long latencyNanos, boolean failed) {
+        if (latencyNanos <= 0) {
+            return;
+        }
+        if (++samplesSinceReset >= MIN_RTT_RESET_SAMPLES) {
+            samplesSinceReset = 0;
+            minRttNanos = latencyNanos;
+        }
+        minRttNanos = Math.min(minRttNanos, latencyNanos);
+        double gradient = failed ? 0.5 : Math.max(0.5, Math.min(1.0, rttTolerance * minRttNanos / latencyNanos));
+        double target = limit * gradient + Math.sqrt(limit);
+        limit = Math.min(maxLimit, Math.max(minLimit, limit * (1 - SMOOTHING) + target * SMOOTHING));
+    }
+
+    private int currentLimit() {
+        return (int) Math.max(1, Math.floor(limit));
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getLimit() {
+        lock.lock();
+        try {
+            return currentLimit();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getInFlight() {
+        lock.lock();
+        try {
+            return inFlight;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long getRejected() {
+        lock.lock();
+        try {
+            return rejected;
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright 2026 Open LLM Orchestrator contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.openllmorchestrator.worker.engine.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.openllmorchestrator.worker.contract.CacheableCapability;
+import com.openllmorchestrator.worker.contract.CapabilityHandler;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Stable cache keys for capability calls: SHA-256 over canonical JSON (map keys sorted) of the plugin name, the
+ * versions and the selected input values. The same inputs give the same key on every worker.
+ */
+public final class CacheKeys {
+
+    private static final ObjectMapper CANONICAL = new ObjectMapper()
+            .configure(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS, true);
+
+    private CacheKeys() {}
+
+    /**
+     * Key for {@code pluginName} over the values of {@code fields} in the original input and accumulated output
+     * (the whole maps when {@code fields} is empty); null when a value cannot be serialized.
+     */
+    public static String of(String pluginName, String version, Set<String> fields,
+                            Map<String, Object> originalInput, Map<String, Object> accumulatedOutput) {
+        Map<String, Object> material = new LinkedHashMap<>();
+        material.put("plugin", pluginName);
+        material.put("version", version != null ? version : "");
+        material.put("input", select(originalInput, fields));
+        material.put("accumulated", select(accumulatedOutput, fields));
+        try {
+            return sha256(CANONICAL.writeValueAsBytes(material));
+        } catch (JsonProcessingException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Key for a call of {@code capabilityName}: the handler's declared key fields and cache version when it is a
+     * {@link CacheableCapability}, the whole input otherwise; prefixed by the config version.
+     */
+    public static String forCapability(String capabilityName, CapabilityHandler handler, String configVersion,
+                                       Map<String, Object> originalInput, Map<String, Object> accumulatedOutput) {
+        Set<String> fields = handler instanceof CacheableCapability c ? c.getCacheKeyFields() : Set.of();
+        String version = (configVersion != null ? configVersion : "")
+                + (handler instanceof CacheableCapability c && c.getCacheVersion() != null ? "/" + c.getCacheVersion() : "");
+        return of(capabilityName, version, fields, originalInput, accumulatedOutput);
+    }
+
+    /** Hex SHA-256 of the UTF-8 text. */
+    public static String sha256(String text) {
+        return sha256(text.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static String sha256(byte[] bytes) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(bytes));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private static Map<String, Object> select(Map<String, Object> source, Set<String> fields) {
+        Map<String, Object> out = new TreeMap<>();
+        if (source == null) {
+            return out;
+        }
+        if (fields == null || fields.isEmpty()) {
+            out.putAll(source);
+            return out;
+        }
+        for (String field : fields) {
+            if (source.containsKey(field)) {
+                out.put(field, source.get(field));
+            }
+        }
+        return out;
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright 2026 Open LLM Orchestrator contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.openllmorchestrator.worker.engine.cache;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/** Size-bounded LRU map with a per-entry expiry; thread-safe. */
+public final class LruCache<K, V> {
+
+    private final int maxEntries;
+    private final LinkedHashMap<K, Entry<V>> map;
+
+    public LruCache(int maxEntries) {
+        this.maxEntries = Math.max(1, maxEntries);
+        this.map = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+                return size() > LruCache.this.maxEntries;
+            }
+        };
+    }
+
+    /** Value for the key, or null when absent or expired. */
+    public synchronized V get(K key) {
+        Entry<V> e = map.get(key);
+        if (e == null) {
+            return null;
+        }
+        if (System.nanoTime() - e.expiresAt > 0) {
+            map.remove(key);
+            return null;
+        }
+        return e.value;
+    }
+
+    public synchronized void put(K key, V value, long ttlMillis) {
+        if (ttlMillis <= 0) {
+            return;
+        }
+        map.put(key, new Entry<>(value, System.nanoTime() + ttlMillis * 1_000_000L));
+    }
+
+    public synchronized void remove(K key) {
+        map.remove(key);
+    }
+
+    public synchronized int size() {
+        return map.size();
+    }
+
+    private record Entry<V>(V value, long expiresAt) {}
+}
@@ -0,0 +1,206 @@
+/*
+ * Copyright 2026 Open LLM Orchestrator contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.openllmorchestrator.worker.engine.cache;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.openllmorchestrator.worker.contract.CacheableCapability;
+import com.openllmorchestrator.worker.contract.CapabilityHandler;
+import com.openllmorchestrator.worker.contract.CapabilityResult;
+import com.openllmorchestrator.worker.engine.config.cache.ResultCacheConfig;
+import com.openllmorchestrator.worker.engine.config.redis.RedisConfig;
+import com.openllmorchestrator.worker.engine.contract.ExecutionContext;
+import com.openllmorchestrator.worker.engine.runtime.RedisPools;
+import com.uber.m3.tally.Scope;
+import lombok.extern.slf4j.Slf4j;
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.JedisPool;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Two-tier capability result cache for one queue (RESULT_CACHE). {@link #keyFor} decides whether a call is
+ * cacheable and computes its key; {@link #get} checks the in-process LRU, then Redis (filling L1 on an L2 hit);
+ * {@link #put} stores the final output in both tiers. A plugin not known to be cacheable becomes cacheable after
+ * its first deterministic result. Redis errors are treated as misses.
+ */
+@Slf4j
+public final class ResultCache {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final TypeReference<Map<String, Object>> MAP_TYPE = new TypeReference<>() {};
+
+    private final ResultCacheConfig config;
+    private final String configVersion;
+    private final JedisPool pool;
+    private final LruCache<String, Entry> l1;
+    private final Set<String> deterministicPlugins = ConcurrentHashMap.newKeySet();
+    private final Map<String, LongAdder> hits = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> misses = new ConcurrentHashMap<>();
+
+    public ResultCache(ResultCacheConfig config, RedisConfig redis, String configVersion) {
+        this.config = config != null ? config : new ResultCacheConfig();
+        this.configVersion = configVersion != null ? configVersion : "";
+        this.pool = Boolean.TRUE.equals(this.config.getRedis()) ? RedisPools.get(redis) : null;
+        this.l1 = new LruCache<>(this.config.getL1MaxEntries() != null ? this.config.getL1MaxEntries() : 10000);
+    }
+
+    /** Cache key for this call, or null when the plugin is not (yet) cacheable or its input cannot be hashed. */
+    public String keyFor(String capabilityName, CapabilityHandler handler, ExecutionContext context) {
+        if (!isCacheable(capabilityName, handler)) {
+            return null;
+        }
+        return computeKey(capabilityName, handler, context);
+    }
+
+    /** Cached result for the key (L1, then L2), or null on a miss. */
+    public CapabilityResult get(String key, String capabilityName, Scope metrics) {
+        if (key == null) {
+            return null;
+        }
+        Entry entry = l1.get(key);
+        if (entry == null && pool != null) {
+            entry = readL2(key);
+            if (entry != null) {
+                l1.put(key, entry, l1TtlMillis(entry.ttlMillis));
+            }
+        }
+        count(entry != null ? hits : misses, capabilityName, metrics, entry != null ? "result_cache_hit" : "result_cache_miss");
+        if (entry == null) {
+            return null;
+        }
+        return CapabilityResult.builder()
+                .capabilityName(capabilityName)
+                .output(new HashMap<>(entry.output))
+                .requestPipelineBreak(entry.requestPipelineBreak)
+                .deterministic(true)
+                .build();
+    }
+
+    /**
+     * Store the call's final output (the context's current output, else the handler result's output). {@code key} may
+     * be null for a plugin that just returned its first deterministic result; the key is computed then.
+     */
+    public void put(String key, String capabilityName, CapabilityHandler handler, ExecutionContext context, CapabilityResult handlerResult) {
+        if (key == null) {
+            if (handlerResult == null || !handlerResult.isDeterministic() || !Boolean.TRUE.equals(config.getCacheDeterministic())) {
+                return;
+            }
+            deterministicPlugins.add(capabilityName);
+            key = computeKey(capabilityName, handler, context);
+            if (key == null) {
+                return;
+            }
+        }
+        Map<String, Object> output = context.getCurrentPluginOutput() != null && !context.getCurrentPluginOutput().isEmpty()
+                ? context.getCurrentPluginOutput()
+                : (handlerResult != null && handlerResult.getOutput() != null ? handlerResult.getOutput() : Map.<String, Object>of());
+        boolean requestBreak = context.isPipelineBreakRequested() || (handlerResult != null && handlerResult.isRequestPipelineBreak());
+        long ttlMillis = ttlMillis(handler);
+        Entry entry = new Entry(Collections.unmodifiableMap(new HashMap<>(output)), requestBreak, ttlMillis);
+        l1.put(key, entry, l1TtlMillis(ttlMillis));
+        if (pool != null) {
+            writeL2(key, entry);
+        }
+    }
+
+    /** Hits, misses and hit rate per capability, plus the L1 size (for logs and metrics). */
+    public Map<String, Object> snapshot() {
+        Map<String, Object> out = new LinkedHashMap<>();
+        out.put("l1Size", l1.size());
+        Set<String> names = new TreeSet<>(hits.keySet());
+        names.addAll(misses.keySet());
+        for (String name : names) {
+            long h = hits.containsKey(name) ? hits.get(name).sum() : 0;
+            long m = misses.containsKey(name) ? misses.get(name).sum() : 0;
+            out.put(name, Map.of("hits", h, "misses", m, "hitRate", h + m == 0 ? 0.0 : (double) h / (h + m)));
+        }
+        return out;
+    }
+
+    private boolean isCacheable(String capabilityName, CapabilityHandler handler) {
+        return handler instanceof CacheableCapability
+                || (config.getPlugins() != null && config.getPlugins().contains(capabilityName))
+                || deterministicPlugins.contains(capabilityName);
+    }
+
+    private String computeKey(String capabilityName, CapabilityHandler handler, ExecutionContext context) {
+        return CacheKeys.forCapability(capabilityName, handler, configVersion, context.getOriginalInput(), context.getAccumulatedOutput());
+    }
+
+    private long ttlMillis(CapabilityHandler handler) {
+        if (handler instanceof CacheableCapability c && c.getCacheTtlSeconds() > 0) {
+            return c.getCacheTtlSeconds() * 1000L;
+        }
+        return (config.getTtlSeconds() != null ? config.getTtlSeconds() : 300) * 1000L;
+    }
+
+    private long l1TtlMillis(long ttlMillis) {
+        return config.getL1TtlSeconds() != null ? Math.min(ttlMillis, config.getL1TtlSeconds() * 1000L) : ttlMillis;
+    }
+
+    private Entry readL2(String key) {
+        try (Jedis jedis = pool.getResource()) {
+            byte[] raw = jedis.get(redisKey(key));
+            if (raw == null) {
+                return null;
+            }
+            Map<String, Object> stored = MAPPER.readValue(raw, MAP_TYPE);
+            @SuppressWarnings("unchecked")
+            Map<String, Object> output = stored.get("output") instanceof Map<?, ?> m ? (Map<String, Object>) m : Map.of();
+            long ttl = jedis.pttl(redisKey(key));
+            return new Entry(output, Boolean.TRUE.equals(stored.get("requestPipelineBreak")), ttl > 0 ? ttl : 0);
+        } catch (Exception e) {
+            log.warn("Result cache: Redis read failed for {}: {}", key, e.getMessage());
+            return null;
+        }
+    }
+
+    private void writeL2(String key, Entry entry) {
+        try (Jedis jedis = pool.getResource()) {
+            byte[] raw = MAPPER.writeValueAsBytes(Map.of("output", entry.output, "requestPipelineBreak", entry.requestPipelineBreak));
+            int max = config.getMaxValueBytes() != null ? config.getMaxValueBytes() : 1_048_576;
+            if (raw.length > max) {
+                return;
+            }
+            jedis.psetex(redisKey(key), Math.max(1, entry.ttlMillis), raw);
+        } catch (Exception e) {
+            log.warn("Result cache: Redis write failed for {}: {}", key, e.getMessage());
+        }
+    }
+
+    private byte[] redisKey(String key) {
+        String prefix = config.getKeyPrefix() != null ? config.getKeyPrefix() : "olo:cache:";
+        return (prefix + key).getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static void count(Map<String, LongAdder> counters, String capabilityName, Scope metrics, String metric) {
+        counters.computeIfAbsent(capabilityName, k -> new LongAdder()).increment();
+        if (metrics != null) {
+            metrics.tagged(Map.of("capability", capabilityName)).counter(metric).inc(1);
+        }
+    }
+
+    private record Entry(Map<String, Object> output, boolean requestPipelineBreak, long ttlMillis) {}
+}
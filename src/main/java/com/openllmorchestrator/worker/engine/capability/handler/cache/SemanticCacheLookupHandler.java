@@ -0,0 +1,69 @@
+/*
+ * Copyright 2026 Open LLM Orchestrator contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.openllmorchestrator.worker.engine.capability.handler.cache;
+
+import com.openllmorchestrator.worker.contract.CapabilityHandler;
+import com.openllmorchestrator.worker.contract.CapabilityResult;
+import com.openllmorchestrator.worker.contract.PluginContext;
+import com.openllmorchestrator.worker.engine.semantic.SemanticCache;
+import com.openllmorchestrator.worker.engine.semantic.SemanticMatch;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Semantic cache lookup: place before MODEL. On a hit writes the cached answer keys plus {@code semanticCacheHit}
+ * and {@code semanticCacheScore}, and breaks the pipeline so MODEL and later stages are skipped. Without a question
+ * or a complete namespace it reports a miss.
+ */
+public final class SemanticCacheLookupHandler implements CapabilityHandler {
+
+    public static final String NAME = "SEMANTIC_CACHE_LOOKUP";
+
+    private final SemanticCache cache;
+
+    public SemanticCacheLookupHandler(SemanticCache cache) {
+        this.cache = cache;
+    }
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    public CapabilityResult execute(PluginContext context) {
+        String question = SemanticCacheStoreHandler.question(cache, context);
+        String namespace = cache.namespace(context.getOriginalInput(), context.getAccumulatedOutput());
+        Map<String, Object> out = new HashMap<>();
+        if (question != null && namespace != null) {
+            SemanticMatch match = cache.lookup(namespace, cache.embed(question));
+            if (match != null) {
+                out.putAll(match.answer());
+                out.put("semanticCacheScore", match.score());
+            }
+            out.put("semanticCacheHit", match != null);
+        } else {
+            out.put("semanticCacheHit", false);
+        }
+        out.forEach(context::putOutput);
+        boolean hit = Boolean.TRUE.equals(out.get("semanticCacheHit"));
+        if (hit) {
+            context.requestPipelineBreak();
+        }
+        return CapabilityResult.builder().capabilityName(NAME).output(out).requestPipelineBreak(hit).build();
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright 2026 Open LLM Orchestrator contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.openllmorchestrator.worker.engine.capability.handler.cache;
+
+import com.openllmorchestrator.worker.contract.CapabilityHandler;
+import com.openllmorchestrator.worker.contract.CapabilityResult;
+import com.openllmorchestrator.worker.contract.PluginContext;
+import com.openllmorchestrator.worker.engine.semantic.SemanticCache;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Semantic cache store: place after MODEL. Records the configured answer keys from the accumulated output against
+ * the question, in the same namespace the lookup uses. Skipped when the answer came from the cache or the namespace
+ * is incomplete.
+ */
+public final class SemanticCacheStoreHandler implements CapabilityHandler {
+
+    public static final String NAME = "SEMANTIC_CACHE_STORE";
+
+    private final SemanticCache cache;
+
+    public SemanticCacheStoreHandler(SemanticCache cache) {
+        this.cache = cache;
+    }
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    public CapabilityResult execute(PluginContext context) {
+        Map<String, Object> acc = context.getAccumulatedOutput();
+        String question = question(cache, context);
+        String namespace = cache.namespace(context.getOriginalInput(), acc);
+        boolean stored = false;
+        if (question != null && namespace != null && !Boolean.TRUE.equals(acc.get("semanticCacheHit"))) {
+            Map<String, Object> answer = new HashMap<>();
+            List<String> keys = cache.getConfig().getAnswerKeys();
+            if (keys != null) {
+                for (String key : keys) {
+                    Object v = acc.get(key);
+                    if (v != null) {
+                        answer.put(key, v);
+                    }
+                }
+            }
+            if (!answer.isEmpty()) {
+                cache.store(namespace, cache.embed(question), answer);
+                stored = true;
+            }
+        }
+        return CapabilityResult.builder().capabilityName(NAME).output(Map.of("semanticCacheStored", stored)).build();
+    }
+
+    /** Question text from the configured input key; null when absent or blank. */
+    static String question(SemanticCache cache, PluginContext context) {
+        String key = cache.getConfig().getQuestionKey() != null ? cache.getConfig().getQuestionKey() : "question";
+        Object q = context.getOriginalInput().get(key);
+        return q != null && !q.toString().isBlank() ? q.toString() : null;
+    }
+}
@@ -18,6 +18,8 @@ package com.openllmorchestrator.worker.engine.capability.plan;
 import com.openllmorchestrator.worker.engine.config.activity.ActivityDefaultsConfig;
 import com.openllmorchestrator.worker.engine.config.activity.RetryPolicyConfig;
 import com.openllmorchestrator.worker.engine.config.pipeline.NodeConfig;
+import com.openllmorchestrator.worker.engine.capability.CapabilityDefinition;
+import com.openllmorchestrator.worker.engine.capability.CapabilityExecutionKind;
 import com.openllmorchestrator.worker.engine.capability.CapabilityRetryOptions;
 
 import java.time.Duration;
@@ -45,6 +47,19 @@ final class ActivityOptionsFromConfig {
         return seconds != null && seconds > 0 ? Duration.ofSeconds(seconds) : null;
     }
 
+    static Duration heartbeatTimeout(NodeConfig node, PlanBuildContext ctx) {
+        Integer seconds = node != null && node.getHeartbeatTimeoutSeconds() != null
+                ? node.getHeartbeatTimeoutSeconds()
+                : (ctx.getActivityDefaults().getDefaultTimeouts() != null
+                ? ctx.getActivityDefaults().getDefaultTimeouts().getHeartbeatTimeoutSeconds()
+                : null);
+        return seconds != null && seconds > 0 ? Duration.ofSeconds(seconds) : null;
+    }
+
+    static Duration hedgeDelay(Integer millis) {
+        return millis != null && millis > 0 ? Duration.ofMillis(millis) : null;
+    }
+
     static CapabilityRetryOptions retryOptions(NodeConfig node, PlanBuildContext ctx) {
         RetryPolicyConfig c = node != null && node.getRetryPolicy() != null
                 ? node.getRetryPolicy()
@@ -54,6 +69,28 @@ final class ActivityOptionsFromConfig {
         return fromRetryPolicyConfig(c);
     }
 
+    /** Node override (PLUGIN or GROUP executionKind) else the kind inherited from the enclosing group. */
+    static CapabilityExecutionKind executionKind(String configured, PlanBuildContext ctx) {
+        return configured != null && !configured.isBlank()
+                ? CapabilityExecutionKind.fromConfig(configured)
+                : ctx.getDefaultExecutionKind();
+    }
+
+    static Duration localRetryThreshold(PlanBuildContext ctx) {
+        Integer seconds = ctx.getActivityDefaults().getDefaultTimeouts() != null
+                ? ctx.getActivityDefaults().getDefaultTimeouts().getLocalRetryThresholdSeconds()
+                : null;
+        return seconds != null && seconds > 0 ? Duration.ofSeconds(seconds) : null;
+    }
+
+    /** Sets execution kind and, for LOCAL, the local retry threshold on a definition being built. */
+    static CapabilityDefinition.CapabilityDefinitionBuilder applyExecutionKind(CapabilityDefinition.CapabilityDefinitionBuilder b,
+                                                                            String configured, PlanBuildContext ctx) {
+        CapabilityExecutionKind kind = executionKind(configured, ctx);
+        return b.executionKind(kind)
+                .localRetryThreshold(kind == CapabilityExecutionKind.LOCAL ? localRetryThreshold(ctx) : null);
+    }
+
     /** Build CapabilityRetryOptions from engine-config RetryPolicyConfig (engine-model has no config dependency). */
     static CapabilityRetryOptions fromRetryPolicyConfig(RetryPolicyConfig c) {
         if (c == null) return null;
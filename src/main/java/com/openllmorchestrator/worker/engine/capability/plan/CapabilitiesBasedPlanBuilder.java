@@ -29,6 +29,7 @@ import com.openllmorchestrator.worker.engine.capability.CapabilityGroupSpec;
 import com.openllmorchestrator.worker.engine.capability.CapabilityPlan;
 import com.openllmorchestrator.worker.engine.capability.CapabilityPlanBuilder;
 import com.openllmorchestrator.worker.engine.capability.CapabilityRetryOptions;
+import com.openllmorchestrator.worker.engine.expression.CompiledExpressions;
 
 import java.time.Duration;
 import java.util.ArrayList;
@@ -93,6 +94,7 @@ public final class CapabilitiesBasedPlanBuilder {
 
     private static void processGroup(GroupConfig group, PipelineSection section, PlanBuildContext ctx, CapabilityPlanBuilder builder, int depth) {
         if (group == null) return;
+        ctx = ctx.withDefaultExecutionKind(group.getExecutionKind());
         int effectiveMax = group.getMaxDepth() != null ? group.getMaxDepth() : ctx.getDefaultMaxGroupDepth();
         if (depth >= effectiveMax) {
             throw new IllegalStateException("Group recursion depth " + depth + " exceeds max " + effectiveMax);
@@ -105,6 +107,11 @@ public final class CapabilitiesBasedPlanBuilder {
         Duration scheduleToClose = ActivityOptionsFromConfig.scheduleToClose(null, ctx);
         CapabilityRetryOptions retryOptions = ActivityOptionsFromConfig.retryOptions(null, ctx);
 
+        if (group.isTransform()) {
+            builder.addTransform(TransformNodeProcessor.definition(TransformNodeProcessor.DEFAULT_NAME, ctx, null),
+                    TransformNodeProcessor.compileAll(group.getTransform(), TransformNodeProcessor.DEFAULT_NAME), null);
+            return;
+        }
         if (group.isConditional()) {
             processConditionalGroup(group, section, ctx, builder, depth, timeoutSeconds, timeout, scheduleToStart, scheduleToClose, retryOptions);
             return;
@@ -117,18 +124,20 @@ public final class CapabilitiesBasedPlanBuilder {
             String mergePolicyName = resolveMergePolicyName(
                     group.getMergePolicy(), group.getAsyncOutputMergePolicy(),
                     section != null ? section.getMergePolicy() : null);
-            builder.addAsyncGroup(
-                    activityNames,
-                    timeout,
-                    ctx.getTaskQueue(),
-                    scheduleToStart,
-                    scheduleToClose,
-                    retryOptions,
-                    policy,
-                    mergePolicyName,
-                    ctx.getCurrentCapabilityBucketName()
-            );
+            CapabilityDefinition.CapabilityDefinitionBuilder template = CapabilityDefinition.builder()
+                    .taskQueue(ctx.getTaskQueue())
+                    .timeout(timeout)
+                    .scheduleToStartTimeout(scheduleToStart)
+                    .scheduleToCloseTimeout(scheduleToClose)
+                    .heartbeatTimeout(ActivityOptionsFromConfig.heartbeatTimeout(null, ctx))
+                    .hedge(group.getHedge())
+                    .hedgeDelay(ActivityOptionsFromConfig.hedgeDelay(group.getHedgeDelayMillis()))
+                    .retryOptions(retryOptions)
+                    .capabilityBucketName(ctx.getCurrentCapabilityBucketName());
+            builder.addAsyncGroup(activityNames, ActivityOptionsFromConfig.applyExecutionKind(template, null, ctx).build(),
+                    policy, mergePolicyName, group.getMaxConcurrency());
         } else {
+            String streamGroup = Boolean.TRUE.equals(group.getStreamThrough()) ? streamGroupId(group, depth) : null;
             for (Object child : group.getChildrenAsList()) {
                 if (child instanceof String) {
                     String name = ((String) child).trim();
@@ -138,16 +147,11 @@ public final class CapabilitiesBasedPlanBuilder {
                                     "Plugin not allowed or incompatible: " + name
                                             + ". Add it to config.plugins and ensure contract compatibility.");
                         }
-                        builder.addSyncWithCustomConfig(
-                                name,
-                                CapabilityExecutionMode.SYNC,
-                                timeout,
-                                ctx.getTaskQueue(),
-                                scheduleToStart,
-                                scheduleToClose,
-                                retryOptions,
-                                ctx.getCurrentCapabilityBucketName()
-                        );
+                        builder.addSyncDefinition(syncDefinition(name, timeout, scheduleToStart, scheduleToClose,
+                                retryOptions, Boolean.TRUE.equals(group.getFusable()), streamGroup, ctx).toBuilder()
+                                .hedge(group.getHedge())
+                                .hedgeDelay(ActivityOptionsFromConfig.hedgeDelay(group.getHedgeDelayMillis()))
+                                .build(), null);
                     }
                 } else if (child instanceof Map) {
                     GroupConfig nested = MAPPER.convertValue(child, GroupConfig.class);
@@ -157,6 +161,33 @@ public final class CapabilitiesBasedPlanBuilder {
         }
     }
 
+    private static CapabilityDefinition syncDefinition(String name, Duration timeout, Duration scheduleToStart,
+                                                       Duration scheduleToClose, CapabilityRetryOptions retryOptions,
+                                                       boolean fusable, String streamGroup, PlanBuildContext ctx) {
+        return ActivityOptionsFromConfig.applyExecutionKind(CapabilityDefinition.builder()
+                .name(name)
+                .executionMode(CapabilityExecutionMode.SYNC)
+                .taskQueue(ctx.getTaskQueue())
+                .timeout(timeout)
+                .scheduleToStartTimeout(scheduleToStart)
+                .scheduleToCloseTimeout(scheduleToClose)
+                .heartbeatTimeout(ActivityOptionsFromConfig.heartbeatTimeout(null, ctx))
+                .retryOptions(retryOptions)
+                .capabilityBucketName(ctx.getCurrentCapabilityBucketName())
+                .fusable(fusable)
+                .streamGroup(streamGroup), null, ctx)
+                .build();
+    }
+
+    /** Stable id for a stream-through group within the plan: its plugin names and depth. */
+    private static String streamGroupId(GroupConfig group, int depth) {
+        StringBuilder id = new StringBuilder("stream:");
+        for (Object child : group.getChildrenAsList()) {
+            id.append(child instanceof String ? ((String) child).trim() : "group").append('>');
+        }
+        return id.append(depth).toString();
+    }
+
     private static String resolveMergePolicyName(MergePolicyConfig groupMergePolicy, String groupLegacy,
                                                   MergePolicyConfig sectionMergePolicy) {
         if (groupMergePolicy != null && groupMergePolicy.getName() != null && !groupMergePolicy.getName().isBlank()) {
@@ -198,12 +229,13 @@ public final class CapabilitiesBasedPlanBuilder {
                                                Duration scheduleToStart, Duration scheduleToClose,
                                                CapabilityRetryOptions retryOptions) {
         String conditionName = group.getCondition().trim();
-        if (ctx.getAllowedPluginNames() != null && !ctx.getAllowedPluginNames().contains(conditionName)) {
+        boolean expression = CompiledExpressions.isExpression(conditionName);
+        if (!expression && ctx.getAllowedPluginNames() != null && !ctx.getAllowedPluginNames().contains(conditionName)) {
             throw new IllegalStateException(
                     "Condition plugin not allowed or incompatible: " + conditionName
                             + ". Add it to config.plugins and ensure contract compatibility.");
         }
-        CapabilityDefinition conditionDef = CapabilityDefinition.builder()
+        CapabilityDefinition conditionDef = ActivityOptionsFromConfig.applyExecutionKind(CapabilityDefinition.builder()
                 .name(conditionName)
                 .executionMode(CapabilityExecutionMode.SYNC)
                 .group(0)
@@ -212,7 +244,7 @@ public final class CapabilitiesBasedPlanBuilder {
                 .scheduleToStartTimeout(scheduleToStart)
                 .scheduleToCloseTimeout(scheduleToClose)
                 .retryOptions(retryOptions)
-                .capabilityBucketName("CONDITION")
+                .capabilityBucketName("CONDITION"), null, ctx)
                 .build();
         List<List<CapabilityGroupSpec>> branches = new ArrayList<>();
         branches.add(group.hasThenGroup()
@@ -226,6 +258,15 @@ public final class CapabilitiesBasedPlanBuilder {
         branches.add(group.hasElseGroup()
                 ? buildBranchSpecsFromGroup(MAPPER.convertValue(group.getElseGroup(), GroupConfig.class), section, ctx, depth)
                 : buildBranchSpecsFromChildren(group.getElseChildrenSafe(), section, ctx, depth));
+        if (expression) {
+            List<String> elseifConditions = new ArrayList<>();
+            for (ElseIfBranchConfig elseif : group.getElseifBranchesSafe()) {
+                elseifConditions.add(elseif.getCondition());
+            }
+            builder.addExpressionConditionalGroup(ExpressionConditions.definition(conditionName, ctx),
+                    ExpressionConditions.compileAll(conditionName, elseifConditions), branches);
+            return;
+        }
         builder.addConditionalGroup(conditionDef, branches);
     }
 
@@ -251,16 +292,10 @@ public final class CapabilitiesBasedPlanBuilder {
                     }
                     int timeoutSeconds = ctx.getDefaultTimeoutSeconds();
                     Duration timeout = Duration.ofSeconds(timeoutSeconds);
-                    branchBuilder.addSyncWithCustomConfig(
-                            name,
-                            CapabilityExecutionMode.SYNC,
-                            timeout,
-                            ctx.getTaskQueue(),
+                    branchBuilder.addSyncDefinition(syncDefinition(name, timeout,
                             ActivityOptionsFromConfig.scheduleToStart(null, ctx),
                             ActivityOptionsFromConfig.scheduleToClose(null, ctx),
-                            ActivityOptionsFromConfig.retryOptions(null, ctx),
-                            ctx.getCurrentCapabilityBucketName()
-                    );
+                            ActivityOptionsFromConfig.retryOptions(null, ctx), false, null, ctx), null);
                 }
             } else if (child instanceof Map) {
                 GroupConfig nested = MAPPER.convertValue(child, GroupConfig.class);
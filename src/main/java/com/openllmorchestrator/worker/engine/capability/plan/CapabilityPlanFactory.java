@@ -74,6 +74,7 @@ public final class
 CapabilityPlanFactory {
     private static final List<NodeProcessor> PROCESSORS = List.of(
             new PluginNodeProcessor(),
+            new TransformNodeProcessor(),
             new GroupNodeProcessor()
     );
 
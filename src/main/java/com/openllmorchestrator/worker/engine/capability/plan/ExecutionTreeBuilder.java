@@ -98,6 +98,15 @@ public final class ExecutionTreeBuilder {
         return id;
     }
 
+    /** Add an expression (transform) leaf under the current group. Returns its node id for the flat plan. */
+    public String addExpression(String name) {
+        String id = nodeId("expression", currentCapabilityName, name);
+        if (!stack.isEmpty()) {
+            stack.get(stack.size() - 1).children.add(ExecutionTreeNode.of(id, ExecutionNodeType.EXPRESSION, name));
+        }
+        return id;
+    }
+
     public List<ExecutionTreeNode> getRoots() {
         return new ArrayList<>(roots);
     }
@@ -106,7 +115,7 @@ public final class ExecutionTreeBuilder {
         return new ArrayList<>(capabilityNodeIds);
     }
 
-    /** Current group node id (when inside a group). Used by plugin processor to pass to addSyncWithCustomConfig. */
+    /** Current group node id (when inside a group). Used by plugin processor to pass to addSyncDefinition. */
     public String getCurrentGroupNodeId() {
         for (int i = stack.size() - 1; i >= 0; i--) {
             if (stack.get(i).type == ExecutionNodeType.GROUP) {
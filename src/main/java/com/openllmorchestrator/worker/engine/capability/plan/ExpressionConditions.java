@@ -0,0 +1,56 @@
+/*
+ * Copyright 2026 Open LLM Orchestrator contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.openllmorchestrator.worker.engine.capability.plan;
+
+import com.openllmorchestrator.worker.engine.capability.CapabilityDefinition;
+import com.openllmorchestrator.worker.engine.capability.CapabilityExecutionMode;
+import com.openllmorchestrator.worker.engine.expression.CompiledExpressions;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/** Shared plan-building for conditions written as expressions (then/elseif conditions compiled at bootstrap). */
+final class ExpressionConditions {
+
+    private ExpressionConditions() {}
+
+    /** Main condition plus elseif conditions, each compiled; all must be expressions when the main one is. */
+    static List<String> compileAll(String condition, List<String> elseifConditions) {
+        List<String> expressions = new ArrayList<>();
+        expressions.add(condition.trim());
+        for (String c : elseifConditions) {
+            if (!CompiledExpressions.isExpression(c)) {
+                throw new IllegalStateException("Elseif condition '" + c + "' must be an expression when the group condition is an expression ("
+                        + condition + "). Write e.g. input.flag == true instead of a bare path or plugin name.");
+            }
+            expressions.add(c.trim());
+        }
+        for (String e : expressions) {
+            CompiledExpressions.get(e);
+        }
+        return expressions;
+    }
+
+    /** Definition describing the condition node for interceptors and debug; never invoked as an activity. */
+    static CapabilityDefinition definition(String condition, PlanBuildContext ctx) {
+        return CapabilityDefinition.builder()
+                .name(condition.trim())
+                .executionMode(CapabilityExecutionMode.SYNC)
+                .taskQueue(ctx.getTaskQueue())
+                .capabilityBucketName("CONDITION")
+                .build();
+    }
+}
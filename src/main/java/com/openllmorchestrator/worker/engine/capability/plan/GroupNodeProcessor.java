@@ -24,12 +24,13 @@ import com.openllmorchestrator.worker.engine.capability.CapabilityExecutionMode;
 import com.openllmorchestrator.worker.engine.capability.CapabilityGroupSpec;
 import com.openllmorchestrator.worker.engine.capability.CapabilityPlan;
 import com.openllmorchestrator.worker.engine.capability.CapabilityPlanBuilder;
+import com.openllmorchestrator.worker.engine.expression.CompiledExpressions;
 
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 
-/** Processes GROUP nodes: SYNC = recurse children; ASYNC = one parallel group; conditional = if/elseif/else. Options from config. */
+/** Processes GROUP nodes: SYNC = recurse children; ASYNC = one parallel group; conditional = if/elseif/else (plugin or expression). Options from config. */
 public final class GroupNodeProcessor implements NodeProcessor {
     @Override
     public boolean supports(NodeConfig node) {
@@ -48,6 +49,7 @@ public final class GroupNodeProcessor implements NodeProcessor {
         if (depth >= effectiveMax) {
             throw new IllegalStateException("Group recursion depth " + depth + " exceeds max " + effectiveMax);
         }
+        ctx = ctx.withDefaultExecutionKind(node.getExecutionKind());
         if (node.isConditional()) {
             processConditional(node, ctx, builder, walker, depth, treeBuilder);
             return;
@@ -62,17 +64,18 @@ public final class GroupNodeProcessor implements NodeProcessor {
                     ? AsyncCompletionPolicy.fromConfig(node.getAsyncCompletionPolicy())
                     : ctx.getDefaultAsyncPolicy();
             String mergePolicyName = resolveMergePolicyName(node.getMergePolicy(), node.getAsyncOutputMergePolicy());
-            builder.addAsyncGroup(
-                    names,
-                    Duration.ofSeconds(timeout),
-                    ctx.getTaskQueue(),
-                    ActivityOptionsFromConfig.scheduleToStart(node, ctx),
-                    ActivityOptionsFromConfig.scheduleToClose(node, ctx),
-                    ActivityOptionsFromConfig.retryOptions(node, ctx),
-                    policy,
-                    mergePolicyName,
-                    ctx.getCurrentCapabilityBucketName()
-            );
+            CapabilityDefinition.CapabilityDefinitionBuilder template = CapabilityDefinition.builder()
+                    .taskQueue(ctx.getTaskQueue())
+                    .timeout(Duration.ofSeconds(timeout))
+                    .scheduleToStartTimeout(ActivityOptionsFromConfig.scheduleToStart(node, ctx))
+                    .scheduleToCloseTimeout(ActivityOptionsFromConfig.scheduleToClose(node, ctx))
+                    .heartbeatTimeout(ActivityOptionsFromConfig.heartbeatTimeout(node, ctx))
+                    .hedge(node.getHedge())
+                    .hedgeDelay(ActivityOptionsFromConfig.hedgeDelay(node.getHedgeDelayMillis()))
+                    .retryOptions(ActivityOptionsFromConfig.retryOptions(node, ctx))
+                    .capabilityBucketName(ctx.getCurrentCapabilityBucketName());
+            builder.addAsyncGroup(names, ActivityOptionsFromConfig.applyExecutionKind(template, null, ctx).build(),
+                    policy, mergePolicyName, node.getMaxConcurrency());
             if (treeBuilder != null) {
                 for (String name : names) {
                     treeBuilder.addPlugin(name);
@@ -83,6 +86,7 @@ public final class GroupNodeProcessor implements NodeProcessor {
             if (treeBuilder != null) {
                 treeBuilder.startGroup(node.getExecutionMode() != null ? node.getExecutionMode() : "SYNC");
             }
+            ctx = ctx.withStreamGroup(Boolean.TRUE.equals(node.getStreamThrough()) ? streamGroupId(node, depth) : null);
             for (NodeConfig child : node.getChildren()) {
                 walker.processNode(child, ctx, builder, depth + 1, treeBuilder);
             }
@@ -92,6 +96,15 @@ public final class GroupNodeProcessor implements NodeProcessor {
         }
     }
 
+    /** Stable id for a stream-through group within the plan: its plugin names and depth. */
+    private static String streamGroupId(NodeConfig node, int depth) {
+        StringBuilder id = new StringBuilder("stream:");
+        for (NodeConfig child : node.getChildren()) {
+            id.append(child.getName()).append('>');
+        }
+        return id.append(depth).toString();
+    }
+
     private static String resolveMergePolicyName(MergePolicyConfig mergePolicy, String legacyAsyncOutputMergePolicy) {
         if (mergePolicy != null && mergePolicy.getName() != null && !mergePolicy.getName().isBlank()) {
             return mergePolicy.getName();
@@ -120,13 +133,14 @@ public final class GroupNodeProcessor implements NodeProcessor {
     private void processConditional(NodeConfig node, PlanBuildContext ctx, CapabilityPlanBuilder builder, PipelineWalker walker, int depth,
                                    ExecutionTreeBuilder treeBuilder) {
         String conditionName = node.getCondition().trim();
-        if (ctx.getAllowedPluginNames() != null && !ctx.getAllowedPluginNames().contains(conditionName)) {
+        boolean expression = CompiledExpressions.isExpression(conditionName);
+        if (!expression && ctx.getAllowedPluginNames() != null && !ctx.getAllowedPluginNames().contains(conditionName)) {
             throw new IllegalStateException(
                     "Condition plugin not allowed or incompatible: " + conditionName
                             + ". Add it to config.plugins and ensure contract compatibility.");
         }
         int timeout = node.getTimeoutSeconds() != null ? node.getTimeoutSeconds() : ctx.getDefaultTimeoutSeconds();
-        CapabilityDefinition conditionDef = CapabilityDefinition.builder()
+        CapabilityDefinition conditionDef = ActivityOptionsFromConfig.applyExecutionKind(CapabilityDefinition.builder()
                 .name(conditionName)
                 .executionMode(CapabilityExecutionMode.SYNC)
                 .group(0)
@@ -135,7 +149,7 @@ public final class GroupNodeProcessor implements NodeProcessor {
                 .scheduleToStartTimeout(ActivityOptionsFromConfig.scheduleToStart(node, ctx))
                 .scheduleToCloseTimeout(ActivityOptionsFromConfig.scheduleToClose(node, ctx))
                 .retryOptions(ActivityOptionsFromConfig.retryOptions(node, ctx))
-                .capabilityBucketName("CONDITION")
+                .capabilityBucketName("CONDITION"), null, ctx)
                 .build();
         List<List<CapabilityGroupSpec>> branches = new ArrayList<>();
         branches.add(node.hasThenGroup()
@@ -149,6 +163,15 @@ public final class GroupNodeProcessor implements NodeProcessor {
         branches.add(node.hasElseGroup()
                 ? buildBranchSpecs(List.of(node.getElseGroup()), ctx, walker, depth, treeBuilder)
                 : buildBranchSpecs(node.getElseChildrenSafe(), ctx, walker, depth, treeBuilder));
+        if (expression) {
+            List<String> elseifConditions = new ArrayList<>();
+            for (ElseIfBranchNodeConfig elseif : node.getElseifBranchesSafe()) {
+                elseifConditions.add(elseif.getCondition());
+            }
+            builder.addExpressionConditionalGroup(ExpressionConditions.definition(conditionName, ctx),
+                    ExpressionConditions.compileAll(conditionName, elseifConditions), branches);
+            return;
+        }
         builder.addConditionalGroup(conditionDef, branches);
     }
 
@@ -17,6 +17,7 @@ package com.openllmorchestrator.worker.engine.capability.plan;
 
 import com.openllmorchestrator.worker.engine.config.activity.ActivityDefaultsConfig;
 import com.openllmorchestrator.worker.engine.capability.AsyncCompletionPolicy;
+import com.openllmorchestrator.worker.engine.capability.CapabilityExecutionKind;
 import lombok.Getter;
 
 import java.util.Set;
@@ -34,6 +35,10 @@ public class PlanBuildContext {
     private final String currentCapabilityBucketName;
     /** When non-null, only these plugin names may appear in the plan (compatible plugins from bootstrap). */
     private final Set<String> allowedPluginNames;
+    /** Execution kind inherited from the enclosing group (REMOTE unless a group sets LOCAL). */
+    private final CapabilityExecutionKind defaultExecutionKind;
+    /** Stream-through group id of the enclosing SYNC group; null outside stream-through groups. */
+    private final String streamGroup;
 
     public PlanBuildContext(int defaultTimeoutSeconds, String taskQueue,
                             ActivityDefaultsConfig activityDefaults,
@@ -62,6 +67,29 @@ public class PlanBuildContext {
                             int defaultMaxGroupDepth,
                             String currentCapabilityBucketName,
                             Set<String> allowedPluginNames) {
+        this(defaultTimeoutSeconds, taskQueue, activityDefaults, defaultAsyncCompletionPolicy, defaultMaxGroupDepth,
+                currentCapabilityBucketName, allowedPluginNames, CapabilityExecutionKind.REMOTE);
+    }
+
+    public PlanBuildContext(int defaultTimeoutSeconds, String taskQueue,
+                            ActivityDefaultsConfig activityDefaults,
+                            String defaultAsyncCompletionPolicy,
+                            int defaultMaxGroupDepth,
+                            String currentCapabilityBucketName,
+                            Set<String> allowedPluginNames,
+                            CapabilityExecutionKind defaultExecutionKind) {
+        this(defaultTimeoutSeconds, taskQueue, activityDefaults, defaultAsyncCompletionPolicy, defaultMaxGroupDepth,
+                currentCapabilityBucketName, allowedPluginNames, defaultExecutionKind, null);
+    }
+
+    public PlanBuildContext(int defaultTimeoutSeconds, String taskQueue,
+                            ActivityDefaultsConfig activityDefaults,
+                            String defaultAsyncCompletionPolicy,
+                            int defaultMaxGroupDepth,
+                            String currentCapabilityBucketName,
+                            Set<String> allowedPluginNames,
+                            CapabilityExecutionKind defaultExecutionKind,
+                            String streamGroup) {
         this.defaultTimeoutSeconds = defaultTimeoutSeconds;
         this.taskQueue = taskQueue;
         this.activityDefaults = activityDefaults != null ? activityDefaults : new com.openllmorchestrator.worker.engine.config.activity.ActivityDefaultsConfig();
@@ -69,6 +97,8 @@ public class PlanBuildContext {
         this.defaultMaxGroupDepth = defaultMaxGroupDepth > 0 ? defaultMaxGroupDepth : 5;
         this.currentCapabilityBucketName = currentCapabilityBucketName != null && !currentCapabilityBucketName.isBlank() ? currentCapabilityBucketName : null;
         this.allowedPluginNames = allowedPluginNames;
+        this.defaultExecutionKind = defaultExecutionKind != null ? defaultExecutionKind : CapabilityExecutionKind.REMOTE;
+        this.streamGroup = streamGroup;
     }
 
     /** Returns a new context with the given capability bucket name (for activity summary in Temporal UI). */
@@ -76,7 +106,7 @@ public class PlanBuildContext {
         return new PlanBuildContext(
                 defaultTimeoutSeconds, taskQueue, activityDefaults,
                 defaultAsyncPolicy.name(), defaultMaxGroupDepth,
-                capabilityBucketName, allowedPluginNames);
+                capabilityBucketName, allowedPluginNames, defaultExecutionKind, streamGroup);
     }
 
     /** Returns a new context with the given allowed plugin names (for compatibility check during plan build). */
@@ -84,7 +114,25 @@ public class PlanBuildContext {
         return new PlanBuildContext(
                 defaultTimeoutSeconds, taskQueue, activityDefaults,
                 defaultAsyncPolicy.name(), defaultMaxGroupDepth,
-                currentCapabilityBucketName, allowedPluginNames);
+                currentCapabilityBucketName, allowedPluginNames, defaultExecutionKind, streamGroup);
+    }
+
+    /** Returns a new context whose plugins default to the given execution kind; blank keeps the current one. */
+    public PlanBuildContext withDefaultExecutionKind(String executionKind) {
+        if (executionKind == null || executionKind.isBlank()) {
+            return this;
+        }
+        return new PlanBuildContext(
+                defaultTimeoutSeconds, taskQueue, activityDefaults,
+                defaultAsyncPolicy.name(), defaultMaxGroupDepth,
+                currentCapabilityBucketName, allowedPluginNames, CapabilityExecutionKind.fromConfig(executionKind), streamGroup);
     }
-}
 
+    /** Returns a new context whose plugins belong to the given stream-through group (null = none). */
+    public PlanBuildContext withStreamGroup(String streamGroup) {
+        return new PlanBuildContext(
+                defaultTimeoutSeconds, taskQueue, activityDefaults,
+                defaultAsyncPolicy.name(), defaultMaxGroupDepth,
+                currentCapabilityBucketName, allowedPluginNames, defaultExecutionKind, streamGroup);
+    }
+}
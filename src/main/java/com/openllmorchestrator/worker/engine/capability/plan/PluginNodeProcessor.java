@@ -16,9 +16,9 @@
 package com.openllmorchestrator.worker.engine.capability.plan;
 
 import com.openllmorchestrator.worker.engine.config.pipeline.NodeConfig;
+import com.openllmorchestrator.worker.engine.capability.CapabilityDefinition;
 import com.openllmorchestrator.worker.engine.capability.CapabilityExecutionMode;
 import com.openllmorchestrator.worker.engine.capability.CapabilityPlanBuilder;
-import com.openllmorchestrator.worker.engine.capability.CapabilityRetryOptions;
 
 import java.time.Duration;
 
@@ -49,17 +49,21 @@ public final class PluginNodeProcessor implements NodeProcessor {
             groupNodeId = treeBuilder.getCurrentGroupNodeId();
             pluginNodeId = treeBuilder.addPlugin(node.getName());
         }
-        builder.addSyncWithCustomConfig(
-                node.getName(),
-                CapabilityExecutionMode.SYNC,
-                Duration.ofSeconds(timeout),
-                ctx.getTaskQueue(),
-                ActivityOptionsFromConfig.scheduleToStart(node, ctx),
-                ActivityOptionsFromConfig.scheduleToClose(node, ctx),
-                ActivityOptionsFromConfig.retryOptions(node, ctx),
-                ctx.getCurrentCapabilityBucketName(),
-                groupNodeId,
-                pluginNodeId
-        );
+        CapabilityDefinition.CapabilityDefinitionBuilder def = CapabilityDefinition.builder()
+                .name(node.getName())
+                .executionMode(CapabilityExecutionMode.SYNC)
+                .taskQueue(ctx.getTaskQueue())
+                .timeout(Duration.ofSeconds(timeout))
+                .scheduleToStartTimeout(ActivityOptionsFromConfig.scheduleToStart(node, ctx))
+                .scheduleToCloseTimeout(ActivityOptionsFromConfig.scheduleToClose(node, ctx))
+                .heartbeatTimeout(ActivityOptionsFromConfig.heartbeatTimeout(node, ctx))
+                .hedge(node.getHedge())
+                .hedgeDelay(ActivityOptionsFromConfig.hedgeDelay(node.getHedgeDelayMillis()))
+                .retryOptions(ActivityOptionsFromConfig.retryOptions(node, ctx))
+                .capabilityBucketName(ctx.getCurrentCapabilityBucketName())
+                .pluginNodeId(pluginNodeId)
+                .fusable(Boolean.TRUE.equals(node.getFusable()))
+                .streamGroup(ctx.getStreamGroup());
+        builder.addSyncDefinition(ActivityOptionsFromConfig.applyExecutionKind(def, node.getExecutionKind(), ctx).build(), groupNodeId);
     }
 }
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2026 Open LLM Orchestrator contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.openllmorchestrator.worker.engine.capability.plan;
+
+import com.openllmorchestrator.worker.engine.capability.CapabilityDefinition;
+import com.openllmorchestrator.worker.engine.capability.CapabilityExecutionMode;
+import com.openllmorchestrator.worker.engine.capability.CapabilityPlanBuilder;
+import com.openllmorchestrator.worker.engine.config.pipeline.NodeConfig;
+import com.openllmorchestrator.worker.engine.expression.CompiledExpressions;
+
+import java.util.Map;
+
+/** Processes TRANSFORM nodes (leaf): adds one in-workflow transform group. Expressions are compiled here, at bootstrap. */
+public final class TransformNodeProcessor implements NodeProcessor {
+
+    static final String DEFAULT_NAME = "TRANSFORM";
+
+    @Override
+    public boolean supports(NodeConfig node) {
+        return node != null && node.isTransform();
+    }
+
+    @Override
+    public void process(NodeConfig node, PlanBuildContext ctx, CapabilityPlanBuilder builder, PipelineWalker walker, int depth) {
+        process(node, ctx, builder, walker, depth, null);
+    }
+
+    @Override
+    public void process(NodeConfig node, PlanBuildContext ctx, CapabilityPlanBuilder builder, PipelineWalker walker, int depth,
+                        ExecutionTreeBuilder treeBuilder) {
+        String name = node.getName() != null && !node.getName().isBlank() ? node.getName().trim() : DEFAULT_NAME;
+        String groupNodeId = null;
+        String nodeId = null;
+        if (treeBuilder != null) {
+            groupNodeId = treeBuilder.getCurrentGroupNodeId();
+            nodeId = treeBuilder.addExpression(name);
+        }
+        builder.addTransform(definition(name, ctx, nodeId), compileAll(node.getTransform(), name), groupNodeId);
+    }
+
+    static CapabilityDefinition definition(String name, PlanBuildContext ctx, String nodeId) {
+        return CapabilityDefinition.builder()
+                .name(name)
+                .executionMode(CapabilityExecutionMode.SYNC)
+                .taskQueue(ctx.getTaskQueue())
+                .capabilityBucketName(ctx.getCurrentCapabilityBucketName())
+                .pluginNodeId(nodeId)
+                .build();
+    }
+
+    /** Compile (validate and cache) every expression; fails bootstrap on a syntax error. */
+    static Map<String, String> compileAll(Map<String, String> transform, String name) {
+        if (transform == null || transform.isEmpty()) {
+            throw new IllegalStateException("TRANSFORM '" + name + "' must have a non-empty 'transform' map (output key -> expression)");
+        }
+        for (Map.Entry<String, String> e : transform.entrySet()) {
+            if (e.getKey() == null || e.getKey().isBlank()) {
+                throw new IllegalStateException("TRANSFORM '" + name + "' has a blank output key");
+            }
+            CompiledExpressions.get(e.getValue());
+        }
+        return transform;
+    }
+}
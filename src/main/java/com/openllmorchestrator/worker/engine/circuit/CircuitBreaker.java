@@ -0,0 +1,166 @@
+/*
+ * Copyright 2026 Open LLM Orchestrator contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.openllmorchestrator.worker.engine.circuit;
+
+import com.openllmorchestrator.worker.engine.config.circuit.CircuitBreakerConfig;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Count-based circuit breaker for one downstream. CLOSED records each call's outcome (failed, slow) in a ring
+ * buffer and opens when a rate reaches its threshold; OPEN rejects until the open period ends; HALF_OPEN admits a
+ * fixed number of probes, closing after that many successes and re-opening on the first failure.
+ */
+@Slf4j
+public final class CircuitBreaker {
+
+    public enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private final String name;
+    private final int failureRateThreshold;
+    private final int slowCallRateThreshold;
+    private final long slowCallNanos;
+    private final int minimumCalls;
+    private final long openNanos;
+    private final int halfOpenProbes;
+    private final boolean[] failed;
+    private final boolean[] slow;
+    private int next;
+    private int recorded;
+    private int failures;
+    private int slowCalls;
+    private State state = State.CLOSED;
+    private long openedAt;
+    private int probesStarted;
+    private int probesSucceeded;
+    private long rejected;
+    private long transitions;
+
+    public CircuitBreaker(String name, CircuitBreakerConfig config) {
+        this.name = name;
+        this.failureRateThreshold = orDefault(config.getFailureRateThreshold(), 50);
+        this.slowCallRateThreshold = orDefault(config.getSlowCallRateThreshold(), 100);
+        this.slowCallNanos = TimeUnit.MILLISECONDS.toNanos(orDefault(config.getSlowCallDurationMillis(), 60000));
+        this.minimumCalls = Math.max(1, orDefault(config.getMinimumCalls(), 10));
+        this.openNanos = TimeUnit.SECONDS.toNanos(Math.max(1, orDefault(config.getOpenSeconds(), 30)));
+        this.halfOpenProbes = Math.max(1, orDefault(config.getHalfOpenProbes(), 3));
+        int window = Math.max(minimumCalls, orDefault(config.getWindowSize(), 50));
+        this.failed = new boolean[window];
+        this.slow = new boolean[window];
+    }
+
+    /** True when the call may proceed (CLOSED, or a HALF_OPEN probe slot); false when it must be rejected. */
+    public synchronized boolean tryAcquire() {
+        if (state == State.OPEN) {
+            if (System.nanoTime() - openedAt < openNanos) {
+                rejected++;
+                return false;
+            }
+            transition(State.HALF_OPEN);
+        }
+        if (state == State.HALF_OPEN) {
+            if (probesStarted >= halfOpenProbes) {
+                rejected++;
+                return false;
+            }
+            probesStarted++;
+        }
+        return true;
+    }
+
+    /** Record the outcome of a call admitted by {@link #tryAcquire()}. */
+    public synchronized void onResult(long durationNanos, boolean failure) {
+        boolean isSlow = durationNanos >= slowCallNanos;
+        if (state == State.HALF_OPEN) {
+            if (failure || isSlow) {
+                transition(State.OPEN);
+            } else if (++probesSucceeded >= halfOpenProbes) {
+                transition(State.CLOSED);
+            }
+            return;
+        }
+        if (state != State.CLOSED) {
+            return;
+        }
+        if (recorded == failed.length) {
+            failures -= failed[next] ? 1 : 0;
+            slowCalls -= slow[next] ? 1 : 0;
+        } else {
+            recorded++;
+        }
+        failed[next] = failure;
+        slow[next] = isSlow;
+        failures += failure ? 1 : 0;
+        slowCalls += isSlow ? 1 : 0;
+        next = (next + 1) % failed.length;
+        if (recorded >= minimumCalls
+                && (failures * 100 >= failureRateThreshold * recorded || slowCalls * 100 >= slowCallRateThreshold * recorded)) {
+            transition(State.OPEN);
+        }
+    }
+
+    /** Time left in the open period (zero unless OPEN). */
+    public synchronized long remainingOpenNanos() {
+        return state == State.OPEN ? Math.max(0, openNanos - (System.nanoTime() - openedAt)) : 0;
+    }
+
+    private void transition(State to) {
+        log.warn("Circuit breaker '{}' {} -> {} (failures {}/{}, slow {}/{})", name, state, to, failures, recorded, slowCalls, recorded);
+        state = to;
+        transitions++;
+        probesStarted = 0;
+        probesSucceeded = 0;
+        if (to == State.OPEN) {
+            openedAt = System.nanoTime();
+        }
+        if (to != State.HALF_OPEN) {
+            next = 0;
+            recorded = 0;
+            failures = 0;
+            slowCalls = 0;
+        }
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+
+    public synchronized long getRejected() {
+        return rejected;
+    }
+
+    public synchronized long getTransitions() {
+        return transitions;
+    }
+
+    /** Failure rate over the current window in percent; 0 when no calls are recorded. */
+    public synchronized double getFailureRate() {
+        return recorded == 0 ? 0.0 : failures * 100.0 / recorded;
+    }
+
+    public synchronized double getSlowCallRate() {
+        return recorded == 0 ? 0.0 : slowCalls * 100.0 / recorded;
+    }
+
+    private static int orDefault(Integer value, int fallback) {
+        return value != null ? value : fallback;
+    }
+}
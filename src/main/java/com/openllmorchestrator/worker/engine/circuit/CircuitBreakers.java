@@ -0,0 +1,131 @@
+/*
+ * Copyright 2026 Open LLM Orchestrator contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.openllmorchestrator.worker.engine.circuit;
+
+import com.openllmorchestrator.worker.engine.bulkhead.Bulkheads;
+import com.openllmorchestrator.worker.engine.config.circuit.CircuitBreakerConfig;
+import com.uber.m3.tally.Scope;
+import io.temporal.failure.ApplicationFailure;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Circuit breakers for one queue (CIRCUIT_BREAKERS): one breaker per downstream (the plugin's {@code endpoints} entry,
+ * else the plugin name). While a breaker is open, calls do not reach the plugin: they fail with a non-retryable
+ * {@link ApplicationFailure} (FAIL), a retryable one whose next attempt is delayed until the breaker half-opens
+ * (RETRY_LATER), or run the configured fallback plugin (FALLBACK). Bulkhead rejections are not counted as failures.
+ * State, rates and rejections are published to the activity's metrics scope when one is given.
+ */
+public final class CircuitBreakers {
+
+    public static final String OPEN_TYPE = "CircuitBreakerOpen";
+
+    private final CircuitBreakerConfig config;
+    private final Map<String, CircuitBreaker> breakers = new ConcurrentHashMap<>();
+
+    public CircuitBreakers(CircuitBreakerConfig config) {
+        this.config = config != null ? config : new CircuitBreakerConfig();
+    }
+
+    /**
+     * Run {@code call} through the capability's breaker. When the breaker is open and a fallback plugin is configured
+     * (mode FALLBACK), {@code fallback} is invoked with the fallback plugin name instead.
+     */
+    public <T> T call(String capabilityName, Scope metrics, Supplier<T> call, Function<String, T> fallback) {
+        CircuitBreaker breaker = breakerFor(capabilityName);
+        if (!breaker.tryAcquire()) {
+            report(breaker, metrics, true);
+            return onOpen(breaker, capabilityName, fallback);
+        }
+        long start = System.nanoTime();
+        boolean failed = true;
+        boolean counted = true;
+        try {
+            T result = call.get();
+            failed = false;
+            return result;
+        } catch (ApplicationFailure e) {
+            counted = !Bulkheads.REJECTED_TYPE.equals(e.getType());
+            throw e;
+        } finally {
+            if (counted) {
+                breaker.onResult(System.nanoTime() - start, failed);
+            }
+            report(breaker, metrics, false);
+        }
+    }
+
+    /** State, failure rate, slow-call rate and rejections per breaker (for logs and metrics). */
+    public Map<String, Map<String, Object>> snapshot() {
+        Map<String, Map<String, Object>> out = new LinkedHashMap<>();
+        for (CircuitBreaker b : breakers.values()) {
+            out.put(b.getName(), Map.of("state", b.getState().name(), "failureRate", b.getFailureRate(),
+                    "slowCallRate", b.getSlowCallRate(), "rejected", b.getRejected()));
+        }
+        return out;
+    }
+
+    CircuitBreaker breakerFor(String capabilityName) {
+        String endpoint = config.getEndpoints() != null ? config.getEndpoints().get(capabilityName) : null;
+        String name = endpoint != null && !endpoint.isBlank() ? endpoint : capabilityName;
+        return breakers.computeIfAbsent(name, k -> new CircuitBreaker(k, config));
+    }
+
+    private <T> T onOpen(CircuitBreaker breaker, String capabilityName, Function<String, T> fallback) {
+        String message = "Circuit breaker '" + breaker.getName() + "' is " + breaker.getState()
+                + "; capability '" + capabilityName + "' not called";
+        String mode = config.getOnOpen() != null ? config.getOnOpen().trim().toUpperCase() : CircuitBreakerConfig.RETRY_LATER;
+        if (CircuitBreakerConfig.FALLBACK.equals(mode)) {
+            String fallbackPlugin = fallbackFor(breaker.getName(), capabilityName);
+            if (fallbackPlugin != null && fallback != null) {
+                return fallback.apply(fallbackPlugin);
+            }
+        }
+        if (CircuitBreakerConfig.FAIL.equals(mode)) {
+            throw ApplicationFailure.newNonRetryableFailure(message, OPEN_TYPE);
+        }
+        long remainingMillis = TimeUnit.NANOSECONDS.toMillis(breaker.remainingOpenNanos());
+        throw ApplicationFailure.newFailureWithCauseAndDelay(message, OPEN_TYPE, null, Duration.ofMillis(Math.max(1000, remainingMillis)));
+    }
+
+    private String fallbackFor(String breakerName, String capabilityName) {
+        Map<String, String> fallbacks = config.getFallbacks();
+        if (fallbacks == null) {
+            return null;
+        }
+        String plugin = fallbacks.get(capabilityName);
+        return plugin != null ? plugin : fallbacks.get(breakerName);
+    }
+
+    private static void report(CircuitBreaker breaker, Scope metrics, boolean rejected) {
+        if (metrics == null) {
+            return;
+        }
+        Scope scope = metrics.tagged(Map.of("breaker", breaker.getName()));
+        scope.gauge("circuit_breaker_state").update(breaker.getState().ordinal());
+        scope.gauge("circuit_breaker_failure_rate").update(breaker.getFailureRate());
+        scope.gauge("circuit_breaker_slow_call_rate").update(breaker.getSlowCallRate());
+        if (rejected) {
+            scope.counter("circuit_breaker_rejected").inc(1);
+        }
+    }
+}
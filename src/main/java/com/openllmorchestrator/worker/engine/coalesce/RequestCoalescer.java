@@ -0,0 +1,347 @@
+/*
+ * Copyright 2026 Open LLM Orchestrator contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.openllmorchestrator.worker.engine.coalesce;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.openllmorchestrator.worker.contract.CacheableCapability;
+import com.openllmorchestrator.worker.contract.CapabilityHandler;
+import com.openllmorchestrator.worker.contract.CapabilityResult;
+import com.openllmorchestrator.worker.engine.cache.CacheKeys;
+import com.openllmorchestrator.worker.engine.config.coalesce.CoalescingConfig;
+import com.openllmorchestrator.worker.engine.config.redis.RedisConfig;
+import com.openllmorchestrator.worker.engine.contract.ExecutionContext;
+import com.openllmorchestrator.worker.engine.runtime.RedisPools;
+import com.uber.m3.tally.Scope;
+import lombok.extern.slf4j.Slf4j;
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.JedisPool;
+import redis.clients.jedis.params.SetParams;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Single-flight for one queue (COALESCING). Concurrent calls with the same key (same plugin, config version and
+ * input, as for the result cache) run the plugin once: the first caller on the worker is the leader, the others wait
+ * for its result and get a copy. With Redis the local leader also takes a per-key lock, so one worker runs the call
+ * and the others read its result from Redis. A failed leader call fails its local followers too; remote followers
+ * see the error. A follower that waits longer than {@code waitTimeoutMillis}, or cannot reach Redis, runs the call
+ * itself.
+ */
+@Slf4j
+public final class RequestCoalescer {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final TypeReference<Map<String, Object>> MAP_TYPE = new TypeReference<>() {};
+    private static final String RELEASE =
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end";
+
+    private final CoalescingConfig config;
+    private final String configVersion;
+    private final JedisPool pool;
+    private final Map<String, CompletableFuture<Shared>> inflight = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> leaders = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> followers = new ConcurrentHashMap<>();
+
+    public RequestCoalescer(CoalescingConfig config, RedisConfig redis, String configVersion) {
+        this.config = config != null ? config : new CoalescingConfig();
+        this.configVersion = configVersion != null ? configVersion : "";
+        this.pool = Boolean.TRUE.equals(this.config.getRedis()) ? RedisPools.get(redis) : null;
+    }
+
+    /**
+     * Coalescing key for this call, or null when the plugin is not coalescible. {@code cacheKey} is the result cache
+     * key of the call when already computed (it is the same key), so the input is hashed once.
+     */
+    public String keyFor(String capabilityName, CapabilityHandler handler, ExecutionContext context, String cacheKey) {
+        List<String> plugins = config.getPlugins();
+        if (!(handler instanceof CacheableCapability) && (plugins == null || !plugins.contains(capabilityName))) {
+            return null;
+        }
+        return cacheKey != null ? cacheKey
+                : CacheKeys.forCapability(capabilityName, handler, configVersion, context.getOriginalInput(), context.getAccumulatedOutput());
+    }
+
+    /**
+     * Run {@code call} as leader, or wait for the running leader of {@code key}. A follower gets the leader's output
+     * as a new result, passed to {@code onShared} (to copy it into its context) before it is returned.
+     */
+    public CapabilityResult call(String key, String capabilityName, ExecutionContext context, Scope metrics,
+                                 Supplier<CapabilityResult> call, Consumer<CapabilityResult> onShared) {
+        if (key == null) {
+            return call.get();
+        }
+        CompletableFuture<Shared> mine = new CompletableFuture<>();
+        CompletableFuture<Shared> running = inflight.putIfAbsent(key, mine);
+        if (running != null) {
+            Shared shared = await(running, capabilityName);
+            if (shared == null) {
+                return call.get();
+            }
+            count(followers, capabilityName, metrics, "coalesced_follower");
+            return share(shared, capabilityName, onShared);
+        }
+        try {
+            if (pool != null) {
+                return distributed(key, capabilityName, context, metrics, call, onShared, mine);
+            }
+            return lead(capabilityName, context, metrics, call, mine);
+        } catch (RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inflight.remove(key, mine);
+        }
+    }
+
+    /** Leader and follower counts per capability (for logs and metrics). */
+    public Map<String, Object> snapshot() {
+        Map<String, Object> out = new LinkedHashMap<>();
+        out.put("inflight", inflight.size());
+        Set<String> names = new TreeSet<>(leaders.keySet());
+        names.addAll(followers.keySet());
+        for (String name : names) {
+            long l = leaders.containsKey(name) ? leaders.get(name).sum() : 0;
+            long f = followers.containsKey(name) ? followers.get(name).sum() : 0;
+            out.put(name, Map.of("leaders", l, "followers", f));
+        }
+        return out;
+    }
+
+    private CapabilityResult lead(String capabilityName, ExecutionContext context, Scope metrics,
+                                  Supplier<CapabilityResult> call, CompletableFuture<Shared> mine) {
+        CapabilityResult result = call.get();
+        mine.complete(Shared.of(context, result));
+        count(leaders, capabilityName, metrics, "coalesced_leader");
+        return result;
+    }
+
+    private CapabilityResult distributed(String key, String capabilityName, ExecutionContext context, Scope metrics,
+                                         Supplier<CapabilityResult> call, Consumer<CapabilityResult> onShared,
+                                         CompletableFuture<Shared> mine) {
+        String token = UUID.randomUUID().toString();
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(waitTimeoutMillis());
+        try {
+            while (System.nanoTime() - deadline < 0) {
+                if (tryLock(key, token)) {
+                    return leadRemote(key, token, capabilityName, context, metrics, call, mine);
+                }
+                Shared shared = followRemote(key, capabilityName, deadline);
+                if (shared != null) {
+                    mine.complete(shared);
+                    count(followers, capabilityName, metrics, "coalesced_follower");
+                    return share(shared, capabilityName, onShared);
+                }
+            }
+            log.debug("Coalescing: gave up waiting for the leader of {}; running it here", capabilityName);
+        } catch (RedisUnavailable e) {
+            log.warn("Coalescing: Redis unavailable for {} ({}); coalescing on this worker only", capabilityName, e.getMessage());
+        }
+        return lead(capabilityName, context, metrics, call, mine);
+    }
+
+    private CapabilityResult leadRemote(String key, String token, String capabilityName, ExecutionContext context, Scope metrics,
+                                        Supplier<CapabilityResult> call, CompletableFuture<Shared> mine) {
+        try {
+            CapabilityResult result = lead(capabilityName, context, metrics, call, mine);
+            publish(key, token, mine.join().toMap());
+            return result;
+        } catch (RuntimeException e) {
+            publish(key, token, Map.of("error", String.valueOf(e.getMessage())));
+            throw e;
+        } finally {
+            release(key, token);
+        }
+    }
+
+    /** Wait for the current lock holder's result; null when the lock was freed without one (try to lead again). */
+    private Shared followRemote(String key, String capabilityName, long deadline) {
+        String token = get(lockKey(key));
+        long pollMillis = config.getPollMillis() != null && config.getPollMillis() > 0 ? config.getPollMillis() : 50;
+        while (token != null && System.nanoTime() - deadline < 0) {
+            Shared shared = readResult(key, token, capabilityName);
+            if (shared != null) {
+                return shared;
+            }
+            try {
+                Thread.sleep(pollMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while waiting for coalesced call of '" + capabilityName + "'", e);
+            }
+            if (!token.equals(get(lockKey(key)))) {
+                return readResult(key, token, capabilityName);
+            }
+        }
+        return null;
+    }
+
+    private Shared readResult(String key, String token, String capabilityName) {
+        String raw = get(resultKey(key, token));
+        if (raw == null) {
+            return null;
+        }
+        Map<String, Object> stored;
+        try {
+            stored = MAPPER.readValue(raw, MAP_TYPE);
+        } catch (Exception e) {
+            throw new RedisUnavailable("unreadable result: " + e.getMessage());
+        }
+        if (stored.containsKey("error")) {
+            throw new IllegalStateException("Coalesced call of '" + capabilityName + "' failed on another worker: " + stored.get("error"));
+        }
+        return Shared.fromMap(stored);
+    }
+
+    private boolean tryLock(String key, String token) {
+        long ttlMillis = (config.getLockTtlSeconds() != null ? config.getLockTtlSeconds() : 60) * 1000L;
+        try (Jedis jedis = pool.getResource()) {
+            return "OK".equals(jedis.set(lockKey(key), token, SetParams.setParams().nx().px(ttlMillis)));
+        } catch (RuntimeException e) {
+            throw new RedisUnavailable(e.getMessage());
+        }
+    }
+
+    private String get(String redisKey) {
+        try (Jedis jedis = pool.getResource()) {
+            return jedis.get(redisKey);
+        } catch (RuntimeException e) {
+            throw new RedisUnavailable(e.getMessage());
+        }
+    }
+
+    private void publish(String key, String token, Map<String, Object> value) {
+        long ttlMillis = (config.getResultTtlSeconds() != null ? config.getResultTtlSeconds() : 10) * 1000L;
+        int max = config.getMaxValueBytes() != null ? config.getMaxValueBytes() : 1_048_576;
+        try (Jedis jedis = pool.getResource()) {
+            String raw = MAPPER.writeValueAsString(value);
+            if (raw.getBytes(StandardCharsets.UTF_8).length > max) {
+                return;
+            }
+            jedis.psetex(resultKey(key, token), Math.max(1, ttlMillis), raw);
+        } catch (Exception e) {
+            log.warn("Coalescing: could not publish result for {}: {}", key, e.getMessage());
+        }
+    }
+
+    private void release(String key, String token) {
+        try (Jedis jedis = pool.getResource()) {
+            jedis.eval(RELEASE, List.of(lockKey(key)), List.of(token));
+        } catch (RuntimeException e) {
+            log.warn("Coalescing: could not release lock for {}: {}", key, e.getMessage());
+        }
+    }
+
+    private String lockKey(String key) {
+        return prefix() + "lock:" + key;
+    }
+
+    private String resultKey(String key, String token) {
+        return prefix() + "result:" + key + ":" + token;
+    }
+
+    private String prefix() {
+        return config.getKeyPrefix() != null ? config.getKeyPrefix() : "olo:coalesce:";
+    }
+
+    private long waitTimeoutMillis() {
+        return config.getWaitTimeoutMillis() != null ? config.getWaitTimeoutMillis() : 30000;
+    }
+
+    /** Leader's shared result, or null when the wait timed out. */
+    private Shared await(CompletableFuture<Shared> running, String capabilityName) {
+        try {
+            return running.get(waitTimeoutMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            log.debug("Coalescing: leader of {} still running after {} ms; running it here", capabilityName, waitTimeoutMillis());
+            return null;
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException re) {
+                throw re;
+            }
+            throw new IllegalStateException("Coalesced call of '" + capabilityName + "' failed", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for coalesced call of '" + capabilityName + "'", e);
+        }
+    }
+
+    private static CapabilityResult share(Shared shared, String capabilityName, Consumer<CapabilityResult> onShared) {
+        CapabilityResult result = CapabilityResult.builder()
+                .capabilityName(capabilityName)
+                .output(new HashMap<>(shared.output))
+                .requestPipelineBreak(shared.requestPipelineBreak)
+                .deterministic(shared.deterministic)
+                .build();
+        if (onShared != null) {
+            onShared.accept(result);
+        }
+        return result;
+    }
+
+    private static void count(Map<String, LongAdder> counters, String capabilityName, Scope metrics, String metric) {
+        counters.computeIfAbsent(capabilityName, k -> new LongAdder()).increment();
+        if (metrics != null) {
+            metrics.tagged(Map.of("capability", capabilityName)).counter(metric).inc(1);
+        }
+    }
+
+    /** Final output of the leader call, as followers see it. */
+    private record Shared(Map<String, Object> output, boolean requestPipelineBreak, boolean deterministic) {
+
+        static Shared of(ExecutionContext context, CapabilityResult result) {
+            Map<String, Object> output = context.getCurrentPluginOutput() != null && !context.getCurrentPluginOutput().isEmpty()
+                    ? context.getCurrentPluginOutput()
+                    : (result != null && result.getOutput() != null ? result.getOutput() : Map.<String, Object>of());
+            boolean requestBreak = context.isPipelineBreakRequested() || (result != null && result.isRequestPipelineBreak());
+            return new Shared(Collections.unmodifiableMap(new HashMap<>(output)), requestBreak, result != null && result.isDeterministic());
+        }
+
+        @SuppressWarnings("unchecked")
+        static Shared fromMap(Map<String, Object> stored) {
+            Map<String, Object> output = stored.get("output") instanceof Map<?, ?> m ? (Map<String, Object>) m : Map.of();
+            return new Shared(output, Boolean.TRUE.equals(stored.get("requestPipelineBreak")),
+                    Boolean.TRUE.equals(stored.get("deterministic")));
+        }
+
+        Map<String, Object> toMap() {
+            return Map.of("output", output, "requestPipelineBreak", requestPipelineBreak, "deterministic", deterministic);
+        }
+    }
+
+    /** Redis could not be used; the caller falls back to coalescing on this worker. */
+    private static final class RedisUnavailable extends RuntimeException {
+        RedisUnavailable(String message) {
+            super(message);
+        }
+    }
+}
@@ -61,5 +61,36 @@ public enum FeatureFlag {
     EXECUTION_GRAPH_EXPORT,
     /** Debug: when command debug=true and debugID=uuid (same level as tenantId, userId, operation), push serialized execution tree and context to Redis (olo:debug:<uuid>:*). */
     DEBUGGER,
+    /**
+     * Sync fusion: run consecutive fusable SYNC plugins on the same queue in one activity round-trip. Off while
+     * execution interceptors are registered; a retry of the fused activity resumes after the plugins that succeeded.
+     */
+    SYNC_FUSION,
+    /** Hedging: start a duplicate of a slow MODEL/RETRIEVAL activity after its p95 (or a fixed delay); first result wins. */
+    HEDGING,
+    /** Bulkheads: per-plugin / per-type concurrency limits (fixed or adaptive) in the activity worker; rejections are retryable. */
+    BULKHEADS,
+    /** Circuit breakers: per-plugin / per-endpoint failure-rate and slow-call breakers; open circuits fail fast or use a fallback plugin. */
+    CIRCUIT_BREAKERS,
+    /** Retry budgets: retries per plugin capped at a percentage of successful calls (token bucket, optionally shared via Redis). */
+    RETRY_BUDGET,
+    /** Deadlines: execution deadline from the command or pipeline SLA; activity timeouts shrink to the time left, late capabilities are skipped by policy. */
+    DEADLINES,
+    /** Result cache: in-process LRU plus optional Redis tier for cacheable / deterministic capability results. */
+    RESULT_CACHE,
+    /** Semantic cache: SEMANTIC_CACHE_LOOKUP/STORE handlers answer near-duplicate questions from earlier answers and skip MODEL. */
+    SEMANTIC_CACHE,
+    /** Coalescing: identical concurrent calls of coalescible plugins share one execution, per worker or across workers via Redis. */
+    COALESCING,
+    /** Micro-batching: concurrent calls of BatchCapability plugins are collected for a few milliseconds and run as one request. */
+    MICRO_BATCHING,
+    /** Embedding cache: content-addressed vectors (LRU plus optional Redis or mmap file) offered to plugins via PluginContext. */
+    EMBEDDING_CACHE,
+    /** Plan cache: PLANNER output reused for requests with the same shape (pipeline, key input fields, tools). */
+    PLAN_CACHE,
+    /** Model routing: routed model plugins are swapped per call for the candidate that meets the pipeline's latency SLO. */
+    MODEL_ROUTING,
+    /** Model residency: a background task preloads hot models on the model servers and lets cold ones unload, within a memory budget. */
+    MODEL_RESIDENCY,
 }
 
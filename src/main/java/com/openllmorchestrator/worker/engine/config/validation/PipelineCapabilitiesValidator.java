@@ -21,11 +21,12 @@ import com.openllmorchestrator.worker.engine.config.pipeline.GroupConfig;
 import com.openllmorchestrator.worker.engine.config.pipeline.PipelineSection;
 import com.openllmorchestrator.worker.engine.config.pipeline.CapabilityBlockConfig;
 import com.openllmorchestrator.worker.engine.capability.resolver.CapabilityResolver;
+import com.openllmorchestrator.worker.engine.expression.CompiledExpressions;
 
 import java.util.List;
 import java.util.Map;
 
-/** Validates pipeline.capabilities: capability names, group executionMode, and that every activity name is resolvable. */
+/** Validates pipeline.capabilities: capability names, group executionMode, transform expressions, and that every activity name is resolvable. */
 public final class PipelineCapabilitiesValidator implements ConfigValidator {
     private static final ObjectMapper MAPPER = new ObjectMapper();
 
@@ -57,10 +58,27 @@ public final class PipelineCapabilitiesValidator implements ConfigValidator {
         if (group == null) {
             throw new IllegalStateException("pipeline.capabilities: group is null");
         }
+        if (group.isTransform()) {
+            validateTransform(group.getTransform());
+            return;
+        }
         String mode = group.getExecutionMode();
         if (mode == null || (!"SYNC".equalsIgnoreCase(mode) && !"ASYNC".equalsIgnoreCase(mode))) {
             throw new IllegalStateException("pipeline.capabilities: group must have executionMode SYNC or ASYNC");
         }
+        if (group.getMaxConcurrency() != null && group.getMaxConcurrency() < 0) {
+            throw new IllegalStateException("pipeline.capabilities: maxConcurrency must be >= 0 (0 = unbounded)");
+        }
+        if (Boolean.TRUE.equals(group.getStreamThrough())) {
+            if (!"SYNC".equalsIgnoreCase(mode)) {
+                throw new IllegalStateException("pipeline.capabilities: streamThrough requires executionMode SYNC");
+            }
+            for (Object child : group.getChildrenAsList()) {
+                if (!(child instanceof String)) {
+                    throw new IllegalStateException("pipeline.capabilities: streamThrough group children must be activity names (no nested groups)");
+                }
+            }
+        }
         for (Object child : group.getChildrenAsList()) {
             if (child instanceof String) {
                 String name = ((String) child).trim();
@@ -77,4 +95,13 @@ public final class PipelineCapabilitiesValidator implements ConfigValidator {
             }
         }
     }
+
+    static void validateTransform(Map<String, String> transform) {
+        for (Map.Entry<String, String> t : transform.entrySet()) {
+            if (t.getKey() == null || t.getKey().isBlank()) {
+                throw new IllegalStateException("transform: output key must be non-blank");
+            }
+            CompiledExpressions.get(t.getValue());
+        }
+    }
 }
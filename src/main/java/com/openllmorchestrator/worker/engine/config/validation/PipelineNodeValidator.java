@@ -27,7 +27,7 @@ import com.openllmorchestrator.worker.engine.config.pipeline.PipelineSection;
 
 import java.util.Map;
 
-/** Validates pipeline tree (when using root): types, cycles, and that every PLUGIN node is resolvable. */
+/** Validates pipeline tree (when using root): types, cycles, TRANSFORM expressions, and that every PLUGIN node is resolvable. */
 public final class PipelineNodeValidator implements ConfigValidator {
     @Override
     public void validate(EngineFileConfig config, CapabilityResolver resolver) {
@@ -74,7 +74,14 @@ public final class PipelineNodeValidator implements ConfigValidator {
             validateGroupNode(node, defaultTimeoutSeconds, visited, resolver);
             return;
         }
-        throw new IllegalStateException("Pipeline node type must be GROUP or PLUGIN (STAGE accepted for backward compatibility), got: " + node.getType());
+        if (node.isTransform()) {
+            if (node.getTransform() == null || node.getTransform().isEmpty()) {
+                throw new IllegalStateException("TRANSFORM node must have a non-empty 'transform' map (output key -> expression)");
+            }
+            PipelineCapabilitiesValidator.validateTransform(node.getTransform());
+            return;
+        }
+        throw new IllegalStateException("Pipeline node type must be GROUP, PLUGIN or TRANSFORM (STAGE accepted for backward compatibility), got: " + node.getType());
     }
 
     private static void validatePluginNode(NodeConfig node, CapabilityResolver resolver) {
@@ -103,6 +110,19 @@ public final class PipelineNodeValidator implements ConfigValidator {
         if (mode == null || (!"SYNC".equalsIgnoreCase(mode) && !"ASYNC".equalsIgnoreCase(mode))) {
             throw new IllegalStateException("GROUP node must have executionMode SYNC or ASYNC");
         }
+        if (node.getMaxConcurrency() != null && node.getMaxConcurrency() < 0) {
+            throw new IllegalStateException("GROUP maxConcurrency must be >= 0 (0 = unbounded)");
+        }
+        if (Boolean.TRUE.equals(node.getStreamThrough())) {
+            if (!"SYNC".equalsIgnoreCase(mode) || node.isConditional()) {
+                throw new IllegalStateException("GROUP streamThrough requires executionMode SYNC and no condition");
+            }
+            for (NodeConfig child : node.getChildren()) {
+                if (child == null || !child.isPlugin()) {
+                    throw new IllegalStateException("GROUP streamThrough children must all be PLUGIN nodes");
+                }
+            }
+        }
         // Each group may have at most one plugin of type PLUGIN_IF and at most one PLUGIN_ITERATOR (applies to whole group).
         int ifCount = 0;
         int iteratorCount = 0;
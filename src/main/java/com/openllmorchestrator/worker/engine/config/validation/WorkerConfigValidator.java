@@ -17,8 +17,9 @@ package com.openllmorchestrator.worker.engine.config.validation;
 
 import com.openllmorchestrator.worker.engine.config.EngineFileConfig;
 import com.openllmorchestrator.worker.engine.capability.resolver.CapabilityResolver;
+import com.openllmorchestrator.worker.engine.config.worker.WorkerConfig;
 
-/** Validates worker section. */
+/** Validates worker section: queue name and, when set, tuning values (slots, cache, rates must be positive). */
 public final class WorkerConfigValidator implements ConfigValidator {
     @Override
     public void validate(EngineFileConfig config, CapabilityResolver resolver) {
@@ -26,6 +27,31 @@ public final class WorkerConfigValidator implements ConfigValidator {
                 || config.getWorker().getQueueName().isBlank()) {
             throw new IllegalStateException("config.worker.queueName is required");
         }
+        WorkerConfig w = config.getWorker();
+        requirePositive("maxConcurrentWorkflowTaskPollers", w.getMaxConcurrentWorkflowTaskPollers());
+        requirePositive("maxConcurrentActivityTaskPollers", w.getMaxConcurrentActivityTaskPollers());
+        requirePositive("maxConcurrentActivityExecutions", w.getMaxConcurrentActivityExecutions());
+        requirePositive("maxConcurrentWorkflowTaskExecutions", w.getMaxConcurrentWorkflowTaskExecutions());
+        requirePositive("maxConcurrentLocalActivityExecutions", w.getMaxConcurrentLocalActivityExecutions());
+        requirePositive("workflowCacheSize", w.getWorkflowCacheSize());
+        requirePositive("maxWorkflowThreadCount", w.getMaxWorkflowThreadCount());
+        requirePositive("stickyScheduleToStartTimeoutSeconds", w.getStickyScheduleToStartTimeoutSeconds());
+        requirePositive("maxWorkerActivitiesPerSecond", w.getMaxWorkerActivitiesPerSecond());
+        requirePositive("maxTaskQueueActivitiesPerSecond", w.getMaxTaskQueueActivitiesPerSecond());
+        if (w.getMaxConcurrentWorkflowTaskPollers() != null && w.getMaxConcurrentWorkflowTaskExecutions() != null
+                && w.getMaxConcurrentWorkflowTaskPollers() > w.getMaxConcurrentWorkflowTaskExecutions()) {
+            throw new IllegalStateException("config.worker.maxConcurrentWorkflowTaskPollers must not exceed maxConcurrentWorkflowTaskExecutions");
+        }
+        if (w.getMaxConcurrentActivityTaskPollers() != null && w.getMaxConcurrentActivityExecutions() != null
+                && w.getMaxConcurrentActivityTaskPollers() > w.getMaxConcurrentActivityExecutions()) {
+            throw new IllegalStateException("config.worker.maxConcurrentActivityTaskPollers must not exceed maxConcurrentActivityExecutions");
+        }
+    }
+
+    private static void requirePositive(String field, Number value) {
+        if (value != null && value.doubleValue() <= 0) {
+            throw new IllegalStateException("config.worker." + field + " must be > 0 when set, got " + value);
+        }
     }
 }
 
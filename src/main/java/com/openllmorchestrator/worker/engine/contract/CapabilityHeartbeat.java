@@ -0,0 +1,35 @@
+/*
+ * Copyright 2026 Open LLM Orchestrator contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.openllmorchestrator.worker.engine.contract;
+
+import java.util.Map;
+
+/**
+ * Heartbeat channel for one capability inside an activity. Implemented by the activity layer so the contract layer
+ * does not depend on Temporal.
+ */
+public interface CapabilityHeartbeat {
+
+    void heartbeat(String progress, Map<String, Object> checkpoint);
+
+    /** Checkpoint recorded by a previous attempt; null when none. */
+    Map<String, Object> resumeCheckpoint();
+
+    /** Whether the activity was cancelled (or timed out); the capability should stop, its result is discarded. */
+    default boolean isCancelled() {
+        return false;
+    }
+}
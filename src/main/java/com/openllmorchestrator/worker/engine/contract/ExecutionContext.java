@@ -17,6 +17,7 @@ package com.openllmorchestrator.worker.engine.contract;
 
 import com.openllmorchestrator.worker.contract.AgentContext;
 import com.openllmorchestrator.worker.contract.DeterminismPolicy;
+import com.openllmorchestrator.worker.contract.EmbeddingCache;
 import com.openllmorchestrator.worker.contract.PluginContext;
 import com.openllmorchestrator.worker.engine.capability.CapabilityPlan;
 import lombok.Getter;
@@ -73,6 +74,15 @@ public class ExecutionContext implements PluginContext {
      */
     private volatile CapabilityPlan executionPlan;
 
+    /** Set by the activity for the capability it runs; null in workflow code (heartbeats are then no-ops). */
+    private volatile CapabilityHeartbeat heartbeat;
+
+    /** Execution deadline in workflow time (epoch millis), set by the workflow when DEADLINES applies; null = none. */
+    private volatile Long deadlineMillis;
+
+    /** Set by the activity when EMBEDDING_CACHE is enabled; null otherwise. */
+    private volatile EmbeddingCache embeddingCache;
+
     public ExecutionContext(ExecutionCommand command) {
         this(command, null);
     }
@@ -222,6 +232,44 @@ public class ExecutionContext implements PluginContext {
         this.executionPlan = executionPlan;
     }
 
+    public void setHeartbeat(CapabilityHeartbeat heartbeat) {
+        this.heartbeat = heartbeat;
+    }
+
+    public void setDeadlineMillis(Long deadlineMillis) {
+        this.deadlineMillis = deadlineMillis;
+    }
+
+    public void setEmbeddingCache(EmbeddingCache embeddingCache) {
+        this.embeddingCache = embeddingCache;
+    }
+
+    @Override
+    public EmbeddingCache getEmbeddingCache() {
+        EmbeddingCache c = embeddingCache;
+        return c != null ? c : EmbeddingCache.NONE;
+    }
+
+    @Override
+    public void heartbeat(String progress, Map<String, Object> checkpoint) {
+        CapabilityHeartbeat h = heartbeat;
+        if (h != null) {
+            h.heartbeat(progress, checkpoint);
+        }
+    }
+
+    @Override
+    public Map<String, Object> getResumeCheckpoint() {
+        CapabilityHeartbeat h = heartbeat;
+        return h != null ? h.resumeCheckpoint() : null;
+    }
+
+    @Override
+    public boolean isCancelled() {
+        CapabilityHeartbeat h = heartbeat;
+        return h != null && h.isCancelled();
+    }
+
     /**
      * Snapshot of current context (originalInput, accumulatedOutput, state) for observability and snapshot-aware kernel.
      * In workflow, accumulatedOutput is mutable; this returns a copy at this point in time.
@@ -0,0 +1,35 @@
+/*
+ * Copyright 2026 Open LLM Orchestrator contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.openllmorchestrator.worker.engine.embedding;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/** Second tier of the embedding cache: encoded vectors by hex content key. Errors are treated as misses. */
+interface EmbeddingStore {
+
+    byte[] get(String key);
+
+    void put(String key, byte[] value);
+
+    default List<byte[]> getAll(List<String> keys) {
+        List<byte[]> out = new ArrayList<>(keys.size());
+        for (String key : keys) {
+            out.add(get(key));
+        }
+        return out;
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright 2026 Open LLM Orchestrator contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.openllmorchestrator.worker.engine.embedding;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Embedding store in an append-only, memory-mapped file, so vectors survive restarts and re-ingestion on the same
+ * host reuses them. The file is mapped in fixed segments; a record is {@code [int length][32-byte key][value]} and
+ * never spans segments ({@code -1} marks the unused tail of a segment, {@code 0} the end of data). The index is
+ * rebuilt by scanning the file on start; later records win. Entries do not expire (keys are content hashes); once
+ * {@code maxBytes} is reached new vectors are not written.
+ */
+@Slf4j
+final class MappedFileEmbeddingStore implements EmbeddingStore {
+
+    static final int SEGMENT_BYTES = 64 << 20;
+    private static final int HEADER_BYTES = 4 + 32;
+
+    private final FileChannel channel;
+    private final long maxBytes;
+    private final List<MappedByteBuffer> segments = new ArrayList<>();
+    private final Map<String, Long> index = new ConcurrentHashMap<>();
+    private long writePosition;
+    private boolean full;
+
+    MappedFileEmbeddingStore(Path path, long maxBytes) throws IOException {
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        this.maxBytes = Math.max(SEGMENT_BYTES, maxBytes);
+        scan();
+        log.info("Embedding cache file {}: {} vectors, {} bytes used", path, index.size(), writePosition);
+    }
+
+    @Override
+    public byte[] get(String key) {
+        Long position = index.get(key);
+        if (position == null) {
+            return null;
+        }
+        MappedByteBuffer segment = segment(position);
+        int offset = (int) (position % SEGMENT_BYTES);
+        byte[] value = new byte[segment.getInt(offset)];
+        segment.get(offset + HEADER_BYTES, value);
+        return value;
+    }
+
+    @Override
+    public synchronized void put(String key, byte[] value) {
+        int size = HEADER_BYTES + value.length;
+        if (full || index.containsKey(key) || size > SEGMENT_BYTES || value.length == 0) {
+            return;
+        }
+        int offset = (int) (writePosition % SEGMENT_BYTES);
+        if (offset + size > SEGMENT_BYTES) {
+            if (offset + 4 <= SEGMENT_BYTES) {
+                segment(writePosition).putInt(offset, -1);
+            }
+            writePosition += SEGMENT_BYTES - offset;
+            offset = 0;
+        }
+        if (writePosition + size > maxBytes) {
+            full = true;
+            log.warn("Embedding cache file is full ({} bytes); new vectors are no longer stored", maxBytes);
+            return;
+        }
+        MappedByteBuffer segment = segment(writePosition);
+        segment.put(offset + 4, HexFormat.of().parseHex(key));
+        segment.put(offset + HEADER_BYTES, value);
+        segment.putInt(offset, value.length);
+        index.put(key, writePosition);
+        writePosition += size;
+    }
+
+    int size() {
+        return index.size();
+    }
+
+    private void scan() throws IOException {
+        long length = channel.size();
+        long position = 0;
+        while (position < length) {
+            int offset = (int) (position % SEGMENT_BYTES);
+            if (offset + HEADER_BYTES > SEGMENT_BYTES) {
+                position += SEGMENT_BYTES - offset;
+                continue;
+            }
+            MappedByteBuffer segment = segment(position);
+            int valueLength = segment.getInt(offset);
+            if (valueLength == -1) {
+                position += SEGMENT_BYTES - offset;
+                continue;
+            }
+            if (valueLength <= 0 || offset + HEADER_BYTES + valueLength > SEGMENT_BYTES) {
+                break;
+            }
+            byte[] key = new byte[32];
+            segment.get(offset + 4, key);
+            index.put(HexFormat.of().formatHex(key), position);
+            position += HEADER_BYTES + valueLength;
+        }
+        writePosition = position;
+    }
+
+    private MappedByteBuffer segment(long position) {
+        int i = (int) (position / SEGMENT_BYTES);
+        synchronized (segments) {
+            while (segments.size() <= i) {
+                try {
+                    segments.add(channel.map(FileChannel.MapMode.READ_WRITE, (long) segments.size() * SEGMENT_BYTES, SEGMENT_BYTES));
+                } catch (IOException e) {
+                    throw new IllegalStateException("Cannot map embedding cache file segment " + segments.size(), e);
+                }
+            }
+            return segments.get(i);
+        }
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2026 Open LLM Orchestrator contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.openllmorchestrator.worker.engine.embedding;
+
+import lombok.extern.slf4j.Slf4j;
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.JedisPool;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/** Embedding store in Redis: binary values with a TTL; batch reads use one MGET. */
+@Slf4j
+final class RedisEmbeddingStore implements EmbeddingStore {
+
+    private final JedisPool pool;
+    private final String prefix;
+    private final long ttlMillis;
+
+    RedisEmbeddingStore(JedisPool pool, String prefix, long ttlMillis) {
+        this.pool = pool;
+        this.prefix = prefix;
+        this.ttlMillis = ttlMillis;
+    }
+
+    @Override
+    public byte[] get(String key) {
+        try (Jedis jedis = pool.getResource()) {
+            return jedis.get(redisKey(key));
+        } catch (RuntimeException e) {
+            log.warn("Embedding cache: Redis read failed: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    @Override
+    public List<byte[]> getAll(List<String> keys) {
+        if (keys.isEmpty()) {
+            return List.of();
+        }
+        byte[][] redisKeys = new byte[keys.size()][];
+        for (int i = 0; i < redisKeys.length; i++) {
+            redisKeys[i] = redisKey(keys.get(i));
+        }
+        try (Jedis jedis = pool.getResource()) {
+            return new ArrayList<>(jedis.mget(redisKeys));
+        } catch (RuntimeException e) {
+            log.warn("Embedding cache: Redis read failed: {}", e.getMessage());
+            return new ArrayList<>(Collections.nCopies(keys.size(), null));
+        }
+    }
+
+    @Override
+    public void put(String key, byte[] value) {
+        try (Jedis jedis = pool.getResource()) {
+            jedis.psetex(redisKey(key), Math.max(1, ttlMillis), value);
+        } catch (RuntimeException e) {
+            log.warn("Embedding cache: Redis write failed: {}", e.getMessage());
+        }
+    }
+
+    private byte[] redisKey(String key) {
+        return (prefix + key).getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,168 @@
+/*
+ * Copyright 2026 Open LLM Orchestrator contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.openllmorchestrator.worker.engine.embedding;
+
+import com.openllmorchestrator.worker.contract.EmbeddingCache;
+import com.openllmorchestrator.worker.contract.EmbeddingVectors;
+import com.openllmorchestrator.worker.engine.cache.LruCache;
+import com.openllmorchestrator.worker.engine.config.embedding.EmbeddingCacheConfig;
+import com.openllmorchestrator.worker.engine.config.redis.RedisConfig;
+import com.openllmorchestrator.worker.engine.runtime.RedisPools;
+import com.uber.m3.tally.Scope;
+import io.temporal.activity.Activity;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Embedding cache for one queue (EMBEDDING_CACHE): encoded vectors in an in-process LRU, then an optional Redis or
+ * memory-mapped file tier (filling L1 on a hit). Handed to plugins through PluginContext.getEmbeddingCache().
+ * Hits per tier and misses are counted and reported as {@code embedding_cache_hit} (tagged {@code tier}) and
+ * {@code embedding_cache_miss}.
+ */
+@Slf4j
+public final class TieredEmbeddingCache implements EmbeddingCache {
+
+    /** One store per file, shared by queues configured with the same path. */
+    private static final Map<Path, EmbeddingStore> FILES = new ConcurrentHashMap<>();
+
+    private final byte format;
+    private final long ttlMillis;
+    private final LruCache<String, byte[]> l1;
+    private final EmbeddingStore l2;
+    private final String l2Name;
+    private final LongAdder l1Hits = new LongAdder();
+    private final LongAdder l2Hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public TieredEmbeddingCache(EmbeddingCacheConfig config, RedisConfig redis) {
+        EmbeddingCacheConfig c = config != null ? config : new EmbeddingCacheConfig();
+        this.format = EmbeddingCacheConfig.FLOAT16.equalsIgnoreCase(c.getFormat()) ? EmbeddingVectors.FLOAT16 : EmbeddingVectors.FLOAT32;
+        this.ttlMillis = (c.getTtlSeconds() != null ? c.getTtlSeconds() : 604800) * 1000L;
+        this.l1 = new LruCache<>(c.getL1MaxEntries() != null ? c.getL1MaxEntries() : 50000);
+        String tier = c.getTier() != null ? c.getTier().toUpperCase() : EmbeddingCacheConfig.NONE;
+        this.l2Name = tier.toLowerCase();
+        this.l2 = switch (tier) {
+            case EmbeddingCacheConfig.REDIS -> new RedisEmbeddingStore(RedisPools.get(redis),
+                    c.getKeyPrefix() != null ? c.getKeyPrefix() : "olo:emb:", ttlMillis);
+            case EmbeddingCacheConfig.FILE -> openFile(c);
+            case EmbeddingCacheConfig.NONE -> null;
+            default -> throw new IllegalStateException("embeddingCache.tier must be NONE, REDIS or FILE, got " + c.getTier());
+        };
+    }
+
+    @Override
+    public float[] get(String modelId, String text) {
+        return getAll(modelId, List.of(text != null ? text : "")).get(0);
+    }
+
+    @Override
+    public List<float[]> getAll(String modelId, List<String> texts) {
+        List<float[]> out = new ArrayList<>(texts.size());
+        List<Integer> l1Missing = new ArrayList<>();
+        List<String> l1MissingKeys = new ArrayList<>();
+        for (int i = 0; i < texts.size(); i++) {
+            String key = EmbeddingVectors.key(modelId, texts.get(i));
+            byte[] value = l1.get(key);
+            out.add(value != null ? EmbeddingVectors.decode(value) : null);
+            if (value == null) {
+                l1Missing.add(i);
+                l1MissingKeys.add(key);
+            }
+        }
+        int fromL1 = texts.size() - l1Missing.size();
+        int fromL2 = 0;
+        if (l2 != null && !l1MissingKeys.isEmpty()) {
+            List<byte[]> values = l2.getAll(l1MissingKeys);
+            for (int j = 0; j < l1Missing.size(); j++) {
+                byte[] value = values.get(j);
+                if (value != null) {
+                    out.set(l1Missing.get(j), EmbeddingVectors.decode(value));
+                    l1.put(l1MissingKeys.get(j), value, ttlMillis);
+                    fromL2++;
+                }
+            }
+        }
+        count(fromL1, fromL2, l1Missing.size() - fromL2);
+        return out;
+    }
+
+    @Override
+    public void put(String modelId, String text, float[] vector) {
+        if (vector == null || vector.length == 0) {
+            return;
+        }
+        String key = EmbeddingVectors.key(modelId, text);
+        byte[] value = EmbeddingVectors.encode(vector, format);
+        l1.put(key, value, ttlMillis);
+        if (l2 != null) {
+            l2.put(key, value);
+        }
+    }
+
+    /** Hits per tier, misses and L1 size (for logs and metrics). */
+    public Map<String, Object> snapshot() {
+        Map<String, Object> out = new LinkedHashMap<>();
+        long h1 = l1Hits.sum();
+        long h2 = l2Hits.sum();
+        long m = misses.sum();
+        out.put("l1Size", l1.size());
+        out.put("l1Hits", h1);
+        out.put("l2Hits", h2);
+        out.put("misses", m);
+        out.put("hitRate", h1 + h2 + m == 0 ? 0.0 : (double) (h1 + h2) / (h1 + h2 + m));
+        return out;
+    }
+
+    private void count(int fromL1, int fromL2, int missed) {
+        l1Hits.add(fromL1);
+        l2Hits.add(fromL2);
+        misses.add(missed);
+        Scope metrics;
+        try {
+            metrics = Activity.getExecutionContext().getMetricsScope();
+        } catch (IllegalStateException e) {
+            return;
+        }
+        if (fromL1 > 0) {
+            metrics.tagged(Map.of("tier", "l1")).counter("embedding_cache_hit").inc(fromL1);
+        }
+        if (fromL2 > 0) {
+            metrics.tagged(Map.of("tier", l2Name)).counter("embedding_cache_hit").inc(fromL2);
+        }
+        if (missed > 0) {
+            metrics.counter("embedding_cache_miss").inc(missed);
+        }
+    }
+
+    private static EmbeddingStore openFile(EmbeddingCacheConfig c) {
+        Path path = Path.of(c.getFilePath() != null ? c.getFilePath() : "data/embedding-cache.bin").toAbsolutePath().normalize();
+        return FILES.computeIfAbsent(path, p -> {
+            try {
+                return new MappedFileEmbeddingStore(p, c.getFileMaxBytes() != null ? c.getFileMaxBytes() : 1L << 30);
+            } catch (IOException e) {
+                throw new IllegalStateException("Cannot open embedding cache file " + p, e);
+            }
+        });
+    }
+}
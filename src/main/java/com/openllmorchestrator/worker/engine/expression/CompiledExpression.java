@@ -0,0 +1,60 @@
+/*
+ * Copyright 2026 Open LLM Orchestrator contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.openllmorchestrator.worker.engine.expression;
+
+import java.util.Map;
+
+/**
+ * An expression compiled once into a closure tree. Evaluation is pure and deterministic (no I/O, clock or
+ * randomness), so it may run directly in workflow code against the original input and the current versioned state.
+ */
+public final class CompiledExpression {
+
+    /** One node of the closure tree. */
+    @FunctionalInterface
+    interface Node {
+        Object eval(Scope scope);
+    }
+
+    /** Evaluation roots: {@code input.*} is the original input, {@code state.*} the accumulated output. */
+    record Scope(Map<String, Object> input, Map<String, Object> state) {}
+
+    private final String source;
+    private final Node root;
+
+    CompiledExpression(String source, Node root) {
+        this.source = source;
+        this.root = root;
+    }
+
+    public String getSource() {
+        return source;
+    }
+
+    public Object evaluate(Map<String, Object> input, Map<String, Object> state) {
+        return root.eval(new Scope(input != null ? input : Map.of(), state != null ? state : Map.of()));
+    }
+
+    /** Evaluate and apply truthiness (null, false, 0, "" and empty collections are false). */
+    public boolean test(Map<String, Object> input, Map<String, Object> state) {
+        return ExpressionValues.truthy(evaluate(input, state));
+    }
+
+    @Override
+    public String toString() {
+        return source;
+    }
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright 2026 Open LLM Orchestrator contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.openllmorchestrator.worker.engine.expression;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * Process-wide cache of compiled expressions keyed by source. Plan building compiles (and so validates) every
+ * expression at bootstrap; the workflow then only looks up the closure tree.
+ */
+public final class CompiledExpressions {
+
+    /** A plain plugin/activity id (e.g. FQCN); anything else in a condition is treated as an expression. */
+    private static final Pattern PLUGIN_NAME = Pattern.compile("[A-Za-z_$][A-Za-z0-9_$.\\-]*");
+
+    private static final Map<String, CompiledExpression> CACHE = new ConcurrentHashMap<>();
+
+    private CompiledExpressions() {}
+
+    /** Compiled expression for the source; compiles on first use. Throws IllegalStateException on syntax errors. */
+    public static CompiledExpression get(String source) {
+        if (source == null || source.isBlank()) {
+            throw new IllegalStateException("Expression must be non-blank");
+        }
+        return CACHE.computeIfAbsent(source.trim(), ExpressionCompiler::compile);
+    }
+
+    /**
+     * True when a condition value is an expression rather than a plugin name: it contains operators, literals
+     * or spaces (e.g. {@code input.mode == "rag"}). A bare path such as {@code input.enabled} is a plugin name;
+     * write {@code input.enabled == true} instead.
+     */
+    public static boolean isExpression(String condition) {
+        return condition != null && !condition.isBlank() && !PLUGIN_NAME.matcher(condition.trim()).matches();
+    }
+}
@@ -0,0 +1,396 @@
+/*
+ * Copyright 2026 Open LLM Orchestrator contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.openllmorchestrator.worker.engine.expression;
+
+import com.openllmorchestrator.worker.engine.expression.CompiledExpression.Node;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Compiles the condition/transform expression language into a {@link CompiledExpression} closure tree.
+ * <p>Grammar (lowest to highest precedence): {@code a ? b : c}; {@code ||}/{@code or}; {@code &&}/{@code and};
+ * {@code ==} {@code !=}; {@code <} {@code <=} {@code >} {@code >=} {@code in}; {@code +} {@code -};
+ * {@code *} {@code /} {@code %}; unary {@code !}/{@code not} and {@code -}; {@code a.b} and {@code a[i]}.
+ * Literals: strings ('..' or ".."), numbers, {@code true}, {@code false}, {@code null}, lists {@code [a, b]}.
+ * Roots: {@code input} (original input), {@code state} (accumulated output); any other name reads state, then input.
+ * Functions: len, exists, lower, upper, trim, str, num, contains, startsWith, endsWith, coalesce.
+ * Syntax errors throw {@link IllegalStateException} so bad config fails at bootstrap.
+ */
+public final class ExpressionCompiler {
+
+    private ExpressionCompiler() {}
+
+    public static CompiledExpression compile(String source) {
+        if (source == null || source.isBlank()) {
+            throw new IllegalStateException("Expression must be non-blank");
+        }
+        Parser parser = new Parser(source, tokenize(source));
+        Node root = parser.parseExpression();
+        parser.expectEnd();
+        return new CompiledExpression(source.trim(), root);
+    }
+
+    // ---- tokens ----
+
+    private enum Kind { NUMBER, STRING, IDENT, OP, END }
+
+    private record Token(Kind kind, String text, Object value, int pos) {}
+
+    private static List<Token> tokenize(String s) {
+        List<Token> tokens = new ArrayList<>();
+        int i = 0;
+        int n = s.length();
+        while (i < n) {
+            char c = s.charAt(i);
+            if (Character.isWhitespace(c)) {
+                i++;
+            } else if (Character.isDigit(c) || (c == '.' && i + 1 < n && Character.isDigit(s.charAt(i + 1)))) {
+                int start = i;
+                boolean decimal = false;
+                while (i < n && (Character.isDigit(s.charAt(i)) || s.charAt(i) == '.'
+                        || s.charAt(i) == 'e' || s.charAt(i) == 'E'
+                        || ((s.charAt(i) == '+' || s.charAt(i) == '-') && (s.charAt(i - 1) == 'e' || s.charAt(i - 1) == 'E')))) {
+                    if (s.charAt(i) != '+' && s.charAt(i) != '-' && !Character.isDigit(s.charAt(i))) decimal = true;
+                    i++;
+                }
+                String text = s.substring(start, i);
+                try {
+                    tokens.add(new Token(Kind.NUMBER, text, decimal ? (Object) Double.parseDouble(text) : (Object) Long.parseLong(text), start));
+                } catch (NumberFormatException e) {
+                    throw error(s, start, "invalid number '" + text + "'");
+                }
+            } else if (c == '"' || c == '\'') {
+                int start = i++;
+                StringBuilder sb = new StringBuilder();
+                while (i < n && s.charAt(i) != c) {
+                    char ch = s.charAt(i++);
+                    if (ch == '\\' && i < n) {
+                        char esc = s.charAt(i++);
+                        sb.append(esc == 'n' ? '\n' : esc == 't' ? '\t' : esc);
+                    } else {
+                        sb.append(ch);
+                    }
+                }
+                if (i >= n) {
+                    throw error(s, start, "unterminated string");
+                }
+                i++;
+                tokens.add(new Token(Kind.STRING, s.substring(start, i), sb.toString(), start));
+            } else if (Character.isLetter(c) || c == '_' || c == '$') {
+                int start = i;
+                while (i < n && (Character.isLetterOrDigit(s.charAt(i)) || s.charAt(i) == '_' || s.charAt(i) == '$')) i++;
+                tokens.add(new Token(Kind.IDENT, s.substring(start, i), null, start));
+            } else {
+                String two = i + 1 < n ? s.substring(i, i + 2) : "";
+                if (two.equals("==") || two.equals("!=") || two.equals("<=") || two.equals(">=")
+                        || two.equals("&&") || two.equals("||")) {
+                    tokens.add(new Token(Kind.OP, two, null, i));
+                    i += 2;
+                } else if ("<>!+-*/%?:()[],.".indexOf(c) >= 0) {
+                    tokens.add(new Token(Kind.OP, String.valueOf(c), null, i));
+                    i++;
+                } else {
+                    throw error(s, i, "unexpected character '" + c + "'");
+                }
+            }
+        }
+        tokens.add(new Token(Kind.END, "", null, n));
+        return tokens;
+    }
+
+    private static IllegalStateException error(String source, int pos, String message) {
+        return new IllegalStateException("Invalid expression '" + source + "' at position " + pos + ": " + message);
+    }
+
+    // ---- functions ----
+
+    private record Fn(int minArgs, int maxArgs, Function<List<Object>, Object> impl) {}
+
+    private static final Map<String, Fn> FUNCTIONS = Map.ofEntries(
+            Map.entry("len", new Fn(1, 1, a -> (long) ExpressionValues.length(a.get(0)))),
+            Map.entry("exists", new Fn(1, 1, a -> a.get(0) != null)),
+            Map.entry("lower", new Fn(1, 1, a -> a.get(0) != null ? ExpressionValues.str(a.get(0)).toLowerCase(Locale.ROOT) : null)),
+            Map.entry("upper", new Fn(1, 1, a -> a.get(0) != null ? ExpressionValues.str(a.get(0)).toUpperCase(Locale.ROOT) : null)),
+            Map.entry("trim", new Fn(1, 1, a -> a.get(0) != null ? ExpressionValues.str(a.get(0)).trim() : null)),
+            Map.entry("str", new Fn(1, 1, a -> ExpressionValues.str(a.get(0)))),
+            Map.entry("num", new Fn(1, 1, a -> ExpressionValues.num(a.get(0)))),
+            Map.entry("contains", new Fn(2, 2, a -> ExpressionValues.contains(a.get(0), a.get(1)))),
+            Map.entry("startsWith", new Fn(2, 2, a -> a.get(0) instanceof String s && a.get(1) != null
+                    && s.startsWith(ExpressionValues.str(a.get(1))))),
+            Map.entry("endsWith", new Fn(2, 2, a -> a.get(0) instanceof String s && a.get(1) != null
+                    && s.endsWith(ExpressionValues.str(a.get(1))))),
+            Map.entry("coalesce", new Fn(1, Integer.MAX_VALUE, a -> {
+                for (Object v : a) {
+                    if (v != null) return v;
+                }
+                return null;
+            }))
+    );
+
+    // ---- parser: recursive descent producing closures ----
+
+    private static final class Parser {
+        private final String source;
+        private final List<Token> tokens;
+        private int pos;
+
+        Parser(String source, List<Token> tokens) {
+            this.source = source;
+            this.tokens = tokens;
+        }
+
+        private Token peek() {
+            return tokens.get(pos);
+        }
+
+        private boolean accept(String text) {
+            Token t = peek();
+            if ((t.kind() == Kind.OP || t.kind() == Kind.IDENT) && t.text().equals(text)) {
+                pos++;
+                return true;
+            }
+            return false;
+        }
+
+        private void expect(String text) {
+            if (!accept(text)) {
+                throw error(source, peek().pos(), "expected '" + text + "'");
+            }
+        }
+
+        void expectEnd() {
+            if (peek().kind() != Kind.END) {
+                throw error(source, peek().pos(), "unexpected '" + peek().text() + "'");
+            }
+        }
+
+        Node parseExpression() {
+            Node cond = parseOr();
+            if (accept("?")) {
+                Node then = parseExpression();
+                expect(":");
+                Node otherwise = parseExpression();
+                return s -> ExpressionValues.truthy(cond.eval(s)) ? then.eval(s) : otherwise.eval(s);
+            }
+            return cond;
+        }
+
+        private Node parseOr() {
+            Node left = parseAnd();
+            while (accept("||") || accept("or")) {
+                Node l = left;
+                Node r = parseAnd();
+                left = s -> ExpressionValues.truthy(l.eval(s)) || ExpressionValues.truthy(r.eval(s));
+            }
+            return left;
+        }
+
+        private Node parseAnd() {
+            Node left = parseEquality();
+            while (accept("&&") || accept("and")) {
+                Node l = left;
+                Node r = parseEquality();
+                left = s -> ExpressionValues.truthy(l.eval(s)) && ExpressionValues.truthy(r.eval(s));
+            }
+            return left;
+        }
+
+        private Node parseEquality() {
+            Node left = parseComparison();
+            while (true) {
+                Node l = left;
+                if (accept("==")) {
+                    Node r = parseComparison();
+                    left = s -> ExpressionValues.equal(l.eval(s), r.eval(s));
+                } else if (accept("!=")) {
+                    Node r = parseComparison();
+                    left = s -> !ExpressionValues.equal(l.eval(s), r.eval(s));
+                } else {
+                    return left;
+                }
+            }
+        }
+
+        private Node parseComparison() {
+            Node left = parseAdditive();
+            while (true) {
+                Node l = left;
+                String op = peek().text();
+                if (peek().kind() == Kind.OP && (op.equals("<") || op.equals("<=") || op.equals(">") || op.equals(">="))) {
+                    pos++;
+                    Node r = parseAdditive();
+                    left = s -> {
+                        Integer c = ExpressionValues.compare(l.eval(s), r.eval(s));
+                        if (c == null) return false;
+                        return switch (op) {
+                            case "<" -> c < 0;
+                            case "<=" -> c <= 0;
+                            case ">" -> c > 0;
+                            default -> c >= 0;
+                        };
+                    };
+                } else if (accept("in")) {
+                    Node r = parseAdditive();
+                    left = s -> ExpressionValues.contains(r.eval(s), l.eval(s));
+                } else {
+                    return left;
+                }
+            }
+        }
+
+        private Node parseAdditive() {
+            Node left = parseMultiplicative();
+            while (true) {
+                Node l = left;
+                if (accept("+")) {
+                    Node r = parseMultiplicative();
+                    left = s -> ExpressionValues.add(l.eval(s), r.eval(s));
+                } else if (accept("-")) {
+                    Node r = parseMultiplicative();
+                    left = s -> ExpressionValues.arithmetic('-', l.eval(s), r.eval(s));
+                } else {
+                    return left;
+                }
+            }
+        }
+
+        private Node parseMultiplicative() {
+            Node left = parseUnary();
+            while (true) {
+                Node l = left;
+                String op = peek().text();
+                if (peek().kind() == Kind.OP && (op.equals("*") || op.equals("/") || op.equals("%"))) {
+                    pos++;
+                    Node r = parseUnary();
+                    char c = op.charAt(0);
+                    left = s -> ExpressionValues.arithmetic(c, l.eval(s), r.eval(s));
+                } else {
+                    return left;
+                }
+            }
+        }
+
+        private Node parseUnary() {
+            if (accept("!") || accept("not")) {
+                Node operand = parseUnary();
+                return s -> !ExpressionValues.truthy(operand.eval(s));
+            }
+            if (accept("-")) {
+                Node operand = parseUnary();
+                return s -> ExpressionValues.negate(operand.eval(s));
+            }
+            return parsePostfix(parsePrimary());
+        }
+
+        private Node parsePostfix(Node target) {
+            Node node = target;
+            while (true) {
+                Node t = node;
+                if (accept(".")) {
+                    Token name = peek();
+                    if (name.kind() != Kind.IDENT) {
+                        throw error(source, name.pos(), "expected property name after '.'");
+                    }
+                    pos++;
+                    String key = name.text();
+                    node = s -> ExpressionValues.property(t.eval(s), key);
+                } else if (accept("[")) {
+                    Node index = parseExpression();
+                    expect("]");
+                    node = s -> ExpressionValues.index(t.eval(s), index.eval(s));
+                } else {
+                    return node;
+                }
+            }
+        }
+
+        private Node parsePrimary() {
+            Token t = peek();
+            switch (t.kind()) {
+                case NUMBER, STRING -> {
+                    pos++;
+                    Object value = t.value();
+                    return s -> value;
+                }
+                case IDENT -> {
+                    pos++;
+                    return parseIdentifier(t);
+                }
+                case OP -> {
+                    if (accept("(")) {
+                        Node inner = parseExpression();
+                        expect(")");
+                        return inner;
+                    }
+                    if (accept("[")) {
+                        List<Node> items = new ArrayList<>();
+                        if (!accept("]")) {
+                            do {
+                                items.add(parseExpression());
+                            } while (accept(","));
+                            expect("]");
+                        }
+                        return s -> {
+                            List<Object> out = new ArrayList<>(items.size());
+                            for (Node item : items) out.add(item.eval(s));
+                            return out;
+                        };
+                    }
+                    throw error(source, t.pos(), "unexpected '" + t.text() + "'");
+                }
+                default -> throw error(source, t.pos(), "unexpected end of expression");
+            }
+        }
+
+        private Node parseIdentifier(Token t) {
+            String name = t.text();
+            switch (name) {
+                case "true": return s -> Boolean.TRUE;
+                case "false": return s -> Boolean.FALSE;
+                case "null": return s -> null;
+                case "input": return s -> s.input();
+                case "state": return s -> s.state();
+                default: break;
+            }
+            if (accept("(")) {
+                Fn fn = FUNCTIONS.get(name);
+                if (fn == null) {
+                    throw error(source, t.pos(), "unknown function '" + name + "'");
+                }
+                List<Node> args = new ArrayList<>();
+                if (!accept(")")) {
+                    do {
+                        args.add(parseExpression());
+                    } while (accept(","));
+                    expect(")");
+                }
+                if (args.size() < fn.minArgs() || args.size() > fn.maxArgs()) {
+                    throw error(source, t.pos(), "wrong number of arguments for '" + name + "'");
+                }
+                return s -> {
+                    List<Object> values = new ArrayList<>(args.size());
+                    for (Node a : args) values.add(a.eval(s));
+                    return fn.impl().apply(values);
+                };
+            }
+            return s -> s.state().containsKey(name) ? s.state().get(name) : s.input().get(name);
+        }
+    }
+}
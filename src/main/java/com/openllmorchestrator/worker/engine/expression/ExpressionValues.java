@@ -0,0 +1,176 @@
+/*
+ * Copyright 2026 Open LLM Orchestrator contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.openllmorchestrator.worker.engine.expression;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Value semantics for compiled expressions. Pure and non-throwing so evaluation is safe inside workflow code:
+ * invalid operations (wrong types, division by zero, missing keys) yield null or false instead of failing the task.
+ */
+final class ExpressionValues {
+
+    private ExpressionValues() {}
+
+    /** null, false, 0, "" and empty collections/maps are false; everything else is true. */
+    static boolean truthy(Object v) {
+        if (v == null) return false;
+        if (v instanceof Boolean b) return b;
+        if (v instanceof Number n) return n.doubleValue() != 0d;
+        if (v instanceof CharSequence s) return s.length() > 0;
+        if (v instanceof Collection<?> c) return !c.isEmpty();
+        if (v instanceof Map<?, ?> m) return !m.isEmpty();
+        return true;
+    }
+
+    static boolean isIntegral(Object v) {
+        return v instanceof Long || v instanceof Integer || v instanceof Short || v instanceof Byte;
+    }
+
+    static boolean equal(Object a, Object b) {
+        if (a instanceof Number x && b instanceof Number y) {
+            return compareNumbers(x, y) == 0;
+        }
+        return Objects.equals(a, b);
+    }
+
+    /** Numbers numerically, strings lexicographically; other combinations are not ordered (null). */
+    static Integer compare(Object a, Object b) {
+        if (a instanceof Number x && b instanceof Number y) {
+            return compareNumbers(x, y);
+        }
+        if (a instanceof String x && b instanceof String y) {
+            return x.compareTo(y);
+        }
+        return null;
+    }
+
+    private static int compareNumbers(Number x, Number y) {
+        if (isIntegral(x) && isIntegral(y)) {
+            return Long.compare(x.longValue(), y.longValue());
+        }
+        return new BigDecimal(x.toString()).compareTo(new BigDecimal(y.toString()));
+    }
+
+    static Object add(Object a, Object b) {
+        if (a instanceof String || b instanceof String) {
+            return str(a) + str(b);
+        }
+        if (a instanceof Number x && b instanceof Number y) {
+            return isIntegral(x) && isIntegral(y) ? (Object) (x.longValue() + y.longValue()) : (Object) (x.doubleValue() + y.doubleValue());
+        }
+        return null;
+    }
+
+    static Object arithmetic(char op, Object a, Object b) {
+        if (!(a instanceof Number x) || !(b instanceof Number y)) {
+            return null;
+        }
+        if (isIntegral(x) && isIntegral(y)) {
+            long l = x.longValue();
+            long r = y.longValue();
+            switch (op) {
+                case '-': return l - r;
+                case '*': return l * r;
+                case '%': return r == 0 ? null : l % r;
+                case '/':
+                    if (r == 0) return null;
+                    return l % r == 0 ? (Object) (l / r) : (Object) ((double) l / r);
+                default: return null;
+            }
+        }
+        double l = x.doubleValue();
+        double r = y.doubleValue();
+        switch (op) {
+            case '-': return l - r;
+            case '*': return l * r;
+            case '%': return r == 0d ? null : l % r;
+            case '/': return r == 0d ? null : l / r;
+            default: return null;
+        }
+    }
+
+    static Object negate(Object v) {
+        if (v instanceof Number n) {
+            return isIntegral(n) ? (Object) (-n.longValue()) : (Object) (-n.doubleValue());
+        }
+        return null;
+    }
+
+    /** Property access: map key; null for anything else. */
+    static Object property(Object target, String name) {
+        return target instanceof Map<?, ?> m ? m.get(name) : null;
+    }
+
+    /** Index access: list by integral index (negative counts from the end), map by key. */
+    static Object index(Object target, Object key) {
+        if (target instanceof List<?> list && key instanceof Number n) {
+            int i = n.intValue();
+            if (i < 0) i += list.size();
+            return i >= 0 && i < list.size() ? list.get(i) : null;
+        }
+        if (target instanceof Map<?, ?> m && key != null) {
+            return m.get(key instanceof String ? key : String.valueOf(key));
+        }
+        return null;
+    }
+
+    /** {@code a in b}: element of a collection, key of a map, or substring of a string. */
+    static boolean contains(Object container, Object element) {
+        if (container instanceof Collection<?> c) {
+            for (Object o : c) {
+                if (equal(o, element)) return true;
+            }
+            return false;
+        }
+        if (container instanceof Map<?, ?> m) {
+            return element != null && m.containsKey(element);
+        }
+        if (container instanceof String s && element != null) {
+            return s.contains(str(element));
+        }
+        return false;
+    }
+
+    static int length(Object v) {
+        if (v instanceof CharSequence s) return s.length();
+        if (v instanceof Collection<?> c) return c.size();
+        if (v instanceof Map<?, ?> m) return m.size();
+        return 0;
+    }
+
+    static String str(Object v) {
+        return v == null ? "" : String.valueOf(v);
+    }
+
+    static Object num(Object v) {
+        if (v instanceof Number) return v;
+        if (v instanceof String s) {
+            String t = s.trim();
+            try {
+                return t.contains(".") || t.contains("e") || t.contains("E") ? (Object) Double.parseDouble(t) : (Object) Long.parseLong(t);
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        }
+        if (v instanceof Boolean b) return b ? 1L : 0L;
+        return null;
+    }
+}
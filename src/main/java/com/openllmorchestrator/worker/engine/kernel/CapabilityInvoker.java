@@ -15,6 +15,7 @@
  */
 package com.openllmorchestrator.worker.engine.kernel;
 
+import com.openllmorchestrator.worker.engine.activity.KernelCapabilityActivity;
 import com.openllmorchestrator.worker.engine.activity.MergePolicyActivity;
 import com.openllmorchestrator.worker.engine.contract.AsyncGroupResultEntry;
 import com.openllmorchestrator.worker.engine.contract.ExecutionContext;
@@ -22,45 +23,185 @@ import com.openllmorchestrator.worker.contract.CapabilityResult;
 import com.openllmorchestrator.worker.engine.capability.CapabilityDefinition;
 import com.openllmorchestrator.worker.engine.capability.CapabilityRetryOptions;
 import io.temporal.activity.ActivityOptions;
+import io.temporal.activity.LocalActivityOptions;
 import io.temporal.common.RetryOptions;
+import com.openllmorchestrator.worker.engine.config.hedging.HedgingConfig;
+import com.openllmorchestrator.worker.engine.kernel.deadline.ExecutionDeadline;
+import com.openllmorchestrator.worker.engine.kernel.hedge.HedgedInvocation;
+import com.openllmorchestrator.worker.engine.kernel.plan.PlanCaching;
+import com.openllmorchestrator.worker.engine.kernel.routing.ModelRouting;
 import io.temporal.workflow.ActivityStub;
+import io.temporal.workflow.Async;
+import io.temporal.workflow.CompletablePromise;
 import io.temporal.workflow.Promise;
 import io.temporal.workflow.Workflow;
 
 import java.lang.reflect.Method;
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 
-/** Passes pipeline data context to capability activities; no hardcoded timeouts/retries. */
+/**
+ * Passes pipeline data context to capability activities; no hardcoded timeouts/retries. When the execution has a
+ * deadline (DEADLINES), activity timeouts are cut to the time left and late capabilities get their deadline policy.
+ * With PLAN_CACHE a SYNC PLANNER call is answered from the plan cache when possible. With MODEL_ROUTING a routed
+ * model plugin may be swapped for another candidate of the pipeline's route (not inside fused runs).
+ */
 public class CapabilityInvoker {
 
-    public Promise<CapabilityResult> invokeAsync(CapabilityDefinition definition, ExecutionContext context) {
+    /** Heartbeat timeout of fused and streamed runs whose definitions set none. */
+    private static final Duration RUN_HEARTBEAT_TIMEOUT = Duration.ofSeconds(30);
+
+    /** Results already returned by a fused activity, consumed by {@link #invokeSync} for the rest of the run. */
+    private final Map<CapabilityDefinition, CapabilityResult> fusedResults = new IdentityHashMap<>();
+    /** Fused run to execute when {@link #invokeSync} is called for its first definition; empty when none. */
+    private List<CapabilityDefinition> pendingFusedRun = List.of();
+    /** True when the pending run is a stream-through run (stages run concurrently, linked by token channels). */
+    private boolean pendingStreamed;
+
+    public Promise<CapabilityResult> invokeAsync(CapabilityDefinition requested, ExecutionContext context) {
+        CapabilityResult expired = ExecutionDeadline.onExpired(requested, context);
+        if (expired != null) {
+            CompletablePromise<CapabilityResult> skipped = Workflow.newPromise();
+            skipped.complete(expired);
+            return skipped;
+        }
+        CapabilityDefinition definition = ModelRouting.route(requested, context);
+        String queue = context != null ? context.getQueueName() : null;
+        HedgingConfig hedging = HedgedInvocation.policyFor(definition, queue);
+        if (hedging != null) {
+            CapabilityDefinition hedged = HedgedInvocation.withHeartbeat(definition, hedging);
+            return Async.function(() -> HedgedInvocation.run(hedged, queue, hedging, () -> startActivity(hedged, context)));
+        }
+        return startActivity(definition, context);
+    }
+
+    private Promise<CapabilityResult> startActivity(CapabilityDefinition definition, ExecutionContext context) {
         String activityType = activityTypeFor(definition);
-        ActivityStub stub = Workflow.newUntypedActivityStub(toActivityOptions(definition));
+        ActivityStub stub = newStub(definition, ExecutionDeadline.remaining(context));
         Map<String, Object> orig = context != null ? context.getOriginalInput() : Map.of();
         Map<String, Object> acc = context != null ? context.getAccumulatedOutput() : Map.of();
         String queueName = context != null ? context.getQueueName() : null;
         return stub.executeAsync(activityType, CapabilityResult.class, queueName, definition.getName(), orig, acc);
     }
 
+    /**
+     * Registers a run of fusable SYNC definitions (see SYNC_FUSION). The run executes as one activity when
+     * {@link #invokeSync} is called for its first definition; later definitions get their result from that call.
+     */
+    public void prepareFusedRun(List<CapabilityDefinition> run) {
+        if (run == null || run.size() < 2 || fusedResults.containsKey(run.get(0))) {
+            return;
+        }
+        pendingFusedRun = List.copyOf(run);
+        pendingStreamed = false;
+    }
+
+    /**
+     * Registers a stream-through run (see STREAMING): like a fused run, but the activity runs the stages concurrently,
+     * each consuming the previous stage's tokens. Only the final results come back and are merged as usual.
+     */
+    public void prepareStreamedRun(List<CapabilityDefinition> run) {
+        if (run == null || run.size() < 2 || fusedResults.containsKey(run.get(0))) {
+            return;
+        }
+        pendingFusedRun = List.copyOf(run);
+        pendingStreamed = true;
+    }
+
+    /**
+     * Drops results of fused runs that were not consumed, and any pending run: used when execution stops early so a
+     * later {@code execute} of the plan (e.g. after a suspend) runs those definitions again.
+     */
+    public void discardFusedResults() {
+        fusedResults.clear();
+        pendingFusedRun = List.of();
+        pendingStreamed = false;
+    }
+
+    /** True when the definition's result was already produced by a fused activity. */
+    public boolean hasFusedResult(CapabilityDefinition definition) {
+        return definition != null && fusedResults.containsKey(definition);
+    }
+
     public CapabilityResult invokeSync(CapabilityDefinition definition, ExecutionContext context) {
+        CapabilityResult prefetched = fusedResults.remove(definition);
+        if (prefetched != null) {
+            return prefetched;
+        }
+        CapabilityResult expired = ExecutionDeadline.onExpired(definition, context);
+        if (expired != null) {
+            if (!pendingFusedRun.isEmpty() && pendingFusedRun.get(0) == definition) {
+                pendingFusedRun = List.of();
+                pendingStreamed = false;
+            }
+            return expired;
+        }
+        String planKey = PlanCaching.keyFor(definition, context);
+        CapabilityResult planned = PlanCaching.lookup(planKey, definition, context);
+        if (planned != null) {
+            if (!pendingFusedRun.isEmpty() && pendingFusedRun.get(0) == definition) {
+                pendingFusedRun = List.of();
+                pendingStreamed = false;
+            }
+            return planned;
+        }
+        CapabilityResult result = invokeUncached(definition, context);
+        PlanCaching.remember(planKey, context, result);
+        return result;
+    }
+
+    private CapabilityResult invokeUncached(CapabilityDefinition requested, ExecutionContext context) {
+        if (!pendingFusedRun.isEmpty() && pendingFusedRun.get(0) == requested) {
+            List<CapabilityDefinition> run = pendingFusedRun;
+            boolean streamed = pendingStreamed;
+            pendingFusedRun = List.of();
+            pendingStreamed = false;
+            List<CapabilityResult> results = invokeFused(run, streamed, context);
+            if (results == null || results.isEmpty()) {
+                throw new IllegalStateException("Fused activity returned no result for " + requested.getName());
+            }
+            for (int i = 1; i < results.size() && i < run.size(); i++) {
+                fusedResults.put(run.get(i), results.get(i));
+            }
+            return results.get(0);
+        }
+        CapabilityDefinition definition = ModelRouting.route(requested, context);
+        String queueName = context != null ? context.getQueueName() : null;
+        HedgingConfig hedging = HedgedInvocation.policyFor(definition, queueName);
+        if (hedging != null) {
+            CapabilityDefinition hedged = HedgedInvocation.withHeartbeat(definition, hedging);
+            return HedgedInvocation.run(hedged, queueName, hedging, () -> startActivity(hedged, context));
+        }
         String activityType = activityTypeFor(definition);
-        ActivityStub stub = Workflow.newUntypedActivityStub(toActivityOptions(definition));
+        ActivityStub stub = newStub(definition, ExecutionDeadline.remaining(context));
         Map<String, Object> orig = context != null ? context.getOriginalInput() : Map.of();
         Map<String, Object> acc = context != null ? context.getAccumulatedOutput() : Map.of();
-        String queueName = context != null ? context.getQueueName() : null;
         return stub.execute(activityType, CapabilityResult.class, queueName, definition.getName(), orig, acc);
     }
 
     public Map<String, Object> invokeMerge(String mergePolicyName, String taskQueue, Duration timeout,
                                            ExecutionContext context, List<String> names, List<CapabilityResult> results) {
-        ActivityOptions.Builder mergeOptions = ActivityOptions.newBuilder()
-                .setTaskQueue(taskQueue != null ? taskQueue : "default")
-                .setStartToCloseTimeout(timeout != null && !timeout.isNegative() ? timeout : Duration.ofSeconds(30));
-        setSummaryOnBuilder(mergeOptions, "Merge::" + (mergePolicyName != null && !mergePolicyName.isBlank() ? mergePolicyName : "LAST_WINS"));
-        MergePolicyActivity activity = Workflow.newActivityStub(MergePolicyActivity.class, mergeOptions.build());
+        return invokeMerge(mergePolicyName, taskQueue, timeout, false, context, names, results);
+    }
+
+    /** @param local run the merge handler as a local activity (used when the async group is LOCAL). */
+    public Map<String, Object> invokeMerge(String mergePolicyName, String taskQueue, Duration timeout, boolean local,
+                                           ExecutionContext context, List<String> names, List<CapabilityResult> results) {
+        Duration startToClose = timeout != null && !timeout.isNegative() ? timeout : Duration.ofSeconds(30);
+        MergePolicyActivity activity;
+        if (local) {
+            activity = Workflow.newLocalActivityStub(MergePolicyActivity.class,
+                    LocalActivityOptions.newBuilder().setStartToCloseTimeout(startToClose).build());
+        } else {
+            ActivityOptions.Builder mergeOptions = ActivityOptions.newBuilder()
+                    .setTaskQueue(taskQueue != null ? taskQueue : "default")
+                    .setStartToCloseTimeout(startToClose);
+            setSummaryOnBuilder(mergeOptions, "Merge::" + (mergePolicyName != null && !mergePolicyName.isBlank() ? mergePolicyName : "LAST_WINS"));
+            activity = Workflow.newActivityStub(MergePolicyActivity.class, mergeOptions.build());
+        }
         List<AsyncGroupResultEntry> entries = new ArrayList<>();
         if (names != null && results != null && names.size() == results.size()) {
             for (int i = 0; i < names.size(); i++) {
@@ -73,15 +214,112 @@ public class CapabilityInvoker {
         return activity.merge(queueName, mergePolicyName, orig, acc, entries);
     }
 
-    private static ActivityOptions toActivityOptions(CapabilityDefinition d) {
+    private List<CapabilityResult> invokeFused(List<CapabilityDefinition> run, boolean streamed, ExecutionContext context) {
+        List<String> names = new ArrayList<>(run.size());
+        for (CapabilityDefinition d : run) {
+            names.add(d.getName());
+        }
+        Duration remaining = ExecutionDeadline.remaining(context);
+        KernelCapabilityActivity activity = run.get(0).isLocal()
+                ? Workflow.newLocalActivityStub(KernelCapabilityActivity.class, toLocalActivityOptions(run.get(0), fusedTimeout(run), remaining))
+                : Workflow.newActivityStub(KernelCapabilityActivity.class, toFusedActivityOptions(run, streamed, remaining));
+        Map<String, Object> orig = context != null ? context.getOriginalInput() : Map.of();
+        Map<String, Object> acc = context != null ? context.getAccumulatedOutput() : Map.of();
+        String queueName = context != null ? context.getQueueName() : null;
+        return streamed
+                ? activity.executeStreamed(queueName, names, orig, acc)
+                : activity.executeFused(queueName, names, orig, acc);
+    }
+
+    /** Start-to-close is the sum of the run's timeouts; queue, schedule-to-start and retry come from the first definition. */
+    private static ActivityOptions toFusedActivityOptions(List<CapabilityDefinition> run, boolean streamed, Duration remaining) {
+        CapabilityDefinition first = run.get(0);
+        StringBuilder summary = new StringBuilder(streamed ? "Streamed::" : "Fused::");
+        for (int i = 0; i < run.size(); i++) {
+            String name = buildActivitySummary(run.get(i));
+            summary.append(i > 0 ? (streamed ? ">" : "+") : "").append(name != null ? name : "Unknown");
+        }
+        ActivityOptions.Builder b = ActivityOptions.newBuilder()
+                .setTaskQueue(first.getTaskQueue())
+                .setStartToCloseTimeout(ExecutionDeadline.clamp(fusedTimeout(run), remaining));
+        if (first.getScheduleToStartTimeout() != null) {
+            b.setScheduleToStartTimeout(first.getScheduleToStartTimeout());
+        }
+        if (remaining != null) {
+            b.setScheduleToCloseTimeout(remaining);
+        }
+        b.setHeartbeatTimeout(fusedHeartbeatTimeout(run));
+        if (first.getRetryOptions() != null) {
+            b.setRetryOptions(toRetryOptions(first.getRetryOptions()));
+        }
+        setSummaryOnBuilder(b, summary.toString());
+        return b.build();
+    }
+
+    private static Duration fusedTimeout(List<CapabilityDefinition> run) {
+        Duration total = Duration.ZERO;
+        for (CapabilityDefinition d : run) {
+            total = total.plus(d.getTimeout() != null ? d.getTimeout() : Duration.ofSeconds(30));
+        }
+        return total;
+    }
+
+    /**
+     * Shortest heartbeat timeout in the run, so the strictest stage still detects a lost worker in time. A run spans
+     * several capabilities, so when none sets one it gets {@link #RUN_HEARTBEAT_TIMEOUT}: without heartbeats a lost
+     * worker is only seen at start-to-close and a cancellation never reaches the run.
+     */
+    private static Duration fusedHeartbeatTimeout(List<CapabilityDefinition> run) {
+        Duration min = null;
+        for (CapabilityDefinition d : run) {
+            if (d.getHeartbeatTimeout() != null && (min == null || d.getHeartbeatTimeout().compareTo(min) < 0)) {
+                min = d.getHeartbeatTimeout();
+            }
+        }
+        return min != null ? min : RUN_HEARTBEAT_TIMEOUT;
+    }
+
+    /**
+     * LOCAL capabilities run as local activities in this workflow worker; others go through their task queue.
+     * {@code remaining} is the time left before the execution deadline (null when none); it caps start-to-close and
+     * schedule-to-close, so retries stop at the deadline too.
+     */
+    private static ActivityStub newStub(CapabilityDefinition d, Duration remaining) {
+        return d.isLocal()
+                ? Workflow.newUntypedLocalActivityStub(toLocalActivityOptions(d, d.getTimeout(), remaining))
+                : Workflow.newUntypedActivityStub(toActivityOptions(d, remaining));
+    }
+
+    /** Task queue and schedule-to-start do not apply to local activities; retry runs in-process up to the local retry threshold. */
+    private static LocalActivityOptions toLocalActivityOptions(CapabilityDefinition d, Duration startToClose, Duration remaining) {
+        LocalActivityOptions.Builder b = LocalActivityOptions.newBuilder()
+                .setStartToCloseTimeout(ExecutionDeadline.clamp(startToClose, remaining));
+        Duration scheduleToClose = ExecutionDeadline.clamp(d.getScheduleToCloseTimeout(), remaining);
+        if (scheduleToClose != null) {
+            b.setScheduleToCloseTimeout(scheduleToClose);
+        }
+        if (d.getRetryOptions() != null) {
+            b.setRetryOptions(toRetryOptions(d.getRetryOptions()));
+        }
+        if (d.getLocalRetryThreshold() != null) {
+            b.setLocalRetryThreshold(d.getLocalRetryThreshold());
+        }
+        return b.build();
+    }
+
+    private static ActivityOptions toActivityOptions(CapabilityDefinition d, Duration remaining) {
         ActivityOptions.Builder b = ActivityOptions.newBuilder()
                 .setTaskQueue(d.getTaskQueue())
-                .setStartToCloseTimeout(d.getTimeout());
+                .setStartToCloseTimeout(ExecutionDeadline.clamp(d.getTimeout(), remaining));
         if (d.getScheduleToStartTimeout() != null) {
             b.setScheduleToStartTimeout(d.getScheduleToStartTimeout());
         }
-        if (d.getScheduleToCloseTimeout() != null) {
-            b.setScheduleToCloseTimeout(d.getScheduleToCloseTimeout());
+        Duration scheduleToClose = ExecutionDeadline.clamp(d.getScheduleToCloseTimeout(), remaining);
+        if (scheduleToClose != null) {
+            b.setScheduleToCloseTimeout(scheduleToClose);
+        }
+        if (d.getHeartbeatTimeout() != null) {
+            b.setHeartbeatTimeout(d.getHeartbeatTimeout());
         }
         if (d.getRetryOptions() != null) {
             b.setRetryOptions(toRetryOptions(d.getRetryOptions()));
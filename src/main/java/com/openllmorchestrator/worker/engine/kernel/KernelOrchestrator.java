@@ -21,10 +21,12 @@ import com.openllmorchestrator.worker.engine.contract.ExecutionContext;
 import com.openllmorchestrator.worker.engine.contract.KernelExecutionOutcome;
 import com.openllmorchestrator.worker.engine.kernel.execution.AsyncGroupExecutor;
 import com.openllmorchestrator.worker.engine.kernel.execution.ConditionalGroupExecutor;
+import com.openllmorchestrator.worker.engine.kernel.execution.FusedSyncRun;
 import com.openllmorchestrator.worker.engine.kernel.execution.GroupExecutor;
 import com.openllmorchestrator.worker.engine.runtime.EngineRuntime;
 import com.openllmorchestrator.worker.engine.kernel.execution.PlanExecutorGroupExecutor;
 import com.openllmorchestrator.worker.engine.kernel.execution.SyncGroupExecutor;
+import com.openllmorchestrator.worker.engine.kernel.execution.TransformGroupExecutor;
 import com.openllmorchestrator.worker.engine.capability.CapabilityGroupSpec;
 import com.openllmorchestrator.worker.engine.capability.CapabilityPlan;
 import com.openllmorchestrator.worker.engine.capability.ExecutionTreeNode;
@@ -63,6 +65,7 @@ public class KernelOrchestrator {
         this.executors = List.of(
                 new PlanExecutorGroupExecutor(this::execute),
                 new ConditionalGroupExecutor(this::execute),
+                new TransformGroupExecutor(),
                 new SyncGroupExecutor(),
                 new AsyncGroupExecutor()
         );
@@ -79,6 +82,7 @@ public class KernelOrchestrator {
         this.executors = List.of(
                 new PlanExecutorGroupExecutor(this::execute),
                 new ConditionalGroupExecutor(this::execute),
+                new TransformGroupExecutor(),
                 new SyncGroupExecutor(),
                 new AsyncGroupExecutor()
         );
@@ -118,6 +122,7 @@ public class KernelOrchestrator {
                 currentCapabilityIndex = capabilityIndex;
             }
             log.info("---- Executing Capability Group {} ----", next);
+            prepareFusedRun(plan, state, spec, next, context);
             interceptorChain.beforeGroup(context, next, spec);
             try {
                 executeGroup(spec, context, next);
@@ -134,6 +139,7 @@ public class KernelOrchestrator {
             if (flags != null && flags.isEnabled(FeatureFlag.HUMAN_SIGNAL) && context.isSuspendRequestedForSignal()) {
                 long stepId = context.getVersionedState() != null ? context.getVersionedState().getStepId() : 0L;
                 log.info("Suspend requested for signal (stepId={}); workflow will await signal.", stepId);
+                capabilityInvoker.discardFusedResults();
                 return KernelExecutionOutcome.suspended(stepId);
             }
         }
@@ -158,6 +164,30 @@ public class KernelOrchestrator {
                 .orElse(0);
     }
 
+    /**
+     * SYNC_FUSION: when this group starts a run of fusable SYNC groups, let the invoker run them as one activity.
+     * Not with interceptors: they run around every group, and a later group's beforeGroup must not see its plugins
+     * already executed, nor may a suspend requested between groups come after they ran.
+     * STREAMING: a run of stream-through groups runs as one activity with the stages linked by token channels.
+     */
+    private void prepareFusedRun(CapabilityPlan plan, ExecutionState state, CapabilityGroupSpec spec, int groupIndex,
+                                 ExecutionContext context) {
+        boolean streamThrough = FusedSyncRun.isStreamThrough(spec);
+        if ((!streamThrough && !FusedSyncRun.isFusable(spec)) || capabilityInvoker.hasFusedResult(spec.getDefinitions().get(0))) {
+            return;
+        }
+        FeatureFlags flags = EngineRuntime.getFeatureFlags(context.getQueueName());
+        if (streamThrough && flags != null && flags.isEnabled(FeatureFlag.STREAMING)) {
+            capabilityInvoker.prepareStreamedRun(FusedSyncRun.collectStreamThrough(plan, state.getCompletedGroupIndices(), groupIndex));
+            return;
+        }
+        if (!FusedSyncRun.isFusable(spec) || flags == null || !flags.isEnabled(FeatureFlag.SYNC_FUSION)
+                || !interceptorChain.isEmpty()) {
+            return;
+        }
+        capabilityInvoker.prepareFusedRun(FusedSyncRun.collect(plan, state.getCompletedGroupIndices(), groupIndex));
+    }
+
     private void executeGroup(CapabilityGroupSpec spec, ExecutionContext context, int groupIndex) {
         for (GroupExecutor ex : executors) {
             if (ex.supports(spec)) {
@@ -0,0 +1,137 @@
+/*
+ * Copyright 2026 Open LLM Orchestrator contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.openllmorchestrator.worker.engine.kernel.deadline;
+
+import com.openllmorchestrator.worker.contract.CapabilityResult;
+import com.openllmorchestrator.worker.engine.capability.CapabilityDefinition;
+import com.openllmorchestrator.worker.engine.config.EngineFileConfig;
+import com.openllmorchestrator.worker.engine.config.FeatureFlag;
+import com.openllmorchestrator.worker.engine.config.FeatureFlags;
+import com.openllmorchestrator.worker.engine.config.deadline.DeadlineConfig;
+import com.openllmorchestrator.worker.engine.config.pipeline.PipelineSection;
+import com.openllmorchestrator.worker.engine.contract.ExecutionCommand;
+import com.openllmorchestrator.worker.engine.contract.ExecutionContext;
+import com.openllmorchestrator.worker.engine.runtime.EngineRuntime;
+import io.temporal.failure.ApplicationFailure;
+import io.temporal.workflow.Workflow;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.HashMap;
+
+/**
+ * Workflow-side deadline handling (DEADLINES). The deadline is resolved once per execution and recorded with
+ * {@link Workflow#sideEffect}, so replays see the same value even if config changed. Remaining time uses workflow
+ * time, which is deterministic.
+ */
+@Slf4j
+public final class ExecutionDeadline {
+
+    public static final String EXCEEDED_TYPE = "DeadlineExceeded";
+
+    private ExecutionDeadline() {}
+
+    /** Earliest of the command's deadline, its timeout and the pipeline (or default) SLA, as epoch millis; null when none or disabled. */
+    public static Long resolve(ExecutionCommand command, String queueName, String pipelineName) {
+        FeatureFlags flags = EngineRuntime.getFeatureFlags(queueName);
+        if (flags == null || !flags.isEnabled(FeatureFlag.DEADLINES)) {
+            return null;
+        }
+        long now = Workflow.currentTimeMillis();
+        return Workflow.sideEffect(Long.class, () -> {
+            Long deadline = command.getDeadlineEpochMillis();
+            if (command.getTimeoutMillis() != null && command.getTimeoutMillis() > 0) {
+                deadline = earliest(deadline, now + command.getTimeoutMillis());
+            }
+            Integer slaSeconds = slaSeconds(EngineRuntime.getConfig(queueName), pipelineName);
+            if (slaSeconds != null && slaSeconds > 0) {
+                deadline = earliest(deadline, now + slaSeconds * 1000L);
+            }
+            return deadline;
+        });
+    }
+
+    /** Time left before the context's deadline (at least 1 ms, a valid timeout); null when the execution has no deadline. */
+    public static Duration remaining(ExecutionContext context) {
+        Long deadline = context != null ? context.getDeadlineMillis() : null;
+        if (deadline == null) {
+            return null;
+        }
+        return Duration.ofMillis(Math.max(1, deadline - Workflow.currentTimeMillis()));
+    }
+
+    /** Shorter of the configured timeout and the remaining time; the configured value when there is no deadline. */
+    public static Duration clamp(Duration configured, Duration remaining) {
+        if (remaining == null) {
+            return configured;
+        }
+        return configured == null || remaining.compareTo(configured) < 0 ? remaining : configured;
+    }
+
+    /**
+     * Result to use instead of running {@code definition} when less than the reserve is left: empty (SKIP) or empty
+     * with a pipeline break (BREAK); FAIL throws a non-retryable {@value #EXCEEDED_TYPE} failure. Null when the
+     * capability should run.
+     */
+    public static CapabilityResult onExpired(CapabilityDefinition definition, ExecutionContext context) {
+        Duration remaining = remaining(context);
+        if (remaining == null) {
+            return null;
+        }
+        DeadlineConfig config = EngineRuntime.getConfig(context.getQueueName()).getDeadlinesEffective();
+        long reserve = config.getReserveMillis() != null ? config.getReserveMillis() : 500;
+        if (remaining.toMillis() >= reserve) {
+            return null;
+        }
+        String policy = policyFor(definition, config);
+        log.info("Deadline reached before capability '{}' ({} ms left); policy {}", definition.getName(), remaining.toMillis(), policy);
+        if (DeadlineConfig.FAIL.equals(policy)) {
+            throw ApplicationFailure.newNonRetryableFailure("Execution deadline reached before capability '"
+                    + definition.getName() + "'", EXCEEDED_TYPE);
+        }
+        return CapabilityResult.builder()
+                .capabilityName(definition.getName())
+                .output(new HashMap<>())
+                .requestPipelineBreak(!DeadlineConfig.SKIP.equals(policy))
+                .build();
+    }
+
+    private static String policyFor(CapabilityDefinition definition, DeadlineConfig config) {
+        String policy = null;
+        if (config.getCapabilities() != null) {
+            policy = config.getCapabilities().get(definition.getName());
+            if (policy == null && definition.getCapabilityBucketName() != null) {
+                policy = config.getCapabilities().get(definition.getCapabilityBucketName());
+            }
+        }
+        if (policy == null) {
+            policy = config.getOnExpired();
+        }
+        return policy != null ? policy.trim().toUpperCase() : DeadlineConfig.BREAK;
+    }
+
+    private static Integer slaSeconds(EngineFileConfig config, String pipelineName) {
+        PipelineSection pipeline = config != null && config.getPipelines() != null ? config.getPipelines().get(pipelineName) : null;
+        if (pipeline != null && pipeline.getDeadlineSeconds() != null) {
+            return pipeline.getDeadlineSeconds();
+        }
+        return config != null ? config.getDeadlinesEffective().getDefaultDeadlineSeconds() : null;
+    }
+
+    private static Long earliest(Long a, long b) {
+        return a == null ? b : Math.min(a, b);
+    }
+}
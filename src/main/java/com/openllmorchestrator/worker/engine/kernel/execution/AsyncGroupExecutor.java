@@ -54,11 +54,7 @@ public final class AsyncGroupExecutor implements GroupExecutor {
             interceptorChain.beforeCapability(capCtx);
         }
         AsyncCompletionPolicy policy = spec.getAsyncPolicy() != null ? spec.getAsyncPolicy() : AsyncCompletionPolicy.ALL;
-        List<Promise<CapabilityResult>> promises = new ArrayList<>();
-        for (CapabilityDefinition def : group) {
-            log.info("Scheduling ASYNC capability: {}", def.getName());
-            promises.add(invoker.invokeAsync(def, context));
-        }
+        List<Promise<CapabilityResult>> promises = schedule(group, spec.getMaxConcurrency(), policy, invoker, context);
         waitForPromises(policy, promises);
         List<String> names = new ArrayList<>(group.size());
         List<CapabilityResult> results = new ArrayList<>(group.size());
@@ -66,6 +62,13 @@ public final class AsyncGroupExecutor implements GroupExecutor {
             CapabilityDefinition def = group.get(i);
             names.add(def.getName());
             CapabilityContext capCtx = CapabilityContext.from(groupIndex, def, stateBefore, context);
+            if (i >= promises.size()) {
+                log.info("Skipped ASYNC capability: {} (group settled by {})", def.getName(), policy);
+                CapabilityResult skipped = CapabilityResult.builder().capabilityName(def.getName()).build();
+                results.add(skipped);
+                interceptorChain.afterCapability(capCtx, skipped);
+                continue;
+            }
             try {
                 CapabilityResult r = promises.get(i).get();
                 results.add(r);
@@ -77,8 +80,9 @@ public final class AsyncGroupExecutor implements GroupExecutor {
         }
         String taskQueue = group.isEmpty() ? null : group.get(0).getTaskQueue();
         java.time.Duration timeout = group.isEmpty() ? java.time.Duration.ofSeconds(30) : group.get(0).getTimeout();
+        boolean local = !group.isEmpty() && group.get(0).isLocal();
         Map<String, Object> merged = invoker.invokeMerge(
-                spec.getAsyncOutputMergePolicyName(), taskQueue, timeout, context, names, results);
+                spec.getAsyncOutputMergePolicyName(), taskQueue, timeout, local, context, names, results);
         VersionedState current = context.getVersionedState();
         VersionedState next = current.withNextStepAfterAsync(merged != null ? merged : Map.of(), group.size());
         context.setVersionedState(next);
@@ -102,6 +106,64 @@ public final class AsyncGroupExecutor implements GroupExecutor {
         }
     }
 
+    /**
+     * Starts definitions in order, keeping at most {@code maxConcurrency} in flight (0 = all at once): when the window
+     * is full, waits for any in-flight capability to finish before starting the next. After each completion the policy
+     * is checked; once it is settled (a success for FIRST_SUCCESS, a failure for ALL / FIRST_FAILURE) no further
+     * definitions start. Returns the started promises, a prefix of the group in definition order.
+     */
+    private static List<Promise<CapabilityResult>> schedule(List<CapabilityDefinition> group, int maxConcurrency,
+                                                            AsyncCompletionPolicy policy, CapabilityInvoker invoker,
+                                                            ExecutionContext context) {
+        int window = maxConcurrency > 0 ? maxConcurrency : group.size();
+        List<Promise<CapabilityResult>> promises = new ArrayList<>(group.size());
+        List<Promise<CapabilityResult>> inFlight = new ArrayList<>(Math.min(window, group.size()));
+        for (CapabilityDefinition def : group) {
+            if (inFlight.size() >= window) {
+                try {
+                    Promise.anyOf(inFlight).get();
+                } catch (RuntimeException e) {
+                    // Read again with the results below.
+                }
+                inFlight.removeIf(Promise::isCompleted);
+                if (isSettled(policy, promises)) {
+                    break;
+                }
+            }
+            log.info("Scheduling ASYNC capability: {}", def.getName());
+            Promise<CapabilityResult> promise = invoker.invokeAsync(def, context);
+            promises.add(promise);
+            inFlight.add(promise);
+        }
+        return promises;
+    }
+
+    /** Whether the completed promises already decide the group, so starting more definitions is wasted work. */
+    private static boolean isSettled(AsyncCompletionPolicy policy, List<Promise<CapabilityResult>> promises) {
+        for (Promise<CapabilityResult> p : promises) {
+            if (!p.isCompleted()) {
+                continue;
+            }
+            boolean failed = p.getFailure() != null;
+            switch (policy) {
+                case FIRST_SUCCESS:
+                    if (!failed) {
+                        return true;
+                    }
+                    break;
+                case ALL:
+                case FIRST_FAILURE:
+                    if (failed) {
+                        return true;
+                    }
+                    break;
+                default:
+                    break;
+            }
+        }
+        return false;
+    }
+
     private static void waitForPromises(AsyncCompletionPolicy policy, List<Promise<CapabilityResult>> promises) {
         switch (policy) {
             case ALL:
@@ -21,6 +21,7 @@ import com.openllmorchestrator.worker.engine.capability.CapabilityGroupSpec;
 import com.openllmorchestrator.worker.engine.capability.CapabilityPlan;
 import com.openllmorchestrator.worker.engine.contract.ExecutionContext;
 import com.openllmorchestrator.worker.engine.contract.VersionedState;
+import com.openllmorchestrator.worker.engine.expression.CompiledExpressions;
 import com.openllmorchestrator.worker.engine.kernel.CapabilityInvoker;
 import com.openllmorchestrator.worker.engine.kernel.feature.DebuggerFeatureHandler;
 import com.openllmorchestrator.worker.engine.kernel.interceptor.CapabilityContext;
@@ -35,6 +36,7 @@ import java.util.function.BiConsumer;
 /**
  * Executes conditional (if/elseif/else) groups: runs the condition plugin, reads output key {@code branch}
  * (0=then, 1=first elseif, ..., n-1=else), then runs the selected branch as a sub-plan.
+ * Expression conditions ({@link CapabilityGroupSpec#getConditionExpressions()}) are evaluated in-workflow; no activity runs.
  */
 @Slf4j
 public final class ConditionalGroupExecutor implements GroupExecutor {
@@ -57,6 +59,11 @@ public final class ConditionalGroupExecutor implements GroupExecutor {
                        int groupIndex, ExecutionInterceptorChain interceptorChain) {
         CapabilityDefinition conditionDef = spec.getConditionDefinition();
         List<List<CapabilityGroupSpec>> branches = spec.getBranches();
+        if (!spec.getConditionExpressions().isEmpty()) {
+            int branchIndex = evaluateExpressions(spec, context, groupIndex, interceptorChain);
+            runBranch(branches, branchIndex, context, groupIndex, interceptorChain);
+            return;
+        }
         log.info("Executing conditional group: condition plugin={}", conditionDef.getName());
 
         // Run condition capability through interceptor chain with node kind "condition"
@@ -87,6 +94,43 @@ public final class ConditionalGroupExecutor implements GroupExecutor {
         int branchIndex = toBranchIndex(branchObj, branches.size());
         log.info("Condition selected branch {} (0=then, {} = else)", branchIndex, branches.size() - 1);
 
+        runBranch(branches, branchIndex, context, groupIndex, interceptorChain);
+    }
+
+    /** First truthy expression selects its branch (0=then, 1..=elseif); none selects the else branch. */
+    private static int evaluateExpressions(CapabilityGroupSpec spec, ExecutionContext context, int groupIndex,
+                                           ExecutionInterceptorChain interceptorChain) {
+        CapabilityDefinition conditionDef = spec.getConditionDefinition();
+        List<String> expressions = spec.getConditionExpressions();
+        context.put(DebuggerFeatureHandler.STATE_KEY_DEBUG_NODE_KIND, "condition");
+        CapabilityContext capCtx = CapabilityContext.from(groupIndex, conditionDef, context.getVersionedState(), context);
+        interceptorChain.beforeCapability(capCtx);
+        int branchIndex = expressions.size();
+        try {
+            for (int i = 0; i < expressions.size(); i++) {
+                if (CompiledExpressions.get(expressions.get(i)).test(context.getOriginalInput(), context.getAccumulatedOutput())) {
+                    branchIndex = i;
+                    break;
+                }
+            }
+            Map<String, Object> output = new HashMap<>();
+            output.put(OUTPUT_KEY_BRANCH, branchIndex);
+            interceptorChain.afterCapability(capCtx, CapabilityResult.builder()
+                    .capabilityName(conditionDef.getName())
+                    .output(output)
+                    .build());
+        } catch (Exception e) {
+            interceptorChain.onError(capCtx, e);
+            throw e;
+        } finally {
+            context.put(DebuggerFeatureHandler.STATE_KEY_DEBUG_NODE_KIND, null);
+        }
+        log.info("Condition expression selected branch {} (0=then, {} = else)", branchIndex, expressions.size());
+        return branchIndex;
+    }
+
+    private void runBranch(List<List<CapabilityGroupSpec>> branches, int branchIndex, ExecutionContext context,
+                           int groupIndex, ExecutionInterceptorChain interceptorChain) {
         // Expression node: branch selection; push before/after executing the selected branch
         interceptorChain.beforeBranch(context, groupIndex, branchIndex);
         try {
@@ -0,0 +1,138 @@
+/*
+ * Copyright 2026 Open LLM Orchestrator contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.openllmorchestrator.worker.engine.kernel.execution;
+
+import com.openllmorchestrator.worker.engine.capability.CapabilityDefinition;
+import com.openllmorchestrator.worker.engine.capability.CapabilityExecutionMode;
+import com.openllmorchestrator.worker.engine.capability.CapabilityGroupSpec;
+import com.openllmorchestrator.worker.engine.capability.CapabilityPlan;
+import com.openllmorchestrator.worker.engine.capability.predefined.PredefinedCapabilities;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Finds the run of consecutive fusable (or stream-through) SYNC definitions starting at a group, in the order the
+ * kernel would execute them. A run is only worth fusing when it has at least two definitions; otherwise an empty
+ * list is returned.
+ */
+public final class FusedSyncRun {
+
+    private FusedSyncRun() {}
+
+    /**
+     * @param plan             plan being executed
+     * @param completedIndices groups already completed
+     * @param startIndex       group the kernel is about to execute (lowest ready index)
+     * @return definitions to run in one activity, in execution order; empty when fusion does not apply
+     */
+    public static List<CapabilityDefinition> collect(CapabilityPlan plan, Set<Integer> completedIndices, int startIndex) {
+        return collect(plan, completedIndices, startIndex, false);
+    }
+
+    /**
+     * Stream-through variant: the run of consecutive SYNC definitions sharing the start group's stream group id.
+     * Empty when the start group is not stream-through or the run has fewer than two definitions.
+     */
+    public static List<CapabilityDefinition> collectStreamThrough(CapabilityPlan plan, Set<Integer> completedIndices, int startIndex) {
+        return collect(plan, completedIndices, startIndex, true);
+    }
+
+    private static List<CapabilityDefinition> collect(CapabilityPlan plan, Set<Integer> completedIndices, int startIndex,
+                                                      boolean streamThrough) {
+        if (plan == null || plan.getGroups() == null || startIndex < 0 || startIndex >= plan.getGroups().size()) {
+            return List.of();
+        }
+        List<CapabilityGroupSpec> groups = plan.getGroups();
+        if (!(streamThrough ? isStreamThrough(groups.get(startIndex)) : isFusable(groups.get(startIndex)))) {
+            return List.of();
+        }
+        CapabilityDefinition head = groups.get(startIndex).getDefinitions().get(0);
+        Set<Integer> done = new HashSet<>(completedIndices != null ? completedIndices : Set.of());
+        List<CapabilityDefinition> run = new ArrayList<>(groups.get(startIndex).getDefinitions());
+        done.add(startIndex);
+        for (int i = startIndex + 1; i < groups.size(); i++) {
+            if (done.contains(i)) {
+                continue;
+            }
+            CapabilityGroupSpec spec = groups.get(i);
+            boolean member = streamThrough
+                    ? isStreamThrough(spec) && head.getStreamGroup().equals(spec.getDefinitions().get(0).getStreamGroup())
+                    : isFusable(spec);
+            if (!member || !sameQueueAndKind(spec, head) || !isNextReady(groups, done, i)) {
+                break;
+            }
+            run.addAll(spec.getDefinitions());
+            done.add(i);
+        }
+        return run.size() >= 2 ? run : List.of();
+    }
+
+    /** True when the group is a single SYNC definition of a stream-through group (not a condition or PLAN_EXECUTOR). */
+    public static boolean isStreamThrough(CapabilityGroupSpec spec) {
+        if (spec == null || spec.getConditionDefinition() != null || spec.getDefinitions() == null || spec.getDefinitions().size() != 1) {
+            return false;
+        }
+        CapabilityDefinition def = spec.getDefinitions().get(0);
+        return def != null && def.getStreamGroup() != null && def.getExecutionMode() == CapabilityExecutionMode.SYNC
+                && !PredefinedCapabilities.PLAN_EXECUTOR.equals(def.getCapabilityBucketName());
+    }
+
+    /** True when every definition is SYNC and fusable and the group is not a condition or PLAN_EXECUTOR. */
+    public static boolean isFusable(CapabilityGroupSpec spec) {
+        if (spec == null || spec.getConditionDefinition() != null || spec.getDefinitions() == null || spec.getDefinitions().isEmpty()) {
+            return false;
+        }
+        for (CapabilityDefinition def : spec.getDefinitions()) {
+            if (def == null || !def.isFusable() || def.getExecutionMode() != CapabilityExecutionMode.SYNC
+                    || PredefinedCapabilities.PLAN_EXECUTOR.equals(def.getCapabilityBucketName())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /** Same task queue and same execution kind (a run is either all remote or all local). */
+    private static boolean sameQueueAndKind(CapabilityGroupSpec spec, CapabilityDefinition head) {
+        for (CapabilityDefinition def : spec.getDefinitions()) {
+            if (!Objects.equals(def.getTaskQueue(), head.getTaskQueue()) || def.isLocal() != head.isLocal()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /** Group i is what the kernel picks next: every lower index is done and all dependencies are done. */
+    private static boolean isNextReady(List<CapabilityGroupSpec> groups, Set<Integer> done, int index) {
+        for (int j = 0; j < index; j++) {
+            if (!done.contains(j)) {
+                return false;
+            }
+        }
+        int[] deps = groups.get(index).getDependsOnGroupIndices();
+        if (deps != null) {
+            for (int d : deps) {
+                if (d >= 0 && d < groups.size() && !done.contains(d)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+}
@@ -22,6 +22,7 @@ import com.openllmorchestrator.worker.engine.contract.PlannerContextKeys;
 import com.openllmorchestrator.worker.contract.CapabilityMetadata;
 import com.openllmorchestrator.worker.contract.CapabilityResult;
 import com.openllmorchestrator.worker.engine.contract.VersionedState;
+import com.openllmorchestrator.worker.engine.plan.PlanCache;
 import com.openllmorchestrator.worker.engine.plan.PlanValidator;
 import com.openllmorchestrator.worker.engine.plan.PlanValidator.PlanValidationException;
 import com.openllmorchestrator.worker.engine.runtime.EngineRuntime;
@@ -69,7 +70,7 @@ public final class PlanExecutorGroupExecutor implements GroupExecutor {
         try {
             Map<String, Object> accumulated = context.getAccumulatedOutput();
             Object raw = accumulated != null ? accumulated.get(PlannerContextKeys.KEY_DYNAMIC_PLAN) : null;
-            CapabilityPlan subPlan = raw instanceof CapabilityPlan ? (CapabilityPlan) raw : null;
+            CapabilityPlan subPlan = PlanCache.toPlan(raw);
             if (subPlan == null) {
                 log.debug("PLAN_EXECUTOR: no dynamic plan in context (key={}); skipping", PlannerContextKeys.KEY_DYNAMIC_PLAN);
                 CapabilityResult empty = CapabilityResult.builder().capabilityName(PredefinedCapabilities.PLAN_EXECUTOR).build();
@@ -80,7 +81,8 @@ public final class PlanExecutorGroupExecutor implements GroupExecutor {
             FeatureFlags flags = EngineRuntime.getFeatureFlags(queueName);
             if (flags != null && flags.isEnabled(FeatureFlag.PLAN_SAFETY_VALIDATION)) {
                 PlanValidator validator = EngineRuntime.getPlanValidator(queueName);
-                if (validator != null) {
+                PlanCache planCache = EngineRuntime.getPlanCache(queueName);
+                if (validator != null && (planCache == null || !planCache.isValidated(subPlan))) {
                     try {
                         validator.validate(subPlan, context);
                     } catch (PlanValidationException ex) {
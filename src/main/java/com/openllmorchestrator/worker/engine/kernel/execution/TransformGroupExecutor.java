@@ -0,0 +1,74 @@
+/*
+ * Copyright 2026 Open LLM Orchestrator contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.openllmorchestrator.worker.engine.kernel.execution;
+
+import com.openllmorchestrator.worker.contract.CapabilityResult;
+import com.openllmorchestrator.worker.engine.capability.CapabilityDefinition;
+import com.openllmorchestrator.worker.engine.capability.CapabilityGroupSpec;
+import com.openllmorchestrator.worker.engine.contract.ExecutionContext;
+import com.openllmorchestrator.worker.engine.contract.VersionedState;
+import com.openllmorchestrator.worker.engine.expression.CompiledExpressions;
+import com.openllmorchestrator.worker.engine.kernel.CapabilityInvoker;
+import com.openllmorchestrator.worker.engine.kernel.interceptor.CapabilityContext;
+import com.openllmorchestrator.worker.engine.kernel.interceptor.ExecutionInterceptorChain;
+import com.openllmorchestrator.worker.engine.kernel.merge.PutAllMergePolicy;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Executes TRANSFORM groups in-workflow (no activity): each output key is computed from its compiled expression
+ * against original input and accumulated state, then merged like a SYNC plugin output (one new step).
+ */
+@Slf4j
+public final class TransformGroupExecutor implements GroupExecutor {
+
+    @Override
+    public boolean supports(CapabilityGroupSpec spec) {
+        return spec != null && !spec.getTransform().isEmpty() && !spec.getDefinitions().isEmpty();
+    }
+
+    @Override
+    public void execute(CapabilityGroupSpec spec, CapabilityInvoker invoker, ExecutionContext context,
+                        int groupIndex, ExecutionInterceptorChain interceptorChain) {
+        CapabilityDefinition def = spec.getDefinitions().get(0);
+        VersionedState current = context.getVersionedState();
+        CapabilityContext capCtx = CapabilityContext.from(groupIndex, def, current, context);
+        interceptorChain.beforeCapability(capCtx);
+        try {
+            Map<String, Object> input = context.getOriginalInput();
+            Map<String, Object> accumulated = context.getAccumulatedOutput();
+            Map<String, Object> output = new LinkedHashMap<>();
+            for (Map.Entry<String, String> e : spec.getTransform().entrySet()) {
+                output.put(e.getKey(), CompiledExpressions.get(e.getValue()).evaluate(input, accumulated));
+            }
+            Map<String, Object> state = new HashMap<>(accumulated);
+            PutAllMergePolicy.INSTANCE.merge(state, output, def.getName());
+            VersionedState base = current != null ? current : VersionedState.fromStateMap(accumulated);
+            context.setVersionedState(base.withNextStep(state));
+            interceptorChain.afterCapability(capCtx, CapabilityResult.builder()
+                    .capabilityName(def.getName())
+                    .output(output)
+                    .build());
+            log.info("Completed TRANSFORM {} (keys={})", def.getName(), output.keySet());
+        } catch (Exception e) {
+            interceptorChain.onError(capCtx, e);
+            throw e;
+        }
+    }
+}
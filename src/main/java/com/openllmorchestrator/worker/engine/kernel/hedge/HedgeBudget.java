@@ -0,0 +1,48 @@
+/*
+ * Copyright 2026 Open LLM Orchestrator contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.openllmorchestrator.worker.engine.kernel.hedge;
+
+/**
+ * Token bucket limiting hedges to a percentage of hedgeable requests: each request deposits {@code percent / 100}
+ * of a token (up to {@code burst}), each hedge spends one. Shared by all workflows of a queue in this worker.
+ */
+public final class HedgeBudget {
+
+    private final double perRequest;
+    private final double burst;
+    private double tokens;
+
+    public HedgeBudget(double percent, int burst) {
+        this.perRequest = Math.max(0.0, percent) / 100.0;
+        this.burst = Math.max(1, burst);
+    }
+
+    public synchronized void onRequest() {
+        tokens = Math.min(burst, tokens + perRequest);
+    }
+
+    public synchronized boolean tryAcquire() {
+        if (tokens < 1.0) {
+            return false;
+        }
+        tokens -= 1.0;
+        return true;
+    }
+
+    public synchronized double available() {
+        return tokens;
+    }
+}
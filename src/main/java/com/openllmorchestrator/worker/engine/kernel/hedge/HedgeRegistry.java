@@ -0,0 +1,45 @@
+/*
+ * Copyright 2026 Open LLM Orchestrator contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.openllmorchestrator.worker.engine.kernel.hedge;
+
+import com.openllmorchestrator.worker.engine.config.hedging.HedgingConfig;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/** Per-worker hedging state: one budget per queue and one latency window per queue and capability. */
+public final class HedgeRegistry {
+
+    private static final Map<String, HedgeBudget> BUDGETS = new ConcurrentHashMap<>();
+    private static final Map<String, LatencyWindow> LATENCIES = new ConcurrentHashMap<>();
+
+    private HedgeRegistry() {}
+
+    public static HedgeBudget budget(String queueName, HedgingConfig config) {
+        return BUDGETS.computeIfAbsent(key(queueName),
+                k -> new HedgeBudget(config.getBudgetPercent() != null ? config.getBudgetPercent() : 10.0,
+                        config.getBudgetBurst() != null ? config.getBudgetBurst() : 10));
+    }
+
+    public static LatencyWindow latencies(String queueName, String capabilityName, HedgingConfig config) {
+        return LATENCIES.computeIfAbsent(key(queueName) + "|" + capabilityName,
+                k -> new LatencyWindow(config.getWindowSize() != null ? config.getWindowSize() : 256));
+    }
+
+    private static String key(String queueName) {
+        return queueName != null ? queueName : "";
+    }
+}
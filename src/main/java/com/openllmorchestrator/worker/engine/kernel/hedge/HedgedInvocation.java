@@ -0,0 +1,179 @@
+/*
+ * Copyright 2026 Open LLM Orchestrator contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.openllmorchestrator.worker.engine.kernel.hedge;
+
+import com.openllmorchestrator.worker.contract.CapabilityResult;
+import com.openllmorchestrator.worker.engine.capability.CapabilityDefinition;
+import com.openllmorchestrator.worker.engine.config.EngineFileConfig;
+import com.openllmorchestrator.worker.engine.config.FeatureFlag;
+import com.openllmorchestrator.worker.engine.config.FeatureFlags;
+import com.openllmorchestrator.worker.engine.config.hedging.HedgingConfig;
+import com.openllmorchestrator.worker.engine.runtime.EngineRuntime;
+import io.temporal.workflow.CancellationScope;
+import io.temporal.workflow.Promise;
+import io.temporal.workflow.Workflow;
+import io.temporal.workflow.unsafe.WorkflowUnsafe;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Workflow-side hedged call (HEDGING): start the activity, wait for its hedge delay, and if it is still running and
+ * the queue's budget allows, start a duplicate; the first success wins and the other attempt is cancelled. The
+ * cancellation reaches the losing worker with its next heartbeat, which interrupts the capability; hedged attempts
+ * therefore always run with a heartbeat timeout (see {@link #withHeartbeat}). The delay and the budget decision come from worker-local state, so both are recorded with
+ * {@link Workflow#sideEffect} and replay deterministically. The duplicate goes to the same task queue; Temporal
+ * usually hands it to another poller, but it may land on the same worker.
+ */
+@Slf4j
+public final class HedgedInvocation {
+
+    private static final double P95 = 0.95;
+
+    private HedgedInvocation() {}
+
+    /** Hedging config when the definition should be hedged on this queue; null otherwise. */
+    public static HedgingConfig policyFor(CapabilityDefinition definition, String queueName) {
+        if (definition == null || definition.isLocal() || Boolean.FALSE.equals(definition.getHedge())) {
+            return null;
+        }
+        FeatureFlags flags = EngineRuntime.getFeatureFlags(queueName);
+        if (flags == null || !flags.isEnabled(FeatureFlag.HEDGING)) {
+            return null;
+        }
+        EngineFileConfig config = EngineRuntime.getConfig(queueName);
+        HedgingConfig hedging = config.getHedgingEffective();
+        boolean byBucket = hedging.getCapabilities() != null && definition.getCapabilityBucketName() != null
+                && hedging.getCapabilities().contains(definition.getCapabilityBucketName());
+        return Boolean.TRUE.equals(definition.getHedge()) || byBucket ? hedging : null;
+    }
+
+    /** The definition with {@link HedgingConfig#getHeartbeatTimeoutSeconds()} as heartbeat timeout when it has none. */
+    public static CapabilityDefinition withHeartbeat(CapabilityDefinition definition, HedgingConfig config) {
+        Integer seconds = config.getHeartbeatTimeoutSeconds();
+        if (definition.getHeartbeatTimeout() != null || seconds == null || seconds <= 0) {
+            return definition;
+        }
+        return definition.toBuilder().heartbeatTimeout(Duration.ofSeconds(seconds)).build();
+    }
+
+    /** Run {@code start} once, or twice when the first attempt is slower than the hedge delay. Blocks the workflow thread. */
+    public static CapabilityResult run(CapabilityDefinition definition, String queueName, HedgingConfig config,
+                                       Supplier<Promise<CapabilityResult>> start) {
+        LatencyWindow latencies = HedgeRegistry.latencies(queueName, definition.getName(), config);
+        HedgeBudget budget = HedgeRegistry.budget(queueName, config);
+        long delayMillis = Workflow.sideEffect(Long.class, () -> {
+            budget.onRequest();
+            return delayMillis(definition, config, latencies);
+        });
+        long startedAt = Workflow.currentTimeMillis();
+        List<CancellationScope> scopes = new ArrayList<>(2);
+        List<Promise<CapabilityResult>> attempts = new ArrayList<>(2);
+        launch(start, scopes, attempts);
+
+        List<Promise<Void>> timer = new ArrayList<>(1);
+        CancellationScope timerScope = Workflow.newCancellationScope(() -> timer.add(Workflow.newTimer(Duration.ofMillis(delayMillis))));
+        timerScope.run();
+        awaitQuietly(Promise.anyOf(attempts.get(0), timer.get(0)));
+        if (!attempts.get(0).isCompleted()) {
+            boolean allowed = Workflow.sideEffect(Boolean.class, budget::tryAcquire);
+            if (allowed) {
+                log.info("Hedging capability {} after {} ms", definition.getName(), delayMillis);
+                launch(start, scopes, attempts);
+            }
+        } else {
+            timerScope.cancel();
+        }
+
+        RuntimeException firstFailure = null;
+        List<Integer> pending = new ArrayList<>(attempts.size());
+        for (int i = 0; i < attempts.size(); i++) {
+            pending.add(i);
+        }
+        while (!pending.isEmpty()) {
+            List<Promise<CapabilityResult>> waiting = new ArrayList<>(pending.size());
+            for (int i : pending) {
+                waiting.add(attempts.get(i));
+            }
+            awaitQuietly(Promise.anyOf(waiting));
+            for (int k = pending.size() - 1; k >= 0; k--) {
+                int i = pending.get(k);
+                Promise<CapabilityResult> attempt = attempts.get(i);
+                if (!attempt.isCompleted()) {
+                    continue;
+                }
+                pending.remove(k);
+                RuntimeException failure = attempt.getFailure();
+                if (failure == null) {
+                    cancelOthers(scopes, i);
+                    timerScope.cancel();
+                    record(latencies, startedAt);
+                    return attempt.get();
+                }
+                if (firstFailure == null || i == 0) {
+                    firstFailure = failure;
+                }
+            }
+        }
+        timerScope.cancel();
+        throw firstFailure;
+    }
+
+    private static long delayMillis(CapabilityDefinition definition, HedgingConfig config, LatencyWindow latencies) {
+        if (definition.getHedgeDelay() != null) {
+            return definition.getHedgeDelay().toMillis();
+        }
+        if (config.getDelayMillis() != null && config.getDelayMillis() > 0) {
+            return config.getDelayMillis();
+        }
+        int minSamples = config.getMinSamples() != null ? config.getMinSamples() : 20;
+        long p95 = latencies.size() >= minSamples ? latencies.percentile(P95) : -1;
+        return p95 > 0 ? p95 : (config.getFallbackDelayMillis() != null ? config.getFallbackDelayMillis() : 2000);
+    }
+
+    private static void launch(Supplier<Promise<CapabilityResult>> start, List<CancellationScope> scopes,
+                               List<Promise<CapabilityResult>> attempts) {
+        CancellationScope scope = Workflow.newCancellationScope(() -> attempts.add(start.get()));
+        scope.run();
+        scopes.add(scope);
+    }
+
+    private static void cancelOthers(List<CancellationScope> scopes, int winner) {
+        for (int i = 0; i < scopes.size(); i++) {
+            if (i != winner) {
+                scopes.get(i).cancel();
+            }
+        }
+    }
+
+    /** Observed completion time (for the first attempt this is its latency; for a hedge win, a lower bound of it). */
+    private static void record(LatencyWindow latencies, long startedAt) {
+        if (!WorkflowUnsafe.isReplaying()) {
+            latencies.record(Workflow.currentTimeMillis() - startedAt);
+        }
+    }
+
+    private static void awaitQuietly(Promise<?> promise) {
+        try {
+            promise.get();
+        } catch (RuntimeException ignored) {
+            // Failures are read from the individual attempts.
+        }
+    }
+}
@@ -44,6 +44,11 @@ public final class ExecutionInterceptorChain implements ExecutionInterceptor {
         return new ExecutionInterceptorChain(Collections.emptyList());
     }
 
+    /** True when no interceptor is registered. */
+    public boolean isEmpty() {
+        return interceptors.isEmpty();
+    }
+
     @Override
     public void beforeCapability(CapabilityContext ctx) {
         for (ExecutionInterceptor interceptor : interceptors) {
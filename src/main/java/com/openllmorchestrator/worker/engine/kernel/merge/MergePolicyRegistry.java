@@ -15,18 +15,19 @@
  */
 package com.openllmorchestrator.worker.engine.kernel.merge;
 
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Registry of async merge policies by name. Used to resolve asyncOutputMergePolicy from config;
- * custom policies can be registered and referenced in pipeline/group config.
+ * custom policies can be registered and referenced in pipeline/group config. Thread-safe: queues bootstrapped in
+ * parallel register into the default registry concurrently.
  */
 public final class MergePolicyRegistry {
 
     private static final MergePolicyRegistry DEFAULT = createDefault();
 
-    private final Map<String, AsyncMergePolicy> byName = new HashMap<>();
+    private final Map<String, AsyncMergePolicy> byName = new ConcurrentHashMap<>();
 
     public MergePolicyRegistry() {}
 
@@ -0,0 +1,111 @@
+/*
+ * Copyright 2026 Open LLM Orchestrator contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.openllmorchestrator.worker.engine.kernel.plan;
+
+import com.openllmorchestrator.worker.contract.CapabilityResult;
+import com.openllmorchestrator.worker.engine.capability.CapabilityDefinition;
+import com.openllmorchestrator.worker.engine.capability.CapabilityPlan;
+import com.openllmorchestrator.worker.engine.capability.predefined.PredefinedCapabilities;
+import com.openllmorchestrator.worker.engine.config.FeatureFlag;
+import com.openllmorchestrator.worker.engine.config.FeatureFlags;
+import com.openllmorchestrator.worker.engine.contract.ExecutionContext;
+import com.openllmorchestrator.worker.engine.contract.PlannerContextKeys;
+import com.openllmorchestrator.worker.engine.plan.PlanCache;
+import com.openllmorchestrator.worker.engine.plan.PlanValidator;
+import com.openllmorchestrator.worker.engine.runtime.EngineRuntime;
+import io.temporal.workflow.Workflow;
+import io.temporal.workflow.unsafe.WorkflowUnsafe;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Workflow-side plan cache for SYNC PLANNER capabilities (PLAN_CACHE). The lookup is recorded with
+ * {@link Workflow#sideEffect}, so a replay sees the same hit or miss (and the same plan) whatever the cache holds
+ * now. Results are stored only outside replay and only when the plan passes the queue's PlanValidator.
+ */
+@Slf4j
+public final class PlanCaching {
+
+    private PlanCaching() {}
+
+    /** Cache key for a PLANNER call, or null when the definition is not a planner or PLAN_CACHE is off. */
+    public static String keyFor(CapabilityDefinition definition, ExecutionContext context) {
+        if (definition == null || context == null
+                || !PredefinedCapabilities.PLANNER.equals(definition.getCapabilityBucketName())) {
+            return null;
+        }
+        PlanCache cache = EngineRuntime.getPlanCache(context.getQueueName());
+        if (cache == null) {
+            return null;
+        }
+        return cache.keyFor(context.getPipelineName(), definition.getName(), context.getOriginalInput(), context.getAccumulatedOutput());
+    }
+
+    /** Cached planner result for the key, or null on a miss. */
+    public static CapabilityResult lookup(String key, CapabilityDefinition definition, ExecutionContext context) {
+        if (key == null) {
+            return null;
+        }
+        PlanCache cache = EngineRuntime.getPlanCache(context.getQueueName());
+        String json = Workflow.sideEffect(String.class, () -> cache != null ? cache.get(key) : null);
+        if (json == null || cache == null) {
+            return null;
+        }
+        Map<String, Object> output = new HashMap<>(cache.readOutput(json));
+        CapabilityPlan plan = PlanCache.toPlan(output.get(PlannerContextKeys.KEY_DYNAMIC_PLAN));
+        if (plan != null) {
+            output.put(PlannerContextKeys.KEY_DYNAMIC_PLAN, plan);
+            cache.markValidated(plan);
+        }
+        log.debug("PLANNER '{}': plan cache hit", definition.getName());
+        return CapabilityResult.builder()
+                .capabilityName(definition.getName())
+                .output(output)
+                .build();
+    }
+
+    /** Store the planner's output under the key when it carries a plan that passes validation. */
+    public static void remember(String key, ExecutionContext context, CapabilityResult result) {
+        if (key == null || result == null || result.isRequestPipelineBreak() || WorkflowUnsafe.isReplaying()) {
+            return;
+        }
+        PlanCache cache = EngineRuntime.getPlanCache(context.getQueueName());
+        Map<String, Object> output = result.getOutput();
+        CapabilityPlan plan = cache != null && output != null ? PlanCache.toPlan(output.get(PlannerContextKeys.KEY_DYNAMIC_PLAN)) : null;
+        if (plan == null || !valid(plan, context)) {
+            return;
+        }
+        cache.put(key, output);
+    }
+
+    /** Same check PLAN_EXECUTOR applies: PlanValidator when PLAN_SAFETY_VALIDATION is on. */
+    private static boolean valid(CapabilityPlan plan, ExecutionContext context) {
+        FeatureFlags flags = EngineRuntime.getFeatureFlags(context.getQueueName());
+        PlanValidator validator = EngineRuntime.getPlanValidator(context.getQueueName());
+        if (flags == null || !flags.isEnabled(FeatureFlag.PLAN_SAFETY_VALIDATION) || validator == null) {
+            return true;
+        }
+        try {
+            validator.validate(plan, context);
+            return true;
+        } catch (PlanValidator.PlanValidationException e) {
+            log.debug("Plan cache: plan not cached, validation failed: {}", e.getMessage());
+            return false;
+        }
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright 2026 Open LLM Orchestrator contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.openllmorchestrator.worker.engine.kernel.routing;
+
+import com.openllmorchestrator.worker.engine.capability.CapabilityDefinition;
+import com.openllmorchestrator.worker.engine.contract.ExecutionContext;
+import com.openllmorchestrator.worker.engine.routing.ModelRouter;
+import com.openllmorchestrator.worker.engine.runtime.EngineRuntime;
+import io.temporal.workflow.Workflow;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Workflow-side model routing (MODEL_ROUTING): a definition naming a candidate of the pipeline's route is re-targeted
+ * to the plugin the queue's {@link ModelRouter} picks. The pick depends on live statistics, so it is recorded with
+ * {@link Workflow#sideEffect}; a replay runs the same plugin.
+ */
+@Slf4j
+public final class ModelRouting {
+
+    private ModelRouting() {}
+
+    /** The definition to run: the original, or a copy naming the chosen plugin. */
+    public static CapabilityDefinition route(CapabilityDefinition definition, ExecutionContext context) {
+        if (definition == null || context == null) {
+            return definition;
+        }
+        ModelRouter router = EngineRuntime.getModelRouter(context.getQueueName());
+        String pipelineName = context.getPipelineName();
+        if (router == null || !router.routes(pipelineName, definition.getName())) {
+            return definition;
+        }
+        String requested = definition.getName();
+        String chosen = Workflow.sideEffect(String.class, () -> router.choose(pipelineName, requested));
+        if (chosen == null || chosen.equals(requested)) {
+            return definition;
+        }
+        log.info("Model routing: pipeline {} runs {} instead of {}", pipelineName, chosen, requested);
+        return definition.toBuilder().name(chosen).build();
+    }
+}
@@ -0,0 +1,159 @@
+/*
+ * Copyright 2026 Open LLM Orchestrator contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.openllmorchestrator.worker.engine.plan;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.openllmorchestrator.worker.contract.CapabilityHandler;
+import com.openllmorchestrator.worker.contract.PlannerInputDescriptor;
+import com.openllmorchestrator.worker.engine.cache.CacheKeys;
+import com.openllmorchestrator.worker.engine.cache.LruCache;
+import com.openllmorchestrator.worker.engine.capability.CapabilityPlan;
+import com.openllmorchestrator.worker.engine.config.plan.PlanCacheConfig;
+import com.openllmorchestrator.worker.engine.model.ExecutionModelSerde;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.WeakHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Cache of PLANNER outputs for one queue (PLAN_CACHE). The key covers the pipeline, the config version, the values
+ * of the planner-relevant input fields (union of {@link PlannerInputDescriptor#getRequiredInputFieldsForPlanner()}
+ * over the queue's plugins) and a fingerprint of the available tools; both are fixed when the cache is built, so a
+ * new config or plugin set starts empty. Entries are the planner's output as JSON, stored only after the plan passed
+ * validation; plans handed out by {@link #toPlan} are remembered as validated so PLAN_EXECUTOR need not check them
+ * again.
+ */
+@Slf4j
+public final class PlanCache {
+
+    private static final ObjectMapper MAPPER = ExecutionModelSerde.objectMapper();
+    private static final TypeReference<Map<String, Object>> MAP_TYPE = new TypeReference<>() {};
+
+    private final String configVersion;
+    private final Set<String> keyFields;
+    private final String toolsFingerprint;
+    private final long ttlMillis;
+    private final LruCache<String, String> entries;
+    private final Set<CapabilityPlan> validated = Collections.synchronizedSet(Collections.newSetFromMap(new WeakHashMap<>()));
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public PlanCache(PlanCacheConfig config, String configVersion, Iterable<? extends CapabilityHandler> handlers) {
+        PlanCacheConfig c = config != null ? config : new PlanCacheConfig();
+        this.configVersion = configVersion != null ? configVersion : "";
+        Set<String> fields = new LinkedHashSet<>(PlannerInputDescriptor.collectRequiredFields(handlers));
+        if (c.getExtraKeyFields() != null) {
+            fields.addAll(c.getExtraKeyFields());
+        }
+        this.keyFields = Collections.unmodifiableSet(fields);
+        this.toolsFingerprint = fingerprint(handlers, c.getToolTypes());
+        this.ttlMillis = (c.getTtlSeconds() != null ? c.getTtlSeconds() : 3600) * 1000L;
+        this.entries = new LruCache<>(c.getMaxEntries() != null ? c.getMaxEntries() : 1000);
+    }
+
+    /** Key for a planner call; the whole input is used when no plugin declares planner fields. Null when unhashable. */
+    public String keyFor(String pipelineName, String plannerName, Map<String, Object> originalInput, Map<String, Object> accumulatedOutput) {
+        String version = configVersion + "/" + (pipelineName != null ? pipelineName : "") + "/" + toolsFingerprint;
+        return CacheKeys.of(plannerName, version, keyFields, originalInput, accumulatedOutput);
+    }
+
+    /** Stored planner output (JSON) for the key, or null. */
+    public String get(String key) {
+        String json = key != null ? entries.get(key) : null;
+        (json != null ? hits : misses).increment();
+        return json;
+    }
+
+    /** Store the planner output; the caller has validated its plan. */
+    public void put(String key, Map<String, Object> plannerOutput) {
+        if (key == null || plannerOutput == null) {
+            return;
+        }
+        try {
+            entries.put(key, MAPPER.writeValueAsString(plannerOutput), ttlMillis);
+        } catch (Exception e) {
+            log.warn("Plan cache: planner output not serializable, not cached: {}", e.getMessage());
+        }
+    }
+
+    /** Planner output from {@link #get}. */
+    public Map<String, Object> readOutput(String json) {
+        try {
+            return MAPPER.readValue(json, MAP_TYPE);
+        } catch (Exception e) {
+            throw new IllegalStateException("Plan cache entry unreadable: " + e.getMessage(), e);
+        }
+    }
+
+    /** Plan from a planner output value (a CapabilityPlan or its JSON map); null when absent or not a plan. */
+    public static CapabilityPlan toPlan(Object raw) {
+        if (raw == null || raw instanceof CapabilityPlan) {
+            return (CapabilityPlan) raw;
+        }
+        try {
+            return MAPPER.convertValue(raw, CapabilityPlan.class);
+        } catch (IllegalArgumentException e) {
+            log.warn("Plan cache: planner output is not a plan: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    /** Remember a plan instance that came from the cache (and so was validated when stored). */
+    public void markValidated(CapabilityPlan plan) {
+        if (plan != null) {
+            validated.add(plan);
+        }
+    }
+
+    public boolean isValidated(CapabilityPlan plan) {
+        return plan != null && validated.contains(plan);
+    }
+
+    public Map<String, Object> snapshot() {
+        Map<String, Object> out = new LinkedHashMap<>();
+        long h = hits.sum();
+        long m = misses.sum();
+        out.put("size", entries.size());
+        out.put("keyFields", keyFields);
+        out.put("hits", h);
+        out.put("misses", m);
+        out.put("hitRate", h + m == 0 ? 0.0 : (double) h / (h + m));
+        return out;
+    }
+
+    private static String fingerprint(Iterable<? extends CapabilityHandler> handlers, List<String> toolTypes) {
+        Set<String> types = toolTypes != null ? new HashSet<>(toolTypes) : Set.of();
+        List<PlannerInputDescriptor.PlannerPluginInfo> tools = PlannerInputDescriptor.collectAvailableTools(handlers, types);
+        tools.sort(Comparator.comparing(PlannerInputDescriptor.PlannerPluginInfo::pluginName));
+        StringBuilder sb = new StringBuilder();
+        for (PlannerInputDescriptor.PlannerPluginInfo t : tools) {
+            sb.append(t.pluginName()).append('|').append(new TreeSet<>(t.requiredInputFields()))
+                    .append('|').append(t.description() != null ? t.description() : "")
+                    .append('|').append(t.pluginType() != null ? t.pluginType() : "").append('\n');
+        }
+        return CacheKeys.sha256(sb.toString());
+    }
+}
@@ -23,19 +23,27 @@ import java.net.URL;
 import java.net.URLClassLoader;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.util.Iterator;
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.ServiceConfigurationError;
 import java.util.ServiceLoader;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Loads a CapabilityHandler from a JAR file. The JAR must provide a service implementation via
  * META-INF/services/com.openllmorchestrator.worker.contract.CapabilityHandler.
  * If the file does not exist or loading fails, returns null (caller should log and register a no-op wrapper).
+ * Each JAR is loaded once per process: when several task queues bootstrap in the same JVM they share the
+ * classloader and handler instances instead of duplicating plugin state.
  */
 @Slf4j
 public final class DynamicPluginLoader {
 
+    /** Handlers per absolute JAR path; the classloader stays open for the life of the process. */
+    private static final Map<Path, List<CapabilityHandler>> LOADED = new ConcurrentHashMap<>();
+
     private DynamicPluginLoader() {}
 
     /**
@@ -65,21 +73,16 @@ public final class DynamicPluginLoader {
             return null;
         }
         try {
-            URL jarUrl = file.toURI().toURL();
-            try (URLClassLoader loader = new URLClassLoader(new URL[]{jarUrl}, Thread.currentThread().getContextClassLoader())) {
-                ServiceLoader<CapabilityHandler> serviceLoader = ServiceLoader.load(CapabilityHandler.class, loader);
-                Iterator<CapabilityHandler> it = serviceLoader.iterator();
-                if (!it.hasNext()) {
-                    log.info("Dynamic plugin '{}': no CapabilityHandler service found in JAR '{}' (expect META-INF/services/com.openllmorchestrator.worker.contract.CapabilityHandler); skipping.", pluginName, resolved);
-                    return null;
-                }
-                CapabilityHandler handler = it.next();
-                if (it.hasNext()) {
-                    log.warn("Dynamic plugin '{}': multiple CapabilityHandler implementations in JAR '{}'; using first.", pluginName, resolved);
-                }
-                log.info("Dynamic plugin '{}' loaded successfully from '{}'.", pluginName, resolved);
-                return handler;
+            List<CapabilityHandler> handlers = handlers(resolved);
+            if (handlers.isEmpty()) {
+                log.info("Dynamic plugin '{}': no CapabilityHandler service found in JAR '{}' (expect META-INF/services/com.openllmorchestrator.worker.contract.CapabilityHandler); skipping.", pluginName, resolved);
+                return null;
             }
+            if (handlers.size() > 1) {
+                log.warn("Dynamic plugin '{}': multiple CapabilityHandler implementations in JAR '{}'; using first.", pluginName, resolved);
+            }
+            log.info("Dynamic plugin '{}' loaded successfully from '{}'.", pluginName, resolved);
+            return handlers.get(0);
         } catch (Exception e) {
             log.warn("Dynamic plugin '{}' failed to load from '{}': {}; skipping.", pluginName, resolved, e.getMessage(), e);
             return null;
@@ -105,15 +108,11 @@ public final class DynamicPluginLoader {
             return out;
         }
         try {
-            URL jarUrl = file.toURI().toURL();
-            try (URLClassLoader loader = new URLClassLoader(new URL[]{jarUrl}, Thread.currentThread().getContextClassLoader())) {
-                ServiceLoader<CapabilityHandler> serviceLoader = ServiceLoader.load(CapabilityHandler.class, loader);
-                for (CapabilityHandler handler : serviceLoader) {
-                    String name = handler != null ? handler.name() : null;
-                    if (name != null && !name.isBlank()) {
-                        out.put(name, handler);
-                        log.info("Dynamic plugin '{}' loaded from JAR '{}'.", name, resolved);
-                    }
+            for (CapabilityHandler handler : handlers(resolved)) {
+                String name = handler != null ? handler.name() : null;
+                if (name != null && !name.isBlank()) {
+                    out.put(name, handler);
+                    log.info("Dynamic plugin '{}' loaded from JAR '{}'.", name, resolved);
                 }
             }
         } catch (Exception e) {
@@ -121,5 +120,31 @@ public final class DynamicPluginLoader {
         }
         return out;
     }
-}
 
+    /** Cached handlers for the JAR; loads on first use. A failed load is not cached so a later bootstrap can retry. */
+    private static List<CapabilityHandler> handlers(Path resolved) throws Exception {
+        Path key = resolved.toAbsolutePath();
+        List<CapabilityHandler> cached = LOADED.get(key);
+        if (cached != null) {
+            return cached;
+        }
+        synchronized (LOADED) {
+            cached = LOADED.get(key);
+            if (cached != null) {
+                return cached;
+            }
+            URL jarUrl = key.toFile().toURI().toURL();
+            URLClassLoader loader = new URLClassLoader(new URL[]{jarUrl}, Thread.currentThread().getContextClassLoader());
+            List<CapabilityHandler> handlers = new ArrayList<>();
+            try {
+                ServiceLoader.load(CapabilityHandler.class, loader).forEach(handlers::add);
+            } catch (RuntimeException | ServiceConfigurationError e) {
+                loader.close();
+                throw e;
+            }
+            List<CapabilityHandler> loaded = List.copyOf(handlers);
+            LOADED.put(key, loaded);
+            return loaded;
+        }
+    }
+}
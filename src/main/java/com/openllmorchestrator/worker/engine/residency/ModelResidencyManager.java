@@ -0,0 +1,323 @@
+/*
+ * Copyright 2026 Open LLM Orchestrator contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.openllmorchestrator.worker.engine.residency;
+
+import com.openllmorchestrator.worker.contract.ModelEndpointPool;
+import com.openllmorchestrator.worker.engine.config.residency.ModelResidencyConfig;
+import com.uber.m3.tally.Scope;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Keeps hot models loaded on the model server endpoints (MODEL_RESIDENCY). Activities count requests per model
+ * ({@link #onRequest}); every {@code intervalSeconds} a virtual thread turns the counts into smoothed rates, picks per
+ * endpoint the pinned and hot models that fit the memory budget (hottest first), unloads other loaded models only when
+ * they stand in the way of that set, and sends a preload or keep-alive request for each chosen model. Cold models are
+ * not refreshed, so the server unloads them when their keep-alive ends. Preloaded models are marked loaded in the
+ * shared {@link ModelEndpointPool}, so affinity sends requests where the model already is. Rates, loads, unloads and
+ * load times are published as metrics when a scope is available.
+ * <p>
+ * A worker runs one manager for all of its queues ({@link #register}), so every queue's requests count towards the
+ * same rates and no two managers unload each other's hot models.
+ */
+@Slf4j
+public final class ModelResidencyManager {
+
+    private final ModelResidencyConfig config;
+    private final List<String> endpoints;
+    private volatile Map<String, String> pluginModels;
+    private final Supplier<Scope> metrics;
+    private final OllamaResidencyClient client;
+    private final Map<String, LongAdder> counts = new ConcurrentHashMap<>();
+    private final Map<String, Double> rates = new ConcurrentHashMap<>();
+    private final Map<String, Integer> knownSizes = new ConcurrentHashMap<>();
+    private final Map<String, Set<String>> resident = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> decisions = new ConcurrentHashMap<>();
+    private long lastCycleNanos = System.nanoTime();
+    private volatile Thread worker;
+
+    /** Worker-wide manager and the plugins map of each queue registered with it. */
+    private static ModelResidencyManager shared;
+    private static final Map<String, Map<String, String>> SHARED_QUEUES = new LinkedHashMap<>();
+
+    public ModelResidencyManager(ModelResidencyConfig config, Supplier<Scope> metrics) {
+        this.config = config != null ? config : new ModelResidencyConfig();
+        this.endpoints = endpoints(this.config);
+        this.pluginModels = this.config.getPlugins() != null ? Map.copyOf(this.config.getPlugins()) : Map.of();
+        this.metrics = metrics;
+        this.client = new OllamaResidencyClient(Duration.ofSeconds(value(this.config.getLoadTimeoutSeconds(), 120)));
+    }
+
+    /**
+     * Register the queue with the worker-wide manager. The first queue starts it with its settings; later queues only
+     * add their {@code plugins}. Returns the shared manager.
+     */
+    public static synchronized ModelResidencyManager register(String queueName, ModelResidencyConfig config,
+                                                              Supplier<Scope> metrics) {
+        ModelResidencyConfig c = config != null ? config : new ModelResidencyConfig();
+        if (shared == null) {
+            shared = new ModelResidencyManager(c, metrics);
+            shared.start();
+        } else if (!shared.endpoints.equals(endpoints(c))
+                || !Objects.equals(shared.config.getMemoryBudgetMb(), c.getMemoryBudgetMb())) {
+            log.warn("Model residency: queue {} sets other endpoints or budget; the worker keeps those of the first queue", queueName);
+        }
+        SHARED_QUEUES.put(queueName, c.getPlugins() != null ? Map.copyOf(c.getPlugins()) : Map.of());
+        shared.pluginModels = sharedPlugins();
+        return shared;
+    }
+
+    /** Remove the queue from the worker-wide manager; the manager stops when no queue is left. */
+    public static synchronized void unregister(String queueName) {
+        if (shared == null || SHARED_QUEUES.remove(queueName) == null) {
+            return;
+        }
+        if (SHARED_QUEUES.isEmpty()) {
+            shared.close();
+            shared = null;
+        } else {
+            shared.pluginModels = sharedPlugins();
+        }
+    }
+
+    private static List<String> endpoints(ModelResidencyConfig config) {
+        List<String> urls = config.getEndpoints() != null && !config.getEndpoints().isEmpty()
+                ? config.getEndpoints()
+                : ModelEndpointPool.envUrls();
+        return urls.stream().map(u -> u.endsWith("/") ? u.substring(0, u.length() - 1) : u).toList();
+    }
+
+    private static Map<String, String> sharedPlugins() {
+        Map<String, String> merged = new HashMap<>();
+        SHARED_QUEUES.values().forEach(merged::putAll);
+        return Map.copyOf(merged);
+    }
+
+    /** Count one execution of the plugin, when it maps to a model. */
+    public void onRequest(String pluginName) {
+        String model = pluginName != null ? pluginModels.get(pluginName) : null;
+        if (model != null) {
+            onModelRequest(model);
+        }
+    }
+
+    /** Count one request for the model. */
+    public void onModelRequest(String model) {
+        counts.computeIfAbsent(model, m -> new LongAdder()).increment();
+    }
+
+    /** Start the background loop; idempotent. */
+    public synchronized void start() {
+        if (worker != null) {
+            return;
+        }
+        long intervalMillis = value(config.getIntervalSeconds(), 30) * 1000L;
+        worker = Thread.ofVirtual().name("model-residency").start(() -> {
+            while (!Thread.currentThread().isInterrupted()) {
+                try {
+                    runOnce();
+                    Thread.sleep(intervalMillis);
+                } catch (InterruptedException e) {
+                    return;
+                } catch (RuntimeException e) {
+                    log.warn("Model residency cycle failed: {}", e.getMessage());
+                }
+            }
+        });
+    }
+
+    /** Stop the background loop. Loaded models stay until their keep-alive ends. */
+    public synchronized void close() {
+        if (worker != null) {
+            worker.interrupt();
+            worker = null;
+        }
+    }
+
+    /** One cycle: update rates, then reconcile every endpoint. */
+    public void runOnce() throws InterruptedException {
+        updateRates();
+        for (String endpoint : endpoints) {
+            reconcile(endpoint);
+        }
+    }
+
+    public Map<String, Object> snapshot() {
+        Map<String, Object> out = new LinkedHashMap<>();
+        out.put("ratesPerMinute", new HashMap<>(rates));
+        Map<String, Object> loaded = new LinkedHashMap<>();
+        resident.forEach((e, models) -> loaded.put(e, List.copyOf(models)));
+        out.put("resident", loaded);
+        Map<String, Long> d = new HashMap<>();
+        decisions.forEach((k, v) -> d.put(k, v.sum()));
+        out.put("decisions", d);
+        return out;
+    }
+
+    private synchronized void updateRates() {
+        long now = System.nanoTime();
+        double seconds = Math.max(0.001, (now - lastCycleNanos) / 1e9);
+        lastCycleNanos = now;
+        double weight = 1 - Math.exp(-seconds / Math.max(1, value(config.getRateWindowSeconds(), 300)));
+        Set<String> models = new LinkedHashSet<>(rates.keySet());
+        models.addAll(counts.keySet());
+        for (String model : models) {
+            LongAdder c = counts.get(model);
+            double perMinute = (c != null ? c.sumThenReset() : 0) * 60.0 / seconds;
+            double rate = rates.getOrDefault(model, 0.0);
+            rates.put(model, rate + weight * (perMinute - rate));
+            Scope scope = scope();
+            if (scope != null) {
+                scope.tagged(Map.of("model", model)).gauge("model_residency_rate_per_minute").update(rates.get(model));
+            }
+        }
+    }
+
+    private void reconcile(String endpoint) throws InterruptedException {
+        Map<String, Integer> loaded;
+        try {
+            loaded = client.loaded(endpoint);
+        } catch (InterruptedException e) {
+            throw e;
+        } catch (Exception e) {
+            log.warn("Model residency: cannot list models on {}: {}", endpoint, e.getMessage());
+            count("endpoint_error", endpoint, "");
+            return;
+        }
+        knownSizes.putAll(loaded);
+        int budget = value(config.getMemoryBudgetMb(), 16384);
+        List<String> wanted = wanted(budget);
+        int wantedMb = 0;
+        for (String m : wanted) {
+            wantedMb += size(m);
+        }
+        int free = budget - wantedMb;
+        List<String> others = new ArrayList<>();
+        int othersMb = 0;
+        for (Map.Entry<String, Integer> e : loaded.entrySet()) {
+            if (!wanted.contains(e.getKey())) {
+                others.add(e.getKey());
+                othersMb += e.getValue();
+            }
+        }
+        others.sort(Comparator.comparingDouble(m -> rates.getOrDefault(m, 0.0)));
+        for (String model : others) {
+            if (othersMb <= free) {
+                break;
+            }
+            try {
+                client.unload(endpoint, model);
+                othersMb -= loaded.get(model);
+                count("unload", endpoint, model);
+                log.info("Model residency: unloaded {} on {} to make room", model, endpoint);
+            } catch (InterruptedException e) {
+                throw e;
+            } catch (Exception e) {
+                log.warn("Model residency: unload of {} on {} failed: {}", model, endpoint, e.getMessage());
+            }
+        }
+        ModelEndpointPool pool = ModelEndpointPool.shared(endpoints);
+        Set<String> kept = new LinkedHashSet<>();
+        for (String model : wanted) {
+            boolean cold = !loaded.containsKey(model);
+            long start = System.nanoTime();
+            try {
+                client.keep(endpoint, model, config.getKeepAlive() != null ? config.getKeepAlive() : "10m");
+            } catch (InterruptedException e) {
+                throw e;
+            } catch (Exception e) {
+                log.warn("Model residency: {} of {} on {} failed: {}", cold ? "preload" : "keep-alive", model, endpoint, e.getMessage());
+                count("error", endpoint, model);
+                continue;
+            }
+            kept.add(model);
+            pool.markLoaded(endpoint, model);
+            count(cold ? "preload" : "keep_alive", endpoint, model);
+            if (cold) {
+                long tookMillis = (System.nanoTime() - start) / 1_000_000;
+                log.info("Model residency: preloaded {} on {} in {} ms", model, endpoint, tookMillis);
+                Scope scope = scope();
+                if (scope != null) {
+                    scope.tagged(Map.of("model", model, "endpoint", endpoint)).timer("model_residency_load_latency")
+                            .record(com.uber.m3.util.Duration.ofMillis(tookMillis));
+                }
+            }
+        }
+        resident.put(endpoint, kept);
+        Scope scope = scope();
+        if (scope != null) {
+            scope.tagged(Map.of("endpoint", endpoint)).gauge("model_residency_kept").update(kept.size());
+        }
+    }
+
+    /** Pinned models, then hot models by rate, that fit in the budget together. */
+    private List<String> wanted(int budget) {
+        List<String> candidates = new ArrayList<>(config.getPinned() != null ? config.getPinned() : List.of());
+        double hot = config.getHotRequestsPerMinute() != null ? config.getHotRequestsPerMinute() : 1.0;
+        rates.entrySet().stream()
+                .filter(e -> e.getValue() >= hot && !candidates.contains(e.getKey()))
+                .sorted(Map.Entry.<String, Double>comparingByValue().reversed())
+                .forEach(e -> candidates.add(e.getKey()));
+        List<String> out = new ArrayList<>();
+        int used = 0;
+        for (String model : candidates) {
+            int size = size(model);
+            if (used + size <= budget) {
+                out.add(model);
+                used += size;
+            }
+        }
+        return out;
+    }
+
+    private int size(String model) {
+        Integer known = knownSizes.get(model);
+        if (known != null) {
+            return known;
+        }
+        Integer configured = config.getModelSizesMb() != null ? config.getModelSizesMb().get(model) : null;
+        return configured != null ? configured : value(config.getDefaultModelSizeMb(), 4096);
+    }
+
+    private void count(String decision, String endpoint, String model) {
+        decisions.computeIfAbsent(decision + ":" + model, k -> new LongAdder()).increment();
+        Scope scope = scope();
+        if (scope != null) {
+            scope.tagged(Map.of("endpoint", endpoint, "model", model, "decision", decision)).counter("model_residency_decision").inc(1);
+        }
+    }
+
+    private Scope scope() {
+        return metrics != null ? metrics.get() : null;
+    }
+
+    private static int value(Integer v, int def) {
+        return v != null ? v : def;
+    }
+}
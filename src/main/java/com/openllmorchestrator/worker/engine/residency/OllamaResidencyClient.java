@@ -0,0 +1,84 @@
+/*
+ * Copyright 2026 Open LLM Orchestrator contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.openllmorchestrator.worker.engine.residency;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/** The three Ollama calls residency needs: list loaded models, load (or keep) a model, unload a model. */
+final class OllamaResidencyClient {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final long MB = 1024L * 1024L;
+
+    private final HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+    private final Duration loadTimeout;
+
+    OllamaResidencyClient(Duration loadTimeout) {
+        this.loadTimeout = loadTimeout;
+    }
+
+    /** Loaded model name to its memory size in MB ({@code GET /api/ps}). */
+    Map<String, Integer> loaded(String baseUrl) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/api/ps")).timeout(Duration.ofSeconds(10)).GET().build();
+        JsonNode body = MAPPER.readTree(send(request, baseUrl + "/api/ps"));
+        Map<String, Integer> out = new LinkedHashMap<>();
+        for (JsonNode m : body.path("models")) {
+            String name = m.path("name").asText(m.path("model").asText(""));
+            long bytes = m.path("size_vram").asLong(0) > 0 ? m.path("size_vram").asLong() : m.path("size").asLong(0);
+            if (!name.isEmpty()) {
+                out.put(name, (int) Math.max(1, bytes / MB));
+            }
+        }
+        return out;
+    }
+
+    /** Load the model, or extend its stay when loaded: a generate request without prompt ({@code POST /api/generate}). */
+    void keep(String baseUrl, String model, String keepAlive) throws IOException, InterruptedException {
+        generate(baseUrl, model, MAPPER.createObjectNode().put("model", model).put("keep_alive", keepAlive), loadTimeout);
+    }
+
+    /** Unload the model now ({@code keep_alive: 0}). */
+    void unload(String baseUrl, String model) throws IOException, InterruptedException {
+        generate(baseUrl, model, MAPPER.createObjectNode().put("model", model).put("keep_alive", 0), Duration.ofSeconds(30));
+    }
+
+    private void generate(String baseUrl, String model, JsonNode body, Duration timeout) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/api/generate"))
+                .timeout(timeout)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(MAPPER.writeValueAsString(body)))
+                .build();
+        send(request, baseUrl + "/api/generate (" + model + ")");
+    }
+
+    private String send(HttpRequest request, String what) throws IOException, InterruptedException {
+        HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() / 100 != 2) {
+            throw new IOException(what + " returned HTTP " + response.statusCode());
+        }
+        return response.body();
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright 2026 Open LLM Orchestrator contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.openllmorchestrator.worker.engine.retry;
+
+/** In-process retry budget: refills at a fixed rate plus a fraction of a token per success, capped at the burst. */
+public final class LocalRetryBudget implements RetryBudget {
+
+    private final double depositPerSuccess;
+    private final double refillPerNano;
+    private final double capacity;
+    private double tokens;
+    private long refilledAt = System.nanoTime();
+
+    public LocalRetryBudget(double percent, double minRetriesPerSecond, int burst) {
+        this.depositPerSuccess = Math.max(0.0, percent) / 100.0;
+        this.refillPerNano = Math.max(0.0, minRetriesPerSecond) / 1_000_000_000.0;
+        this.capacity = Math.max(1, burst);
+        this.tokens = capacity;
+    }
+
+    @Override
+    public synchronized boolean tryRetry() {
+        refill();
+        if (tokens < 1.0) {
+            return false;
+        }
+        tokens -= 1.0;
+        return true;
+    }
+
+    @Override
+    public synchronized void onSuccess() {
+        refill();
+        tokens = Math.min(capacity, tokens + depositPerSuccess);
+    }
+
+    @Override
+    public synchronized double available() {
+        refill();
+        return tokens;
+    }
+
+    private void refill() {
+        long now = System.nanoTime();
+        tokens = Math.min(capacity, tokens + (now - refilledAt) * refillPerNano);
+        refilledAt = now;
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright 2026 Open LLM Orchestrator contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.openllmorchestrator.worker.engine.retry;
+
+import lombok.extern.slf4j.Slf4j;
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.JedisPool;
+
+import java.util.List;
+
+/**
+ * Retry budget shared by all workers: the bucket is a Redis hash updated by one Lua script (refill, deposit, take).
+ * Success credits are batched locally and sent with the next retry or once they add up to a whole token, so
+ * successful calls rarely touch Redis. When Redis is unreachable the local bucket decides.
+ */
+@Slf4j
+public final class RedisRetryBudget implements RetryBudget {
+
+    private static final String SCRIPT =
+            "local cap = tonumber(ARGV[3]) "
+            + "local now = tonumber(ARGV[1]) "
+            + "local tokens = tonumber(redis.call('HGET', KEYS[1], 'tokens') or cap) "
+            + "local ts = tonumber(redis.call('HGET', KEYS[1], 'ts') or now) "
+            + "tokens = math.min(cap, tokens + math.max(0, now - ts) * tonumber(ARGV[2]) / 1000 + tonumber(ARGV[4])) "
+            + "local ok = 0 "
+            + "if ARGV[5] == '1' and tokens >= 1 then tokens = tokens - 1 ok = 1 end "
+            + "redis.call('HSET', KEYS[1], 'tokens', tostring(tokens), 'ts', tostring(now)) "
+            + "redis.call('PEXPIRE', KEYS[1], ARGV[6]) "
+            + "return {ok, tostring(tokens)}";
+
+    private final JedisPool pool;
+    private final String key;
+    private final double depositPerSuccess;
+    private final double minRetriesPerSecond;
+    private final int burst;
+    private final long ttlMillis;
+    private final LocalRetryBudget local;
+    private double pendingDeposit;
+    private volatile double lastSeen;
+
+    public RedisRetryBudget(JedisPool pool, String key, double percent, double minRetriesPerSecond, int burst) {
+        this.pool = pool;
+        this.key = key;
+        this.depositPerSuccess = Math.max(0.0, percent) / 100.0;
+        this.minRetriesPerSecond = Math.max(0.0, minRetriesPerSecond);
+        this.burst = Math.max(1, burst);
+        this.ttlMillis = minRetriesPerSecond > 0 ? (long) Math.max(60_000, 2_000 * this.burst / minRetriesPerSecond) : 3_600_000;
+        this.local = new LocalRetryBudget(percent, minRetriesPerSecond, burst);
+        this.lastSeen = this.burst;
+    }
+
+    @Override
+    public boolean tryRetry() {
+        double deposit = drainDeposit();
+        Boolean ok = eval(true, deposit);
+        if (ok != null) {
+            return ok;
+        }
+        synchronized (this) {
+            pendingDeposit += deposit;
+        }
+        return local.tryRetry();
+    }
+
+    @Override
+    public void onSuccess() {
+        local.onSuccess();
+        double deposit;
+        synchronized (this) {
+            pendingDeposit += depositPerSuccess;
+            if (pendingDeposit < 1.0) {
+                return;
+            }
+            deposit = pendingDeposit;
+            pendingDeposit = 0;
+        }
+        if (eval(false, deposit) == null) {
+            synchronized (this) {
+                pendingDeposit += deposit;
+            }
+        }
+    }
+
+    @Override
+    public double available() {
+        return lastSeen;
+    }
+
+    private synchronized double drainDeposit() {
+        double deposit = pendingDeposit;
+        pendingDeposit = 0;
+        return deposit;
+    }
+
+    /** Run the bucket script; null when Redis failed. */
+    private Boolean eval(boolean take, double deposit) {
+        try (Jedis jedis = pool.getResource()) {
+            Object reply = jedis.eval(SCRIPT, List.of(key), List.of(
+                    Long.toString(System.currentTimeMillis()), Double.toString(minRetriesPerSecond), Integer.toString(burst),
+                    Double.toString(deposit), take ? "1" : "0", Long.toString(ttlMillis)));
+            List<?> values = (List<?>) reply;
+            lastSeen = Double.parseDouble(String.valueOf(values.get(1)));
+            return ((Number) values.get(0)).longValue() == 1L;
+        } catch (RuntimeException e) {
+            log.warn("Retry budget '{}': Redis unavailable, using the local budget: {}", key, e.getMessage());
+            return null;
+        }
+    }
+}
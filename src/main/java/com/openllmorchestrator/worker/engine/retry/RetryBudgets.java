@@ -0,0 +1,93 @@
+/*
+ * Copyright 2026 Open LLM Orchestrator contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.openllmorchestrator.worker.engine.retry;
+
+import com.openllmorchestrator.worker.engine.config.redis.RedisConfig;
+import com.openllmorchestrator.worker.engine.config.retry.RetryBudgetConfig;
+import com.openllmorchestrator.worker.engine.runtime.RedisPools;
+import io.temporal.failure.ApplicationFailure;
+import lombok.extern.slf4j.Slf4j;
+import redis.clients.jedis.JedisPool;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Retry budgets for one queue (RETRY_BUDGET), one per plugin. Temporal retries each activity on its own schedule,
+ * so during an outage every in-flight workflow keeps retrying against the struggling backend. Here a retry attempt
+ * (activity attempt > 1) first takes a token from the plugin's budget; when none is left the attempt does not call
+ * the plugin and fails with {@value #EXHAUSTED_TYPE}: retryable with a delay (RETRY_LATER) or non-retryable (FAIL).
+ */
+@Slf4j
+public final class RetryBudgets {
+
+    public static final String EXHAUSTED_TYPE = "RetryBudgetExhausted";
+
+    private final RetryBudgetConfig config;
+    private final JedisPool pool;
+    private final Map<String, RetryBudget> budgets = new ConcurrentHashMap<>();
+
+    public RetryBudgets(RetryBudgetConfig config, RedisConfig redis) {
+        this.config = config != null ? config : new RetryBudgetConfig();
+        this.pool = Boolean.TRUE.equals(this.config.getRedis()) ? RedisPools.get(redis) : null;
+    }
+
+    /** Check the budget before running {@code capabilityName} on the given activity attempt; throws when exhausted. */
+    public void admit(String capabilityName, int attempt) {
+        if (attempt <= 1 || capabilityName == null) {
+            return;
+        }
+        RetryBudget budget = budgetFor(capabilityName);
+        if (budget.tryRetry()) {
+            return;
+        }
+        String message = "Retry budget for '" + capabilityName + "' is exhausted; attempt " + attempt + " not run";
+        log.warn(message);
+        if (RetryBudgetConfig.FAIL.equalsIgnoreCase(config.getOnExhausted())) {
+            throw ApplicationFailure.newNonRetryableFailure(message, EXHAUSTED_TYPE);
+        }
+        long delay = config.getRetryDelayMillis() != null ? config.getRetryDelayMillis() : 5000;
+        throw ApplicationFailure.newFailureWithCauseAndDelay(message, EXHAUSTED_TYPE, null, Duration.ofMillis(Math.max(1, delay)));
+    }
+
+    /** Credit a successful call of {@code capabilityName} (any attempt). */
+    public void onSuccess(String capabilityName) {
+        if (capabilityName != null) {
+            budgetFor(capabilityName).onSuccess();
+        }
+    }
+
+    /** Available retry tokens per plugin (for logs and metrics). */
+    public Map<String, Double> snapshot() {
+        Map<String, Double> out = new LinkedHashMap<>();
+        budgets.forEach((name, budget) -> out.put(name, budget.available()));
+        return out;
+    }
+
+    RetryBudget budgetFor(String capabilityName) {
+        return budgets.computeIfAbsent(capabilityName, name -> {
+            Double override = config.getPlugins() != null ? config.getPlugins().get(name) : null;
+            double percent = override != null ? override : (config.getPercent() != null ? config.getPercent() : 10.0);
+            double minRate = config.getMinRetriesPerSecond() != null ? config.getMinRetriesPerSecond() : 1.0;
+            int burst = config.getBurst() != null ? config.getBurst() : 20;
+            return pool != null
+                    ? new RedisRetryBudget(pool, (config.getKeyPrefix() != null ? config.getKeyPrefix() : "olo:retry-budget:") + name, percent, minRate, burst)
+                    : new LocalRetryBudget(percent, minRate, burst);
+        });
+    }
+}
@@ -0,0 +1,260 @@
+/*
+ * Copyright 2026 Open LLM Orchestrator contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.openllmorchestrator.worker.engine.routing;
+
+import com.openllmorchestrator.worker.engine.config.redis.RedisConfig;
+import com.openllmorchestrator.worker.engine.config.routing.ModelRouteConfig;
+import com.openllmorchestrator.worker.engine.config.routing.ModelRoutingConfig;
+import com.openllmorchestrator.worker.engine.runtime.RedisPools;
+import lombok.extern.slf4j.Slf4j;
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.JedisPool;
+import redis.clients.jedis.Pipeline;
+import redis.clients.jedis.Response;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Latency-SLO model routing for one queue (MODEL_ROUTING). Activities report every call of a candidate plugin
+ * ({@link #observe}); {@link #choose} picks, for a pipeline's route, the first candidate at or above the route's tier
+ * whose predicted latency (EWMA latency grown by the in-flight count) fits in the SLO's headroom, else the highest-tier
+ * smaller model that fits, else the candidate with the lowest prediction, so a load spike degrades answers instead of
+ * timing out. Candidates with a high error rate are passed over while a healthy one exists. With Redis each worker
+ * publishes its statistics every {@code syncMillis} and merges those of the others. The exchange is started only
+ * from {@link #observe} and runs on a virtual thread, so activities do not wait for Redis and workflow code never
+ * touches it.
+ */
+@Slf4j
+public final class ModelRouter {
+
+    public static final String PREFERRED = "PREFERRED";
+    public static final String FALLBACK = "FALLBACK";
+    public static final String DEGRADED = "DEGRADED";
+
+    private final ModelRoutingConfig config;
+    private final Map<String, ModelRouteConfig> routes;
+    private final Map<String, ModelStats> stats = new LinkedHashMap<>();
+    private final Map<String, LongAdder> decisions = new ConcurrentHashMap<>();
+    private final double alpha;
+    private final long weightCap;
+    private final JedisPool pool;
+    private final String workerId = UUID.randomUUID().toString();
+    private final AtomicLong lastSync = new AtomicLong();
+    private final AtomicBoolean syncing = new AtomicBoolean();
+    private volatile Map<String, ModelStats.View> others = Map.of();
+
+    public ModelRouter(ModelRoutingConfig config, RedisConfig redis) {
+        this.config = config != null ? config : new ModelRoutingConfig();
+        this.routes = this.config.getRoutes() != null ? Map.copyOf(this.config.getRoutes()) : Map.of();
+        this.alpha = Math.min(1.0, Math.max(0.01, value(this.config.getAlpha(), 0.2)));
+        this.weightCap = Math.round(2 / alpha);
+        for (ModelRouteConfig route : routes.values()) {
+            for (String name : candidates(route)) {
+                stats.computeIfAbsent(name, n -> new ModelStats(alpha));
+            }
+        }
+        this.pool = Boolean.TRUE.equals(this.config.getRedis()) ? RedisPools.get(redis) : null;
+    }
+
+    /** True when the pipeline has a route and the plugin is one of its candidates. */
+    public boolean routes(String pipelineName, String pluginName) {
+        ModelRouteConfig route = pipelineName != null ? routes.get(pipelineName) : null;
+        return route != null && candidates(route).contains(pluginName);
+    }
+
+    /** True when calls of the plugin are measured (it is a candidate of some route). */
+    public boolean tracks(String pluginName) {
+        return pluginName != null && stats.containsKey(pluginName);
+    }
+
+    /** Plugins named in any route. */
+    public Set<String> models() {
+        return stats.keySet();
+    }
+
+    /** Run one call of a tracked plugin, recording its latency and whether it failed. */
+    public <T> T observe(String pluginName, Supplier<T> call) {
+        ModelStats s = stats.get(pluginName);
+        if (s == null) {
+            return call.get();
+        }
+        maybeSync();
+        long start = System.nanoTime();
+        s.begin();
+        boolean failed = true;
+        try {
+            T result = call.get();
+            failed = false;
+            return result;
+        } finally {
+            s.end((System.nanoTime() - start) / 1_000_000.0, failed);
+        }
+    }
+
+    /**
+     * Plugin to run for {@code requested} in the pipeline; {@code requested} itself when the pipeline is not routed.
+     * A pure read of the current statistics: it is called from workflow code, so it never starts the Redis exchange.
+     */
+    public String choose(String pipelineName, String requested) {
+        if (!routes(pipelineName, requested)) {
+            return requested;
+        }
+        ModelRouteConfig route = routes.get(pipelineName);
+        double budget = value(route.getSloMillis(), 10000) * value(config.getHeadroom(), 0.8);
+        int minTier = route.getMinTier() != null ? route.getMinTier() : 0;
+        String fallback = null;
+        int fallbackTier = Integer.MIN_VALUE;
+        String fastest = null;
+        double fastestPrediction = Double.MAX_VALUE;
+        boolean fastestHealthy = false;
+        for (String name : candidates(route)) {
+            ModelStats.View v = view(name);
+            boolean trusted = v.samples() >= value(config.getMinSamples(), 5);
+            boolean healthy = !trusted || v.errorRate() <= value(config.getMaxErrorRate(), 0.2);
+            double predicted = trusted ? predicted(v) : 0;
+            int tier = tier(name);
+            if (healthy && predicted <= budget) {
+                if (tier >= minTier) {
+                    return decide(name, PREFERRED);
+                }
+                if (tier > fallbackTier) {
+                    fallback = name;
+                    fallbackTier = tier;
+                }
+            }
+            if (fastest == null || (healthy && !fastestHealthy) || (healthy == fastestHealthy && predicted < fastestPrediction)) {
+                fastest = name;
+                fastestPrediction = predicted;
+                fastestHealthy = healthy;
+            }
+        }
+        if (fallback != null) {
+            return decide(fallback, FALLBACK);
+        }
+        return decide(fastest != null ? fastest : requested, DEGRADED);
+    }
+
+    public Map<String, Object> snapshot() {
+        Map<String, Object> out = new LinkedHashMap<>();
+        Map<String, Object> models = new LinkedHashMap<>();
+        for (String name : stats.keySet()) {
+            ModelStats.View v = view(name);
+            Map<String, Object> m = new LinkedHashMap<>();
+            m.put("tier", tier(name));
+            m.put("latencyMillis", v.latencyMillis());
+            m.put("predictedMillis", predicted(v));
+            m.put("errorRate", v.errorRate());
+            m.put("inflight", v.inflight());
+            m.put("samples", v.samples());
+            models.put(name, m);
+        }
+        Map<String, Long> counts = new HashMap<>();
+        decisions.forEach((k, v) -> counts.put(k, v.sum()));
+        out.put("models", models);
+        out.put("decisions", counts);
+        out.put("shared", pool != null);
+        return out;
+    }
+
+    private String decide(String name, String reason) {
+        decisions.computeIfAbsent(name + ":" + reason, k -> new LongAdder()).increment();
+        return name;
+    }
+
+    /** This worker's statistics merged with the other workers' (when shared). */
+    private ModelStats.View view(String name) {
+        ModelStats s = stats.get(name);
+        ModelStats.View local = s != null ? s.view() : ModelStats.View.EMPTY;
+        ModelStats.View remote = others.get(name);
+        return remote != null ? local.merge(remote, weightCap) : local;
+    }
+
+    private double predicted(ModelStats.View v) {
+        return v.latencyMillis() * (1 + value(config.getQueueDepthWeight(), 0.1) * v.inflight());
+    }
+
+    private int tier(String name) {
+        Integer tier = config.getTiers() != null ? config.getTiers().get(name) : null;
+        return tier != null ? tier : 0;
+    }
+
+    private void maybeSync() {
+        long now = System.currentTimeMillis();
+        if (pool == null || now - lastSync.get() < value(config.getSyncMillis(), 1000) || !syncing.compareAndSet(false, true)) {
+            return;
+        }
+        lastSync.set(now);
+        Thread.ofVirtual().name("model-router-sync").start(() -> {
+            try {
+                sync();
+            } finally {
+                syncing.set(false);
+            }
+        });
+    }
+
+    /** Publish this worker's statistics and read the other workers' fresh ones. */
+    void sync() {
+        long now = System.currentTimeMillis();
+        long staleMillis = value(config.getStaleSeconds(), 30) * 1000L;
+        String prefix = config.getKeyPrefix() != null ? config.getKeyPrefix() : "olo:route:";
+        try (Jedis jedis = pool.getResource()) {
+            Pipeline p = jedis.pipelined();
+            Map<String, Response<Map<String, String>>> replies = new LinkedHashMap<>();
+            for (Map.Entry<String, ModelStats> e : stats.entrySet()) {
+                String key = prefix + "stats:" + e.getKey();
+                p.hset(key, workerId, e.getValue().view().encode(now));
+                p.pexpire(key, staleMillis * 2);
+                replies.put(e.getKey(), p.hgetAll(key));
+            }
+            p.sync();
+            Map<String, ModelStats.View> merged = new HashMap<>();
+            for (Map.Entry<String, Response<Map<String, String>>> e : replies.entrySet()) {
+                for (Map.Entry<String, String> field : e.getValue().get().entrySet()) {
+                    ModelStats.View v = workerId.equals(field.getKey()) ? null : ModelStats.View.decode(field.getValue(), now - staleMillis);
+                    if (v != null) {
+                        merged.merge(e.getKey(), v, (a, b) -> a.merge(b, weightCap));
+                    }
+                }
+            }
+            others = Map.copyOf(merged);
+        } catch (RuntimeException e) {
+            log.warn("Model routing: Redis unavailable, using this worker's statistics: {}", e.getMessage());
+        }
+    }
+
+    private static List<String> candidates(ModelRouteConfig route) {
+        return route.getCandidates() != null ? route.getCandidates() : List.of();
+    }
+
+    private static double value(Double v, double def) {
+        return v != null ? v : def;
+    }
+
+    private static int value(Integer v, int def) {
+        return v != null ? v : def;
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2026 Open LLM Orchestrator contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.openllmorchestrator.worker.engine.routing;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/** EWMA latency and error rate of one model plugin on this worker, plus its in-flight calls. */
+final class ModelStats {
+
+    private final double alpha;
+    private final AtomicInteger inflight = new AtomicInteger();
+    private double latencyMillis;
+    private double errorRate;
+    private long samples;
+
+    ModelStats(double alpha) {
+        this.alpha = alpha;
+    }
+
+    void begin() {
+        inflight.incrementAndGet();
+    }
+
+    synchronized void end(double millis, boolean error) {
+        inflight.decrementAndGet();
+        double e = error ? 1.0 : 0.0;
+        if (samples == 0) {
+            latencyMillis = millis;
+            errorRate = e;
+        } else {
+            latencyMillis += alpha * (millis - latencyMillis);
+            errorRate += alpha * (e - errorRate);
+        }
+        samples++;
+    }
+
+    synchronized View view() {
+        return new View(latencyMillis, errorRate, inflight.get(), samples);
+    }
+
+    /** Point-in-time statistics; also the merged view of several workers. */
+    record View(double latencyMillis, double errorRate, int inflight, long samples) {
+
+        static final View EMPTY = new View(0, 0, 0, 0);
+
+        /** Sample-weighted merge; each side weighs at most {@code cap} samples so one busy worker does not drown the rest. */
+        View merge(View other, long cap) {
+            double w1 = Math.min(samples, cap);
+            double w2 = Math.min(other.samples, cap);
+            double w = w1 + w2;
+            return new View(
+                    w == 0 ? 0 : (latencyMillis * w1 + other.latencyMillis * w2) / w,
+                    w == 0 ? 0 : (errorRate * w1 + other.errorRate * w2) / w,
+                    inflight + other.inflight,
+                    samples + other.samples);
+        }
+
+        String encode(long epochMillis) {
+            return latencyMillis + "," + errorRate + "," + inflight + "," + samples + "," + epochMillis;
+        }
+
+        /** Decoded view, or null when the value is malformed or older than {@code oldestMillis}. */
+        static View decode(String value, long oldestMillis) {
+            String[] p = value != null ? value.split(",") : new String[0];
+            if (p.length != 5) {
+                return null;
+            }
+            try {
+                if (Long.parseLong(p[4]) < oldestMillis) {
+                    return null;
+                }
+                return new View(Double.parseDouble(p[0]), Double.parseDouble(p[1]), Integer.parseInt(p[2]), Long.parseLong(p[3]));
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        }
+    }
+}
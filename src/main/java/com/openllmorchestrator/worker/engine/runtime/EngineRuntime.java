@@ -28,6 +28,19 @@ import com.openllmorchestrator.worker.engine.kernel.feature.FeatureExecutionPlug
 import com.openllmorchestrator.worker.engine.kernel.feature.FeatureHandlerRegistry;
 import com.openllmorchestrator.worker.engine.kernel.interceptor.ExecutionInterceptorChain;
 
+import com.openllmorchestrator.worker.engine.batch.MicroBatcher;
+import com.openllmorchestrator.worker.engine.bulkhead.Bulkheads;
+import com.openllmorchestrator.worker.engine.cache.ResultCache;
+import com.openllmorchestrator.worker.engine.circuit.CircuitBreakers;
+import com.openllmorchestrator.worker.engine.coalesce.RequestCoalescer;
+import com.openllmorchestrator.worker.engine.embedding.TieredEmbeddingCache;
+import com.openllmorchestrator.worker.engine.plan.PlanCache;
+import com.openllmorchestrator.worker.engine.residency.ModelResidencyManager;
+import com.openllmorchestrator.worker.engine.routing.ModelRouter;
+import com.openllmorchestrator.worker.engine.retry.RetryBudgets;
+import com.openllmorchestrator.worker.engine.stream.StreamSink;
+import com.uber.m3.tally.Scope;
+
 import java.util.Collections;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
@@ -39,6 +52,22 @@ import java.util.concurrent.ConcurrentHashMap;
 public final class EngineRuntime {
 
     private static final ConcurrentHashMap<String, QueueExecutionTree> runtimesByQueue = new ConcurrentHashMap<>();
+    /** Primary queue when one process serves several queues (first of QUEUE_NAMES). */
+    private static volatile String defaultQueue;
+    /** Worker-wide metrics scope for background components (Temporal service stubs' scope); null until set. */
+    private static volatile Scope metricsScope;
+
+    public static Scope getMetricsScope() {
+        return metricsScope;
+    }
+    public static void setMetricsScope(Scope scope) {
+        metricsScope = scope;
+    }
+
+    /** Set the queue used for null/blank lookups when several queues are registered. */
+    public static void setDefaultQueue(String queueName) {
+        defaultQueue = queueName != null && !queueName.isBlank() ? queueName.trim() : null;
+    }
 
     /** Resolve queue name for lookup: null/blank → default (first registered or "default"). */
     public static String resolveDefaultQueue() {
@@ -48,6 +77,10 @@ public final class EngineRuntime {
         if (runtimesByQueue.size() == 1) {
             return runtimesByQueue.keySet().iterator().next();
         }
+        String primary = defaultQueue;
+        if (primary != null && runtimesByQueue.containsKey(primary)) {
+            return primary;
+        }
         String fromEnv = System.getenv("QUEUE_NAME");
         if (fromEnv != null && !fromEnv.isBlank() && runtimesByQueue.containsKey(fromEnv.trim())) {
             return fromEnv.trim();
@@ -208,6 +241,105 @@ public final class EngineRuntime {
         getQueueRuntime(q).setFeatureExecutionPluginRegistry(r);
     }
 
+    /** Token stream sink for streaming capabilities; null when STREAMING is off or the sink is NONE. */
+    public static StreamSink getStreamSink(String queueName) {
+        return getQueueRuntime(queueName).getStreamSink();
+    }
+    public static void setStreamSink(String queueName, StreamSink sink) {
+        String q = (queueName != null && !queueName.isBlank()) ? queueName : "default";
+        getQueueRuntime(q).setStreamSink(sink);
+    }
+
+    /** Per-plugin / per-type concurrency limits; null when BULKHEADS is disabled. */
+    public static Bulkheads getBulkheads(String queueName) {
+        return getQueueRuntime(queueName).getBulkheads();
+    }
+    public static void setBulkheads(String queueName, Bulkheads bulkheads) {
+        String q = (queueName != null && !queueName.isBlank()) ? queueName : "default";
+        getQueueRuntime(q).setBulkheads(bulkheads);
+    }
+
+    /** Per-plugin / per-endpoint circuit breakers; null when CIRCUIT_BREAKERS is disabled. */
+    public static CircuitBreakers getCircuitBreakers(String queueName) {
+        return getQueueRuntime(queueName).getCircuitBreakers();
+    }
+    public static void setCircuitBreakers(String queueName, CircuitBreakers circuitBreakers) {
+        String q = (queueName != null && !queueName.isBlank()) ? queueName : "default";
+        getQueueRuntime(q).setCircuitBreakers(circuitBreakers);
+    }
+
+    /** Per-plugin retry budgets; null when RETRY_BUDGET is disabled. */
+    public static RetryBudgets getRetryBudgets(String queueName) {
+        return getQueueRuntime(queueName).getRetryBudgets();
+    }
+    public static void setRetryBudgets(String queueName, RetryBudgets retryBudgets) {
+        String q = (queueName != null && !queueName.isBlank()) ? queueName : "default";
+        getQueueRuntime(q).setRetryBudgets(retryBudgets);
+    }
+
+    /** Two-tier capability result cache; null when RESULT_CACHE is disabled. */
+    public static ResultCache getResultCache(String queueName) {
+        return getQueueRuntime(queueName).getResultCache();
+    }
+    public static void setResultCache(String queueName, ResultCache resultCache) {
+        String q = (queueName != null && !queueName.isBlank()) ? queueName : "default";
+        getQueueRuntime(q).setResultCache(resultCache);
+    }
+
+    /** Single-flight coalescing of identical in-flight calls; null when COALESCING is disabled. */
+    public static RequestCoalescer getRequestCoalescer(String queueName) {
+        return getQueueRuntime(queueName).getRequestCoalescer();
+    }
+    public static void setRequestCoalescer(String queueName, RequestCoalescer requestCoalescer) {
+        String q = (queueName != null && !queueName.isBlank()) ? queueName : "default";
+        getQueueRuntime(q).setRequestCoalescer(requestCoalescer);
+    }
+
+    /** Micro-batcher for BatchCapability plugins; null when MICRO_BATCHING is disabled. */
+    public static MicroBatcher getMicroBatcher(String queueName) {
+        return getQueueRuntime(queueName).getMicroBatcher();
+    }
+    public static void setMicroBatcher(String queueName, MicroBatcher microBatcher) {
+        String q = (queueName != null && !queueName.isBlank()) ? queueName : "default";
+        getQueueRuntime(q).setMicroBatcher(microBatcher);
+    }
+
+    /** Content-addressed embedding cache handed to plugins; null when EMBEDDING_CACHE is disabled. */
+    public static TieredEmbeddingCache getEmbeddingCache(String queueName) {
+        return getQueueRuntime(queueName).getEmbeddingCache();
+    }
+    public static void setEmbeddingCache(String queueName, TieredEmbeddingCache embeddingCache) {
+        String q = (queueName != null && !queueName.isBlank()) ? queueName : "default";
+        getQueueRuntime(q).setEmbeddingCache(embeddingCache);
+    }
+
+    /** Cache of PLANNER output by request shape; null when PLAN_CACHE is disabled. */
+    public static PlanCache getPlanCache(String queueName) {
+        return getQueueRuntime(queueName).getPlanCache();
+    }
+    public static void setPlanCache(String queueName, PlanCache planCache) {
+        String q = (queueName != null && !queueName.isBlank()) ? queueName : "default";
+        getQueueRuntime(q).setPlanCache(planCache);
+    }
+
+    /** Latency-SLO model router; null when MODEL_ROUTING is disabled. */
+    public static ModelRouter getModelRouter(String queueName) {
+        return getQueueRuntime(queueName).getModelRouter();
+    }
+    public static void setModelRouter(String queueName, ModelRouter modelRouter) {
+        String q = (queueName != null && !queueName.isBlank()) ? queueName : "default";
+        getQueueRuntime(q).setModelRouter(modelRouter);
+    }
+
+    /** Background manager keeping hot models loaded; null when MODEL_RESIDENCY is disabled. */
+    public static ModelResidencyManager getModelResidency(String queueName) {
+        return getQueueRuntime(queueName).getModelResidency();
+    }
+    public static void setModelResidency(String queueName, ModelResidencyManager modelResidency) {
+        String q = (queueName != null && !queueName.isBlank()) ? queueName : "default";
+        getQueueRuntime(q).setModelResidency(modelResidency);
+    }
+
     /** Backward compatibility; set by bootstrap. Prefer getConfig(queueName). */
     @Deprecated
     public static EngineFileConfig CONFIG;
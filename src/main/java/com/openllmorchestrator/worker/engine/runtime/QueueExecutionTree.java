@@ -27,6 +27,17 @@ import com.openllmorchestrator.worker.engine.plan.PlanValidator;
 import com.openllmorchestrator.worker.engine.policy.BudgetGuardrailEnforcer;
 import com.openllmorchestrator.worker.engine.policy.ExecutionPolicyResolver;
 import com.openllmorchestrator.worker.engine.security.SecurityHardeningGate;
+import com.openllmorchestrator.worker.engine.batch.MicroBatcher;
+import com.openllmorchestrator.worker.engine.bulkhead.Bulkheads;
+import com.openllmorchestrator.worker.engine.cache.ResultCache;
+import com.openllmorchestrator.worker.engine.circuit.CircuitBreakers;
+import com.openllmorchestrator.worker.engine.coalesce.RequestCoalescer;
+import com.openllmorchestrator.worker.engine.embedding.TieredEmbeddingCache;
+import com.openllmorchestrator.worker.engine.plan.PlanCache;
+import com.openllmorchestrator.worker.engine.residency.ModelResidencyManager;
+import com.openllmorchestrator.worker.engine.routing.ModelRouter;
+import com.openllmorchestrator.worker.engine.retry.RetryBudgets;
+import com.openllmorchestrator.worker.engine.stream.StreamSink;
 
 import java.util.Collections;
 import java.util.Map;
@@ -49,6 +60,17 @@ public final class QueueExecutionTree {
     private volatile FeatureHandlerRegistry featureHandlerRegistry;
     private volatile ExecutionInterceptorChain executionInterceptorChain;
     private volatile FeatureExecutionPluginRegistry featureExecutionPluginRegistry;
+    private volatile StreamSink streamSink;
+    private volatile Bulkheads bulkheads;
+    private volatile CircuitBreakers circuitBreakers;
+    private volatile RetryBudgets retryBudgets;
+    private volatile ResultCache resultCache;
+    private volatile RequestCoalescer requestCoalescer;
+    private volatile MicroBatcher microBatcher;
+    private volatile TieredEmbeddingCache embeddingCache;
+    private volatile PlanCache planCache;
+    private volatile ModelRouter modelRouter;
+    private volatile ModelResidencyManager modelResidency;
 
     public QueueExecutionTree() {}
 
@@ -89,4 +111,34 @@ public final class QueueExecutionTree {
 
     public FeatureExecutionPluginRegistry getFeatureExecutionPluginRegistry() { return featureExecutionPluginRegistry; }
     public void setFeatureExecutionPluginRegistry(FeatureExecutionPluginRegistry featureExecutionPluginRegistry) { this.featureExecutionPluginRegistry = featureExecutionPluginRegistry; }
+
+    public StreamSink getStreamSink() { return streamSink; }
+    public void setStreamSink(StreamSink streamSink) { this.streamSink = streamSink; }
+
+    public Bulkheads getBulkheads() { return bulkheads; }
+    public void setBulkheads(Bulkheads bulkheads) { this.bulkheads = bulkheads; }
+
+    public CircuitBreakers getCircuitBreakers() { return circuitBreakers; }
+    public void setCircuitBreakers(CircuitBreakers circuitBreakers) { this.circuitBreakers = circuitBreakers; }
+
+    public RetryBudgets getRetryBudgets() { return retryBudgets; }
+    public void setRetryBudgets(RetryBudgets retryBudgets) { this.retryBudgets = retryBudgets; }
+
+    public ResultCache getResultCache() { return resultCache; }
+    public void setResultCache(ResultCache resultCache) { this.resultCache = resultCache; }
+
+    public RequestCoalescer getRequestCoalescer() { return requestCoalescer; }
+    public void setRequestCoalescer(RequestCoalescer requestCoalescer) { this.requestCoalescer = requestCoalescer; }
+
+    public MicroBatcher getMicroBatcher() { return microBatcher; }
+    public void setMicroBatcher(MicroBatcher microBatcher) { this.microBatcher = microBatcher; }
+
+    public TieredEmbeddingCache getEmbeddingCache() { return embeddingCache; }
+    public void setEmbeddingCache(TieredEmbeddingCache embeddingCache) { this.embeddingCache = embeddingCache; }
+    public PlanCache getPlanCache() { return planCache; }
+    public void setPlanCache(PlanCache planCache) { this.planCache = planCache; }
+    public ModelRouter getModelRouter() { return modelRouter; }
+    public void setModelRouter(ModelRouter modelRouter) { this.modelRouter = modelRouter; }
+    public ModelResidencyManager getModelResidency() { return modelResidency; }
+    public void setModelResidency(ModelResidencyManager modelResidency) { this.modelResidency = modelResidency; }
 }
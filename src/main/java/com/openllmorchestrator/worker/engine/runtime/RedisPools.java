@@ -0,0 +1,45 @@
+/*
+ * Copyright 2026 Open LLM Orchestrator contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.openllmorchestrator.worker.engine.runtime;
+
+import com.openllmorchestrator.worker.engine.config.redis.RedisConfig;
+import redis.clients.jedis.JedisPool;
+import redis.clients.jedis.JedisPoolConfig;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Process-wide Jedis pools keyed by host, port, password and database, for runtime paths that talk to Redis on every call (stream sinks,
+ * shared counters). Bootstrap-time repositories keep their own single connection.
+ */
+public final class RedisPools {
+
+    private static final int TIMEOUT_MILLIS = 2000;
+    private static final Map<String, JedisPool> POOLS = new ConcurrentHashMap<>();
+
+    private RedisPools() {}
+
+    public static JedisPool get(RedisConfig redis) {
+        if (redis == null || redis.getHost() == null || redis.getHost().isBlank()) {
+            throw new IllegalStateException("Redis host is not configured");
+        }
+        String password = redis.getPassword() != null && !redis.getPassword().isBlank() ? redis.getPassword() : null;
+        String key = redis.getHost() + ":" + redis.getPort() + "/" + redis.getDatabase() + "\0" + (password != null ? password : "");
+        return POOLS.computeIfAbsent(key, k ->
+                new JedisPool(new JedisPoolConfig(), redis.getHost(), redis.getPort(), TIMEOUT_MILLIS, password, redis.getDatabase()));
+    }
+}
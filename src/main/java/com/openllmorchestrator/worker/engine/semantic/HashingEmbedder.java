@@ -0,0 +1,112 @@
+/*
+ * Copyright 2026 Open LLM Orchestrator contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.openllmorchestrator.worker.engine.semantic;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+
+/**
+ * Deterministic local embedder: feature hashing of lower-cased word unigrams and character trigrams into a fixed
+ * number of signed buckets, L2-normalised. No model needed; close paraphrases and reorderings score high, so it
+ * is good enough for FAQ-style near duplicates and gives stable vectors in tests.
+ */
+public final class HashingEmbedder implements Embedder {
+
+    private final int dimensions;
+
+    public HashingEmbedder(int dimensions) {
+        this.dimensions = Math.max(8, dimensions);
+    }
+
+    @Override
+    public float[] embed(String text) {
+        float[] v = new float[dimensions];
+        if (text == null) {
+            return v;
+        }
+        String normalized = text.toLowerCase(Locale.ROOT).replaceAll("[^\\p{L}\\p{N}]+", " ").trim();
+        if (normalized.isEmpty()) {
+            return v;
+        }
+        for (String word : normalized.split(" ")) {
+            add(v, "w:" + word, 1.0f);
+        }
+        String padded = " " + normalized + " ";
+        for (int i = 0; i + 3 <= padded.length(); i++) {
+            add(v, "c:" + padded.substring(i, i + 3), 0.5f);
+        }
+        return normalize(v);
+    }
+
+    private void add(float[] v, String feature, float weight) {
+        int h = murmur(feature.getBytes(StandardCharsets.UTF_8));
+        int bucket = Math.floorMod(h, dimensions);
+        v[bucket] += (h >>> 31) == 0 ? weight : -weight;
+    }
+
+    static float[] normalize(float[] v) {
+        double norm = 0;
+        for (float x : v) {
+            norm += x * x;
+        }
+        if (norm == 0) {
+            return v;
+        }
+        float inv = (float) (1.0 / Math.sqrt(norm));
+        for (int i = 0; i < v.length; i++) {
+            v[i] *= inv;
+        }
+        return v;
+    }
+
+    /** 32-bit MurmurHash3 (x86), seed 0. */
+    private static int murmur(byte[] data) {
+        int h = 0;
+        int len = data.length;
+        int i = 0;
+        while (i + 4 <= len) {
+            int k = (data[i] & 0xff) | (data[i + 1] & 0xff) << 8 | (data[i + 2] & 0xff) << 16 | (data[i + 3] & 0xff) << 24;
+            h ^= mix(k);
+            h = Integer.rotateLeft(h, 13) * 5 + 0xe6546b64;
+            i += 4;
+        }
+        int k = 0;
+        switch (len - i) {
+            case 3:
+                k ^= (data[i + 2] & 0xff) << 16;
+            case 2:
+                k ^= (data[i + 1] & 0xff) << 8;
+            case 1:
+                k ^= data[i] & 0xff;
+                h ^= mix(k);
+            default:
+                break;
+        }
+        h ^= len;
+        h ^= h >>> 16;
+        h *= 0x85ebca6b;
+        h ^= h >>> 13;
+        h *= 0xc2b2ae35;
+        h ^= h >>> 16;
+        return h;
+    }
+
+    private static int mix(int k) {
+        k *= 0xcc9e2d51;
+        k = Integer.rotateLeft(k, 15);
+        return k * 0x1b873593;
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright 2026 Open LLM Orchestrator contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.openllmorchestrator.worker.engine.semantic;
+
+import com.openllmorchestrator.worker.contract.CapabilityHandler;
+import com.openllmorchestrator.worker.contract.CapabilityResult;
+import com.openllmorchestrator.worker.engine.contract.ExecutionContext;
+import com.openllmorchestrator.worker.engine.runtime.EngineRuntime;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Embedder backed by a registered plugin: calls it in-process with input {@code text} and reads a list of numbers
+ * from output {@code embedding}. The plugin is resolved on first use, after all plugins are loaded.
+ */
+public final class PluginEmbedder implements Embedder {
+
+    private final String queueName;
+    private final String pluginName;
+
+    public PluginEmbedder(String queueName, String pluginName) {
+        this.queueName = queueName;
+        this.pluginName = pluginName;
+    }
+
+    @Override
+    public float[] embed(String text) {
+        CapabilityHandler handler = EngineRuntime.getCapabilityResolver(queueName).resolve(pluginName);
+        if (handler == null) {
+            throw new IllegalStateException("Embedding plugin '" + pluginName + "' could not be resolved");
+        }
+        ExecutionContext context = ExecutionContext.forActivity(Map.of("text", text != null ? text : ""), Map.of());
+        CapabilityResult result = handler.execute(context);
+        Object embedding = context.getCurrentPluginOutput().get("embedding");
+        if (embedding == null && result != null) {
+            embedding = result.getOutput().get("embedding");
+        }
+        if (!(embedding instanceof List<?> values)) {
+            throw new IllegalStateException("Embedding plugin '" + pluginName + "' returned no 'embedding' list");
+        }
+        float[] v = new float[values.size()];
+        for (int i = 0; i < v.length; i++) {
+            v[i] = ((Number) values.get(i)).floatValue();
+        }
+        return HashingEmbedder.normalize(v);
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright 2026 Open LLM Orchestrator contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.openllmorchestrator.worker.engine.semantic;
+
+import com.openllmorchestrator.worker.engine.config.semantic.SemanticCacheConfig;
+import com.uber.m3.tally.Scope;
+import io.temporal.activity.Activity;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Semantic response cache for one queue: question embeddings per namespace (e.g. pipeline + tenant) mapped to the
+ * answer produced for them. Lookups return the best stored answer whose question is at least {@code threshold}
+ * similar. Hit and miss counts are kept per namespace and reported as {@code semantic_cache_hit}/{@code _miss}.
+ */
+public final class SemanticCache {
+
+    /** Fixed so LSH signatures are stable across restarts and workers. */
+    private static final long LSH_SEED = 0x5eedcaceL;
+
+    private final SemanticCacheConfig config;
+    private final Embedder embedder;
+    private final Map<String, SemanticIndex> indexes = new ConcurrentHashMap<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public SemanticCache(SemanticCacheConfig config, Embedder embedder) {
+        this.config = config;
+        this.embedder = embedder;
+    }
+
+    public SemanticCacheConfig getConfig() {
+        return config;
+    }
+
+    /** Embedding of the question; computed once per request and reused for the store. */
+    public float[] embed(String question) {
+        return embedder.embed(question);
+    }
+
+    /** Stored answer for the closest similar question in the namespace, or null. */
+    public SemanticMatch lookup(String namespace, float[] vector) {
+        SemanticIndex index = indexes.get(namespace);
+        SemanticMatch match = index != null ? index.nearest(vector, threshold()) : null;
+        if (match != null) {
+            hits.increment();
+            count("semantic_cache_hit");
+        } else {
+            misses.increment();
+            count("semantic_cache_miss");
+        }
+        return match;
+    }
+
+    public void store(String namespace, float[] vector, Map<String, Object> answer) {
+        if (answer == null || answer.isEmpty()) {
+            return;
+        }
+        indexes.computeIfAbsent(namespace, k -> new SemanticIndex(vector.length,
+                positive(config.getLshBands(), 8), positive(config.getLshBitsPerBand(), 8),
+                positive(config.getMaxEntriesPerNamespace(), 10000),
+                positive(config.getTtlSeconds(), 3600) * 1000L, LSH_SEED))
+                .add(vector, Map.copyOf(answer));
+    }
+
+    /**
+     * Namespace from the configured keys: input first, then accumulated output. Null when any key is missing or
+     * blank, so requests that cannot be told apart never share answers.
+     */
+    public String namespace(Map<String, Object> input, Map<String, Object> accumulated) {
+        List<String> keys = config.getNamespaceKeys();
+        if (keys == null || keys.isEmpty()) {
+            return "";
+        }
+        StringBuilder sb = new StringBuilder();
+        for (String key : keys) {
+            Object v = input != null ? input.get(key) : null;
+            if (v == null && accumulated != null) {
+                v = accumulated.get(key);
+            }
+            if (v == null || v.toString().isBlank()) {
+                return null;
+            }
+            sb.append(key).append('=').append(v).append('\u0000');
+        }
+        return sb.toString();
+    }
+
+    public Map<String, Object> snapshot() {
+        Map<String, Object> out = new LinkedHashMap<>();
+        long h = hits.sum();
+        long m = misses.sum();
+        out.put("namespaces", indexes.size());
+        out.put("entries", indexes.values().stream().mapToInt(SemanticIndex::size).sum());
+        out.put("hits", h);
+        out.put("misses", m);
+        out.put("hitRate", h + m == 0 ? 0.0 : (double) h / (h + m));
+        return out;
+    }
+
+    private double threshold() {
+        return config.getThreshold() != null ? config.getThreshold() : 0.92;
+    }
+
+    private static int positive(Integer value, int fallback) {
+        return value != null && value > 0 ? value : fallback;
+    }
+
+    private static void count(String metric) {
+        Scope metrics;
+        try {
+            metrics = Activity.getExecutionContext().getMetricsScope();
+        } catch (IllegalStateException e) {
+            return;
+        }
+        metrics.counter(metric).inc(1);
+    }
+}
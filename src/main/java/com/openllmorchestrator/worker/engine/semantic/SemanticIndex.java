@@ -0,0 +1,179 @@
+/*
+ * Copyright 2026 Open LLM Orchestrator contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.openllmorchestrator.worker.engine.semantic;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Approximate nearest-neighbour index over unit vectors for one namespace. Random-hyperplane LSH: each vector gets
+ * one signature per band; candidates are entries sharing at least one band bucket, re-ranked by exact cosine. Small
+ * indexes are scanned directly. Entries are evicted least-recently-hit first when full, and on expiry. Thread-safe.
+ */
+final class SemanticIndex {
+
+    /** Below this size a linear scan is cheaper than hashing and always exact. */
+    private static final int SCAN_LIMIT = 256;
+
+    private final int maxEntries;
+    private final long ttlNanos;
+    private final float[][][] planes;
+    private final LinkedHashMap<Long, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final List<Map<Integer, List<Long>>> buckets = new ArrayList<>();
+    private long nextId;
+
+    SemanticIndex(int dimensions, int bands, int bitsPerBand, int maxEntries, long ttlMillis, long seed) {
+        this.maxEntries = Math.max(1, maxEntries);
+        this.ttlNanos = ttlMillis * 1_000_000L;
+        int bits = Math.max(1, Math.min(30, bitsPerBand));
+        this.planes = new float[Math.max(1, bands)][bits][dimensions];
+        Random random = new Random(seed);
+        for (float[][] band : planes) {
+            for (float[] plane : band) {
+                for (int i = 0; i < dimensions; i++) {
+                    plane[i] = (float) random.nextGaussian();
+                }
+            }
+            buckets.add(new HashMap<>());
+        }
+    }
+
+    /** Closest live entry with similarity at least {@code threshold}, or null. */
+    synchronized SemanticMatch nearest(float[] vector, double threshold) {
+        long now = System.nanoTime();
+        Entry best = null;
+        double bestScore = threshold;
+        for (Entry e : candidates(vector)) {
+            if (now - e.expiresAt > 0) {
+                continue;
+            }
+            double score = cosine(vector, e.vector);
+            if (score >= bestScore) {
+                best = e;
+                bestScore = score;
+            }
+        }
+        if (best == null) {
+            return null;
+        }
+        entries.get(best.id);
+        return new SemanticMatch(best.value, bestScore);
+    }
+
+    synchronized void add(float[] vector, Map<String, Object> value) {
+        if (ttlNanos <= 0 || vector.length != planes[0][0].length) {
+            return;
+        }
+        if (entries.size() >= maxEntries) {
+            evictExpired();
+        }
+        while (entries.size() >= maxEntries) {
+            remove(entries.keySet().iterator().next());
+        }
+        int[] signature = signature(vector);
+        Entry e = new Entry(nextId++, vector, value, signature, System.nanoTime() + ttlNanos);
+        entries.put(e.id, e);
+        for (int b = 0; b < signature.length; b++) {
+            buckets.get(b).computeIfAbsent(signature[b], k -> new ArrayList<>()).add(e.id);
+        }
+    }
+
+    synchronized int size() {
+        return entries.size();
+    }
+
+    private List<Entry> candidates(float[] vector) {
+        if (entries.size() <= SCAN_LIMIT || vector.length != planes[0][0].length) {
+            return vector.length == planes[0][0].length ? new ArrayList<>(entries.values()) : List.of();
+        }
+        Map<Long, Entry> found = new LinkedHashMap<>();
+        int[] signature = signature(vector);
+        for (int b = 0; b < signature.length; b++) {
+            List<Long> ids = buckets.get(b).get(signature[b]);
+            if (ids == null) {
+                continue;
+            }
+            for (Long id : ids) {
+                Entry e = entries.get(id);
+                if (e != null) {
+                    found.putIfAbsent(id, e);
+                }
+            }
+        }
+        return new ArrayList<>(found.values());
+    }
+
+    private int[] signature(float[] vector) {
+        int[] signature = new int[planes.length];
+        for (int b = 0; b < planes.length; b++) {
+            int bits = 0;
+            for (int p = 0; p < planes[b].length; p++) {
+                if (dot(planes[b][p], vector) >= 0) {
+                    bits |= 1 << p;
+                }
+            }
+            signature[b] = bits;
+        }
+        return signature;
+    }
+
+    private void evictExpired() {
+        long now = System.nanoTime();
+        Iterator<Entry> it = new ArrayList<>(entries.values()).iterator();
+        while (it.hasNext()) {
+            Entry e = it.next();
+            if (now - e.expiresAt > 0) {
+                remove(e.id);
+            }
+        }
+    }
+
+    private void remove(long id) {
+        Entry e = entries.remove(id);
+        if (e == null) {
+            return;
+        }
+        for (int b = 0; b < e.signature.length; b++) {
+            List<Long> ids = buckets.get(b).get(e.signature[b]);
+            if (ids != null) {
+                ids.remove(id);
+                if (ids.isEmpty()) {
+                    buckets.get(b).remove(e.signature[b]);
+                }
+            }
+        }
+    }
+
+    /** Vectors are unit length, so the dot product is the cosine. */
+    private static double cosine(float[] a, float[] b) {
+        return dot(a, b);
+    }
+
+    private static double dot(float[] a, float[] b) {
+        double sum = 0;
+        for (int i = 0; i < a.length; i++) {
+            sum += a[i] * b[i];
+        }
+        return sum;
+    }
+
+    private record Entry(long id, float[] vector, Map<String, Object> value, int[] signature, long expiresAt) {}
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright 2026 Open LLM Orchestrator contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.openllmorchestrator.worker.engine.stream;
+
+import com.openllmorchestrator.worker.engine.cache.LruCache;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * In-process sink for tests and single-node development. Keeps at most {@code maxLen} events per execution and at
+ * most {@code maxStreams} executions; an execution's buffer is dropped {@code ttlSeconds} after its last event, or
+ * earlier when it is the least recently written one and the limit is reached.
+ */
+public final class InMemoryStreamSink implements StreamSink {
+
+    public static final int DEFAULT_MAX_STREAMS = 1024;
+    public static final long DEFAULT_TTL_SECONDS = 3600;
+
+    private final int maxLen;
+    private final long ttlMillis;
+    private final LruCache<String, Deque<StreamEvent>> streams;
+
+    public InMemoryStreamSink(int maxLen) {
+        this(maxLen, DEFAULT_MAX_STREAMS, DEFAULT_TTL_SECONDS);
+    }
+
+    /** {@code ttlSeconds <= 0} uses {@link #DEFAULT_TTL_SECONDS}. */
+    public InMemoryStreamSink(int maxLen, int maxStreams, long ttlSeconds) {
+        this.maxLen = Math.max(1, maxLen);
+        this.ttlMillis = (ttlSeconds > 0 ? ttlSeconds : DEFAULT_TTL_SECONDS) * 1000L;
+        this.streams = new LruCache<>(maxStreams);
+    }
+
+    @Override
+    public void publish(String executionId, StreamEvent event) {
+        Deque<StreamEvent> events;
+        synchronized (streams) {
+            events = streams.get(executionId);
+            if (events == null) {
+                events = new ArrayDeque<>();
+            }
+            streams.put(executionId, events, ttlMillis);
+        }
+        synchronized (events) {
+            events.addLast(event);
+            while (events.size() > maxLen) {
+                events.removeFirst();
+            }
+        }
+    }
+
+    /** Snapshot of the events published for the execution, oldest first; empty once the buffer was dropped. */
+    public List<StreamEvent> events(String executionId) {
+        Deque<StreamEvent> events = streams.get(executionId);
+        if (events == null) {
+            return List.of();
+        }
+        synchronized (events) {
+            return List.copyOf(events);
+        }
+    }
+
+    public void clear(String executionId) {
+        streams.remove(executionId);
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright 2026 Open LLM Orchestrator contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.openllmorchestrator.worker.engine.stream;
+
+import com.openllmorchestrator.worker.engine.config.redis.RedisConfig;
+import com.openllmorchestrator.worker.engine.runtime.RedisPools;
+import lombok.extern.slf4j.Slf4j;
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.JedisPool;
+import redis.clients.jedis.Pipeline;
+import redis.clients.jedis.params.XAddParams;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+
+/**
+ * Appends events to a Redis Stream per execution ({@code keyPrefix + executionId}) with approximate MAXLEN trimming.
+ * The key expiry is refreshed on the first and the terminal event so abandoned streams age out.
+ * <p>
+ * {@link #publish} only enqueues; one virtual-thread writer drains the queue and sends each batch as a single
+ * pipeline, so no Redis round trip sits in a token's path. Order is kept per execution. When the queue is full the
+ * event is rejected, and a batch that fails to write is logged and dropped.
+ */
+@Slf4j
+public final class RedisStreamSink implements StreamSink {
+
+    private static final int QUEUE_CAPACITY = 10_000;
+    private static final int BATCH_SIZE = 256;
+
+    private final JedisPool pool;
+    private final String keyPrefix;
+    private final long maxLen;
+    private final long ttlSeconds;
+    private final BlockingQueue<Pending> queue = new LinkedBlockingQueue<>(QUEUE_CAPACITY);
+    private boolean writeFailing;
+
+    public RedisStreamSink(RedisConfig redis, String keyPrefix, long maxLen, long ttlSeconds) {
+        this.pool = RedisPools.get(redis);
+        this.keyPrefix = keyPrefix != null ? keyPrefix : "";
+        this.maxLen = maxLen;
+        this.ttlSeconds = ttlSeconds;
+        Thread.ofVirtual().name("redis-stream-sink").start(this::drain);
+    }
+
+    @Override
+    public void publish(String executionId, StreamEvent event) {
+        if (!queue.offer(new Pending(keyPrefix + executionId, event))) {
+            throw new IllegalStateException("Redis stream writer is " + QUEUE_CAPACITY + " events behind");
+        }
+    }
+
+    private void drain() {
+        List<Pending> batch = new ArrayList<>(BATCH_SIZE);
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                batch.add(queue.take());
+            } catch (InterruptedException e) {
+                return;
+            }
+            queue.drainTo(batch, BATCH_SIZE - 1);
+            write(batch);
+            batch.clear();
+        }
+    }
+
+    private void write(List<Pending> batch) {
+        try (Jedis jedis = pool.getResource()) {
+            Pipeline pipeline = jedis.pipelined();
+            for (Pending p : batch) {
+                pipeline.xadd(p.key(), XAddParams.xAddParams().maxLen(maxLen).approximateTrimming(), p.event().toFields());
+                StreamEvent.Type type = p.event().getType();
+                boolean terminal = type == StreamEvent.Type.COMPLETE || type == StreamEvent.Type.ERROR;
+                if (ttlSeconds > 0 && (p.event().getSeq() == 0 || terminal)) {
+                    pipeline.expire(p.key(), ttlSeconds);
+                }
+            }
+            pipeline.sync();
+            writeFailing = false;
+        } catch (RuntimeException e) {
+            if (!writeFailing) {
+                log.warn("Redis stream write failed; dropping {} events until it recovers: {}", batch.size(), e.getMessage());
+            }
+            writeFailing = true;
+        }
+    }
+
+    private record Pending(String key, StreamEvent event) {}
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright 2026 Open LLM Orchestrator contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.openllmorchestrator.worker.engine.stream;
+
+import com.openllmorchestrator.worker.contract.StreamObserver;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.CancellationException;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Observer handed to a {@link com.openllmorchestrator.worker.contract.StreamingCapabilityHandler}; forwards each
+ * callback to the sink as a {@link StreamEvent}. Sink failures are logged once and then ignored: streaming is best
+ * effort and the capability's final result is still returned through the activity. Once the activity is cancelled,
+ * tokens and updates fail with {@link CancellationException} so a producer that ignores {@link #isCancelled()} stops.
+ */
+@Slf4j
+public final class SinkStreamObserver implements StreamObserver {
+
+    private final StreamSink sink;
+    private final String executionId;
+    private final String capabilityName;
+    private final int attempt;
+    private final BooleanSupplier cancelled;
+    private long seq;
+    private boolean terminated;
+    private boolean sinkFailed;
+
+    public SinkStreamObserver(StreamSink sink, String executionId, String capabilityName, int attempt) {
+        this(sink, executionId, capabilityName, attempt, () -> false);
+    }
+
+    public SinkStreamObserver(StreamSink sink, String executionId, String capabilityName, int attempt, BooleanSupplier cancelled) {
+        this.sink = sink;
+        this.executionId = executionId;
+        this.capabilityName = capabilityName;
+        this.attempt = attempt;
+        this.cancelled = cancelled != null ? cancelled : () -> false;
+    }
+
+    @Override
+    public boolean isCancelled() {
+        return cancelled.getAsBoolean();
+    }
+
+    @Override
+    public synchronized void onToken(String token) {
+        requireNotCancelled();
+        if (token != null) {
+            emit(StreamEvent.Type.TOKEN, token, null);
+        }
+    }
+
+    @Override
+    public synchronized void onUpdate(String type, Object payload) {
+        requireNotCancelled();
+        emit(StreamEvent.Type.UPDATE, type, payload != null ? String.valueOf(payload) : null);
+    }
+
+    private void requireNotCancelled() {
+        if (cancelled.getAsBoolean()) {
+            throw new CancellationException("Activity for capability '" + capabilityName + "' was cancelled");
+        }
+    }
+
+    @Override
+    public synchronized void onComplete() {
+        if (!terminated) {
+            emit(StreamEvent.Type.COMPLETE, null, null);
+            terminated = true;
+        }
+    }
+
+    @Override
+    public synchronized void onError(Throwable t) {
+        if (!terminated) {
+            emit(StreamEvent.Type.ERROR, t != null ? String.valueOf(t.getMessage()) : null, null);
+            terminated = true;
+        }
+    }
+
+    private void emit(StreamEvent.Type type, String value, String payload) {
+        if (terminated || sinkFailed) {
+            return;
+        }
+        StreamEvent event = StreamEvent.builder()
+                .type(type)
+                .capabilityName(capabilityName)
+                .attempt(attempt)
+                .seq(seq++)
+                .value(value)
+                .payload(payload)
+                .build();
+        try {
+            sink.publish(executionId, event);
+        } catch (RuntimeException e) {
+            sinkFailed = true;
+            log.warn("Stream sink failed for execution '{}' capability '{}'; further tokens are dropped: {}",
+                    executionId, capabilityName, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright 2026 Open LLM Orchestrator contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.openllmorchestrator.worker.engine.stream;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/** One event on an execution's token stream: a token, an intermediate update, completion or error of a capability. */
+@Getter
+@Builder
+public class StreamEvent {
+
+    public enum Type { TOKEN, UPDATE, COMPLETE, ERROR }
+
+    private final Type type;
+    private final String capabilityName;
+    /** Activity attempt; a consumer seeing a higher attempt should discard tokens of earlier attempts. */
+    private final int attempt;
+    /** Sequence within the attempt, starting at 0. */
+    private final long seq;
+    /** Token text (TOKEN), update type (UPDATE) or error message (ERROR). */
+    private final String value;
+    /** UPDATE payload, stringified. */
+    private final String payload;
+
+    /** Flat field map as written to a Redis Stream entry. */
+    public Map<String, String> toFields() {
+        Map<String, String> fields = new LinkedHashMap<>();
+        fields.put("type", type.name());
+        fields.put("capability", capabilityName != null ? capabilityName : "");
+        fields.put("attempt", String.valueOf(attempt));
+        fields.put("seq", String.valueOf(seq));
+        if (value != null) {
+            fields.put("value", value);
+        }
+        if (payload != null) {
+            fields.put("payload", payload);
+        }
+        return fields;
+    }
+}
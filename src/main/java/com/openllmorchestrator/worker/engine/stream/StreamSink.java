@@ -0,0 +1,25 @@
+/*
+ * Copyright 2026 Open LLM Orchestrator contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.openllmorchestrator.worker.engine.stream;
+
+/**
+ * Destination for token events from streaming capabilities. Keyed by execution id so a client that started the
+ * run can follow it. Implementations must be thread-safe; publish failures must not fail the capability.
+ */
+public interface StreamSink {
+
+    void publish(String executionId, StreamEvent event);
+}
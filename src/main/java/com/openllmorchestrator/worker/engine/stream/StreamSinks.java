@@ -0,0 +1,40 @@
+/*
+ * Copyright 2026 Open LLM Orchestrator contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.openllmorchestrator.worker.engine.stream;
+
+import com.openllmorchestrator.worker.engine.config.redis.RedisConfig;
+import com.openllmorchestrator.worker.engine.config.streaming.StreamingConfig;
+
+/** Builds the configured {@link StreamSink}. */
+public final class StreamSinks {
+
+    private StreamSinks() {}
+
+    /** Sink for the streaming section; null when the sink is NONE. */
+    public static StreamSink create(StreamingConfig streaming, RedisConfig redis) {
+        StreamingConfig cfg = streaming != null ? streaming : new StreamingConfig();
+        String kind = cfg.getSink() != null ? cfg.getSink().trim().toUpperCase() : StreamingConfig.REDIS;
+        int maxLen = cfg.getMaxLen() != null && cfg.getMaxLen() > 0 ? cfg.getMaxLen() : 1000;
+        long ttlSeconds = cfg.getTtlSeconds() != null ? cfg.getTtlSeconds() : 0;
+        return switch (kind) {
+            case StreamingConfig.NONE -> null;
+            case StreamingConfig.MEMORY -> new InMemoryStreamSink(maxLen, InMemoryStreamSink.DEFAULT_MAX_STREAMS, ttlSeconds);
+            case StreamingConfig.REDIS -> new RedisStreamSink(redis, cfg.getKeyPrefix(), maxLen, ttlSeconds);
+            default -> throw new IllegalStateException("Unknown streaming.sink '" + cfg.getSink()
+                    + "'. Allowed: REDIS, MEMORY, NONE");
+        };
+    }
+}
@@ -0,0 +1,156 @@
+/*
+ * Copyright 2026 Open LLM Orchestrator contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.openllmorchestrator.worker.engine.stream;
+
+import com.openllmorchestrator.worker.contract.StreamObserver;
+import com.openllmorchestrator.worker.contract.TokenStream;
+
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bounded in-process link between two stages of a stream-through group. The upstream stage writes through the
+ * {@link StreamObserver} side and blocks when the channel is full (backpressure); the downstream stage reads through
+ * the {@link TokenStream} side. Once the reader closes, further tokens are dropped so the writer never blocks forever.
+ */
+public final class TokenChannel implements StreamObserver, TokenStream {
+
+    private static final Object END = new Object();
+    private static final long OFFER_POLL_MILLIS = 50;
+
+    private final BlockingQueue<Object> queue;
+    private final CompletableFuture<Map<String, Object>> upstreamOutput = new CompletableFuture<>();
+    private volatile boolean readerClosed;
+    private volatile Throwable failure;
+    private volatile boolean endWritten;
+    private boolean endRead;
+
+    public TokenChannel(int capacity) {
+        this.queue = new ArrayBlockingQueue<>(Math.max(1, capacity));
+    }
+
+    @Override
+    public void onToken(String token) {
+        if (token != null && !endWritten) {
+            put(token);
+        }
+    }
+
+    /** Updates are not part of the token stream between stages. */
+    @Override
+    public void onUpdate(String type, Object payload) {
+    }
+
+    @Override
+    public void onComplete() {
+        writeEnd();
+    }
+
+    @Override
+    public void onError(Throwable t) {
+        failure = t != null ? t : new IllegalStateException("Upstream stage failed");
+        writeEnd();
+    }
+
+    /** Upstream finished: end the token stream (if the handler did not) and publish its final output. */
+    public void finish(Map<String, Object> output) {
+        writeEnd();
+        upstreamOutput.complete(output != null ? output : Map.of());
+    }
+
+    /** Upstream failed: readers see the failure from {@link #next()} and {@link #awaitUpstreamOutput()}. */
+    public void fail(Throwable t) {
+        onError(t);
+        upstreamOutput.completeExceptionally(failure);
+    }
+
+    /** Downstream finished or failed: drop anything still buffered and stop blocking the writer. */
+    public void closeReader() {
+        readerClosed = true;
+        queue.clear();
+    }
+
+    @Override
+    public String next() {
+        if (endRead) {
+            return endOfStream();
+        }
+        Object item;
+        try {
+            item = queue.take();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for upstream tokens", e);
+        }
+        if (item == END) {
+            endRead = true;
+            return endOfStream();
+        }
+        return (String) item;
+    }
+
+    @Override
+    public Map<String, Object> awaitUpstreamOutput() {
+        try {
+            while (!endRead) {
+                if (queue.take() == END) {
+                    endRead = true;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for upstream output", e);
+        }
+        try {
+            return upstreamOutput.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            throw new IllegalStateException("Upstream stage failed: " + cause.getMessage(), cause);
+        }
+    }
+
+    private String endOfStream() {
+        Throwable t = failure;
+        if (t != null) {
+            throw new IllegalStateException("Upstream stage failed: " + t.getMessage(), t);
+        }
+        return null;
+    }
+
+    private synchronized void writeEnd() {
+        if (!endWritten) {
+            endWritten = true;
+            put(END);
+        }
+    }
+
+    private void put(Object item) {
+        try {
+            while (!readerClosed) {
+                if (queue.offer(item, OFFER_POLL_MILLIS, TimeUnit.MILLISECONDS)) {
+                    return;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while writing to downstream stage", e);
+        }
+    }
+}
@@ -24,6 +24,7 @@ import com.openllmorchestrator.worker.engine.contract.KernelExecutionOutcome;
 import com.openllmorchestrator.worker.engine.kernel.KernelOrchestrator;
 import com.openllmorchestrator.worker.engine.capability.CapabilityPlan;
 import com.openllmorchestrator.worker.engine.kernel.CapabilityInvoker;
+import com.openllmorchestrator.worker.engine.kernel.deadline.ExecutionDeadline;
 import com.openllmorchestrator.worker.engine.runtime.EngineRuntime;
 import com.openllmorchestrator.worker.engine.kernel.interceptor.ExecutionInterceptorChain;
 import com.openllmorchestrator.worker.workflow.CoreWorkflow;
@@ -54,12 +55,17 @@ public class CoreWorkflowImpl implements CoreWorkflow {
         if (command.getQueueName() == null || command.getQueueName().isBlank()) {
             command.setQueueName(Workflow.getInfo().getTaskQueue());
         }
+        if (command.getExecutionId() == null || command.getExecutionId().isBlank()) {
+            // Same id the activity side uses for token streams (and deterministic on replay).
+            command.setExecutionId(Workflow.getInfo().getWorkflowId());
+        }
         String queueName = command.getQueueName();
         ExecutionContext context = ExecutionContext.from(command, EngineRuntime.getFeatureFlags(queueName));
         context.put(SharedFolderContextKeys.SHARED_FOLDER_PATH, EngineRuntime.getConfig(queueName).getSharedFolderPathEffective());
         String pipelineName = command.getPipelineName() != null && !command.getPipelineName().isBlank()
                 ? command.getPipelineName()
                 : "default";
+        context.setDeadlineMillis(ExecutionDeadline.resolve(command, queueName, pipelineName));
         // Static flow: use immutable global plan (context.executionPlan stays null). Planner/debug phases create a copy in context before modifying.
         CapabilityPlan globalPlan = EngineRuntime.getCapabilityPlan(queueName, pipelineName);
         CapabilityPlan planToRun = context.getExecutionPlan() != null ? context.getExecutionPlan() : globalPlan;
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2026 Open LLM Orchestrator contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.openllmorchestrator.worker.engine.activity.impl;
+
+import com.openllmorchestrator.worker.contract.CapabilityResult;
+import com.openllmorchestrator.worker.engine.contract.CapabilityHeartbeat;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/** {@link FusedRunCheckpoint} round-trips through heartbeat checkpoints. */
+class FusedRunCheckpointTest {
+
+    private static final List<String> RUN = List.of("a", "b", "c");
+
+    @Test
+    void retryResumesAfterRecordedStages() {
+        RecordingHeartbeat first = new RecordingHeartbeat(null);
+        FusedRunCheckpoint attempt = FusedRunCheckpoint.resume(first, RUN);
+        assertTrue(attempt.completed().isEmpty());
+        attempt.record(CapabilityResult.builder().capabilityName("a").output(Map.of("x", 1)).build());
+        attempt.record(CapabilityResult.builder().capabilityName("b").output(Map.of("y", "two")).build());
+
+        List<CapabilityResult> resumed = FusedRunCheckpoint.resume(new RecordingHeartbeat(first.last), RUN).completed();
+
+        assertEquals(2, resumed.size());
+        assertEquals("a", resumed.get(0).getCapabilityName());
+        assertEquals(Map.of("x", 1), resumed.get(0).getOutput());
+        assertEquals("b", resumed.get(1).getCapabilityName());
+        assertEquals(Map.of("y", "two"), resumed.get(1).getOutput());
+    }
+
+    @Test
+    void recordingAfterResumeKeepsEarlierStages() {
+        RecordingHeartbeat first = new RecordingHeartbeat(null);
+        FusedRunCheckpoint.resume(first, RUN).record(CapabilityResult.builder().capabilityName("a").output(Map.of()).build());
+        RecordingHeartbeat second = new RecordingHeartbeat(first.last);
+        FusedRunCheckpoint attempt = FusedRunCheckpoint.resume(second, RUN);
+        attempt.record(CapabilityResult.builder().capabilityName("b").output(Map.of("y", 2)).build());
+
+        List<CapabilityResult> resumed = FusedRunCheckpoint.resume(new RecordingHeartbeat(second.last), RUN).completed();
+
+        assertEquals(List.of("a", "b"), resumed.stream().map(CapabilityResult::getCapabilityName).toList());
+    }
+
+    @Test
+    void checkpointOfAnotherRunIsIgnored() {
+        RecordingHeartbeat first = new RecordingHeartbeat(null);
+        FusedRunCheckpoint.resume(first, RUN).record(CapabilityResult.builder().capabilityName("a").output(Map.of()).build());
+
+        assertTrue(FusedRunCheckpoint.resume(new RecordingHeartbeat(first.last), List.of("b", "c")).completed().isEmpty());
+        assertTrue(FusedRunCheckpoint.resume(new RecordingHeartbeat(Map.of("stages", "bad")), RUN).completed().isEmpty());
+    }
+
+    private static final class RecordingHeartbeat implements CapabilityHeartbeat {
+
+        private final Map<String, Object> previous;
+        Map<String, Object> last;
+
+        RecordingHeartbeat(Map<String, Object> previous) {
+            this.previous = previous;
+        }
+
+        @Override
+        public void heartbeat(String progress, Map<String, Object> checkpoint) {
+            last = checkpoint;
+        }
+
+        @Override
+        public Map<String, Object> resumeCheckpoint() {
+            return previous;
+        }
+    }
+}
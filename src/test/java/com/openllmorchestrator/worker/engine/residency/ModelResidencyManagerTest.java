@@ -0,0 +1,187 @@
+/*
+ * Copyright 2026 Open LLM Orchestrator contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.openllmorchestrator.worker.engine.residency;
+
+import com.openllmorchestrator.worker.engine.config.residency.ModelResidencyConfig;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/** {@link ModelResidencyManager} cycles against a local {@link OllamaStub} that simulates load and unload. */
+class ModelResidencyManagerTest {
+
+    private OllamaStub stub;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        stub = new OllamaStub();
+    }
+
+    @AfterEach
+    void tearDown() {
+        ModelResidencyManager.unregister("q1");
+        ModelResidencyManager.unregister("q2");
+        stub.close();
+    }
+
+    @Test
+    void hotModelIsPreloaded() throws Exception {
+        stub.loadDelayMillis = 100;
+        ModelResidencyManager manager = new ModelResidencyManager(config()
+                .plugins(Map.of("chat", "llama3:8b"))
+                .build(), null);
+        requests(manager, "chat", 50);
+
+        manager.runOnce();
+
+        assertTrue(stub.loaded.containsKey("llama3:8b"));
+        assertEquals(List.of("llama3:8b:10m"), stub.generates);
+        assertEquals(List.of("llama3:8b"), resident(manager));
+    }
+
+    @Test
+    void loadedHotModelGetsAKeepAlive() throws Exception {
+        stub.loaded.put("llama3:8b", 4000);
+        ModelResidencyManager manager = new ModelResidencyManager(config()
+                .plugins(Map.of("chat", "llama3:8b"))
+                .build(), null);
+        requests(manager, "chat", 50);
+
+        manager.runOnce();
+
+        assertEquals(List.of("llama3:8b:10m"), stub.generates);
+        assertEquals(1L, decisions(manager).get("keep_alive:llama3:8b"));
+    }
+
+    @Test
+    void coldModelIsUnloadedOnlyWhenItStandsInTheWay() throws Exception {
+        stub.loaded.put("old:7b", 6000);
+        stub.loaded.put("tiny:1b", 500);
+        stub.sizesMb.put("llama3:8b", 6000);
+        ModelResidencyManager manager = new ModelResidencyManager(config()
+                .memoryBudgetMb(10000)
+                .modelSizesMb(Map.of("llama3:8b", 6000))
+                .plugins(Map.of("chat", "llama3:8b"))
+                .build(), null);
+        requests(manager, "chat", 50);
+
+        manager.runOnce();
+
+        assertFalse(stub.loaded.containsKey("old:7b"), "cold model made room");
+        assertTrue(stub.loaded.containsKey("tiny:1b"), "fits beside the hot model once the big one is gone");
+        assertTrue(stub.loaded.containsKey("llama3:8b"));
+        assertEquals(List.of("old:7b:0", "llama3:8b:10m"), stub.generates);
+    }
+
+    @Test
+    void pinnedModelsComeFirstAndTheBudgetIsKept() throws Exception {
+        ModelResidencyManager manager = new ModelResidencyManager(config()
+                .memoryBudgetMb(5000)
+                .defaultModelSizeMb(3000)
+                .pinned(List.of("embed:small"))
+                .plugins(Map.of("chat", "llama3:8b"))
+                .build(), null);
+        requests(manager, "chat", 50);
+
+        manager.runOnce();
+
+        assertEquals(List.of("embed:small"), resident(manager), "the hot model does not fit beside the pinned one");
+        assertFalse(stub.loaded.containsKey("llama3:8b"));
+    }
+
+    @Test
+    void coldModelsAreNotKept() throws Exception {
+        ModelResidencyManager manager = new ModelResidencyManager(config()
+                .plugins(Map.of("chat", "llama3:8b"))
+                .build(), null);
+
+        manager.runOnce();
+
+        assertTrue(stub.generates.isEmpty());
+        assertTrue(resident(manager).isEmpty());
+    }
+
+    @Test
+    void unreachableEndpointIsSkipped() throws Exception {
+        stub.status = 500;
+        ModelResidencyManager manager = new ModelResidencyManager(config()
+                .plugins(Map.of("chat", "llama3:8b"))
+                .build(), null);
+        requests(manager, "chat", 50);
+
+        manager.runOnce();
+
+        assertEquals(1L, decisions(manager).get("endpoint_error:"));
+    }
+
+    @Test
+    void queuesShareOneManager() throws Exception {
+        ModelResidencyManager first = ModelResidencyManager.register("q1", config()
+                .plugins(Map.of("chat", "llama3:8b"))
+                .build(), null);
+        ModelResidencyManager second = ModelResidencyManager.register("q2", config()
+                .plugins(Map.of("summarize", "qwen2:7b"))
+                .build(), null);
+        assertSame(first, second);
+
+        requests(second, "chat", 50);
+        requests(second, "summarize", 50);
+        second.runOnce();
+
+        @SuppressWarnings("unchecked")
+        Map<String, Double> rates = (Map<String, Double>) second.snapshot().get("ratesPerMinute");
+        assertTrue(rates.get("llama3:8b") > 0, "requests from every queue count");
+        assertTrue(rates.get("qwen2:7b") > 0, "requests from every queue count");
+
+        ModelResidencyManager.unregister("q1");
+        ModelResidencyManager.unregister("q2");
+        assertNotSame(first, ModelResidencyManager.register("q1", config().build(), null), "stopped with the last queue");
+    }
+
+    private ModelResidencyConfig.ModelResidencyConfigBuilder config() {
+        return ModelResidencyConfig.builder()
+                .endpoints(List.of(stub.url()))
+                .intervalSeconds(3600)
+                .hotRequestsPerMinute(1.0);
+    }
+
+    private static void requests(ModelResidencyManager manager, String plugin, int n) {
+        for (int i = 0; i < n; i++) {
+            manager.onRequest(plugin);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<String> resident(ModelResidencyManager manager) {
+        Map<String, Object> loaded = (Map<String, Object>) manager.snapshot().get("resident");
+        return (List<String>) loaded.get(stub.url());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Long> decisions(ModelResidencyManager manager) {
+        return (Map<String, Long>) manager.snapshot().get("decisions");
+    }
+}
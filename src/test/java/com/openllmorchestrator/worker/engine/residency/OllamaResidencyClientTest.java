@@ -0,0 +1,93 @@
+/*
+ * Copyright 2026 Open LLM Orchestrator contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.openllmorchestrator.worker.engine.residency;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/** {@link OllamaResidencyClient} against a local {@link OllamaStub}. */
+class OllamaResidencyClientTest {
+
+    private OllamaStub stub;
+    private final OllamaResidencyClient client = new OllamaResidencyClient(Duration.ofSeconds(5));
+
+    @BeforeEach
+    void setUp() throws IOException {
+        stub = new OllamaStub();
+    }
+
+    @AfterEach
+    void tearDown() {
+        stub.close();
+    }
+
+    @Test
+    void listsLoadedModelsWithTheirMemoryInMb() throws Exception {
+        stub.loaded.put("llama3:8b", 4800);
+        stub.loaded.put("qwen2:1.5b", 1200);
+
+        assertEquals(Map.of("llama3:8b", 4800, "qwen2:1.5b", 1200), client.loaded(stub.url()));
+    }
+
+    @Test
+    void keepLoadsAColdModelWithTheGivenKeepAlive() throws Exception {
+        stub.loadDelayMillis = 200;
+        long start = System.nanoTime();
+
+        client.keep(stub.url(), "llama3:8b", "10m");
+
+        assertTrue(System.nanoTime() - start >= Duration.ofMillis(200).toNanos(), "waits for the load");
+        assertTrue(stub.loaded.containsKey("llama3:8b"));
+        assertEquals(List.of("llama3:8b:10m"), stub.generates);
+    }
+
+    @Test
+    void unloadSendsKeepAliveZero() throws Exception {
+        stub.loaded.put("llama3:8b", 4800);
+
+        client.unload(stub.url(), "llama3:8b");
+
+        assertFalse(stub.loaded.containsKey("llama3:8b"));
+        assertEquals(List.of("llama3:8b:0"), stub.generates);
+    }
+
+    @Test
+    void loadTimeoutFailsTheCall() {
+        stub.loadDelayMillis = 2000;
+        OllamaResidencyClient impatient = new OllamaResidencyClient(Duration.ofMillis(200));
+
+        assertThrows(IOException.class, () -> impatient.keep(stub.url(), "llama3:8b", "10m"));
+    }
+
+    @Test
+    void errorStatusFailsTheCall() {
+        stub.status = 500;
+
+        assertThrows(IOException.class, () -> client.loaded(stub.url()));
+        assertThrows(IOException.class, () -> client.keep(stub.url(), "llama3:8b", "10m"));
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright 2026 Open LLM Orchestrator contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.openllmorchestrator.worker.engine.residency;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Local stand-in for an Ollama server: {@code GET /api/ps} lists the loaded models, {@code POST /api/generate} without
+ * a prompt loads a model (after {@code loadDelayMillis} when it was not loaded) or unloads it with {@code keep_alive: 0}.
+ */
+final class OllamaStub implements AutoCloseable {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final long MB = 1024L * 1024L;
+
+    final Map<String, Integer> loaded = new ConcurrentHashMap<>();
+    final Map<String, Integer> sizesMb = new ConcurrentHashMap<>();
+    final List<String> generates = new CopyOnWriteArrayList<>();
+    volatile long loadDelayMillis;
+    volatile int status = 200;
+
+    private final HttpServer server;
+
+    OllamaStub() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/api/ps", this::ps);
+        server.createContext("/api/generate", this::generate);
+        server.start();
+    }
+
+    String url() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+
+    private void ps(HttpExchange exchange) throws IOException {
+        ObjectNode body = MAPPER.createObjectNode();
+        ArrayNode models = body.putArray("models");
+        loaded.forEach((name, mb) -> models.addObject().put("name", name).put("size", mb * MB * 2).put("size_vram", mb * MB));
+        reply(exchange, body);
+    }
+
+    private void generate(HttpExchange exchange) throws IOException {
+        JsonNode request = MAPPER.readTree(exchange.getRequestBody());
+        String model = request.path("model").asText();
+        JsonNode keepAlive = request.path("keep_alive");
+        generates.add(model + ":" + keepAlive.asText());
+        if (status == 200) {
+            if (keepAlive.isNumber() && keepAlive.asInt() == 0) {
+                loaded.remove(model);
+            } else if (!loaded.containsKey(model)) {
+                try {
+                    Thread.sleep(loadDelayMillis);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                loaded.put(model, sizesMb.getOrDefault(model, 1000));
+            }
+        }
+        reply(exchange, MAPPER.createObjectNode().put("model", model).put("done", true));
+    }
+
+    private void reply(HttpExchange exchange, JsonNode body) throws IOException {
+        byte[] bytes = MAPPER.writeValueAsString(body).getBytes(StandardCharsets.UTF_8);
+        exchange.sendResponseHeaders(status, bytes.length);
+        exchange.getResponseBody().write(bytes);
+        exchange.close();
+    }
+}